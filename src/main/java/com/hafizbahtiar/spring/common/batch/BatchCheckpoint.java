@@ -0,0 +1,102 @@
+package com.hafizbahtiar.spring.common.batch;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress of one partition of a batch job run: the key of the last item of
+ * the last committed chunk. Written in the chunk's transaction, so for JPA
+ * jobs a checkpoint and the chunk it covers commit together.
+ */
+@Entity
+@Table(name = "batch_checkpoints", indexes = {
+        @Index(name = "idx_batch_checkpoint_job_partition", columnList = "job_name, partition_index", unique = true)
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class BatchCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_name", nullable = false, length = 100)
+    private String jobName;
+
+    @Column(name = "partition_index", nullable = false)
+    private Integer partitionIndex;
+
+    /**
+     * Number of partitions of the run; a run with a different count starts over
+     */
+    @Column(name = "partition_count", nullable = false)
+    private Integer partitionCount;
+
+    /**
+     * Key of the last processed item (null = not started)
+     */
+    @Column(name = "last_key", length = 255)
+    private String lastKey;
+
+    /**
+     * Items processed by this partition since the run started
+     */
+    @Column(name = "processed_count", nullable = false)
+    private Long processedCount = 0L;
+
+    /**
+     * Items skipped because their chunk kept failing
+     */
+    @Column(name = "skipped_count")
+    private Long skippedCount = 0L;
+
+    /**
+     * Failed attempts at the chunk after lastKey; reset once a chunk commits
+     */
+    @Column(name = "failure_count")
+    private Integer failureCount = 0;
+
+    /**
+     * Whether the partition gave up on a chunk that kept failing
+     */
+    @Column(name = "failed")
+    private Boolean failed = false;
+
+    /**
+     * Fencing token of the lock lease that last wrote this checkpoint (null =
+     * written without a lock); holders with an older token cannot write it
+     */
+    @Column(name = "fencing_token")
+    private Long fencingToken;
+
+    @Column(name = "completed", nullable = false)
+    private Boolean completed = false;
+
+    @Column(name = "run_started_at", nullable = false)
+    private LocalDateTime runStartedAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public BatchCheckpoint(String jobName, int partitionIndex, int partitionCount, LocalDateTime runStartedAt) {
+        this.jobName = jobName;
+        this.partitionIndex = partitionIndex;
+        this.partitionCount = partitionCount;
+        this.runStartedAt = runStartedAt;
+    }
+
+    public boolean isCompleted() {
+        return Boolean.TRUE.equals(completed);
+    }
+
+    public boolean isFailed() {
+        return Boolean.TRUE.equals(failed);
+    }
+}
@@ -0,0 +1,52 @@
+package com.hafizbahtiar.spring.common.batch;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository for batch job checkpoints.
+ */
+@Repository
+public interface BatchCheckpointRepository extends JpaRepository<BatchCheckpoint, Long> {
+
+    /**
+     * Find the checkpoints of a job, one per partition
+     *
+     * @param jobName Job name
+     * @return Checkpoints ordered by partition
+     */
+    List<BatchCheckpoint> findByJobNameOrderByPartitionIndex(String jobName);
+
+    /**
+     * Claim the checkpoints of a job for a lock holder, unless a holder with a
+     * newer token already wrote them
+     *
+     * @return Number of checkpoints claimed
+     */
+    @Modifying
+    @Query("UPDATE BatchCheckpoint c SET c.fencingToken = :token, c.updatedAt = :now "
+            + "WHERE c.jobName = :jobName AND (c.fencingToken IS NULL OR c.fencingToken <= :token)")
+    int claim(@Param("jobName") String jobName, @Param("token") long token, @Param("now") LocalDateTime now);
+
+    /**
+     * Write the progress of a checkpoint; with a token, only unless a holder
+     * with a newer token wrote it
+     *
+     * @param token Fencing token of the writer, or null when running without a lock
+     * @return 1 if written, 0 if fenced off
+     */
+    @Modifying
+    @Query("UPDATE BatchCheckpoint c SET c.lastKey = :lastKey, c.processedCount = :processed, "
+            + "c.skippedCount = :skipped, c.failureCount = :failures, c.completed = :completed, c.failed = :failed, "
+            + "c.fencingToken = COALESCE(:token, c.fencingToken), c.updatedAt = :now "
+            + "WHERE c.id = :id AND (:token IS NULL OR c.fencingToken IS NULL OR c.fencingToken <= :token)")
+    int write(@Param("id") Long id, @Param("lastKey") String lastKey, @Param("processed") long processed,
+            @Param("skipped") long skipped, @Param("failures") int failures, @Param("completed") boolean completed,
+            @Param("failed") boolean failed, @Param("token") Long token, @Param("now") LocalDateTime now);
+}
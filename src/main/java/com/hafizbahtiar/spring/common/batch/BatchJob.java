@@ -0,0 +1,80 @@
+package com.hafizbahtiar.spring.common.batch;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Definition of a chunked batch job, run by {@link BatchJobRunner}.
+ *
+ * The items are split into partitions that run in parallel, each read by its
+ * own {@link ChunkReader}. Readers must return the same items for the same
+ * partition on every run, so a resumed run picks up where it stopped.
+ *
+ * @param <T> Item type
+ */
+@Getter
+@Builder
+public class BatchJob<T> {
+
+    /**
+     * Job name; checkpoints are kept per name
+     */
+    private final String name;
+
+    /**
+     * Items read, processed and committed together
+     */
+    @Builder.Default
+    private final int chunkSize = 500;
+
+    /**
+     * Number of partitions run in parallel
+     */
+    @Builder.Default
+    private final int partitions = 1;
+
+    /**
+     * Attempts at a failing chunk before onChunkFailure applies; the count is
+     * kept on the checkpoint, so attempts of earlier runs count too
+     */
+    @Builder.Default
+    private final int maxChunkFailures = 3;
+
+    /**
+     * What to do with a chunk that failed maxChunkFailures times
+     */
+    @Builder.Default
+    private final ChunkFailurePolicy onChunkFailure = ChunkFailurePolicy.FAIL;
+
+    private final ReaderFactory<T> reader;
+
+    private final ChunkProcessor<T> processor;
+
+    /**
+     * Handling of a chunk that keeps failing
+     */
+    public enum ChunkFailurePolicy {
+        /**
+         * Skip the chunk's items and continue after them
+         */
+        SKIP,
+        /**
+         * Fail the partition; the other partitions finish, and the next run
+         * after that starts the job over
+         */
+        FAIL
+    }
+
+    /**
+     * Creates the reader of one partition
+     */
+    @FunctionalInterface
+    public interface ReaderFactory<T> {
+
+        /**
+         * @param partition  Partition index (0 to partitions - 1)
+         * @param partitions Number of partitions
+         */
+        ChunkReader<T> create(int partition, int partitions);
+    }
+}
@@ -0,0 +1,428 @@
+package com.hafizbahtiar.spring.common.batch;
+
+import com.hafizbahtiar.spring.common.lock.LockLease;
+import com.hafizbahtiar.spring.features.admin.metrics.ExecutorRegistry;
+import com.hafizbahtiar.spring.features.admin.metrics.MonitoredExecutor;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs {@link BatchJob}s chunk by chunk with persisted checkpoints.
+ *
+ * Each chunk is read, processed and checkpointed in one transaction. A run
+ * that stops part way (node restart, timeout interrupt, lost lock) leaves
+ * its checkpoints behind, and the next run of the job resumes every
+ * unfinished partition after its last committed chunk; once all partitions
+ * complete, the next run starts from the beginning.
+ *
+ * A failing chunk is retried until it has failed the job's
+ * {@code maxChunkFailures} times (counted on the checkpoint, across runs);
+ * then it is skipped or its partition fails, per the job's
+ * {@code onChunkFailure} policy. A failed partition is not run again; once
+ * the other partitions finish, the next run starts the job over.
+ *
+ * Partitions run in parallel on the "batch-jobs" pool, so a job's
+ * parallelism is the smaller of its partition count and the pool size. A job
+ * runs once at a time per node; jobs started from cron jobs already run on
+ * one node at a time through their distributed lock.
+ *
+ * A job run under a lock gets the lock's lease: partitions stop between
+ * chunks once the lease is lost, and checkpoints are written only while no
+ * holder with a newer fencing token has written them, so a holder that lost
+ * its lock cannot commit a chunk next to (or after) the new holder.
+ */
+@Component
+@Slf4j
+public class BatchJobRunner {
+
+    private final BatchCheckpointRepository checkpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor pool;
+    private final MonitoredExecutor executor;
+    private final Set<String> runningJobs = ConcurrentHashMap.newKeySet();
+
+    public BatchJobRunner(
+            BatchCheckpointRepository checkpointRepository,
+            PlatformTransactionManager transactionManager,
+            ExecutorRegistry executorRegistry,
+            @Value("${batch.threads:4}") int threads) {
+        this.checkpointRepository = checkpointRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                task -> {
+                    Thread thread = new Thread(task, "batch-job-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.pool.allowCoreThreadTimeOut(true);
+        this.executor = executorRegistry.register("batch-jobs", pool);
+    }
+
+    /**
+     * Run a job without a lock
+     *
+     * @see #run(BatchJob, LockLease)
+     */
+    public <T> BatchRunResult run(BatchJob<T> job) {
+        return run(job, null);
+    }
+
+    /**
+     * Run a job, resuming its previous run if that did not complete. Blocks
+     * until all partitions finish; interrupting the calling thread stops the
+     * partitions after their current chunk.
+     *
+     * @param job   Job to run
+     * @param lease Lease of the lock the job runs under, or null
+     * @return Run outcome
+     * @throws IllegalStateException if the job is already running on this node,
+     *                               or a holder with a newer lease wrote its
+     *                               checkpoints
+     */
+    public <T> BatchRunResult run(BatchJob<T> job, LockLease lease) {
+        if (job.getPartitions() < 1 || job.getChunkSize() < 1) {
+            throw new IllegalArgumentException(
+                    "Batch job " + job.getName() + " needs at least one partition and one item per chunk");
+        }
+        if (job.getMaxChunkFailures() < 1) {
+            throw new IllegalArgumentException("Batch job " + job.getName() + " needs maxChunkFailures of at least 1");
+        }
+        if (!runningJobs.add(job.getName())) {
+            throw new IllegalStateException("Batch job " + job.getName() + " is already running");
+        }
+
+        long startMillis = System.currentTimeMillis();
+        Long fencingToken = lease != null && lease.isFenced() ? lease.getFencingToken() : null;
+        try {
+            List<BatchCheckpoint> checkpoints = new ArrayList<>();
+            boolean resumed = Boolean.TRUE.equals(
+                    transactionTemplate.execute(status -> prepare(job, fencingToken, checkpoints)));
+            log.info("{} batch job {} ({} partition(s), chunks of {})", resumed ? "Resuming" : "Starting",
+                    job.getName(), job.getPartitions(), job.getChunkSize());
+
+            List<PartitionRun<T>> partitions = new ArrayList<>();
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (BatchCheckpoint checkpoint : checkpoints) {
+                if (checkpoint.isCompleted() || checkpoint.isFailed()) {
+                    continue;
+                }
+                PartitionRun<T> partition = new PartitionRun<>(job, checkpoint, lease, fencingToken);
+                partitions.add(partition);
+                futures.add(CompletableFuture.runAsync(partition, executor));
+            }
+
+            boolean completed = await(job, partitions, futures);
+            long processed = partitions.stream().mapToLong(partition -> partition.processed).sum();
+            long chunks = partitions.stream().mapToLong(partition -> partition.chunks).sum();
+            long skipped = partitions.stream().mapToLong(partition -> partition.skipped).sum();
+            int failedPartitions = (int) checkpoints.stream().filter(BatchCheckpoint::isFailed).count()
+                    + (int) partitions.stream().filter(partition -> partition.failed).count();
+            long duration = System.currentTimeMillis() - startMillis;
+
+            if (completed) {
+                log.info("Batch job {} completed: {} item(s) in {} chunk(s), {} skipped, {} ms", job.getName(),
+                        processed, chunks, skipped, duration);
+            } else if (failedPartitions > 0) {
+                log.error("Batch job {} failed: {} partition(s) gave up on a failing chunk after {} item(s) in {} "
+                        + "chunk(s), {} skipped, {} ms", job.getName(), failedPartitions, processed, chunks, skipped,
+                        duration);
+            } else {
+                log.warn("Batch job {} stopped after {} item(s) in {} chunk(s), {} skipped, {} ms; the next run "
+                        + "resumes it", job.getName(), processed, chunks, skipped, duration);
+            }
+            return new BatchRunResult(job.getName(), resumed, completed, processed, chunks, skipped,
+                    failedPartitions, duration);
+        } finally {
+            runningJobs.remove(job.getName());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow(); // partitions stop after their current chunk and resume on the next run
+    }
+
+    /**
+     * Load the checkpoints to continue from, or start a new run; with a
+     * fencing token, the checkpoints are claimed for it
+     *
+     * @return true if an unfinished run is resumed
+     */
+    private boolean prepare(BatchJob<?> job, Long fencingToken, List<BatchCheckpoint> checkpoints) {
+        List<BatchCheckpoint> existing = checkpointRepository.findByJobNameOrderByPartitionIndex(job.getName());
+        if (fencingToken != null && existing.stream().anyMatch(checkpoint -> checkpoint.getFencingToken() != null
+                && checkpoint.getFencingToken() > fencingToken)) {
+            throw new IllegalStateException("Batch job " + job.getName()
+                    + " was taken over by a newer lock holder; not running with fencing token " + fencingToken);
+        }
+        boolean resumable = existing.size() == job.getPartitions()
+                && existing.stream().allMatch(checkpoint -> checkpoint.getPartitionCount() == job.getPartitions())
+                && existing.stream().anyMatch(checkpoint -> !checkpoint.isCompleted() && !checkpoint.isFailed());
+        if (resumable) {
+            if (fencingToken != null
+                    && checkpointRepository.claim(job.getName(), fencingToken, LocalDateTime.now()) < existing.size()) {
+                throw new IllegalStateException("Batch job " + job.getName()
+                        + " was taken over by a newer lock holder; not running with fencing token " + fencingToken);
+            }
+            checkpoints.addAll(existing);
+            return true;
+        }
+
+        if (!existing.isEmpty() && existing.stream().anyMatch(checkpoint -> !checkpoint.isCompleted())) {
+            if (existing.stream().anyMatch(BatchCheckpoint::isFailed)) {
+                log.warn("Batch job {} has partition(s) that failed in the previous run; starting over",
+                        job.getName());
+            } else {
+                log.warn("Batch job {} changed from {} to {} partition(s); starting over", job.getName(),
+                        existing.get(0).getPartitionCount(), job.getPartitions());
+            }
+        }
+        checkpointRepository.deleteAll(existing);
+        checkpointRepository.flush();
+
+        LocalDateTime now = LocalDateTime.now();
+        for (int partition = 0; partition < job.getPartitions(); partition++) {
+            BatchCheckpoint checkpoint = new BatchCheckpoint(job.getName(), partition, job.getPartitions(), now);
+            checkpoint.setFencingToken(fencingToken);
+            checkpoints.add(checkpoint);
+        }
+        checkpoints.replaceAll(checkpointRepository::save);
+        return false;
+    }
+
+    /**
+     * Wait for all partitions; on interrupt, stop them and keep waiting so
+     * their last chunks are checkpointed before returning
+     */
+    private boolean await(BatchJob<?> job, List<? extends PartitionRun<?>> partitions,
+            List<CompletableFuture<Void>> futures) {
+        CompletableFuture<Void> all = CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+        boolean interrupted = false;
+        while (true) {
+            try {
+                all.get();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+                log.warn("Batch job {} interrupted; stopping after the current chunks", job.getName());
+                partitions.forEach(PartitionRun::stop);
+            } catch (ExecutionException e) {
+                break; // allOf waits for every partition; failures are logged per partition
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        return partitions.stream().allMatch(partition -> partition.completed);
+    }
+
+    /**
+     * Checkpoint values, read from the checkpoint and written back with
+     * {@link BatchCheckpointRepository#write} (never through the managed
+     * entity, which would bypass the fencing)
+     */
+    private record Progress(String lastKey, long processed, long skipped, int failures, boolean completed,
+            boolean failed) {
+
+        static Progress of(BatchCheckpoint checkpoint) {
+            return new Progress(checkpoint.getLastKey(), checkpoint.getProcessedCount(),
+                    checkpoint.getSkippedCount() != null ? checkpoint.getSkippedCount() : 0L,
+                    checkpoint.getFailureCount() != null ? checkpoint.getFailureCount() : 0,
+                    checkpoint.isCompleted(), checkpoint.isFailed());
+        }
+    }
+
+    /**
+     * What became of a failed chunk
+     */
+    private enum FailureOutcome {
+        RETRY, SKIPPED, FAILED
+    }
+
+    /**
+     * One partition of a run; processes chunks until the reader is exhausted,
+     * a chunk fails for good, the run is stopped or its lease is lost
+     */
+    private class PartitionRun<T> implements Runnable {
+
+        private final BatchJob<T> job;
+        private final Long checkpointId;
+        private final int partition;
+        private final LockLease lease;
+        private final Long fencingToken;
+        private volatile boolean stopped;
+        private volatile boolean completed;
+        private volatile boolean failed;
+        private volatile long processed;
+        private volatile long chunks;
+        private volatile long skipped;
+
+        PartitionRun(BatchJob<T> job, BatchCheckpoint checkpoint, LockLease lease, Long fencingToken) {
+            this.job = job;
+            this.checkpointId = checkpoint.getId();
+            this.partition = checkpoint.getPartitionIndex();
+            this.lease = lease;
+            this.fencingToken = fencingToken;
+        }
+
+        void stop() {
+            stopped = true;
+        }
+
+        @Override
+        public void run() {
+            ChunkReader<T> reader = job.getReader().create(partition, job.getPartitions());
+            try {
+                while (!stopped && !Thread.currentThread().isInterrupted()) {
+                    if (lease != null && lease.isLost()) {
+                        log.warn("Batch job {} partition {} lost its lock after {} item(s); stopping", job.getName(),
+                                partition, processed);
+                        return;
+                    }
+                    Integer chunkSize;
+                    try {
+                        chunkSize = transactionTemplate.execute(status -> processChunk(reader));
+                    } catch (FencedOffException e) {
+                        throw e;
+                    } catch (RuntimeException e) {
+                        FailureOutcome outcome = transactionTemplate.execute(status -> recordFailure(reader, e));
+                        if (outcome == FailureOutcome.FAILED) {
+                            failed = true;
+                            return;
+                        }
+                        continue;
+                    }
+                    if (chunkSize == null || chunkSize == 0) {
+                        completed = true;
+                        return;
+                    }
+                    processed += chunkSize;
+                    chunks++;
+                }
+            } catch (FencedOffException e) {
+                log.warn("Batch job {} partition {} stopped after {} item(s): {}", job.getName(), partition,
+                        processed, e.getMessage());
+            } catch (RuntimeException e) {
+                log.error("Batch job {} partition {} failed after {} item(s): {}", job.getName(), partition,
+                        processed, e.getMessage(), e);
+                throw e;
+            }
+        }
+
+        /**
+         * Read, process and checkpoint one chunk
+         *
+         * @return Number of items processed, 0 when the partition is done
+         */
+        private int processChunk(ChunkReader<T> reader) {
+            BatchCheckpoint checkpoint = checkpointRepository.findById(checkpointId)
+                    .orElseThrow(() -> new IllegalStateException("Checkpoint of batch job " + job.getName()
+                            + " partition " + partition + " was removed"));
+
+            Progress progress = Progress.of(checkpoint);
+            List<T> chunk = reader.read(progress.lastKey(), job.getChunkSize());
+            if (chunk.isEmpty()) {
+                writeCheckpoint(new Progress(progress.lastKey(), progress.processed(), progress.skipped(), 0, true,
+                        false));
+                return 0;
+            }
+
+            try {
+                job.getProcessor().process(chunk);
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException("Chunk failed: " + e.getMessage(), e);
+            }
+
+            writeCheckpoint(new Progress(reader.keyOf(chunk.get(chunk.size() - 1)),
+                    progress.processed() + chunk.size(), progress.skipped(), 0, false, false));
+            return chunk.size();
+        }
+
+        /**
+         * Count a failed attempt at the chunk after the checkpoint, in a
+         * transaction of its own, and apply the job's failure policy once the
+         * chunk failed too often
+         */
+        private FailureOutcome recordFailure(ChunkReader<T> reader, RuntimeException failure) {
+            BatchCheckpoint checkpoint = checkpointRepository.findById(checkpointId)
+                    .orElseThrow(() -> failure);
+            Progress progress = Progress.of(checkpoint);
+            int failures = progress.failures() + 1;
+            if (failures < job.getMaxChunkFailures()) {
+                log.warn("Batch job {} partition {} chunk after key {} failed (attempt {} of {}); retrying: {}",
+                        job.getName(), partition, progress.lastKey(), failures, job.getMaxChunkFailures(),
+                        failure.getMessage());
+                writeCheckpoint(new Progress(progress.lastKey(), progress.processed(), progress.skipped(), failures,
+                        false, false));
+                return FailureOutcome.RETRY;
+            }
+
+            if (job.getOnChunkFailure() == BatchJob.ChunkFailurePolicy.FAIL) {
+                log.error("Batch job {} partition {} chunk after key {} failed {} time(s); failing the partition",
+                        job.getName(), partition, progress.lastKey(), failures, failure);
+                writeCheckpoint(new Progress(progress.lastKey(), progress.processed(), progress.skipped(), failures,
+                        false, true));
+                return FailureOutcome.FAILED;
+            }
+
+            List<T> chunk = reader.read(progress.lastKey(), job.getChunkSize());
+            if (chunk.isEmpty()) {
+                // The items changed since the failed attempt; nothing left to skip
+                writeCheckpoint(new Progress(progress.lastKey(), progress.processed(), progress.skipped(), 0,
+                        false, false));
+                return FailureOutcome.RETRY;
+            }
+            String lastKey = reader.keyOf(chunk.get(chunk.size() - 1));
+            log.error("Batch job {} partition {} chunk after key {} failed {} time(s); skipping {} item(s) up to key {}",
+                    job.getName(), partition, progress.lastKey(), failures, chunk.size(), lastKey, failure);
+            writeCheckpoint(new Progress(lastKey, progress.processed(), progress.skipped() + chunk.size(), 0,
+                    false, false));
+            skipped += chunk.size();
+            return FailureOutcome.SKIPPED;
+        }
+
+        /**
+         * Write the checkpoint; with a fencing token, only if no newer holder
+         * wrote it, otherwise the transaction rolls back
+         */
+        private void writeCheckpoint(Progress progress) {
+            int written = checkpointRepository.write(checkpointId, progress.lastKey(), progress.processed(),
+                    progress.skipped(), progress.failures(), progress.completed(), progress.failed(), fencingToken,
+                    LocalDateTime.now());
+            if (written == 0) {
+                throw new FencedOffException("checkpoint was written by a newer lock holder than fencing token "
+                        + fencingToken + "; chunk rolled back");
+            }
+        }
+    }
+
+    /**
+     * A newer lock holder wrote the checkpoint of a partition
+     */
+    private static class FencedOffException extends IllegalStateException {
+
+        FencedOffException(String message) {
+            super(message);
+        }
+    }
+}
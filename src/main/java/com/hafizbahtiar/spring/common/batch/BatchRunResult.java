@@ -0,0 +1,17 @@
+package com.hafizbahtiar.spring.common.batch;
+
+/**
+ * Outcome of one batch job run.
+ *
+ * @param jobName    Job name
+ * @param resumed    Whether the run continued an interrupted run
+ * @param completed  Whether all partitions finished; false if a partition failed or was interrupted
+ * @param processed  Items processed in this run
+ * @param chunks     Chunks committed in this run
+ * @param skipped    Items skipped in this run because their chunk kept failing
+ * @param failedPartitions Partitions that gave up on a chunk that kept failing
+ * @param durationMs Duration in milliseconds
+ */
+public record BatchRunResult(String jobName, boolean resumed, boolean completed, long processed, long chunks,
+        long skipped, int failedPartitions, long durationMs) {
+}
@@ -0,0 +1,17 @@
+package com.hafizbahtiar.spring.common.batch;
+
+import java.util.List;
+
+/**
+ * Processes one chunk of a batch job. Called inside the chunk's transaction:
+ * JPA entities read in the chunk are managed, so changes to them are written
+ * when the chunk commits. Throwing rolls the chunk back and fails the
+ * partition; the next run resumes at this chunk.
+ *
+ * @param <T> Item type
+ */
+@FunctionalInterface
+public interface ChunkProcessor<T> {
+
+    void process(List<T> chunk) throws Exception;
+}
@@ -0,0 +1,29 @@
+package com.hafizbahtiar.spring.common.batch;
+
+import java.util.List;
+
+/**
+ * Reads the items of one partition of a batch job in key order, one chunk at
+ * a time (keyset pagination: each chunk starts after the last key of the
+ * previous one, so reads stay cheap however far the job has progressed).
+ *
+ * Keys are exchanged as strings so they can be stored in checkpoints.
+ *
+ * @param <T> Item type
+ */
+public interface ChunkReader<T> {
+
+    /**
+     * Read the next chunk.
+     *
+     * @param afterKey Key of the last item processed, or null to start from the beginning
+     * @param limit    Maximum number of items
+     * @return Items with keys greater than afterKey, in key order; empty when done
+     */
+    List<T> read(String afterKey, int limit);
+
+    /**
+     * Key of an item, as passed back to {@link #read}
+     */
+    String keyOf(T item);
+}
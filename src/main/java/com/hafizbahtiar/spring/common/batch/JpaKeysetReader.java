@@ -0,0 +1,66 @@
+package com.hafizbahtiar.spring.common.batch;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keyset reader over a JPA entity with a numeric {@code id}, in id order.
+ *
+ * Partitions split the rows by {@code MOD(id, partitions)}. The filter is a
+ * JPQL condition on the alias {@code e}, e.g.
+ * {@code "e.isActive = true AND e.expiresAt < :now"}, with its parameters.
+ * Use the shared (transaction-bound) EntityManager, so each chunk is read in
+ * the chunk's transaction.
+ *
+ * @param <T> Entity type
+ */
+public class JpaKeysetReader<T> implements ChunkReader<T> {
+
+    private final EntityManager entityManager;
+    private final Class<T> entityType;
+    private final String jpql;
+    private final Map<String, Object> parameters;
+    private final int partition;
+    private final int partitions;
+
+    public JpaKeysetReader(EntityManager entityManager, Class<T> entityType, String filter,
+            Map<String, Object> parameters, int partition, int partitions) {
+        this.entityManager = entityManager;
+        this.entityType = entityType;
+        this.parameters = parameters != null ? parameters : Map.of();
+        this.partition = partition;
+        this.partitions = partitions;
+
+        StringBuilder query = new StringBuilder("SELECT e FROM ")
+                .append(entityManager.getMetamodel().entity(entityType).getName())
+                .append(" e WHERE e.id > :afterKey");
+        if (filter != null && !filter.isBlank()) {
+            query.append(" AND (").append(filter).append(")");
+        }
+        if (partitions > 1) {
+            query.append(" AND MOD(e.id, :partitions) = :partition");
+        }
+        this.jpql = query.append(" ORDER BY e.id").toString();
+    }
+
+    @Override
+    public List<T> read(String afterKey, int limit) {
+        TypedQuery<T> query = entityManager.createQuery(jpql, entityType)
+                .setParameter("afterKey", afterKey != null ? Long.parseLong(afterKey) : Long.MIN_VALUE)
+                .setMaxResults(limit);
+        if (partitions > 1) {
+            query.setParameter("partitions", (long) partitions).setParameter("partition", (long) partition);
+        }
+        parameters.forEach(query::setParameter);
+        return query.getResultList();
+    }
+
+    @Override
+    public String keyOf(T item) {
+        Object id = entityManager.getEntityManagerFactory().getPersistenceUnitUtil().getIdentifier(item);
+        return String.valueOf(id);
+    }
+}
@@ -0,0 +1,59 @@
+package com.hafizbahtiar.spring.common.batch;
+
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+
+/**
+ * Keyset reader over a MongoDB collection, in {@code _id} order.
+ *
+ * There is no built-in partitioning: to run a collection in several
+ * partitions, give each partition a filter selecting its own share (e.g. by
+ * a tenant or date field). MongoDB writes are not part of the chunk's
+ * transaction, so processors should be idempotent: a chunk interrupted
+ * before its checkpoint is processed again on resume.
+ *
+ * @param <T> Document type
+ */
+public class MongoKeysetReader<T> implements ChunkReader<T> {
+
+    private final MongoTemplate mongoTemplate;
+    private final Class<T> documentType;
+    private final Criteria filter;
+
+    /**
+     * @param filter Criteria the documents must match, or null for all
+     */
+    public MongoKeysetReader(MongoTemplate mongoTemplate, Class<T> documentType, Criteria filter) {
+        this.mongoTemplate = mongoTemplate;
+        this.documentType = documentType;
+        this.filter = filter;
+    }
+
+    @Override
+    public List<T> read(String afterKey, int limit) {
+        Criteria criteria = new Criteria();
+        if (afterKey != null) {
+            Criteria afterCriteria = Criteria.where("_id").gt(ObjectId.isValid(afterKey) ? new ObjectId(afterKey) : afterKey);
+            criteria = filter != null ? new Criteria().andOperator(filter, afterCriteria) : afterCriteria;
+        } else if (filter != null) {
+            criteria = filter;
+        }
+
+        Query query = Query.query(criteria).with(Sort.by(Sort.Direction.ASC, "_id")).limit(limit);
+        return mongoTemplate.find(query, documentType);
+    }
+
+    @Override
+    public String keyOf(T item) {
+        Object id = mongoTemplate.getConverter().getMappingContext()
+                .getRequiredPersistentEntity(documentType)
+                .getIdentifierAccessor(item)
+                .getIdentifier();
+        return String.valueOf(id);
+    }
+}
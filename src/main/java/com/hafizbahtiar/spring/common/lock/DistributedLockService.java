@@ -0,0 +1,38 @@
+package com.hafizbahtiar.spring.common.lock;
+
+import java.time.Instant;
+import java.util.function.Consumer;
+
+/**
+ * Cluster-wide locks for work that must not run on several nodes at once,
+ * such as scheduled jobs.
+ *
+ * Locks are leases: they expire unless the holder keeps extending them, so a
+ * node that dies never blocks the lock for longer than the lease time. Each
+ * acquisition gets a fencing token that increases per lock name; code that
+ * writes shared state can pass it along so stale holders can be rejected.
+ */
+public interface DistributedLockService {
+
+    /**
+     * Run a task on at most one node per fire time. The lock for a fire time
+     * is kept after the task finishes, so nodes that fire late (clock skew,
+     * slow scheduler) skip it instead of running it again.
+     *
+     * @param name     Lock name, e.g. the job name
+     * @param fireTime Scheduled fire time of this execution
+     * @param task     Task to run, given the lease
+     * @return true if the task ran on this node, false if another node has it
+     */
+    boolean runOnce(String name, Instant fireTime, Consumer<LockLease> task);
+
+    /**
+     * Run a task while holding a lock, skipping it if another node holds the
+     * lock. The lock is released when the task finishes.
+     *
+     * @param name Lock name
+     * @param task Task to run, given the lease
+     * @return true if the task ran on this node, false if the lock was held
+     */
+    boolean runExclusive(String name, Consumer<LockLease> task);
+}
@@ -0,0 +1,94 @@
+package com.hafizbahtiar.spring.common.lock;
+
+/**
+ * A held lock. Extended in the background while the task runs; if an
+ * extension finds the lock taken over (the lease expired first), the lease is
+ * marked lost.
+ *
+ * Tasks receive their lease as an argument; code further down the call
+ * stack (e.g. a cron job method) can get it from {@link #current()}.
+ */
+public final class LockLease {
+
+    private static final ThreadLocal<LockLease> CURRENT = new ThreadLocal<>();
+
+    private final String name;
+    private final String key;
+    private final long fencingToken;
+    private final long acquiredAtNanos = System.nanoTime();
+    private volatile boolean lost;
+
+    LockLease(String name, String key, long fencingToken) {
+        this.name = name;
+        this.key = key;
+        this.fencingToken = fencingToken;
+    }
+
+    /**
+     * Lease of the innermost lock whose task is running on this thread
+     *
+     * @return The lease, or null outside a locked task
+     */
+    public static LockLease current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Make a lease current for this thread
+     *
+     * @return The previously current lease, to restore afterwards
+     */
+    static LockLease bind(LockLease lease) {
+        LockLease previous = CURRENT.get();
+        CURRENT.set(lease);
+        return previous;
+    }
+
+    static void restore(LockLease previous) {
+        if (previous != null) {
+            CURRENT.set(previous);
+        } else {
+            CURRENT.remove();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    String getKey() {
+        return key;
+    }
+
+    /**
+     * Token that increases with every acquisition of this lock name
+     */
+    public long getFencingToken() {
+        return fencingToken;
+    }
+
+    /**
+     * Whether the lease comes from a lock and its token can fence writes;
+     * false when the task runs without a lock (locking disabled, or Redis
+     * unreachable with app.lock.run-on-redis-failure)
+     */
+    public boolean isFenced() {
+        return key != null;
+    }
+
+    long getAcquiredAtNanos() {
+        return acquiredAtNanos;
+    }
+
+    /**
+     * Whether the lock was lost while held, e.g. after a long GC pause or a
+     * Redis outage; the task should stop writing shared state
+     */
+    public boolean isLost() {
+        return lost;
+    }
+
+    void markLost() {
+        lost = true;
+    }
+}
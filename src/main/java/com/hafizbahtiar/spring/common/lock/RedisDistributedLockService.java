@@ -0,0 +1,200 @@
+package com.hafizbahtiar.spring.common.lock;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Redis implementation of DistributedLockService using lease locks.
+ *
+ * A lock is a key set with NX and a lease TTL, holding the fencing token
+ * (INCR of a per-name counter) as its value. While the task runs the lease is
+ * extended every third of the lease time, and only by the token's owner.
+ * Exclusive locks are deleted on release; fire-time locks are kept for
+ * app.lock.completed-hold-ms so late nodes skip the same fire time.
+ *
+ * If Redis is unreachable the task is skipped, unless
+ * app.lock.run-on-redis-failure is set (single-node deployments).
+ */
+@Service
+@Slf4j
+public class RedisDistributedLockService implements DistributedLockService {
+
+    private static final String KEY_PREFIX = "lock:";
+
+    /**
+     * Set a new TTL if the lock still holds the given token
+     */
+    private static final String EXPIRE_IF_OWNER_SCRIPT = """
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """;
+
+    /**
+     * Delete the lock if it still holds the given token
+     */
+    private static final String DELETE_IF_OWNER_SCRIPT = """
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final RedisScript<Long> expireIfOwnerScript = new DefaultRedisScript<>(EXPIRE_IF_OWNER_SCRIPT, Long.class);
+    private final RedisScript<Long> deleteIfOwnerScript = new DefaultRedisScript<>(DELETE_IF_OWNER_SCRIPT, Long.class);
+    private final ScheduledExecutorService renewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "lock-lease-renewer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${app.lock.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.lock.lease-ms:30000}")
+    private long leaseMs;
+
+    @Value("${app.lock.completed-hold-ms:300000}")
+    private long completedHoldMs;
+
+    @Value("${app.lock.run-on-redis-failure:false}")
+    private boolean runOnRedisFailure;
+
+    public RedisDistributedLockService(RedisTemplate<String, Object> redisTemplate, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean runOnce(String name, Instant fireTime, Consumer<LockLease> task) {
+        return run(name, KEY_PREFIX + name + ":" + fireTime.getEpochSecond(), true, task);
+    }
+
+    @Override
+    public boolean runExclusive(String name, Consumer<LockLease> task) {
+        return run(name, KEY_PREFIX + name, false, task);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renewer.shutdownNow();
+    }
+
+    private boolean run(String name, String key, boolean keepAfterRelease, Consumer<LockLease> task) {
+        if (!enabled) {
+            runTask(task, new LockLease(name, null, 0L));
+            return true;
+        }
+
+        LockLease lease;
+        try {
+            lease = acquire(name, key);
+        } catch (Exception e) {
+            count(name, "error");
+            if (!runOnRedisFailure) {
+                log.error("Skipping {}: could not acquire lock: {}", name, e.getMessage());
+                return false;
+            }
+            log.warn("Running {} without lock: could not acquire lock: {}", name, e.getMessage());
+            runTask(task, new LockLease(name, null, 0L));
+            return true;
+        }
+
+        if (lease == null) {
+            count(name, "skipped");
+            log.debug("Skipping {}: lock {} is held by another node", name, key);
+            return false;
+        }
+
+        count(name, "acquired");
+        long renewIntervalMs = Math.max(leaseMs / 3, 1);
+        ScheduledFuture<?> renewal = renewer.scheduleAtFixedRate(() -> extend(lease, leaseMs),
+                renewIntervalMs, renewIntervalMs, TimeUnit.MILLISECONDS);
+        try {
+            runTask(task, lease);
+        } finally {
+            renewal.cancel(false);
+            release(lease, keepAfterRelease);
+            meterRegistry.timer("lock.hold", "name", name)
+                    .record(System.nanoTime() - lease.getAcquiredAtNanos(), TimeUnit.NANOSECONDS);
+        }
+        return true;
+    }
+
+    /**
+     * Run a task with its lease current on this thread
+     */
+    private void runTask(Consumer<LockLease> task, LockLease lease) {
+        LockLease previous = LockLease.bind(lease);
+        try {
+            task.accept(lease);
+        } finally {
+            LockLease.restore(previous);
+        }
+    }
+
+    /**
+     * Take the lock with a new fencing token, or return null if it is held
+     */
+    private LockLease acquire(String name, String key) {
+        Long token = redisTemplate.opsForValue().increment(KEY_PREFIX + name + ":fence");
+        if (token == null) {
+            throw new IllegalStateException("No fencing token returned for " + name);
+        }
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(token),
+                Duration.ofMillis(leaseMs));
+        return Boolean.TRUE.equals(acquired) ? new LockLease(name, key, token) : null;
+    }
+
+    private void extend(LockLease lease, long ttlMs) {
+        if (lease.isLost()) {
+            return;
+        }
+        try {
+            Long extended = redisTemplate.execute(expireIfOwnerScript, List.of(lease.getKey()),
+                    String.valueOf(lease.getFencingToken()), String.valueOf(ttlMs));
+            if (extended == null || extended == 0) {
+                lease.markLost();
+                meterRegistry.counter("lock.lease.lost", "name", lease.getName()).increment();
+                log.warn("Lost lock {} (token {}) while holding it", lease.getKey(), lease.getFencingToken());
+            }
+        } catch (Exception e) {
+            log.warn("Failed to extend lock {}: {}", lease.getKey(), e.getMessage());
+        }
+    }
+
+    private void release(LockLease lease, boolean keep) {
+        try {
+            if (keep) {
+                extend(lease, completedHoldMs);
+            } else {
+                redisTemplate.execute(deleteIfOwnerScript, List.of(lease.getKey()),
+                        String.valueOf(lease.getFencingToken()));
+            }
+        } catch (Exception e) {
+            log.warn("Failed to release lock {}: {}", lease.getKey(), e.getMessage());
+        }
+    }
+
+    private void count(String name, String result) {
+        meterRegistry.counter("lock.acquisitions", "name", name, "result", result).increment();
+    }
+}
@@ -0,0 +1,35 @@
+package com.hafizbahtiar.spring.common.queue;
+
+import java.util.Set;
+
+/**
+ * Processes the jobs of one queue. Implementations are picked up as Spring
+ * beans; each queue has at most one handler.
+ *
+ * Jobs are delivered at least once: a job whose worker dies or exceeds the
+ * visibility timeout is delivered again, so handlers should be idempotent
+ * where a duplicate matters. Throwing fails the attempt and schedules a retry.
+ */
+public interface JobHandler {
+
+    /**
+     * Name of the queue this handler consumes
+     */
+    String getQueueName();
+
+    /**
+     * Process one job.
+     *
+     * @param job Job to process
+     * @throws Exception to fail this attempt
+     */
+    void handle(QueuedJob job) throws Exception;
+
+    /**
+     * Data keys holding secrets (e.g. one-time tokens), masked wherever job
+     * data is shown to admins
+     */
+    default Set<String> getSensitiveDataKeys() {
+        return Set.of();
+    }
+}
@@ -0,0 +1,67 @@
+package com.hafizbahtiar.spring.common.queue;
+
+/**
+ * Redis keys of the job queue. Keys of one queue share a hash tag so they
+ * stay in one slot and can be used together in scripts on Redis Cluster.
+ */
+final class JobQueueKeys {
+
+    /**
+     * Set of all queue names seen by any node
+     */
+    static final String REGISTRY = "queue:registry";
+
+    /**
+     * Consumer group shared by the workers of all nodes
+     */
+    static final String GROUP = "workers";
+
+    private JobQueueKeys() {
+    }
+
+    /**
+     * Stream of waiting and active jobs; entries only carry the job ID
+     */
+    static String stream(String queue) {
+        return prefix(queue) + "stream";
+    }
+
+    /**
+     * Sorted set of delayed job IDs, scored by due time
+     */
+    static String delayed(String queue) {
+        return prefix(queue) + "delayed";
+    }
+
+    /**
+     * Sorted set of recently completed job IDs, scored by finish time
+     */
+    static String completed(String queue) {
+        return prefix(queue) + "completed";
+    }
+
+    /**
+     * Dead-letter queue: sorted set of failed job IDs, scored by failure time
+     */
+    static String dead(String queue) {
+        return prefix(queue) + "dead";
+    }
+
+    /**
+     * Hash of cumulative counters (completed, failed)
+     */
+    static String stats(String queue) {
+        return prefix(queue) + "stats";
+    }
+
+    /**
+     * Hash holding one job's details
+     */
+    static String job(String queue, String jobId) {
+        return prefix(queue) + "job:" + jobId;
+    }
+
+    private static String prefix(String queue) {
+        return "queue:{" + queue + "}:";
+    }
+}
@@ -0,0 +1,95 @@
+package com.hafizbahtiar.spring.common.queue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Service interface for the Redis Streams backed background job queue.
+ * Jobs are processed by the {@link JobHandler} registered for their queue.
+ */
+public interface JobQueueService {
+
+    /**
+     * Add a job to a queue for immediate processing
+     *
+     * @param queue Queue name
+     * @param name  Job name, used by the handler to tell job types apart
+     * @param data  Job parameters
+     * @return Job ID
+     */
+    String enqueue(String queue, String name, Map<String, String> data);
+
+    /**
+     * Add a job to a queue, to be processed after a delay
+     *
+     * @param queue Queue name
+     * @param name  Job name
+     * @param data  Job parameters
+     * @param delay Time before the job becomes available to workers
+     * @return Job ID
+     */
+    String enqueue(String queue, String name, Map<String, String> data, Duration delay);
+
+    /**
+     * Names of all queues known to any node
+     */
+    Set<String> getQueueNames();
+
+    /**
+     * Current job counts of a queue
+     *
+     * @param queue Queue name
+     * @return Counts
+     */
+    QueueCounts getCounts(String queue);
+
+    /**
+     * Jobs of a queue in the given state, most recent first for completed
+     * and failed jobs, oldest first otherwise
+     *
+     * @param queue  Queue name
+     * @param status Job state
+     * @param start  Start index (inclusive)
+     * @param end    End index (inclusive)
+     * @return Jobs in the given range
+     */
+    List<QueuedJob> getJobs(String queue, JobStatus status, int start, int end);
+
+    /**
+     * Move a job from the dead-letter queue back to the queue, with its
+     * attempts reset
+     *
+     * @param queue Queue name
+     * @param jobId Job ID
+     * @throws IllegalArgumentException if the job is not in the dead-letter queue
+     */
+    void retry(String queue, String jobId);
+
+    /**
+     * Remove completed and/or failed jobs that finished before the grace period
+     *
+     * @param queue   Queue name
+     * @param status  {@link JobStatus#COMPLETED}, {@link JobStatus#FAILED}, or null for both
+     * @param graceMs Jobs finished within this many milliseconds are kept
+     * @return Number of jobs removed
+     */
+    long clean(String queue, JobStatus status, long graceMs);
+
+    /**
+     * Job counts of one queue
+     *
+     * @param waiting             Jobs waiting for a worker
+     * @param active              Jobs being processed
+     * @param delayed             Jobs scheduled for later (including retries)
+     * @param completed           Completed jobs still in the history
+     * @param failed              Jobs in the dead-letter queue
+     * @param totalCompleted      Jobs completed since the queue was created
+     * @param totalFailed         Failed attempts since the queue was created
+     * @param completedLastMinute Jobs completed in the last minute
+     */
+    record QueueCounts(long waiting, long active, long delayed, long completed, long failed,
+            long totalCompleted, long totalFailed, long completedLastMinute) {
+    }
+}
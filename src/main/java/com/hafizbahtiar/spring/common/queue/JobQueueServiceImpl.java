@@ -0,0 +1,277 @@
+package com.hafizbahtiar.spring.common.queue;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.StreamInfo;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implementation of JobQueueService on Redis Streams.
+ *
+ * Each queue is a stream consumed by one consumer group shared by all nodes,
+ * so a job is delivered to one worker at a time and survives restarts until it
+ * is acknowledged. Stream entries only carry the job ID; job details live in a
+ * hash per job. Delayed jobs and retries wait in a sorted set until due,
+ * completed jobs are kept in a capped history, and jobs that run out of
+ * attempts are parked in a dead-letter set. See {@link JobQueueWorker} for the
+ * consuming side.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobQueueServiceImpl implements JobQueueService {
+
+    private static final long ONE_MINUTE_MS = 60_000L;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    /**
+     * Queues already added to the registry by this node
+     */
+    private final Set<String> registeredQueues = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public String enqueue(String queue, String name, Map<String, String> data) {
+        return enqueue(queue, name, data, Duration.ZERO);
+    }
+
+    @Override
+    public String enqueue(String queue, String name, Map<String, String> data, Duration delay) {
+        if (!StringUtils.hasText(queue)) {
+            throw new IllegalArgumentException("Queue name is required");
+        }
+
+        String jobId = UUID.randomUUID().toString();
+        long now = System.currentTimeMillis();
+        boolean delayed = delay != null && delay.toMillis() > 0;
+
+        QueuedJob job = QueuedJob.builder()
+                .id(jobId)
+                .queue(queue)
+                .name(name)
+                .data(data)
+                .status(delayed ? JobStatus.DELAYED : JobStatus.WAITING)
+                .timestamp(now)
+                .build();
+
+        redisTemplate.opsForHash().putAll(JobQueueKeys.job(queue, jobId), job.toHash());
+        if (delayed) {
+            redisTemplate.opsForZSet().add(JobQueueKeys.delayed(queue), jobId, now + delay.toMillis());
+        } else {
+            redisTemplate.opsForStream().add(JobQueueKeys.stream(queue), Map.of("id", jobId));
+        }
+        if (registeredQueues.add(queue)) {
+            redisTemplate.opsForSet().add(JobQueueKeys.REGISTRY, queue);
+        }
+
+        log.debug("Enqueued job {} ({}) on queue {}{}", jobId, name, queue,
+                delayed ? " with delay " + delay.toMillis() + " ms" : "");
+        return jobId;
+    }
+
+    @Override
+    public Set<String> getQueueNames() {
+        Set<Object> members = redisTemplate.opsForSet().members(JobQueueKeys.REGISTRY);
+        Set<String> names = new TreeSet<>();
+        if (members != null) {
+            members.forEach(member -> names.add(member.toString()));
+        }
+        return names;
+    }
+
+    @Override
+    public QueueCounts getCounts(String queue) {
+        String stream = JobQueueKeys.stream(queue);
+        long length = valueOf(redisTemplate.opsForStream().size(stream));
+        long active = pendingCount(stream);
+        long now = System.currentTimeMillis();
+
+        Map<Object, Object> stats = redisTemplate.opsForHash().entries(JobQueueKeys.stats(queue));
+
+        return new QueueCounts(
+                Math.max(0, length - active),
+                active,
+                valueOf(redisTemplate.opsForZSet().zCard(JobQueueKeys.delayed(queue))),
+                valueOf(redisTemplate.opsForZSet().zCard(JobQueueKeys.completed(queue))),
+                valueOf(redisTemplate.opsForZSet().zCard(JobQueueKeys.dead(queue))),
+                parseLong(stats.get("completed")),
+                parseLong(stats.get("failed")),
+                valueOf(redisTemplate.opsForZSet().count(JobQueueKeys.completed(queue), now - ONE_MINUTE_MS, now)));
+    }
+
+    @Override
+    public List<QueuedJob> getJobs(String queue, JobStatus status, int start, int end) {
+        if (end < start) {
+            return Collections.emptyList();
+        }
+
+        Collection<?> jobIds = switch (status) {
+            case COMPLETED -> redisTemplate.opsForZSet().reverseRange(JobQueueKeys.completed(queue), start, end);
+            case FAILED -> redisTemplate.opsForZSet().reverseRange(JobQueueKeys.dead(queue), start, end);
+            case DELAYED -> redisTemplate.opsForZSet().range(JobQueueKeys.delayed(queue), start, end);
+            case ACTIVE -> activeJobIds(queue, start, end);
+            case WAITING -> waitingJobIds(queue, start, end);
+        };
+
+        List<QueuedJob> jobs = new ArrayList<>();
+        if (jobIds == null) {
+            return jobs;
+        }
+        for (Object jobId : jobIds) {
+            QueuedJob job = QueuedJob.fromHash(
+                    redisTemplate.opsForHash().entries(JobQueueKeys.job(queue, jobId.toString())));
+            if (job != null) {
+                jobs.add(job);
+            }
+        }
+        return jobs;
+    }
+
+    @Override
+    public void retry(String queue, String jobId) {
+        Long removed = redisTemplate.opsForZSet().remove(JobQueueKeys.dead(queue), jobId);
+        if (removed == null || removed == 0) {
+            throw new IllegalArgumentException("Job " + jobId + " is not in the dead-letter queue of " + queue);
+        }
+
+        String jobKey = JobQueueKeys.job(queue, jobId);
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(jobKey))) {
+            throw new IllegalArgumentException("Job " + jobId + " of queue " + queue + " has expired");
+        }
+        redisTemplate.persist(jobKey); // dead jobs expire; a retried job lives until it finishes again
+        redisTemplate.opsForHash().delete(jobKey, "failedReason", "processedOn", "finishedOn");
+        redisTemplate.opsForHash().putAll(jobKey, Map.of(
+                "status", JobStatus.WAITING.name(),
+                "attempts", "0"));
+        redisTemplate.opsForStream().add(JobQueueKeys.stream(queue), Map.of("id", jobId));
+
+        log.info("Job {} of queue {} moved from the dead-letter queue back to the queue", jobId, queue);
+    }
+
+    @Override
+    public long clean(String queue, JobStatus status, long graceMs) {
+        if (status != null && status != JobStatus.COMPLETED && status != JobStatus.FAILED) {
+            throw new IllegalArgumentException("Only completed or failed jobs can be cleaned");
+        }
+
+        double cutoff = System.currentTimeMillis() - graceMs;
+        long cleaned = 0;
+        if (status == null || status == JobStatus.COMPLETED) {
+            cleaned += removeFinished(queue, JobQueueKeys.completed(queue), cutoff);
+        }
+        if (status == null || status == JobStatus.FAILED) {
+            cleaned += removeFinished(queue, JobQueueKeys.dead(queue), cutoff);
+        }
+
+        log.info("Cleaned {} jobs from queue {} (status: {}, grace: {} ms)", cleaned, queue,
+                status != null ? status : "all", graceMs);
+        return cleaned;
+    }
+
+    /**
+     * Remove jobs finished before the cutoff from a sorted set, with their details
+     */
+    private long removeFinished(String queue, String key, double cutoff) {
+        Set<Object> jobIds = redisTemplate.opsForZSet().rangeByScore(key, Double.NEGATIVE_INFINITY, cutoff);
+        if (jobIds == null || jobIds.isEmpty()) {
+            return 0;
+        }
+
+        redisTemplate.opsForZSet().remove(key, jobIds.toArray());
+        List<String> jobKeys = new ArrayList<>(jobIds.size());
+        jobIds.forEach(jobId -> jobKeys.add(JobQueueKeys.job(queue, jobId.toString())));
+        redisTemplate.delete(jobKeys);
+        return jobIds.size();
+    }
+
+    /**
+     * IDs of jobs delivered to a worker and not yet acknowledged
+     */
+    private List<String> activeJobIds(String queue, int start, int end) {
+        String stream = JobQueueKeys.stream(queue);
+        PendingMessages pending;
+        try {
+            pending = redisTemplate.opsForStream().pending(stream, JobQueueKeys.GROUP, Range.unbounded(), end + 1L);
+        } catch (DataAccessException e) {
+            return Collections.emptyList(); // No consumer group yet
+        }
+
+        List<String> jobIds = new ArrayList<>();
+        int index = 0;
+        for (PendingMessage message : pending) {
+            if (index++ < start) {
+                continue;
+            }
+            String recordId = message.getIdAsString();
+            List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream()
+                    .range(stream, Range.closed(recordId, recordId));
+            if (records != null && !records.isEmpty()) {
+                jobIds.add(String.valueOf(records.get(0).getValue().get("id")));
+            }
+        }
+        return jobIds;
+    }
+
+    /**
+     * IDs of jobs not yet delivered: entries after the group's last delivered ID
+     */
+    private List<String> waitingJobIds(String queue, int start, int end) {
+        String stream = JobQueueKeys.stream(queue);
+        Range<String> range = Range.unbounded();
+        try {
+            for (StreamInfo.XInfoGroup group : redisTemplate.opsForStream().groups(stream)) {
+                if (JobQueueKeys.GROUP.equals(group.groupName())) {
+                    range = Range.of(Range.Bound.exclusive(group.lastDeliveredId()), Range.Bound.unbounded());
+                }
+            }
+        } catch (DataAccessException e) {
+            // No stream or consumer group yet: every entry is waiting
+        }
+
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream()
+                .range(stream, range, Limit.limit().count(end + 1));
+        List<String> jobIds = new ArrayList<>();
+        if (records == null) {
+            return jobIds;
+        }
+        for (int i = start; i < records.size(); i++) {
+            jobIds.add(String.valueOf(records.get(i).getValue().get("id")));
+        }
+        return jobIds;
+    }
+
+    private long pendingCount(String stream) {
+        try {
+            return redisTemplate.opsForStream().pending(stream, JobQueueKeys.GROUP).getTotalPendingMessages();
+        } catch (DataAccessException e) {
+            return 0; // No stream or consumer group yet
+        }
+    }
+
+    private long valueOf(Long value) {
+        return value != null ? value : 0L;
+    }
+
+    private long parseLong(Object value) {
+        return value != null ? Long.parseLong(value.toString()) : 0L;
+    }
+}
@@ -0,0 +1,479 @@
+package com.hafizbahtiar.spring.common.queue;
+
+import com.hafizbahtiar.spring.config.JobQueueConfig;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Consumes the job queues that have a {@link JobHandler} on this node.
+ *
+ * Per queue, one reader thread blocks on XREADGROUP for as many jobs as there
+ * are free worker slots and hands them to a pool of {@code concurrency}
+ * workers. A job is acknowledged and removed from the stream once it has
+ * completed, been scheduled for a retry or moved to the dead-letter queue, so
+ * a node dying mid-job leaves it pending. Pending jobs idle for longer than the
+ * queue's visibility timeout are claimed by any node and counted as a failed
+ * attempt. Failed attempts are retried with exponential backoff through the
+ * delayed set, which is promoted back into the stream once due.
+ */
+@Component
+@Slf4j
+public class JobQueueWorker {
+
+    /**
+     * Move due delayed jobs into the stream (atomically, so concurrent nodes
+     * never promote a job twice)
+     */
+    private static final String PROMOTE_SCRIPT = """
+            local ids = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2]))
+            for _, id in ipairs(ids) do
+                redis.call('ZREM', KEYS[1], id)
+                redis.call('HSET', ARGV[3] .. id, 'status', 'WAITING')
+                redis.call('XADD', KEYS[2], '*', 'id', id)
+            end
+            return #ids
+            """;
+
+    private static final int PROMOTE_BATCH_SIZE = 100;
+    private static final int RECLAIM_BATCH_SIZE = 100;
+    private static final int MAX_REASON_LENGTH = 500;
+    private static final long READ_ERROR_BACKOFF_MS = 5000;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final JobQueueConfig jobQueueConfig;
+    private final Map<String, JobHandler> handlers = new HashMap<>();
+    private final List<QueueConsumer> consumers = new CopyOnWriteArrayList<>();
+    private final RedisScript<Long> promoteScript = new DefaultRedisScript<>(PROMOTE_SCRIPT, Long.class);
+    private final String consumerName;
+
+    private volatile boolean running;
+
+    public JobQueueWorker(RedisTemplate<String, Object> redisTemplate, JobQueueConfig jobQueueConfig,
+            List<JobHandler> handlers) {
+        this.redisTemplate = redisTemplate;
+        this.jobQueueConfig = jobQueueConfig;
+        for (JobHandler handler : handlers) {
+            JobHandler existing = this.handlers.putIfAbsent(handler.getQueueName(), handler);
+            if (existing != null) {
+                throw new IllegalStateException("Queue " + handler.getQueueName() + " has two handlers: "
+                        + existing.getClass().getName() + " and " + handler.getClass().getName());
+            }
+        }
+        this.consumerName = resolveConsumerName(jobQueueConfig.getConsumerName());
+    }
+
+    /**
+     * Start consuming once the application is ready
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!jobQueueConfig.isWorkersEnabled()) {
+            log.info("Job queue workers disabled on this node");
+            return;
+        }
+
+        running = true;
+        handlers.forEach((queue, handler) -> {
+            JobQueueConfig.QueueSettings settings = jobQueueConfig.getSettings(queue);
+            QueueConsumer consumer = new QueueConsumer(queue, handler, settings);
+            consumers.add(consumer);
+            consumer.start();
+            log.info("Consuming queue {} as {} with concurrency {}", queue, consumerName, settings.getConcurrency());
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        consumers.forEach(QueueConsumer::stop);
+    }
+
+    /**
+     * Move delayed jobs and retries that are due into their streams.
+     */
+    @Scheduled(fixedDelayString = "${app.queue.promote-interval-ms:1000}")
+    public void promoteDelayedJobs() {
+        if (!running) {
+            return;
+        }
+
+        String now = String.valueOf(System.currentTimeMillis());
+        for (String queue : handlers.keySet()) {
+            try {
+                Long promoted = redisTemplate.execute(promoteScript,
+                        List.of(JobQueueKeys.delayed(queue), JobQueueKeys.stream(queue)),
+                        now, String.valueOf(PROMOTE_BATCH_SIZE), JobQueueKeys.job(queue, ""));
+                if (promoted != null && promoted > 0) {
+                    log.debug("Promoted {} delayed jobs on queue {}", promoted, queue);
+                }
+            } catch (Exception e) {
+                log.warn("Error promoting delayed jobs on queue {}: {}", queue, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Claim jobs that have been pending for longer than the visibility timeout
+     * (their worker died or is stuck) and fail the attempt, which schedules a
+     * retry. XCLAIM with a minimum idle time lets only one node claim a job.
+     */
+    @Scheduled(fixedDelayString = "${app.queue.reclaim-interval-ms:5000}")
+    public void reclaimStalledJobs() {
+        if (!running) {
+            return;
+        }
+
+        for (QueueConsumer consumer : consumers) {
+            String stream = JobQueueKeys.stream(consumer.queue);
+            long visibilityTimeoutMs = consumer.settings.getVisibilityTimeoutMs();
+            try {
+                List<RecordId> stalled = new ArrayList<>();
+                for (PendingMessage message : redisTemplate.opsForStream()
+                        .pending(stream, JobQueueKeys.GROUP, Range.unbounded(), RECLAIM_BATCH_SIZE)) {
+                    if (message.getElapsedTimeSinceLastDelivery().toMillis() >= visibilityTimeoutMs) {
+                        stalled.add(message.getId());
+                    }
+                }
+                if (stalled.isEmpty()) {
+                    continue;
+                }
+
+                List<MapRecord<String, Object, Object>> claimed = redisTemplate.opsForStream().claim(stream,
+                        JobQueueKeys.GROUP, consumerName, Duration.ofMillis(visibilityTimeoutMs),
+                        stalled.toArray(new RecordId[0]));
+                for (MapRecord<String, Object, Object> record : claimed) {
+                    QueuedJob job = loadJob(consumer.queue, record);
+                    if (job != null) {
+                        fail(consumer.queue, consumer.settings, record.getId(), job,
+                                "Stalled: not finished within " + visibilityTimeoutMs + " ms");
+                    }
+                }
+            } catch (Exception e) {
+                log.warn("Error reclaiming stalled jobs on queue {}: {}", consumer.queue, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Run one delivered job and record the outcome
+     */
+    private void process(String queue, JobHandler handler, JobQueueConfig.QueueSettings settings,
+            MapRecord<String, Object, Object> record) {
+        QueuedJob job;
+        try {
+            job = loadJob(queue, record);
+            if (job == null) {
+                return;
+            }
+            long startedAt = System.currentTimeMillis();
+            redisTemplate.opsForHash().putAll(JobQueueKeys.job(queue, job.getId()), Map.of(
+                    "status", JobStatus.ACTIVE.name(),
+                    "processedOn", String.valueOf(startedAt)));
+            job.setStatus(JobStatus.ACTIVE);
+            job.setProcessedOn(startedAt);
+        } catch (Exception e) {
+            // Left pending; reclaimed after the visibility timeout
+            log.error("Error starting job {} on queue {}: {}", record.getId(), queue, e.getMessage());
+            return;
+        }
+
+        try {
+            handler.handle(job);
+        } catch (Exception e) {
+            fail(queue, settings, record.getId(), job, describe(e));
+            return;
+        }
+        complete(queue, record.getId(), job);
+    }
+
+    /**
+     * Job details of a stream entry. Entries without details (cleaned or
+     * malformed) are acknowledged and dropped.
+     */
+    private QueuedJob loadJob(String queue, MapRecord<String, Object, Object> record) {
+        Object jobId = record.getValue().get("id");
+        QueuedJob job = jobId != null
+                ? QueuedJob.fromHash(redisTemplate.opsForHash().entries(JobQueueKeys.job(queue, jobId.toString())))
+                : null;
+        if (job == null) {
+            log.warn("Dropping entry {} of queue {}: job {} has no details", record.getId(), queue, jobId);
+            acknowledge(queue, record.getId());
+        }
+        return job;
+    }
+
+    private void complete(String queue, RecordId recordId, QueuedJob job) {
+        try {
+            long now = System.currentTimeMillis();
+            String jobKey = JobQueueKeys.job(queue, job.getId());
+            redisTemplate.opsForHash().putAll(jobKey, Map.of(
+                    "status", JobStatus.COMPLETED.name(),
+                    "finishedOn", String.valueOf(now)));
+            redisTemplate.expire(jobKey, jobQueueConfig.getCompletedTtlSeconds(), TimeUnit.SECONDS);
+
+            String completed = JobQueueKeys.completed(queue);
+            redisTemplate.opsForZSet().add(completed, job.getId(), now);
+            redisTemplate.opsForZSet().removeRange(completed, 0, -(jobQueueConfig.getCompletedRetention() + 1L));
+            redisTemplate.opsForHash().increment(JobQueueKeys.stats(queue), "completed", 1);
+
+            if (!acknowledge(queue, recordId)) {
+                log.warn("Job {} ({}) on queue {} completed after its visibility timeout and may run again",
+                        job.getId(), job.getName(), queue);
+            }
+            log.debug("Job {} ({}) on queue {} completed in {} ms", job.getId(), job.getName(), queue,
+                    now - job.getProcessedOn());
+        } catch (Exception e) {
+            log.error("Error completing job {} on queue {}: {}", job.getId(), queue, e.getMessage());
+        }
+    }
+
+    /**
+     * Record a failed attempt: schedule a retry with backoff, or move the job
+     * to the dead-letter queue when out of attempts. The job is acknowledged
+     * last, so a crash in between causes a duplicate rather than a lost job.
+     */
+    private void fail(String queue, JobQueueConfig.QueueSettings settings, RecordId recordId, QueuedJob job,
+            String reason) {
+        try {
+            long now = System.currentTimeMillis();
+            int attempts = job.getAttemptsMade() + 1;
+            boolean retry = attempts < settings.getMaxAttempts();
+
+            redisTemplate.opsForHash().putAll(JobQueueKeys.job(queue, job.getId()), Map.of(
+                    "status", (retry ? JobStatus.DELAYED : JobStatus.FAILED).name(),
+                    "attempts", String.valueOf(attempts),
+                    "failedReason", reason,
+                    "finishedOn", String.valueOf(now)));
+
+            if (retry) {
+                long delayMs = settings.backoffDelayMs(attempts);
+                redisTemplate.opsForZSet().add(JobQueueKeys.delayed(queue), job.getId(), now + delayMs);
+                log.warn("Job {} ({}) on queue {} failed attempt {}/{}, retrying in {} ms: {}", job.getId(),
+                        job.getName(), queue, attempts, settings.getMaxAttempts(), delayMs, reason);
+            } else {
+                // Dead jobs expire too: their data may hold secrets such as one-time tokens
+                String dead = JobQueueKeys.dead(queue);
+                redisTemplate.expire(JobQueueKeys.job(queue, job.getId()), jobQueueConfig.getFailedTtlSeconds(),
+                        TimeUnit.SECONDS);
+                redisTemplate.opsForZSet().add(dead, job.getId(), now);
+                redisTemplate.opsForZSet().removeRangeByScore(dead, Double.NEGATIVE_INFINITY,
+                        now - jobQueueConfig.getFailedTtlSeconds() * 1000.0);
+                log.error("Job {} ({}) on queue {} failed after {} attempts, moved to dead-letter queue: {}",
+                        job.getId(), job.getName(), queue, attempts, reason);
+            }
+            redisTemplate.opsForHash().increment(JobQueueKeys.stats(queue), "failed", 1);
+
+            acknowledge(queue, recordId);
+        } catch (Exception e) {
+            log.error("Error recording failure of job {} on queue {}: {}", job.getId(), queue, e.getMessage());
+        }
+    }
+
+    /**
+     * Acknowledge and remove a stream entry.
+     *
+     * @return false if the entry was no longer pending (already claimed and
+     *         handled elsewhere)
+     */
+    private boolean acknowledge(String queue, RecordId recordId) {
+        String stream = JobQueueKeys.stream(queue);
+        Long acknowledged = redisTemplate.opsForStream().acknowledge(stream, JobQueueKeys.GROUP, recordId);
+        redisTemplate.opsForStream().delete(stream, recordId);
+        return acknowledged != null && acknowledged > 0;
+    }
+
+    /**
+     * Register the queue and create its consumer group (and stream) if
+     * missing, reading from the start so jobs enqueued before the first worker
+     * are not skipped
+     */
+    private void createGroup(String queue) {
+        redisTemplate.opsForSet().add(JobQueueKeys.REGISTRY, queue);
+        byte[] stream = JobQueueKeys.stream(queue).getBytes(StandardCharsets.UTF_8);
+        try {
+            redisTemplate.execute((RedisCallback<String>) connection -> connection.streamCommands()
+                    .xGroupCreate(stream, JobQueueKeys.GROUP, ReadOffset.from("0"), true));
+        } catch (DataAccessException e) {
+            String message = e.getMostSpecificCause().getMessage();
+            if (message == null || !message.contains("BUSYGROUP")) {
+                throw e;
+            }
+        }
+    }
+
+    private String describe(Exception e) {
+        String reason = e.getClass().getSimpleName() + (e.getMessage() != null ? ": " + e.getMessage() : "");
+        return reason.length() > MAX_REASON_LENGTH ? reason.substring(0, MAX_REASON_LENGTH) : reason;
+    }
+
+    /**
+     * Configured consumer name, or the host name so a restarted node resumes
+     * under the same name instead of leaving stale consumers in the group
+     */
+    private static String resolveConsumerName(String configured) {
+        if (StringUtils.hasText(configured)) {
+            return configured;
+        }
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "worker";
+        }
+    }
+
+    /**
+     * Reader thread and worker pool of one queue
+     */
+    private final class QueueConsumer implements Runnable {
+
+        private final String queue;
+        private final JobHandler handler;
+        private final JobQueueConfig.QueueSettings settings;
+        private final Semaphore slots;
+        private final ExecutorService workers;
+        private final Thread reader;
+        private boolean groupCreated;
+
+        QueueConsumer(String queue, JobHandler handler, JobQueueConfig.QueueSettings settings) {
+            this.queue = queue;
+            this.handler = handler;
+            this.settings = settings;
+
+            int concurrency = Math.max(1, settings.getConcurrency());
+            this.slots = new Semaphore(concurrency);
+            AtomicInteger counter = new AtomicInteger();
+            this.workers = Executors.newFixedThreadPool(concurrency, runnable -> {
+                Thread thread = new Thread(runnable, "queue-" + queue + "-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.reader = new Thread(this, "queue-" + queue + "-reader");
+            this.reader.setDaemon(true);
+        }
+
+        void start() {
+            reader.start();
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                int free;
+                try {
+                    slots.acquire();
+                    free = 1 + slots.drainPermits();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+
+                List<MapRecord<String, Object, Object>> records;
+                try {
+                    if (!groupCreated) {
+                        createGroup(queue);
+                        groupCreated = true;
+                    }
+                    records = read(free);
+                } catch (Exception e) {
+                    slots.release(free);
+                    groupCreated = false; // The stream may have been deleted or Redis flushed
+                    if (!running) {
+                        return;
+                    }
+                    log.warn("Error reading queue {}, retrying in {} ms: {}", queue, READ_ERROR_BACKOFF_MS,
+                            e.getMessage());
+                    if (!pause()) {
+                        return;
+                    }
+                    continue;
+                }
+
+                slots.release(free - records.size());
+                for (MapRecord<String, Object, Object> record : records) {
+                    workers.execute(() -> {
+                        try {
+                            process(queue, handler, settings, record);
+                        } finally {
+                            slots.release();
+                        }
+                    });
+                }
+            }
+        }
+
+        /**
+         * Read up to the given number of new jobs, blocking briefly if there
+         * are none
+         */
+        @SuppressWarnings("unchecked")
+        private List<MapRecord<String, Object, Object>> read(int count) {
+            List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().read(
+                    Consumer.from(JobQueueKeys.GROUP, consumerName),
+                    StreamReadOptions.empty().count(count).block(Duration.ofMillis(jobQueueConfig.getBlockMs())),
+                    StreamOffset.create(JobQueueKeys.stream(queue), ReadOffset.lastConsumed()));
+            return records != null ? records : List.of();
+        }
+
+        private boolean pause() {
+            try {
+                Thread.sleep(READ_ERROR_BACKOFF_MS);
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        /**
+         * Stop reading and give running jobs time to finish; jobs still running
+         * afterwards are reclaimed by another node after the visibility timeout
+         */
+        void stop() {
+            reader.interrupt();
+            workers.shutdown();
+            try {
+                if (!workers.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    log.warn("Jobs on queue {} still running after {} s, abandoning them", queue,
+                            SHUTDOWN_TIMEOUT_SECONDS);
+                    workers.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                workers.shutdownNow();
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.hafizbahtiar.spring.common.queue;
+
+/**
+ * Lifecycle state of a queued job.
+ */
+public enum JobStatus {
+    /**
+     * In the stream, not yet delivered to a worker
+     */
+    WAITING,
+    /**
+     * Delivered to a worker and not yet acknowledged
+     */
+    ACTIVE,
+    /**
+     * Scheduled to (re)enter the stream later, e.g. a retry with backoff
+     */
+    DELAYED,
+    /**
+     * Processed successfully
+     */
+    COMPLETED,
+    /**
+     * Out of attempts; parked in the dead-letter queue until retried or cleaned
+     */
+    FAILED;
+
+    /**
+     * Parse a status name case-insensitively.
+     *
+     * @throws IllegalArgumentException if the name is not a status
+     */
+    public static JobStatus fromName(String name) {
+        for (JobStatus status : values()) {
+            if (status.name().equalsIgnoreCase(name)) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Unknown job status: " + name);
+    }
+}
@@ -0,0 +1,105 @@
+package com.hafizbahtiar.spring.common.queue;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A job and its processing state, as stored in the job's Redis hash.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QueuedJob {
+
+    private static final String DATA_PREFIX = "data.";
+
+    private String id;
+    private String queue;
+    private String name;
+    private Map<String, String> data;
+    private JobStatus status;
+    private int attemptsMade;
+    private Long timestamp;
+    private Long processedOn;
+    private Long finishedOn;
+    private String failedReason;
+
+    /**
+     * Data value, or null if absent
+     */
+    public String get(String key) {
+        return data != null ? data.get(key) : null;
+    }
+
+    /**
+     * Fields of the job's Redis hash
+     */
+    Map<String, String> toHash() {
+        Map<String, String> hash = new HashMap<>();
+        hash.put("id", id);
+        hash.put("queue", queue);
+        hash.put("name", name);
+        hash.put("status", status.name());
+        hash.put("attempts", String.valueOf(attemptsMade));
+        if (timestamp != null) {
+            hash.put("timestamp", String.valueOf(timestamp));
+        }
+        if (data != null) {
+            data.forEach((key, value) -> {
+                if (value != null) {
+                    hash.put(DATA_PREFIX + key, value);
+                }
+            });
+        }
+        return hash;
+    }
+
+    /**
+     * Read a job from its Redis hash.
+     *
+     * @return Job, or null if the hash is empty (job expired or cleaned)
+     */
+    static QueuedJob fromHash(Map<Object, Object> hash) {
+        if (hash == null || hash.isEmpty()) {
+            return null;
+        }
+
+        Map<String, String> data = new LinkedHashMap<>();
+        hash.forEach((key, value) -> {
+            String field = key.toString();
+            if (field.startsWith(DATA_PREFIX)) {
+                data.put(field.substring(DATA_PREFIX.length()), value.toString());
+            }
+        });
+
+        Object status = hash.get("status");
+        Object attempts = hash.get("attempts");
+        return QueuedJob.builder()
+                .id(asString(hash.get("id")))
+                .queue(asString(hash.get("queue")))
+                .name(asString(hash.get("name")))
+                .data(data)
+                .status(status != null ? JobStatus.valueOf(status.toString()) : JobStatus.WAITING)
+                .attemptsMade(attempts != null ? Integer.parseInt(attempts.toString()) : 0)
+                .timestamp(asLong(hash.get("timestamp")))
+                .processedOn(asLong(hash.get("processedOn")))
+                .finishedOn(asLong(hash.get("finishedOn")))
+                .failedReason(asString(hash.get("failedReason")))
+                .build();
+    }
+
+    private static String asString(Object value) {
+        return value != null ? value.toString() : null;
+    }
+
+    private static Long asLong(Object value) {
+        return value != null ? Long.valueOf(value.toString()) : null;
+    }
+}
@@ -2,6 +2,7 @@ package com.hafizbahtiar.spring.common.service;
 
 import com.hafizbahtiar.spring.common.model.EmailLog;
 import com.hafizbahtiar.spring.common.repository.mongodb.EmailLogRepository;
+import com.hafizbahtiar.spring.features.logs.service.LogEventWriter;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,6 +23,7 @@ import java.time.LocalDateTime;
 public class EmailLoggingService {
 
     private final EmailLogRepository emailLogRepository;
+    private final LogEventWriter logEventWriter;
 
     /**
      * Log a successful email sending event.
@@ -53,7 +55,7 @@ public class EmailLoggingService {
                     .responseTimeMs(responseTimeMs)
                     .metadata(metadata)
                     .build();
-            emailLogRepository.save(emailLog);
+            save(emailLog);
             log.debug("Logged successful email sent to: {}, template: {}", to, templateName);
         } catch (Exception e) {
             log.error("Failed to log email sent event", e);
@@ -90,7 +92,7 @@ public class EmailLoggingService {
                     .requestId(getRequestId(request))
                     .metadata(metadata)
                     .build();
-            emailLogRepository.save(emailLog);
+            save(emailLog);
             log.debug("Logged failed email attempt to: {}, error: {}", to, errorMessage);
         } catch (Exception e) {
             log.error("Failed to log email failed event", e);
@@ -144,4 +146,11 @@ public class EmailLoggingService {
         }
         return requestId;
     }
+
+    /**
+     * Persist log through the shared log writer (admission policy applied)
+     */
+    private void save(EmailLog emailLog) {
+        logEventWriter.write("EMAIL", emailLog.getEmailType(), emailLog, emailLogRepository::save);
+    }
 }
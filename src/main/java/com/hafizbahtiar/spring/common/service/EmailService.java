@@ -2,6 +2,7 @@ package com.hafizbahtiar.spring.common.service;
 
 /**
  * Service interface for sending emails.
+ * Methods return once the email is queued; it is sent in the background.
  */
 public interface EmailService {
 
@@ -1,5 +1,8 @@
 package com.hafizbahtiar.spring.common.service;
 
+import com.hafizbahtiar.spring.common.queue.JobHandler;
+import com.hafizbahtiar.spring.common.queue.JobQueueService;
+import com.hafizbahtiar.spring.common.queue.QueuedJob;
 import com.hafizbahtiar.spring.config.EmailConfig;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
@@ -8,7 +11,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.mail.MailException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
@@ -16,24 +18,96 @@ import org.thymeleaf.context.Context;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Service implementation for sending emails.
  * Uses Spring Mail with Thymeleaf templates for HTML emails.
+ *
+ * Emails are enqueued on the "email" job queue and sent by whichever node
+ * picks the job up, so they survive restarts and failed sends are retried
+ * with backoff.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class EmailServiceImpl implements EmailService {
+public class EmailServiceImpl implements EmailService, JobHandler {
+
+    public static final String QUEUE_NAME = "email";
+
+    private static final String JOB_PLAIN = "plain";
+    private static final String JOB_HTML = "html";
+    private static final String JOB_PASSWORD_RESET = "password-reset";
+    private static final String JOB_EMAIL_VERIFICATION = "email-verification";
+
+    /**
+     * Password reset and email verification tokens grant account access
+     */
+    private static final Set<String> SENSITIVE_DATA_KEYS = Set.of("token");
 
     private final JavaMailSender mailSender;
     private final TemplateEngine templateEngine;
     private final EmailConfig emailConfig;
     private final EmailLoggingService emailLoggingService;
+    private final JobQueueService jobQueueService;
 
     @Override
-    @Async
     public void sendEmail(String to, String subject, String body) {
+        jobQueueService.enqueue(QUEUE_NAME, JOB_PLAIN, jobData("to", to, "subject", subject, "body", body));
+    }
+
+    @Override
+    public void sendHtmlEmail(String to, String subject, String htmlBody) {
+        jobQueueService.enqueue(QUEUE_NAME, JOB_HTML, jobData("to", to, "subject", subject, "body", htmlBody));
+    }
+
+    @Override
+    public void sendPasswordResetEmail(String to, String token, String name) {
+        jobQueueService.enqueue(QUEUE_NAME, JOB_PASSWORD_RESET, jobData("to", to, "token", token, "name", name));
+    }
+
+    @Override
+    public void sendEmailVerificationEmail(String to, String token, String name) {
+        jobQueueService.enqueue(QUEUE_NAME, JOB_EMAIL_VERIFICATION,
+                jobData("to", to, "token", token, "name", name));
+    }
+
+    @Override
+    public String getQueueName() {
+        return QUEUE_NAME;
+    }
+
+    @Override
+    public Set<String> getSensitiveDataKeys() {
+        return SENSITIVE_DATA_KEYS;
+    }
+
+    @Override
+    public void handle(QueuedJob job) {
+        switch (job.getName()) {
+            case JOB_PLAIN -> deliverEmail(job.get("to"), job.get("subject"), job.get("body"));
+            case JOB_HTML -> deliverHtmlEmail(job.get("to"), job.get("subject"), job.get("body"));
+            case JOB_PASSWORD_RESET -> deliverPasswordResetEmail(job.get("to"), job.get("token"), job.get("name"));
+            case JOB_EMAIL_VERIFICATION ->
+                deliverEmailVerificationEmail(job.get("to"), job.get("token"), job.get("name"));
+            default -> throw new IllegalArgumentException("Unknown email job: " + job.getName());
+        }
+    }
+
+    /**
+     * Job data from key/value pairs, skipping null values
+     */
+    private Map<String, String> jobData(String... keysAndValues) {
+        Map<String, String> data = new HashMap<>();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            if (keysAndValues[i + 1] != null) {
+                data.put(keysAndValues[i], keysAndValues[i + 1]);
+            }
+        }
+        return data;
+    }
+
+    private void deliverEmail(String to, String subject, String body) {
         long startTime = System.currentTimeMillis();
         try {
             MimeMessage message = mailSender.createMimeMessage();
@@ -75,9 +149,7 @@ public class EmailServiceImpl implements EmailService {
         }
     }
 
-    @Override
-    @Async
-    public void sendHtmlEmail(String to, String subject, String htmlBody) {
+    private void deliverHtmlEmail(String to, String subject, String htmlBody) {
         long startTime = System.currentTimeMillis();
         try {
             sendHtmlEmailInternal(to, subject, htmlBody);
@@ -127,9 +199,7 @@ public class EmailServiceImpl implements EmailService {
         mailSender.send(message);
     }
 
-    @Override
-    @Async
-    public void sendPasswordResetEmail(String to, String token, String name) {
+    private void deliverPasswordResetEmail(String to, String token, String name) {
         long startTime = System.currentTimeMillis();
         try {
             // Prepare template context
@@ -170,9 +240,7 @@ public class EmailServiceImpl implements EmailService {
         }
     }
 
-    @Override
-    @Async
-    public void sendEmailVerificationEmail(String to, String token, String name) {
+    private void deliverEmailVerificationEmail(String to, String token, String name) {
         long startTime = System.currentTimeMillis();
         try {
             // Prepare template context
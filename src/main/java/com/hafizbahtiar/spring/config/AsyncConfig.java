@@ -1,9 +1,14 @@
 package com.hafizbahtiar.spring.config;
 
+import com.hafizbahtiar.spring.features.admin.metrics.ExecutorRegistry;
+import org.springframework.boot.task.ThreadPoolTaskExecutorCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
+import java.util.concurrent.ThreadPoolExecutor;
+
 /**
  * Configuration for asynchronous processing and scheduling.
  * Enables @Async annotation support for background task execution.
@@ -13,6 +18,22 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 @EnableAsync
 @EnableScheduling
 public class AsyncConfig {
-    // Async configuration - uses default executor
-    // Can be customized here if needed (thread pool size, etc.)
+
+    /**
+     * Register the default executor (applicationTaskExecutor, used by @Async)
+     * with the executor registry. Pool sizes stay on spring.task.execution.*;
+     * this only adds task timing and rejection counting.
+     *
+     * @param executorRegistry Executor registry
+     * @return Customizer applied by Spring Boot when it builds the executor
+     */
+    @Bean
+    public ThreadPoolTaskExecutorCustomizer applicationTaskExecutorCustomizer(ExecutorRegistry executorRegistry) {
+        return executor -> {
+            executor.setTaskDecorator(executorRegistry.taskDecorator("application", true));
+            executor.setRejectedExecutionHandler(
+                    executorRegistry.rejectionHandler("application", new ThreadPoolExecutor.AbortPolicy()));
+            executorRegistry.register("application", executor::getThreadPoolExecutor);
+        };
+    }
 }
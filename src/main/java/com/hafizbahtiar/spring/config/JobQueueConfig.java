@@ -0,0 +1,107 @@
+package com.hafizbahtiar.spring.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Background job queue configuration properties.
+ * Maps properties from application.properties with prefix "app.queue"
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.queue")
+@Data
+public class JobQueueConfig {
+
+    /**
+     * Whether this node consumes jobs. Nodes with workers disabled can still
+     * enqueue jobs for other nodes to process.
+     */
+    private boolean workersEnabled = true;
+
+    /**
+     * Name of this node in the consumer groups (default: host name)
+     */
+    private String consumerName = "";
+
+    /**
+     * Maximum time a consumer blocks waiting for new jobs (milliseconds).
+     * Must stay below spring.data.redis.timeout.
+     */
+    private long blockMs = 1000;
+
+    /**
+     * Number of completed jobs kept per queue for the job history
+     */
+    private int completedRetention = 1000;
+
+    /**
+     * Time completed job details are kept (seconds)
+     */
+    private long completedTtlSeconds = 86400;
+
+    /**
+     * Time jobs stay in the dead-letter queue before they and their details
+     * are removed (seconds)
+     */
+    private long failedTtlSeconds = 604800;
+
+    /**
+     * Per-queue settings, keyed by queue name. Queues not listed use the
+     * defaults of {@link QueueSettings}.
+     */
+    private Map<String, QueueSettings> queues = new HashMap<>();
+
+    /**
+     * Settings of the given queue
+     */
+    public QueueSettings getSettings(String queueName) {
+        return queues.getOrDefault(queueName, new QueueSettings());
+    }
+
+    @Data
+    public static class QueueSettings {
+
+        /**
+         * Jobs processed in parallel per node
+         */
+        private int concurrency = 1;
+
+        /**
+         * Time a job may run before it is considered stalled and retried
+         * (milliseconds)
+         */
+        private long visibilityTimeoutMs = 60000;
+
+        /**
+         * Attempts before a job is moved to the dead-letter queue
+         */
+        private int maxAttempts = 5;
+
+        /**
+         * Delay before the first retry (milliseconds)
+         */
+        private long backoffInitialMs = 1000;
+
+        /**
+         * Factor applied to the retry delay after each failed attempt
+         */
+        private double backoffMultiplier = 2.0;
+
+        /**
+         * Upper bound for the retry delay (milliseconds)
+         */
+        private long backoffMaxMs = 600000;
+
+        /**
+         * Delay before retrying after the given number of failed attempts
+         */
+        public long backoffDelayMs(int attemptsMade) {
+            double delay = backoffInitialMs * Math.pow(backoffMultiplier, Math.max(0, attemptsMade - 1));
+            return (long) Math.min(delay, backoffMaxMs);
+        }
+    }
+}
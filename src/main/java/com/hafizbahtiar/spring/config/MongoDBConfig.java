@@ -1,5 +1,10 @@
 package com.hafizbahtiar.spring.config;
 
+import com.hafizbahtiar.spring.features.admin.querystats.MongoCommandTimingListener;
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -47,13 +52,23 @@ public class MongoDBConfig {
      * Constructs MongoDB URI with credentials if username/password are provided.
      * This allows using either MONGODB_URI directly or separate username/password
      * properties.
+     * Commands are timed for the per-request query stats.
      */
     @Bean
-    @Primary
-    public MongoDatabaseFactory mongoDatabaseFactory() {
+    public MongoClient mongoClient() {
         String uri = buildMongoUri();
         log.info("MongoDB connection URI: {}", maskPassword(uri));
-        return new SimpleMongoClientDatabaseFactory(uri);
+        MongoClientSettings settings = MongoClientSettings.builder()
+                .applyConnectionString(new ConnectionString(uri))
+                .addCommandListener(new MongoCommandTimingListener())
+                .build();
+        return MongoClients.create(settings);
+    }
+
+    @Bean
+    @Primary
+    public MongoDatabaseFactory mongoDatabaseFactory(MongoClient mongoClient) {
+        return new SimpleMongoClientDatabaseFactory(mongoClient, mongoDatabase);
     }
 
     /**
@@ -1,5 +1,6 @@
 package com.hafizbahtiar.spring.config;
 
+import com.hafizbahtiar.spring.features.admin.querystats.TimedRedisTemplate;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
@@ -14,7 +15,8 @@ public class RedisConfig {
 
     @Bean
     public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
-        RedisTemplate<String, Object> template = new RedisTemplate<>();
+        // Times commands run on request threads for the per-request query stats
+        RedisTemplate<String, Object> template = new TimedRedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
 
         // Use String serializer for keys
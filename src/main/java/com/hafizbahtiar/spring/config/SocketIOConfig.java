@@ -3,6 +3,7 @@ package com.hafizbahtiar.spring.config;
 import com.corundumstudio.socketio.Configuration;
 import com.corundumstudio.socketio.SocketIOServer;
 import com.corundumstudio.socketio.annotation.SpringAnnotationScanner;
+import com.hafizbahtiar.spring.features.admin.metrics.ExecutorRegistry;
 import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -38,6 +39,18 @@ public class SocketIOConfig {
     @Value("${socketio.max-frame-payload-length:10485760}")
     private int maxFramePayloadLength;
 
+    /**
+     * Netty boss (accept) threads; 0 uses Netty's default
+     */
+    @Value("${socketio.boss-threads:0}")
+    private int bossThreads;
+
+    /**
+     * Netty worker (I/O) threads; 0 uses Netty's default of twice the CPU count
+     */
+    @Value("${socketio.worker-threads:0}")
+    private int workerThreads;
+
     @Value("${cors.allowed-origins:http://localhost:3000,http://localhost:3001}")
     private String allowedOrigins;
 
@@ -46,7 +59,7 @@ public class SocketIOConfig {
     @Bean
     @Lazy
     @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
-    public SocketIOServer socketIOServer() {
+    public SocketIOServer socketIOServer(ExecutorRegistry executorRegistry) {
         Configuration config = new Configuration();
         config.setHostname(hostname);
         config.setPort(port);
@@ -54,6 +67,8 @@ public class SocketIOConfig {
         config.setPingTimeout(pingTimeout);
         config.setPingInterval(pingInterval);
         config.setMaxFramePayloadLength(maxFramePayloadLength);
+        config.setBossThreads(bossThreads);
+        config.setWorkerThreads(workerThreads);
 
         // CORS configuration - allow all origins for development
         // In production, configure specific origins
@@ -65,6 +80,9 @@ public class SocketIOConfig {
         // Add monitoring namespace
         server.addNamespace("/monitoring");
 
+        // Netty event loops are not ThreadPoolExecutors; report their threads by name
+        executorRegistry.registerThreadGroup("socketio", "nioEventLoopGroup-");
+
         try {
             server.start();
             log.info("Socket.IO server started on {}:{}{}", hostname, port, context);
@@ -71,6 +71,21 @@ public class AdminCronJobController {
         return ResponseUtils.ok(history);
     }
 
+    /**
+     * Rebuild the execution statistics of all cron jobs from the execution logs,
+     * e.g. after statistics updates were lost while MongoDB was unavailable.
+     * Requires: OWNER/ADMIN role
+     *
+     * @return Number of jobs with statistics
+     */
+    @PostMapping("/stats/rebuild")
+    @PreAuthorize("hasAnyRole('OWNER', 'ADMIN')")
+    public ResponseEntity<ApiResponse<Integer>> rebuildStats() {
+        log.debug("POST /api/v1/admin/cron-jobs/stats/rebuild - Rebuilding cron job statistics");
+        int jobs = adminCronJobService.rebuildStats();
+        return ResponseUtils.ok(jobs);
+    }
+
     /**
      * Response wrapper for list of cron jobs.
      */
@@ -0,0 +1,76 @@
+package com.hafizbahtiar.spring.features.admin.controller.v1;
+
+import com.hafizbahtiar.spring.common.dto.ApiResponse;
+import com.hafizbahtiar.spring.common.util.ResponseUtils;
+import com.hafizbahtiar.spring.features.admin.dto.ExecutorMetrics;
+import com.hafizbahtiar.spring.features.admin.dto.ExecutorMetricsResponse;
+import com.hafizbahtiar.spring.features.admin.dto.ExecutorResizeRequest;
+import com.hafizbahtiar.spring.features.admin.metrics.WindowedLatencyHistogram;
+import com.hafizbahtiar.spring.features.admin.service.AdminExecutorService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for executor (thread pool) observability and tuning.
+ */
+@RestController
+@RequestMapping("/api/v1/admin/executors")
+@RequiredArgsConstructor
+@Slf4j
+public class AdminExecutorController {
+
+    private final AdminExecutorService adminExecutorService;
+
+    /**
+     * Get pool sizes, active threads, queue depth, task counts, rejections
+     * and task wait/run time percentiles of all registered executors.
+     * Requires: OWNER/ADMIN role OR admin.metrics page READ permission
+     *
+     * @param window Window of the wait/run time statistics in minutes, 1-15
+     *               (optional, defaults to 5)
+     * @return ExecutorMetricsResponse
+     */
+    @GetMapping
+    @PreAuthorize("hasAnyRole('OWNER', 'ADMIN') or @securityUtils.hasPermission('PAGE', 'admin', 'admin.metrics', 'READ')")
+    public ResponseEntity<ApiResponse<ExecutorMetricsResponse>> getExecutorMetrics(
+            @RequestParam(value = "window", defaultValue = "5") int window) {
+        log.debug("GET /api/v1/admin/executors - Getting executor metrics for {} minute window", window);
+
+        int windowMinutes = Math.min(Math.max(window, 1), WindowedLatencyHistogram.MAX_WINDOW_MINUTES);
+        ExecutorMetricsResponse metrics = adminExecutorService.getExecutorMetrics(windowMinutes);
+        return ResponseUtils.ok(metrics);
+    }
+
+    /**
+     * Resize an executor at runtime, within admin.executors.max-pool-size-limits.
+     * Scheduled pools and pools with an unbounded queue only accept a core size. Changes are not persisted and
+     * reset on restart.
+     * Requires: OWNER/ADMIN role OR admin.metrics page WRITE permission
+     *
+     * @param name    Executor name (e.g. application, cron-jobs)
+     * @param request New core and/or max pool size
+     * @return Executor metrics after the change
+     */
+    @PutMapping("/{name}/pool-size")
+    @PreAuthorize("hasAnyRole('OWNER', 'ADMIN') or @securityUtils.hasPermission('PAGE', 'admin', 'admin.metrics', 'WRITE')")
+    public ResponseEntity<ApiResponse<ExecutorMetrics>> resizeExecutor(
+            @PathVariable String name,
+            @Valid @RequestBody ExecutorResizeRequest request) {
+        log.info("PUT /api/v1/admin/executors/{}/pool-size - Resizing executor (core: {}, max: {})",
+                name, request.getCorePoolSize(), request.getMaxPoolSize());
+
+        ExecutorMetrics metrics = adminExecutorService.resizeExecutor(name, request.getCorePoolSize(),
+                request.getMaxPoolSize());
+        return ResponseUtils.ok(metrics);
+    }
+}
@@ -2,7 +2,13 @@ package com.hafizbahtiar.spring.features.admin.controller.v1;
 
 import com.hafizbahtiar.spring.common.dto.ApiResponse;
 import com.hafizbahtiar.spring.common.util.ResponseUtils;
+import com.hafizbahtiar.spring.features.admin.dto.LatencyMetricsResponse;
+import com.hafizbahtiar.spring.features.admin.dto.MetricsHistoryResponse;
+import com.hafizbahtiar.spring.features.admin.dto.QueryMetricsResponse;
+import com.hafizbahtiar.spring.features.admin.dto.RateMetricsResponse;
 import com.hafizbahtiar.spring.features.admin.dto.SystemMetricsResponse;
+import com.hafizbahtiar.spring.features.admin.metrics.WindowedLatencyHistogram;
+import com.hafizbahtiar.spring.features.admin.service.AdminMetricsHistoryService;
 import com.hafizbahtiar.spring.features.admin.service.AdminMetricsService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -10,8 +16,11 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 /**
  * REST controller for admin metrics endpoints.
  */
@@ -21,7 +30,13 @@ import org.springframework.web.bind.annotation.RestController;
 @Slf4j
 public class AdminMetricsController {
 
+    /**
+     * Longest history kept (7 days)
+     */
+    private static final long MAX_HISTORY_SECONDS = 7L * 24 * 3600;
+
     private final AdminMetricsService adminMetricsService;
+    private final AdminMetricsHistoryService adminMetricsHistoryService;
 
     /**
      * Get overall system metrics.
@@ -37,4 +52,102 @@ public class AdminMetricsController {
         SystemMetricsResponse metrics = adminMetricsService.getSystemMetrics();
         return ResponseUtils.ok(metrics);
     }
+
+    /**
+     * Get per-endpoint latency percentiles (p50/p90/p95/p99/p999/max) over a
+     * sliding window.
+     * Requires: OWNER/ADMIN role OR admin.metrics page READ permission
+     *
+     * @param window Window length in minutes: 1, 5 or 15 (optional, defaults to 5)
+     * @return LatencyMetricsResponse with overall and per-endpoint latencies
+     */
+    @GetMapping("/metrics/latency")
+    @PreAuthorize("hasAnyRole('OWNER', 'ADMIN') or @securityUtils.hasPermission('PAGE', 'admin', 'admin.metrics', 'READ')")
+    public ResponseEntity<ApiResponse<LatencyMetricsResponse>> getLatencyMetrics(
+            @RequestParam(value = "window", defaultValue = "5") int window) {
+        log.debug("GET /api/v1/admin/metrics/latency - Getting latency metrics for {} minute window", window);
+
+        // Clamp to the windows kept by the histograms
+        int windowMinutes = Math.min(Math.max(window, 1), WindowedLatencyHistogram.MAX_WINDOW_MINUTES);
+        LatencyMetricsResponse metrics = adminMetricsService.getLatencyMetrics(windowMinutes);
+        return ResponseUtils.ok(metrics);
+    }
+
+    /**
+     * Get request rates (current, peak, 1/5/15-minute averages), server error
+     * rates and saturation, overall and per endpoint.
+     * Requires: OWNER/ADMIN role OR admin.metrics page READ permission
+     *
+     * @return RateMetricsResponse with overall and per-endpoint rates
+     */
+    @GetMapping("/metrics/rates")
+    @PreAuthorize("hasAnyRole('OWNER', 'ADMIN') or @securityUtils.hasPermission('PAGE', 'admin', 'admin.metrics', 'READ')")
+    public ResponseEntity<ApiResponse<RateMetricsResponse>> getRateMetrics() {
+        log.debug("GET /api/v1/admin/metrics/rates - Getting request rate metrics");
+        RateMetricsResponse metrics = adminMetricsService.getRateMetrics();
+        return ResponseUtils.ok(metrics);
+    }
+
+    /**
+     * Get per-endpoint statement counts, DB/Redis/MongoDB time and N+1
+     * candidates (one statement repeated within a request), worst first.
+     * Requires: OWNER/ADMIN role OR admin.metrics page READ permission
+     *
+     * @param limit Maximum number of endpoints (optional, defaults to 50)
+     * @return QueryMetricsResponse with per-endpoint query statistics
+     */
+    @GetMapping("/metrics/queries")
+    @PreAuthorize("hasAnyRole('OWNER', 'ADMIN') or @securityUtils.hasPermission('PAGE', 'admin', 'admin.metrics', 'READ')")
+    public ResponseEntity<ApiResponse<QueryMetricsResponse>> getQueryMetrics(
+            @RequestParam(value = "limit", defaultValue = "50") int limit) {
+        log.debug("GET /api/v1/admin/metrics/queries - Getting query metrics");
+        QueryMetricsResponse metrics = adminMetricsService.getQueryMetrics(Math.max(1, Math.min(limit, 500)));
+        return ResponseUtils.ok(metrics);
+    }
+
+    /**
+     * Get the recent history of CPU, heap, database pool, Redis memory and
+     * MongoDB connections for sparklines.
+     * Requires: OWNER/ADMIN role OR admin.metrics page READ permission
+     *
+     * @param range  Range ending now, e.g. 10m, 1h, 6h, 7d or seconds (optional, defaults to 1h)
+     * @param series Series to include, e.g. cpu,heap (optional, defaults to all)
+     * @return MetricsHistoryResponse at the finest resolution covering the range
+     */
+    @GetMapping("/metrics/history")
+    @PreAuthorize("hasAnyRole('OWNER', 'ADMIN') or @securityUtils.hasPermission('PAGE', 'admin', 'admin.metrics', 'READ')")
+    public ResponseEntity<ApiResponse<MetricsHistoryResponse>> getMetricsHistory(
+            @RequestParam(value = "range", defaultValue = "1h") String range,
+            @RequestParam(value = "series", required = false) List<String> series) {
+        log.debug("GET /api/v1/admin/metrics/history - Getting metrics history for range {}", range);
+
+        long rangeSeconds = Math.min(Math.max(parseRangeSeconds(range), 60), MAX_HISTORY_SECONDS);
+        MetricsHistoryResponse history = adminMetricsHistoryService.getHistory(rangeSeconds, series);
+        return ResponseUtils.ok(history);
+    }
+
+    /**
+     * Parse a range like "90s", "10m", "6h", "7d" or plain seconds
+     */
+    private long parseRangeSeconds(String range) {
+        String value = range.trim().toLowerCase();
+        long multiplier = 1;
+        if (value.endsWith("s")) {
+            value = value.substring(0, value.length() - 1);
+        } else if (value.endsWith("m")) {
+            multiplier = 60;
+            value = value.substring(0, value.length() - 1);
+        } else if (value.endsWith("h")) {
+            multiplier = 3600;
+            value = value.substring(0, value.length() - 1);
+        } else if (value.endsWith("d")) {
+            multiplier = 86400;
+            value = value.substring(0, value.length() - 1);
+        }
+        try {
+            return Long.parseLong(value) * multiplier;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid range: " + range);
+        }
+    }
 }
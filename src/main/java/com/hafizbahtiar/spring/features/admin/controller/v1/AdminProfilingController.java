@@ -0,0 +1,145 @@
+package com.hafizbahtiar.spring.features.admin.controller.v1;
+
+import com.hafizbahtiar.spring.common.dto.ApiResponse;
+import com.hafizbahtiar.spring.common.util.ResponseUtils;
+import com.hafizbahtiar.spring.features.admin.dto.RecordingInfo;
+import com.hafizbahtiar.spring.features.admin.dto.RecordingSummary;
+import com.hafizbahtiar.spring.features.admin.service.AdminProfilingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * REST controller for on-demand Java Flight Recorder profiling.
+ * Recordings can reveal class names, thread names and timings of the running
+ * application, so all endpoints are restricted to OWNER/ADMIN.
+ */
+@RestController
+@RequestMapping("/api/v1/admin/profiling")
+@RequiredArgsConstructor
+@Slf4j
+public class AdminProfilingController {
+
+    private static final int MAX_TOP = 100;
+
+    private final AdminProfilingService adminProfilingService;
+
+    /**
+     * Start a recording.
+     * Requires: OWNER/ADMIN role
+     *
+     * @param profile         Preset: continuous (low overhead), allocation or locks
+     *                        (default: continuous)
+     * @param durationSeconds Recording stops by itself after this long (optional,
+     *                        defaults to admin.profiling.default-duration-seconds)
+     * @return Started recording
+     */
+    @PostMapping("/recordings")
+    @PreAuthorize("hasAnyRole('OWNER', 'ADMIN')")
+    public ResponseEntity<ApiResponse<RecordingInfo>> startRecording(
+            @RequestParam(value = "profile", defaultValue = "continuous") String profile,
+            @RequestParam(value = "durationSeconds", required = false) Long durationSeconds) {
+        log.debug("POST /api/v1/admin/profiling/recordings - Starting {} recording", profile);
+        RecordingInfo recording = adminProfilingService.startRecording(profile, durationSeconds);
+        return ResponseUtils.created(recording);
+    }
+
+    /**
+     * Stop the running recording and store it.
+     * Requires: OWNER/ADMIN role
+     *
+     * @param id Recording ID
+     * @return Stored recording
+     */
+    @PostMapping("/recordings/{id}/stop")
+    @PreAuthorize("hasAnyRole('OWNER', 'ADMIN')")
+    public ResponseEntity<ApiResponse<RecordingInfo>> stopRecording(@PathVariable String id) {
+        log.debug("POST /api/v1/admin/profiling/recordings/{}/stop - Stopping recording", id);
+        RecordingInfo recording = adminProfilingService.stopRecording(id);
+        return ResponseUtils.ok(recording);
+    }
+
+    /**
+     * List the running and stored recordings, newest first.
+     * Requires: OWNER/ADMIN role
+     *
+     * @return Recordings
+     */
+    @GetMapping("/recordings")
+    @PreAuthorize("hasAnyRole('OWNER', 'ADMIN')")
+    public ResponseEntity<ApiResponse<List<RecordingInfo>>> getRecordings() {
+        log.debug("GET /api/v1/admin/profiling/recordings - Listing recordings");
+        List<RecordingInfo> recordings = adminProfilingService.getRecordings();
+        return ResponseUtils.ok(recordings);
+    }
+
+    /**
+     * Get the top hot methods, allocation sites and contention sites of a
+     * stored recording.
+     * Requires: OWNER/ADMIN role
+     *
+     * @param id  Recording ID
+     * @param top Number of entries per list (default: 20, max: 100)
+     * @return RecordingSummary
+     */
+    @GetMapping("/recordings/{id}/summary")
+    @PreAuthorize("hasAnyRole('OWNER', 'ADMIN')")
+    public ResponseEntity<ApiResponse<RecordingSummary>> getRecordingSummary(
+            @PathVariable String id,
+            @RequestParam(value = "top", defaultValue = "20") int top) {
+        log.debug("GET /api/v1/admin/profiling/recordings/{}/summary - Summarizing recording", id);
+        RecordingSummary summary = adminProfilingService.getRecordingSummary(id, Math.max(1, Math.min(top, MAX_TOP)));
+        return ResponseUtils.ok(summary);
+    }
+
+    /**
+     * Download a stored recording as a .jfr file (open with JDK Mission Control
+     * or {@code jfr print}).
+     * Requires: OWNER/ADMIN role
+     *
+     * @param id Recording ID
+     * @return Recording file
+     */
+    @GetMapping("/recordings/{id}/download")
+    @PreAuthorize("hasAnyRole('OWNER', 'ADMIN')")
+    public ResponseEntity<Resource> downloadRecording(@PathVariable String id) {
+        log.debug("GET /api/v1/admin/profiling/recordings/{}/download - Downloading recording", id);
+        Path file = adminProfilingService.getRecordingFile(id);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(file.getFileName().toString()).build().toString())
+                .body(new FileSystemResource(file));
+    }
+
+    /**
+     * Delete a stored recording.
+     * Requires: OWNER/ADMIN role
+     *
+     * @param id Recording ID
+     * @return Success message
+     */
+    @DeleteMapping("/recordings/{id}")
+    @PreAuthorize("hasAnyRole('OWNER', 'ADMIN')")
+    public ResponseEntity<ApiResponse<Void>> deleteRecording(@PathVariable String id) {
+        log.debug("DELETE /api/v1/admin/profiling/recordings/{} - Deleting recording", id);
+        adminProfilingService.deleteRecording(id);
+        return ResponseUtils.success("Recording deleted");
+    }
+}
@@ -15,6 +15,7 @@ import lombok.NoArgsConstructor;
 public class ApiMetrics {
     private RequestMetrics requests;
     private ResponseTimeMetrics responseTime;
+    private RateMetrics throughput;
     private Double errorRate;
 
     @Data
@@ -35,7 +36,10 @@ public class ApiMetrics {
     public static class ResponseTimeMetrics {
         private Double average;
         private Double p50;
+        private Double p90;
         private Double p95;
         private Double p99;
+        private Double p999;
+        private Double max;
     }
 }
@@ -17,6 +17,7 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class CronJobStatus {
     private String name;
+    private String jobType; // APPLICATION or DATABASE
     private String cronExpression;
     private Boolean enabled;
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
@@ -26,6 +27,20 @@ public class CronJobStatus {
     private Long executionCount;
     private Long successCount;
     private Long failureCount;
+    private Boolean lastSuccess;
     private String lastError;
     private Long lastDuration; // in milliseconds
+    private Long averageDuration; // in milliseconds
+    private Long maxDuration; // in milliseconds
+    private Long durationP50; // in milliseconds, estimated from duration buckets
+    private Long durationP95;
+    private Long durationP99;
+    private Long lastRowCount; // DATABASE jobs only
+    private Long totalRowCount; // DATABASE jobs only
+    private Integer runningCount; // runs in progress on this node
+    private Integer queuedCount; // runs waiting on this node (QUEUE overlap policy)
+    private Integer maxConcurrentRuns;
+    private String overlapPolicy;
+    private String misfirePolicy;
+    private Integer timeoutSeconds;
 }
@@ -0,0 +1,25 @@
+package com.hafizbahtiar.spring.features.admin.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * PostgreSQL connection pool metrics response.
+ * Read from the HikariCP pool without opening a connection.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DatabasePoolMetrics {
+    private String pool;
+    private Integer active;
+    private Integer idle;
+    private Integer total;
+    private Integer max;
+    private Integer minIdle;
+    private Integer awaiting;
+    private Double usage;
+}
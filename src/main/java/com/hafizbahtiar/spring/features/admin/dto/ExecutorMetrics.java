@@ -0,0 +1,68 @@
+package com.hafizbahtiar.spring.features.admin.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * State and task statistics of one registered executor.
+ * Thread groups (type "thread-group") only report their live threads.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExecutorMetrics {
+    private String name;
+
+    /**
+     * "thread-pool", "scheduled-pool" or "thread-group"
+     */
+    private String type;
+
+    private Integer corePoolSize;
+    private Integer maxPoolSize;
+
+    /**
+     * Highest core/max pool size the executor can be resized to
+     */
+    private Integer maxPoolSizeLimit;
+
+    private Integer poolSize;
+    private Integer activeThreads;
+    private Integer largestPoolSize;
+    private Integer queueDepth;
+    private Integer queueRemainingCapacity;
+    private Long submittedTasks;
+    private Long completedTasks;
+    private Long rejectedTasks;
+
+    /**
+     * Time from submission to start, over the window (not tracked for
+     * scheduled pools)
+     */
+    private LatencyMetrics waitTime;
+
+    /**
+     * Task run time over the window
+     */
+    private LatencyMetrics runTime;
+
+    private Boolean resizable;
+
+    /**
+     * Only the core size can be set: scheduled pools and pools with an
+     * unbounded queue, which never start threads beyond the core size
+     */
+    private Boolean coreSizeOnly;
+
+    /**
+     * Live threads per Thread.State
+     */
+    private Map<String, Integer> threadStates;
+}
@@ -0,0 +1,29 @@
+package com.hafizbahtiar.spring.features.admin.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Metrics of all registered executors.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExecutorMetricsResponse {
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime timestamp;
+
+    /**
+     * Window of the wait and run time statistics, in minutes
+     */
+    private Integer windowMinutes;
+
+    private List<ExecutorMetrics> executors;
+}
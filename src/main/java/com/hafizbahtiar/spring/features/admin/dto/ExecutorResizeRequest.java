@@ -0,0 +1,21 @@
+package com.hafizbahtiar.spring.features.admin.dto;
+
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for resizing an executor. Omitted sizes are left unchanged.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExecutorResizeRequest {
+
+    @Min(value = 1, message = "Core pool size must be at least 1")
+    private Integer corePoolSize;
+
+    @Min(value = 1, message = "Max pool size must be at least 1")
+    private Integer maxPoolSize;
+}
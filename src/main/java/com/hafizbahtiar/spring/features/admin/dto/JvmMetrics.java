@@ -0,0 +1,55 @@
+package com.hafizbahtiar.spring.features.admin.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * JVM metrics response.
+ * Memory values are in bytes, times in milliseconds.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JvmMetrics {
+    private JvmMemory heap;
+    private JvmMemory nonHeap;
+    private JvmThreads threads;
+    private JvmGc gc;
+    private Double processCpu;
+    private Double systemLoadAverage;
+    private Integer availableProcessors;
+    private Long uptime;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class JvmMemory {
+        private Long used;
+        private Long committed;
+        private Long max;
+        private Double percentage;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class JvmThreads {
+        private Integer live;
+        private Integer daemon;
+        private Integer peak;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class JvmGc {
+        private Long collections;
+        private Long time;
+    }
+}
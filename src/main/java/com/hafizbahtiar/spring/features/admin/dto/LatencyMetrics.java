@@ -0,0 +1,29 @@
+package com.hafizbahtiar.spring.features.admin.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Latency distribution for an endpoint (or all endpoints) over a window.
+ * All times are in milliseconds.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LatencyMetrics {
+    private String method;
+    private String uri;
+    private Long count;
+    private Double mean;
+    private Double p50;
+    private Double p90;
+    private Double p95;
+    private Double p99;
+    private Double p999;
+    private Double max;
+}
@@ -0,0 +1,37 @@
+package com.hafizbahtiar.spring.features.admin.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Per-endpoint latency metrics response.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LatencyMetricsResponse {
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime timestamp;
+
+    /**
+     * Window length in minutes (1, 5 or 15)
+     */
+    private Integer windowMinutes;
+
+    /**
+     * All endpoints merged
+     */
+    private LatencyMetrics overall;
+
+    /**
+     * Per-endpoint metrics, slowest p99 first
+     */
+    private List<LatencyMetrics> endpoints;
+}
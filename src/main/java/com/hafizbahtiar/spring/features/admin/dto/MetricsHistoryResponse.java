@@ -0,0 +1,48 @@
+package com.hafizbahtiar.spring.features.admin.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * System metrics history response, in columnar form for sparklines.
+ * Values without a sample are null.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MetricsHistoryResponse {
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime timestamp;
+
+    /**
+     * Seconds covered by each point
+     */
+    private Integer resolutionSeconds;
+
+    /**
+     * Point start times in epoch milliseconds, oldest first
+     */
+    private List<Long> timestamps;
+
+    /**
+     * Values per series name, aligned with timestamps
+     */
+    private Map<String, SeriesHistory> series;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SeriesHistory {
+        private List<Double> average;
+        private List<Double> max;
+    }
+}
@@ -0,0 +1,44 @@
+package com.hafizbahtiar.spring.features.admin.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Statement counts and DB/Redis/MongoDB time of an endpoint since startup.
+ * All times are in milliseconds.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QueryMetrics {
+    private String method;
+    private String uri;
+    private Long requests;
+    private Double avgStatements;
+    private Long maxStatements;
+    private Double avgDbTime;
+    private Double maxDbTime;
+    private Double avgRedisTime;
+    private Double avgMongoTime;
+
+    /**
+     * Requests that repeated one statement shape at least repeatThreshold times
+     * (N+1 candidates)
+     */
+    private Long repeatedStatementRequests;
+
+    /**
+     * Statement shape repeated most often within a single request
+     */
+    private String worstStatement;
+
+    /**
+     * Times worstStatement was executed in that request
+     */
+    private Integer worstRepeatCount;
+}
@@ -0,0 +1,32 @@
+package com.hafizbahtiar.spring.features.admin.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Per-endpoint query statistics response.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QueryMetricsResponse {
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime timestamp;
+
+    /**
+     * Repeats of one statement in a request that count as an N+1
+     */
+    private Integer repeatThreshold;
+
+    /**
+     * Endpoints with N+1 requests first, then by average DB time
+     */
+    private List<QueryMetrics> endpoints;
+}
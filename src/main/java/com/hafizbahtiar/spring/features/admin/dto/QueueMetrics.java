@@ -7,7 +7,8 @@ import lombok.NoArgsConstructor;
 
 /**
  * Queue metrics response.
- * Note: Currently not implemented (no queue system), returns empty values.
+ * successRate and failureRate are percentages of attempts since the queue was
+ * created; throughput is completed jobs per minute.
  */
 @Data
 @Builder
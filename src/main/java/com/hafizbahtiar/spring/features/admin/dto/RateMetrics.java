@@ -0,0 +1,53 @@
+package com.hafizbahtiar.spring.features.admin.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request rate, error rate and saturation for an endpoint (or all endpoints).
+ * Rates are in requests per second.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RateMetrics {
+    private String method;
+    private String uri;
+
+    /**
+     * Requests per second over the last 10 seconds
+     */
+    private Double current;
+
+    /**
+     * Highest requests in a single second over the last minute
+     */
+    private Long peak;
+
+    /**
+     * Moving averages over 1, 5 and 15 minutes
+     */
+    private Double oneMinute;
+    private Double fiveMinute;
+    private Double fifteenMinute;
+
+    /**
+     * Percentage of requests with server errors (5xx) over the last minute
+     */
+    private Double errorRate;
+
+    /**
+     * Average number of requests in progress over the last minute
+     */
+    private Double concurrency;
+
+    /**
+     * Concurrency as a percentage of the request worker threads (overall only)
+     */
+    private Double saturation;
+}
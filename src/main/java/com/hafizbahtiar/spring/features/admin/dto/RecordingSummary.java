@@ -0,0 +1,68 @@
+package com.hafizbahtiar.spring.features.admin.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Hot spots computed from a Java Flight Recorder recording.
+ * Frames are reported as "package.Class.method" of the top Java stack frame.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecordingSummary {
+    private String id;
+    private String profile;
+    private Long executionSamples;
+    private Long allocationSamples;
+    private Long contentionEvents;
+    private List<HotMethod> hotMethods;
+    private List<AllocationSite> allocationSites;
+    private List<ContentionSite> contentionSites;
+
+    /**
+     * Method on top of the stack in CPU samples
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class HotMethod {
+        private String frame;
+        private Long samples;
+        private Double percentage;
+    }
+
+    /**
+     * Allocating method and type, weighted by estimated bytes allocated
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AllocationSite {
+        private String frame;
+        private String objectClass;
+        private Long bytes;
+        private Double percentage;
+    }
+
+    /**
+     * Where threads blocked on a monitor or parked, and on which class
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ContentionSite {
+        private String frame;
+        private String lockClass;
+        private Long events;
+        private Double totalMs;
+    }
+}
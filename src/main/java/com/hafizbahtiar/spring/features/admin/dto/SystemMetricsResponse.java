@@ -23,4 +23,6 @@ public class SystemMetricsResponse {
     private RedisMetrics redis;
     private MongoMetrics mongodb;
     private ApiMetrics api;
+    private JvmMetrics jvm;
+    private DatabasePoolMetrics databasePool;
 }
@@ -0,0 +1,207 @@
+package com.hafizbahtiar.spring.features.admin.metrics;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Runs health and metrics probes against external dependencies (PostgreSQL,
+ * Redis, MongoDB) on a dedicated pool, with a time budget per probe.
+ *
+ * Results are cached per probe name for a staleness budget, and concurrent
+ * callers share one in-flight probe instead of each hitting the dependency.
+ * A caller that runs out of time gets a fallback value; the probe keeps
+ * running and its result is cached for the next caller. Start several probes
+ * with {@link #probe} before awaiting them to run them in parallel.
+ *
+ * A probe still running after the abandon threshold is cancelled, which
+ * interrupts its thread, and replaced. The queue is bounded so a hung
+ * dependency cannot pile up probes; a probe that does not fit fails at once.
+ */
+@Component
+@Slf4j
+public class DependencyProbeSampler {
+
+    private final Map<String, Sample<?>> samples = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor pool;
+    private final MonitoredExecutor executor;
+
+    /**
+     * Maximum time a caller waits for a probe
+     */
+    @Value("${admin.probes.timeout-ms:2000}")
+    private long timeoutMs;
+
+    /**
+     * Maximum age of a cached probe result
+     */
+    @Value("${admin.probes.max-age-ms:5000}")
+    private long maxAgeMs;
+
+    /**
+     * Age after which an in-flight probe is considered hung and a new one is
+     * started
+     */
+    @Value("${admin.probes.abandon-after-ms:30000}")
+    private long abandonAfterMs;
+
+    public DependencyProbeSampler(@Value("${admin.probes.threads:4}") int threads,
+            @Value("${admin.probes.queue-capacity:32}") int queueCapacity,
+            ExecutorRegistry executorRegistry) {
+        AtomicInteger counter = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "dependency-probe-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.executor = executorRegistry.register("dependency-probes", pool);
+    }
+
+    /**
+     * Start a probe, or join the cached result or in-flight probe of the same
+     * name.
+     *
+     * @param name  Probe name, e.g. "health.redis"
+     * @param probe Probe to run if there is no fresh result
+     * @return Future of the probe result
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> probe(String name, Supplier<T> probe) {
+        Sample<?> sample = samples.compute(name, (key, existing) -> {
+            long now = System.currentTimeMillis();
+            if (existing != null) {
+                if (existing.isUsable(now, maxAgeMs, abandonAfterMs)) {
+                    return existing;
+                }
+                if (!existing.future().isDone()) {
+                    log.warn("Probe {} still running after {} ms, cancelling it and starting a new one",
+                            key, now - existing.startedAt());
+                    existing.cancel();
+                }
+            }
+            return start(probe, now);
+        });
+        return (CompletableFuture<T>) sample.future();
+    }
+
+    /**
+     * Queue a probe as a task that can be interrupted when cancelled
+     */
+    private <T> Sample<T> start(Supplier<T> probe, long now) {
+        Sample<T> sample = new Sample<>(probe, now);
+        try {
+            executor.execute(sample.task);
+        } catch (RejectedExecutionException e) {
+            sample.future.completeExceptionally(e);
+        }
+        return sample;
+    }
+
+    /**
+     * Wait for a probe within the per-probe time budget.
+     *
+     * @param name     Probe name (for logging)
+     * @param future   Future returned by {@link #probe}
+     * @param fallback Value to use if the probe failed or timed out
+     * @return Probe result or fallback
+     */
+    public <T> T await(String name, CompletableFuture<T> future, Function<Exception, T> fallback) {
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Probe {} timed out after {} ms", name, timeoutMs);
+            return fallback.apply(new TimeoutException("timed out after " + timeoutMs + " ms"));
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            log.error("Probe {} failed: {}", name, cause.getMessage(), cause);
+            return fallback.apply(cause instanceof Exception exception ? exception : e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return fallback.apply(e);
+        }
+    }
+
+    /**
+     * Run (or join) a probe and wait for it.
+     *
+     * @see #probe
+     * @see #await
+     */
+    public <T> T sample(String name, Supplier<T> probe, Function<Exception, T> fallback) {
+        return await(name, probe(name, probe), fallback);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * A probe run, when it started and when it completed
+     */
+    private static final class Sample<T> {
+
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        private final FutureTask<Void> task;
+        private final long startedAt;
+        private volatile long completedAt;
+
+        Sample(Supplier<T> probe, long startedAt) {
+            this.startedAt = startedAt;
+            this.task = new FutureTask<>(() -> {
+                try {
+                    T result = probe.get();
+                    completedAt = System.currentTimeMillis();
+                    future.complete(result);
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                }
+            }, null);
+        }
+
+        CompletableFuture<T> future() {
+            return future;
+        }
+
+        long startedAt() {
+            return startedAt;
+        }
+
+        /**
+         * Interrupt the probe and fail callers still waiting on it
+         */
+        void cancel() {
+            task.cancel(true);
+            future.completeExceptionally(new TimeoutException(
+                    "abandoned after " + (System.currentTimeMillis() - startedAt) + " ms"));
+        }
+
+        /**
+         * In flight and not hung, or completed successfully within the
+         * staleness budget
+         */
+        boolean isUsable(long now, long maxAgeMs, long abandonAfterMs) {
+            if (!future.isDone()) {
+                return now - startedAt < abandonAfterMs;
+            }
+            return !future.isCompletedExceptionally() && now - completedAt <= maxAgeMs;
+        }
+    }
+}
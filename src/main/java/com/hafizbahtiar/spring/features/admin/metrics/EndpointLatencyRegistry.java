@@ -0,0 +1,78 @@
+package com.hafizbahtiar.spring.features.admin.metrics;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of windowed latency histograms per endpoint (HTTP method + URI
+ * template).
+ * The number of tracked endpoints is capped; requests to further endpoints are
+ * recorded under a shared overflow key so memory stays bounded.
+ */
+@Component
+@Slf4j
+public class EndpointLatencyRegistry {
+
+    public static final String OVERFLOW_KEY = "OTHER";
+
+    private final Map<String, WindowedLatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    @Value("${admin.metrics.latency.max-endpoints:200}")
+    private int maxEndpoints;
+
+    /**
+     * Record a request latency.
+     *
+     * @param method HTTP method
+     * @param uri    URI template (e.g. /api/v1/users/{id})
+     * @param micros Latency in microseconds
+     */
+    public void record(String method, String uri, long micros) {
+        String key = method + " " + uri;
+        WindowedLatencyHistogram histogram = histograms.get(key);
+        if (histogram == null) {
+            if (histograms.size() >= maxEndpoints) {
+                key = OVERFLOW_KEY;
+            }
+            histogram = histograms.computeIfAbsent(key, k -> new WindowedLatencyHistogram());
+        }
+        histogram.record(micros, System.currentTimeMillis());
+    }
+
+    /**
+     * Snapshot every endpoint over a window.
+     *
+     * @param windowMinutes Window length in minutes
+     * @return Map of endpoint key ("METHOD uri") to snapshot, for endpoints with requests in the window
+     */
+    public Map<String, LatencyHistogram.Snapshot> snapshotEndpoints(int windowMinutes) {
+        long now = System.currentTimeMillis();
+        Map<String, LatencyHistogram.Snapshot> snapshots = new LinkedHashMap<>();
+        histograms.forEach((key, histogram) -> {
+            LatencyHistogram.Snapshot snapshot = new LatencyHistogram.Snapshot();
+            histogram.addTo(windowMinutes, now, snapshot);
+            if (snapshot.getTotalCount() > 0) {
+                snapshots.put(key, snapshot);
+            }
+        });
+        return snapshots;
+    }
+
+    /**
+     * Snapshot all endpoints merged into one histogram over a window.
+     *
+     * @param windowMinutes Window length in minutes
+     * @return Merged snapshot
+     */
+    public LatencyHistogram.Snapshot snapshotOverall(int windowMinutes) {
+        long now = System.currentTimeMillis();
+        LatencyHistogram.Snapshot snapshot = new LatencyHistogram.Snapshot();
+        histograms.values().forEach(histogram -> histogram.addTo(windowMinutes, now, snapshot));
+        return snapshot;
+    }
+}
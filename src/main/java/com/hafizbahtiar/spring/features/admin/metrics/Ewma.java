@@ -0,0 +1,48 @@
+package com.hafizbahtiar.spring.features.admin.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Exponentially weighted moving average of an event rate, in the style of the
+ * Unix load average.
+ * Events are counted lock-free; {@link #tick()} must be called once per tick
+ * interval from a single thread to fold the interval's count into the average.
+ */
+public class Ewma {
+
+    private final double alpha;
+    private final double intervalSeconds;
+    private final LongAdder uncounted = new LongAdder();
+    private volatile boolean initialized;
+    private volatile double rate;
+
+    /**
+     * @param windowSeconds   Averaging window (e.g. 60 for a one-minute average)
+     * @param intervalSeconds Tick interval
+     */
+    public Ewma(double windowSeconds, double intervalSeconds) {
+        this.alpha = 1 - Math.exp(-intervalSeconds / windowSeconds);
+        this.intervalSeconds = intervalSeconds;
+    }
+
+    public void update(long count) {
+        uncounted.add(count);
+    }
+
+    public void tick() {
+        double instantRate = uncounted.sumThenReset() / intervalSeconds;
+        if (initialized) {
+            rate += alpha * (instantRate - rate);
+        } else {
+            rate = instantRate;
+            initialized = true;
+        }
+    }
+
+    /**
+     * Current rate in events per second
+     */
+    public double getRate() {
+        return rate;
+    }
+}
@@ -0,0 +1,160 @@
+package com.hafizbahtiar.spring.features.admin.metrics;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Supplier;
+
+/**
+ * Central registry of the application's thread pools, read by the admin
+ * executors endpoint.
+ *
+ * Pools are registered by the configuration or component that creates them:
+ * Spring executors get a {@link TaskDecorator} and rejection handler from
+ * {@link #taskDecorator} and {@link #rejectionHandler}, plain JDK pools are
+ * wrapped with {@link #register(String, ThreadPoolExecutor)}. Pools that are
+ * not a {@link ThreadPoolExecutor} (the Socket.IO Netty event loops) are
+ * tracked as thread groups by thread name prefix; they report live threads
+ * only and cannot be resized.
+ */
+@Component
+@Slf4j
+public class ExecutorRegistry {
+
+    private final Map<String, MonitoredExecutor> executors = new LinkedHashMap<>();
+    private final Map<String, String> threadGroups = new LinkedHashMap<>();
+    private final Map<String, Integer> maxPoolSizeLimits = new HashMap<>();
+
+    /**
+     * Per-executor resize limits, e.g. "application:64,cron-jobs:32"
+     */
+    @Value("${admin.executors.max-pool-size-limits:}")
+    private String maxPoolSizeLimitsStr;
+
+    @Value("${admin.executors.default-max-pool-size-limit:32}")
+    private int defaultMaxPoolSizeLimit;
+
+    @PostConstruct
+    public void init() {
+        if (maxPoolSizeLimitsStr != null && !maxPoolSizeLimitsStr.isBlank()) {
+            for (String entry : maxPoolSizeLimitsStr.split(",")) {
+                String[] parts = entry.trim().split(":");
+                if (parts.length != 2) {
+                    log.warn("Ignoring invalid executor pool size limit entry: {}", entry);
+                    continue;
+                }
+                try {
+                    maxPoolSizeLimits.put(parts[0].trim(), Math.max(1, Integer.parseInt(parts[1].trim())));
+                } catch (NumberFormatException e) {
+                    log.warn("Ignoring invalid executor pool size limit entry: {}", entry);
+                }
+            }
+        }
+    }
+
+    /**
+     * Get or create the monitored executor for a name
+     *
+     * @param name       Executor name
+     * @param tracksWait Whether task wait time is measured (false for scheduled pools)
+     */
+    public synchronized MonitoredExecutor monitor(String name, boolean tracksWait) {
+        return executors.computeIfAbsent(name, key -> new MonitoredExecutor(key,
+                maxPoolSizeLimits.getOrDefault(key, defaultMaxPoolSizeLimit), tracksWait));
+    }
+
+    /**
+     * Task decorator for a Spring executor that records wait and run times
+     */
+    public TaskDecorator taskDecorator(String name, boolean tracksWait) {
+        return monitor(name, tracksWait)::decorate;
+    }
+
+    /**
+     * Rejection handler for a Spring executor that counts rejections
+     */
+    public RejectedExecutionHandler rejectionHandler(String name, RejectedExecutionHandler delegate) {
+        return monitor(name, true).countRejections(delegate);
+    }
+
+    /**
+     * Register a pool created lazily, such as a Spring executor's underlying
+     * {@link ThreadPoolExecutor}
+     */
+    public MonitoredExecutor register(String name, Supplier<ThreadPoolExecutor> pool) {
+        MonitoredExecutor executor = monitor(name, true);
+        executor.attach(pool);
+        log.debug("Registered executor {}", name);
+        return executor;
+    }
+
+    /**
+     * Register a JDK pool; its rejection handler is wrapped to count rejections.
+     * Submit tasks through the returned executor to measure them.
+     */
+    public MonitoredExecutor register(String name, ThreadPoolExecutor pool) {
+        MonitoredExecutor executor = register(name, () -> pool);
+        pool.setRejectedExecutionHandler(executor.countRejections(pool.getRejectedExecutionHandler()));
+        return executor;
+    }
+
+    /**
+     * Track a pool that is not a ThreadPoolExecutor by its thread name prefix
+     */
+    public synchronized void registerThreadGroup(String name, String threadNamePrefix) {
+        threadGroups.put(name, threadNamePrefix);
+        log.debug("Registered thread group {} ({}*)", name, threadNamePrefix);
+    }
+
+    /**
+     * Remove an executor, e.g. when its owner shuts down
+     */
+    public synchronized void unregister(String name) {
+        executors.remove(name);
+    }
+
+    public synchronized MonitoredExecutor find(String name) {
+        return executors.get(name);
+    }
+
+    public synchronized Collection<MonitoredExecutor> getExecutors() {
+        return new ArrayList<>(executors.values());
+    }
+
+    /**
+     * Live threads per registered thread group
+     *
+     * @return Map of group name to its threads
+     */
+    public Map<String, List<Thread>> getThreadGroups() {
+        Map<String, String> groups;
+        synchronized (this) {
+            groups = new LinkedHashMap<>(threadGroups);
+        }
+        Map<String, List<Thread>> threads = new LinkedHashMap<>();
+        groups.keySet().forEach(name -> threads.put(name, new ArrayList<>()));
+        if (groups.isEmpty()) {
+            return threads;
+        }
+
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            groups.forEach((name, prefix) -> {
+                if (thread.getName().startsWith(prefix)) {
+                    threads.get(name).add(thread);
+                }
+            });
+        }
+        return threads;
+    }
+}
@@ -0,0 +1,144 @@
+package com.hafizbahtiar.spring.features.admin.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-size, log-linear latency histogram in the style of HdrHistogram.
+ *
+ * Values are recorded in microseconds from 1 µs up to {@link #HIGHEST_TRACKABLE_MICROS}
+ * with 6 bits of sub-bucket resolution, i.e. a relative error of at most
+ * ~3% at any magnitude. Memory is fixed at construction (~5.6 KB).
+ * Recording is lock-free; histograms are merged by adding their counts into a
+ * {@link Snapshot}.
+ */
+public class LatencyHistogram {
+
+    /**
+     * Latencies above this value (60 s) are recorded as this value; the true
+     * maximum is still tracked separately.
+     */
+    public static final long HIGHEST_TRACKABLE_MICROS = 60_000_000L;
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKET_HALF_COUNT_MAGNITUDE = SUB_BUCKET_BITS - 1;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT / 2;
+    private static final long SUB_BUCKET_MASK = SUB_BUCKET_COUNT - 1;
+    private static final int LEADING_ZERO_COUNT_BASE = 64 - SUB_BUCKET_HALF_COUNT_MAGNITUDE - 1;
+
+    static final int COUNTS_LENGTH = countsLength();
+
+    private final AtomicLongArray counts = new AtomicLongArray(COUNTS_LENGTH);
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalMicros = new LongAdder();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    /**
+     * Record a latency.
+     *
+     * @param micros Latency in microseconds
+     */
+    public void record(long micros) {
+        long value = Math.max(0, micros);
+        counts.incrementAndGet(countsIndexFor(Math.min(value, HIGHEST_TRACKABLE_MICROS)));
+        totalCount.increment();
+        totalMicros.add(value);
+        if (value > maxMicros.get()) {
+            maxMicros.accumulateAndGet(value, Math::max);
+        }
+    }
+
+    /**
+     * Add this histogram's counts into a snapshot
+     */
+    public void addTo(Snapshot snapshot) {
+        for (int i = 0; i < COUNTS_LENGTH; i++) {
+            long count = counts.get(i);
+            if (count != 0) {
+                snapshot.counts[i] += count;
+            }
+        }
+        snapshot.totalCount += totalCount.sum();
+        snapshot.totalMicros += totalMicros.sum();
+        snapshot.maxMicros = Math.max(snapshot.maxMicros, maxMicros.get());
+    }
+
+    static int countsIndexFor(long value) {
+        int bucketIndex = LEADING_ZERO_COUNT_BASE - Long.numberOfLeadingZeros(value | SUB_BUCKET_MASK);
+        int subBucketIndex = (int) (value >>> bucketIndex);
+        return ((bucketIndex + 1) << SUB_BUCKET_HALF_COUNT_MAGNITUDE) + (subBucketIndex - SUB_BUCKET_HALF_COUNT);
+    }
+
+    /**
+     * Highest value that maps to the same counts index as the given index
+     */
+    static long highestEquivalentValue(int index) {
+        int bucketIndex = (index >> SUB_BUCKET_HALF_COUNT_MAGNITUDE) - 1;
+        int subBucketIndex = (index & (SUB_BUCKET_HALF_COUNT - 1)) + SUB_BUCKET_HALF_COUNT;
+        if (bucketIndex < 0) {
+            subBucketIndex -= SUB_BUCKET_HALF_COUNT;
+            bucketIndex = 0;
+        }
+        long lowest = (long) subBucketIndex << bucketIndex;
+        return lowest + (1L << bucketIndex) - 1;
+    }
+
+    private static int countsLength() {
+        long smallestUntrackable = (long) SUB_BUCKET_COUNT;
+        int bucketsNeeded = 1;
+        while (smallestUntrackable <= HIGHEST_TRACKABLE_MICROS) {
+            smallestUntrackable <<= 1;
+            bucketsNeeded++;
+        }
+        return (bucketsNeeded + 1) * SUB_BUCKET_HALF_COUNT;
+    }
+
+    /**
+     * Mergeable, non-concurrent view of one or more histograms.
+     */
+    public static class Snapshot {
+
+        private final long[] counts = new long[COUNTS_LENGTH];
+        private long totalCount;
+        private long totalMicros;
+        private long maxMicros;
+
+        public long getTotalCount() {
+            return totalCount;
+        }
+
+        public long getMaxMicros() {
+            return maxMicros;
+        }
+
+        public double getMeanMicros() {
+            return totalCount > 0 ? (double) totalMicros / totalCount : 0.0;
+        }
+
+        /**
+         * Value at the given percentile, within the histogram's precision.
+         *
+         * @param percentile Percentile between 0 and 100
+         * @return Latency in microseconds (0 if empty)
+         */
+        public long getValueAtPercentile(double percentile) {
+            if (totalCount == 0) {
+                return 0;
+            }
+
+            double requested = Math.min(Math.max(percentile, 0.0), 100.0);
+            long countAtPercentile = Math.max(1, (long) Math.ceil(requested / 100.0 * totalCount));
+
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= countAtPercentile) {
+                    return Math.min(highestEquivalentValue(i), maxMicros);
+                }
+            }
+            return maxMicros;
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.hafizbahtiar.spring.features.admin.metrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Fixed-size, in-memory time series for a fixed set of series, kept at
+ * several resolutions (tiers).
+ *
+ * Every sample goes into all tiers; a tier averages the samples that fall into
+ * one of its slots and also keeps their maximum, so short spikes survive
+ * downsampling. Each tier is a ring buffer allocated up front, so memory use
+ * is constant: (8 + 16 × series) bytes per slot across all tiers. Missing
+ * values are recorded as NaN and skipped when averaging.
+ *
+ * Recording and querying are synchronized; both are short.
+ */
+public class MetricsHistory {
+
+    private final List<String> series;
+    private final Tier[] tiers;
+
+    /**
+     * @param series Series names, in the order values are passed to {@link #record}
+     * @param tiers  Tiers as {resolutionSeconds, capacity} pairs, finest first
+     */
+    public MetricsHistory(List<String> series, int[][] tiers) {
+        this.series = List.copyOf(series);
+        this.tiers = new Tier[tiers.length];
+        for (int i = 0; i < tiers.length; i++) {
+            this.tiers[i] = new Tier(tiers[i][0], tiers[i][1], series.size());
+        }
+    }
+
+    public List<String> getSeries() {
+        return series;
+    }
+
+    /**
+     * Record one sample of every series.
+     *
+     * @param epochSecond Sample time
+     * @param values      One value per series, NaN if unavailable
+     */
+    public synchronized void record(long epochSecond, double[] values) {
+        for (Tier tier : tiers) {
+            tier.record(epochSecond, values);
+        }
+    }
+
+    /**
+     * Resolution of the finest tier that covers the given range, or of the
+     * coarsest tier if none does
+     */
+    public int resolutionFor(long rangeSeconds) {
+        for (Tier tier : tiers) {
+            if ((long) tier.resolution * tier.capacity >= rangeSeconds) {
+                return tier.resolution;
+            }
+        }
+        return tiers[tiers.length - 1].resolution;
+    }
+
+    /**
+     * Total number of slots across all tiers
+     */
+    public long getSlotCount() {
+        long slots = 0;
+        for (Tier tier : tiers) {
+            slots += tier.capacity;
+        }
+        return slots;
+    }
+
+    /**
+     * Points of one tier from the given time on, oldest first. The last point
+     * may cover a partially filled slot.
+     *
+     * @param resolution      Tier resolution in seconds
+     * @param fromEpochSecond Earliest slot start to include
+     * @return Range, or null if there is no tier with that resolution
+     */
+    public synchronized Range query(int resolution, long fromEpochSecond) {
+        for (Tier tier : tiers) {
+            if (tier.resolution == resolution) {
+                return tier.query(fromEpochSecond);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Points of one tier in columnar form
+     *
+     * @param resolution Resolution in seconds
+     * @param times      Slot start times (epoch seconds)
+     * @param averages   Per series, average value per slot (NaN if no sample)
+     * @param maxima     Per series, maximum value per slot (NaN if no sample)
+     */
+    public record Range(int resolution, long[] times, double[][] averages, double[][] maxima) {
+    }
+
+    /**
+     * One resolution: a ring of completed slots plus the slot being filled
+     */
+    private static class Tier {
+
+        private final int resolution;
+        private final int capacity;
+        private final long[] times;
+        private final double[][] averages;
+        private final double[][] maxima;
+        private int head;
+        private int size;
+
+        private long currentSlot = -1;
+        private final double[] sums;
+        private final int[] counts;
+        private final double[] currentMaxima;
+
+        Tier(int resolution, int capacity, int seriesCount) {
+            this.resolution = resolution;
+            this.capacity = capacity;
+            this.times = new long[capacity];
+            this.averages = new double[seriesCount][capacity];
+            this.maxima = new double[seriesCount][capacity];
+            this.sums = new double[seriesCount];
+            this.counts = new int[seriesCount];
+            this.currentMaxima = new double[seriesCount];
+        }
+
+        void record(long epochSecond, double[] values) {
+            long slot = epochSecond - Math.floorMod(epochSecond, resolution);
+            if (slot < currentSlot) {
+                return; // Clock went backwards
+            }
+            if (slot != currentSlot) {
+                flush();
+                currentSlot = slot;
+                Arrays.fill(sums, 0.0);
+                Arrays.fill(counts, 0);
+                Arrays.fill(currentMaxima, Double.NaN);
+            }
+
+            for (int i = 0; i < sums.length; i++) {
+                double value = values[i];
+                if (Double.isNaN(value)) {
+                    continue;
+                }
+                sums[i] += value;
+                counts[i]++;
+                currentMaxima[i] = Double.isNaN(currentMaxima[i]) ? value : Math.max(currentMaxima[i], value);
+            }
+        }
+
+        /**
+         * Move the slot being filled into the ring
+         */
+        private void flush() {
+            if (currentSlot < 0) {
+                return;
+            }
+            times[head] = currentSlot;
+            for (int i = 0; i < sums.length; i++) {
+                averages[i][head] = counts[i] > 0 ? sums[i] / counts[i] : Double.NaN;
+                maxima[i][head] = currentMaxima[i];
+            }
+            head = (head + 1) % capacity;
+            size = Math.min(size + 1, capacity);
+        }
+
+        Range query(long fromEpochSecond) {
+            List<Integer> indexes = new ArrayList<>();
+            for (int n = size; n > 0; n--) {
+                int index = Math.floorMod(head - n, capacity);
+                if (times[index] >= fromEpochSecond) {
+                    indexes.add(index);
+                }
+            }
+            boolean includeCurrent = currentSlot >= 0 && currentSlot >= fromEpochSecond;
+            int points = indexes.size() + (includeCurrent ? 1 : 0);
+
+            long[] rangeTimes = new long[points];
+            double[][] rangeAverages = new double[sums.length][points];
+            double[][] rangeMaxima = new double[sums.length][points];
+
+            for (int p = 0; p < indexes.size(); p++) {
+                int index = indexes.get(p);
+                rangeTimes[p] = times[index];
+                for (int i = 0; i < sums.length; i++) {
+                    rangeAverages[i][p] = averages[i][index];
+                    rangeMaxima[i][p] = maxima[i][index];
+                }
+            }
+            if (includeCurrent) {
+                int p = points - 1;
+                rangeTimes[p] = currentSlot;
+                for (int i = 0; i < sums.length; i++) {
+                    rangeAverages[i][p] = counts[i] > 0 ? sums[i] / counts[i] : Double.NaN;
+                    rangeMaxima[i][p] = currentMaxima[i];
+                }
+            }
+            return new Range(resolution, rangeTimes, rangeAverages, rangeMaxima);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.hafizbahtiar.spring.features.admin.metrics;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * A thread pool registered with the {@link ExecutorRegistry}, with the
+ * statistics the pool itself does not keep: task wait time (queued to
+ * started), task run time and rejections.
+ *
+ * Tasks are measured by wrapping them with {@link #decorate(Runnable)}, either
+ * through a Spring {@code TaskDecorator} or by submitting through this class
+ * as an {@link Executor}. For scheduled pools wait time is not tracked, since
+ * a periodic task is wrapped once when it is scheduled.
+ */
+public class MonitoredExecutor implements Executor {
+
+    private final String name;
+    private final int maxPoolSizeLimit;
+    private final boolean tracksWait;
+    private final WindowedLatencyHistogram waitTimes = new WindowedLatencyHistogram();
+    private final WindowedLatencyHistogram runTimes = new WindowedLatencyHistogram();
+    private final LongAdder rejected = new LongAdder();
+    private volatile Supplier<ThreadPoolExecutor> pool = () -> null;
+
+    MonitoredExecutor(String name, int maxPoolSizeLimit, boolean tracksWait) {
+        this.name = name;
+        this.maxPoolSizeLimit = maxPoolSizeLimit;
+        this.tracksWait = tracksWait;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Highest core or maximum pool size admins may resize to
+     */
+    public int getMaxPoolSizeLimit() {
+        return maxPoolSizeLimit;
+    }
+
+    public boolean isTracksWait() {
+        return tracksWait;
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * Underlying pool, or null if not attached or not initialized yet
+     */
+    public ThreadPoolExecutor getPool() {
+        try {
+            return pool.get();
+        } catch (IllegalStateException e) {
+            return null; // Spring executor not initialized yet
+        }
+    }
+
+    void attach(Supplier<ThreadPoolExecutor> pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Wrap a task to record its wait and run time
+     */
+    public Runnable decorate(Runnable task) {
+        long submittedAt = System.nanoTime();
+        return () -> {
+            long startedAt = System.nanoTime();
+            if (tracksWait) {
+                waitTimes.record((startedAt - submittedAt) / 1000L, System.currentTimeMillis());
+            }
+            try {
+                task.run();
+            } finally {
+                runTimes.record((System.nanoTime() - startedAt) / 1000L, System.currentTimeMillis());
+            }
+        };
+    }
+
+    /**
+     * Submit a task to the pool, measured
+     */
+    @Override
+    public void execute(Runnable task) {
+        ThreadPoolExecutor executor = getPool();
+        if (executor == null) {
+            throw new IllegalStateException("Executor " + name + " is not attached");
+        }
+        executor.execute(decorate(task));
+    }
+
+    /**
+     * Rejection handler that counts rejections and then applies the given
+     * policy
+     */
+    public RejectedExecutionHandler countRejections(RejectedExecutionHandler delegate) {
+        return (task, executor) -> {
+            rejected.increment();
+            delegate.rejectedExecution(task, executor);
+        };
+    }
+
+    /**
+     * Add the wait times of a window to a snapshot
+     */
+    public void addWaitTimes(int windowMinutes, long nowMillis, LatencyHistogram.Snapshot snapshot) {
+        waitTimes.addTo(windowMinutes, nowMillis, snapshot);
+    }
+
+    /**
+     * Add the run times of a window to a snapshot
+     */
+    public void addRunTimes(int windowMinutes, long nowMillis, LatencyHistogram.Snapshot snapshot) {
+        runTimes.addTo(windowMinutes, nowMillis, snapshot);
+    }
+
+    /**
+     * Whether only the core size of a pool has any effect: scheduled pools have
+     * a fixed size, and a pool with an unbounded queue queues every task beyond
+     * its core threads instead of starting more
+     */
+    public static boolean isCoreSizeOnly(ThreadPoolExecutor executor) {
+        return executor instanceof ScheduledThreadPoolExecutor || isUnboundedQueue(executor);
+    }
+
+    private static boolean isUnboundedQueue(ThreadPoolExecutor executor) {
+        BlockingQueue<Runnable> queue = executor.getQueue();
+        return (long) queue.size() + queue.remainingCapacity() >= Integer.MAX_VALUE;
+    }
+
+    /**
+     * Change the pool size within the configured limit. Pools where only the
+     * core size has an effect (see {@link #isCoreSizeOnly}) reject a max size;
+     * their max size is raised along with the core size when needed.
+     *
+     * @param corePoolSize New core size, or null to keep it
+     * @param maxPoolSize  New maximum size, or null to keep it
+     * @throws IllegalArgumentException if the sizes are out of bounds
+     */
+    public synchronized void resize(Integer corePoolSize, Integer maxPoolSize) {
+        ThreadPoolExecutor executor = getPool();
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor " + name + " is not initialized");
+        }
+        boolean scheduled = executor instanceof ScheduledThreadPoolExecutor;
+        if (scheduled && maxPoolSize != null) {
+            throw new IllegalArgumentException("Executor " + name + " is a scheduled pool; only its core size can be set");
+        }
+        boolean unbounded = !scheduled && isUnboundedQueue(executor);
+        if (unbounded && maxPoolSize != null) {
+            throw new IllegalArgumentException("Executor " + name
+                    + " has an unbounded queue and never grows past its core size; only its core size can be set");
+        }
+
+        int core = corePoolSize != null ? corePoolSize : executor.getCorePoolSize();
+        int max = maxPoolSize != null ? maxPoolSize : executor.getMaximumPoolSize();
+        if (core < 1 || core > maxPoolSizeLimit) {
+            throw new IllegalArgumentException("Core pool size must be between 1 and " + maxPoolSizeLimit);
+        }
+        if (maxPoolSize != null && (max < core || max > maxPoolSizeLimit)) {
+            throw new IllegalArgumentException("Max pool size must be between " + core + " and " + maxPoolSizeLimit);
+        }
+        if (scheduled) {
+            executor.setCorePoolSize(core);
+            return;
+        }
+        if (unbounded) {
+            max = Math.max(core, executor.getMaximumPoolSize());
+        }
+        if (max < core) {
+            throw new IllegalArgumentException("Core pool size cannot exceed the max pool size (" + max + ")");
+        }
+
+        // The JDK rejects core > max at every step, so grow max first and shrink it last
+        if (max >= executor.getMaximumPoolSize()) {
+            executor.setMaximumPoolSize(max);
+            executor.setCorePoolSize(core);
+        } else {
+            executor.setCorePoolSize(core);
+            executor.setMaximumPoolSize(max);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.hafizbahtiar.spring.features.admin.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Filter that records the latency, status and rate of every HTTP request
+ * against its URI template, for the admin metrics API.
+ * Runs first in the chain so security and all other filters are included in
+ * the measured time.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private static final String UNMATCHED_URI = "UNMATCHED";
+
+    private final EndpointLatencyRegistry endpointLatencyRegistry;
+    private final RequestRateRegistry requestRateRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long startTime = System.nanoTime();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = false;
+        } finally {
+            long micros = (System.nanoTime() - startTime) / 1_000L;
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : UNMATCHED_URI;
+            int status = failed ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus();
+            endpointLatencyRegistry.record(request.getMethod(), uri, micros);
+            requestRateRegistry.record(request.getMethod(), uri, status, micros);
+        }
+    }
+}
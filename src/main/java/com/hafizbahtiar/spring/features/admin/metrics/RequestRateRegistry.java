@@ -0,0 +1,86 @@
+package com.hafizbahtiar.spring.features.admin.metrics;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of request rate trackers, globally and per endpoint (HTTP method +
+ * URI template).
+ * The number of tracked endpoints is capped like the latency histograms.
+ */
+@Component
+public class RequestRateRegistry {
+
+    private final RequestRateTracker global = new RequestRateTracker();
+    private final Map<String, RequestRateTracker> endpoints = new ConcurrentHashMap<>();
+
+    @Value("${admin.metrics.latency.max-endpoints:200}")
+    private int maxEndpoints;
+
+    /**
+     * Request worker threads available; used to turn concurrency into saturation
+     */
+    @Value("${server.tomcat.threads.max:200}")
+    private int maxThreads;
+
+    /**
+     * Record a completed request.
+     *
+     * @param method HTTP method
+     * @param uri    URI template
+     * @param status Response status
+     * @param micros Duration in microseconds
+     */
+    public void record(String method, String uri, int status, long micros) {
+        long now = System.currentTimeMillis();
+        boolean error = status >= 500;
+        global.record(error, micros, now);
+
+        String key = method + " " + uri;
+        RequestRateTracker tracker = endpoints.get(key);
+        if (tracker == null) {
+            if (endpoints.size() >= maxEndpoints) {
+                key = EndpointLatencyRegistry.OVERFLOW_KEY;
+            }
+            tracker = endpoints.computeIfAbsent(key, k -> new RequestRateTracker());
+        }
+        tracker.record(error, micros, now);
+    }
+
+    /**
+     * Fold recent requests into the moving averages
+     */
+    @Scheduled(fixedRate = RequestRateTracker.TICK_INTERVAL_SECONDS * 1000L)
+    public void tick() {
+        global.tick();
+        endpoints.values().forEach(RequestRateTracker::tick);
+    }
+
+    public RequestRateTracker.Snapshot snapshotGlobal(int windowSeconds, int peakSeconds) {
+        return global.snapshot(windowSeconds, peakSeconds, System.currentTimeMillis());
+    }
+
+    /**
+     * Snapshot every endpoint that has seen traffic in the last 15 minutes (by EWMA)
+     */
+    public Map<String, RequestRateTracker.Snapshot> snapshotEndpoints(int windowSeconds, int peakSeconds) {
+        long now = System.currentTimeMillis();
+        Map<String, RequestRateTracker.Snapshot> snapshots = new LinkedHashMap<>();
+        endpoints.forEach((key, tracker) -> {
+            RequestRateTracker.Snapshot snapshot = tracker.snapshot(windowSeconds, peakSeconds, now);
+            if (snapshot.fifteenMinute() > 0.0001 || snapshot.peak() > 0) {
+                snapshots.put(key, snapshot);
+            }
+        });
+        return snapshots;
+    }
+
+    public int getMaxThreads() {
+        return maxThreads;
+    }
+}
@@ -0,0 +1,129 @@
+package com.hafizbahtiar.spring.features.admin.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Request rate, error ratio and busy time for one endpoint (or globally).
+ *
+ * Keeps a ring of per-second buckets for short windows and peaks, and EWMAs
+ * for 1/5/15-minute rates. Recording is lock-free; a bucket is reset by the
+ * first request of a new second, so counts racing with that reset may be
+ * lost at the boundary.
+ */
+public class RequestRateTracker {
+
+    public static final int BUCKETS = 64;
+    public static final int TICK_INTERVAL_SECONDS = 5;
+
+    private final AtomicLongArray seconds = new AtomicLongArray(BUCKETS);
+    private final AtomicLongArray requests = new AtomicLongArray(BUCKETS);
+    private final AtomicLongArray errors = new AtomicLongArray(BUCKETS);
+    private final AtomicLongArray busyMicros = new AtomicLongArray(BUCKETS);
+
+    private final Ewma oneMinute = new Ewma(60, TICK_INTERVAL_SECONDS);
+    private final Ewma fiveMinute = new Ewma(300, TICK_INTERVAL_SECONDS);
+    private final Ewma fifteenMinute = new Ewma(900, TICK_INTERVAL_SECONDS);
+
+    /**
+     * Record a completed request.
+     *
+     * @param error     Whether the request failed with a server error
+     * @param micros    Request duration in microseconds
+     * @param nowMillis Completion time in epoch milliseconds
+     */
+    public void record(boolean error, long micros, long nowMillis) {
+        long second = nowMillis / 1000L;
+        int index = (int) (second % BUCKETS);
+
+        long stamp = seconds.get(index);
+        if (stamp != second) {
+            if (stamp > second) {
+                return;
+            }
+            if (seconds.compareAndSet(index, stamp, second)) {
+                requests.set(index, 0);
+                errors.set(index, 0);
+                busyMicros.set(index, 0);
+            }
+        }
+
+        requests.incrementAndGet(index);
+        if (error) {
+            errors.incrementAndGet(index);
+        }
+        busyMicros.addAndGet(index, micros);
+
+        oneMinute.update(1);
+        fiveMinute.update(1);
+        fifteenMinute.update(1);
+    }
+
+    /**
+     * Fold the last tick interval into the moving averages
+     */
+    public void tick() {
+        oneMinute.tick();
+        fiveMinute.tick();
+        fifteenMinute.tick();
+    }
+
+    /**
+     * Take a snapshot over the last complete seconds.
+     *
+     * @param windowSeconds Seconds used for the current rate (e.g. 10)
+     * @param peakSeconds   Seconds scanned for the error ratio, busy time and peak rate (e.g. 60)
+     * @param nowMillis     Current time in epoch milliseconds
+     */
+    public Snapshot snapshot(int windowSeconds, int peakSeconds, long nowMillis) {
+        long currentSecond = nowMillis / 1000L;
+        int window = Math.min(windowSeconds, BUCKETS - 1);
+        int peakWindow = Math.min(peakSeconds, BUCKETS - 1);
+
+        long windowRequests = 0;
+        long totalRequests = 0;
+        long totalErrors = 0;
+        long totalBusyMicros = 0;
+        long peak = 0;
+
+        // Skip the current, still filling second
+        for (int i = 1; i <= peakWindow; i++) {
+            long second = currentSecond - i;
+            int index = (int) (second % BUCKETS);
+            if (seconds.get(index) != second) {
+                continue;
+            }
+            long count = requests.get(index);
+            if (i <= window) {
+                windowRequests += count;
+            }
+            totalRequests += count;
+            totalErrors += errors.get(index);
+            totalBusyMicros += busyMicros.get(index);
+            peak = Math.max(peak, count);
+        }
+
+        return new Snapshot(
+                (double) windowRequests / window,
+                peak,
+                oneMinute.getRate(),
+                fiveMinute.getRate(),
+                fifteenMinute.getRate(),
+                totalRequests > 0 ? (double) totalErrors / totalRequests : 0.0,
+                totalBusyMicros / (peakWindow * 1_000_000.0));
+    }
+
+    /**
+     * Rates for one tracker
+     *
+     * @param current         Requests per second over the short window
+     * @param peak            Highest requests in a single second over the long window
+     * @param oneMinute       1-minute EWMA rate
+     * @param fiveMinute      5-minute EWMA rate
+     * @param fifteenMinute   15-minute EWMA rate
+     * @param errorRatio      Share of requests with server errors over the long window (0 - 1)
+     * @param concurrency     Average number of requests in progress over the long window
+     */
+    public record Snapshot(double current, long peak, double oneMinute, double fiveMinute, double fifteenMinute,
+            double errorRatio, double concurrency) {
+    }
+}
@@ -0,0 +1,72 @@
+package com.hafizbahtiar.spring.features.admin.metrics;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Latency histogram over a sliding window of one-minute slots.
+ *
+ * Keeps a ring of {@link #SLOTS} per-minute histograms; a slot is replaced
+ * when its minute comes around again, so memory is bounded at
+ * SLOTS × {@link LatencyHistogram} regardless of traffic. An N-minute window
+ * covers the last N complete minutes plus the current partial minute.
+ */
+public class WindowedLatencyHistogram {
+
+    public static final int SLOTS = 16;
+    public static final int MAX_WINDOW_MINUTES = SLOTS - 1;
+
+    private final AtomicReferenceArray<Slot> slots = new AtomicReferenceArray<>(SLOTS);
+
+    /**
+     * Record a latency at the given time.
+     *
+     * @param micros      Latency in microseconds
+     * @param nowMillis   Current time in epoch milliseconds
+     */
+    public void record(long micros, long nowMillis) {
+        long minute = nowMillis / 60_000L;
+        int index = (int) (minute % SLOTS);
+
+        Slot slot = slots.get(index);
+        while (slot == null || slot.minute != minute) {
+            if (slot != null && slot.minute > minute) {
+                return; // Stale timestamp from a request that started a window ago
+            }
+            Slot fresh = new Slot(minute);
+            if (slots.compareAndSet(index, slot, fresh)) {
+                slot = fresh;
+            } else {
+                slot = slots.get(index);
+            }
+        }
+        slot.histogram.record(micros);
+    }
+
+    /**
+     * Merge the slots of a window into a snapshot.
+     *
+     * @param windowMinutes Window length in minutes (1 - {@link #MAX_WINDOW_MINUTES})
+     * @param nowMillis     Current time in epoch milliseconds
+     * @param snapshot      Snapshot to add counts to
+     */
+    public void addTo(int windowMinutes, long nowMillis, LatencyHistogram.Snapshot snapshot) {
+        long currentMinute = nowMillis / 60_000L;
+        int window = Math.min(Math.max(windowMinutes, 1), MAX_WINDOW_MINUTES);
+
+        for (long minute = currentMinute - window; minute <= currentMinute; minute++) {
+            Slot slot = slots.get((int) (minute % SLOTS));
+            if (slot != null && slot.minute == minute) {
+                slot.histogram.addTo(snapshot);
+            }
+        }
+    }
+
+    private static final class Slot {
+        private final long minute;
+        private final LatencyHistogram histogram = new LatencyHistogram();
+
+        private Slot(long minute) {
+            this.minute = minute;
+        }
+    }
+}
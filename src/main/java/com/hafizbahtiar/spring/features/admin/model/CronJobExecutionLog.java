@@ -11,6 +11,7 @@ import java.time.LocalDateTime;
 
 /**
  * MongoDB document for tracking cron job executions.
+ * DATABASE job runs are synced from pg_cron with the ID "pg_cron:<runId>".
  */
 @Document(collection = "cron_job_executions")
 @Data
@@ -25,5 +26,7 @@ public class CronJobExecutionLog {
     private Boolean success;
     private String error;
     private Long duration; // in milliseconds
+    private Long rowCount; // rows affected, DATABASE jobs only
+    private Long runId; // pg_cron run ID, DATABASE jobs only
     private LocalDateTime createdAt;
 }
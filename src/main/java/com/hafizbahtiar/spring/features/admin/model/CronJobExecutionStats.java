@@ -0,0 +1,118 @@
+package com.hafizbahtiar.spring.features.admin.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * MongoDB document with the rolled-up execution statistics of one cron job.
+ *
+ * Updated with one upsert per execution ($inc on the counts, $max on the
+ * maximum duration), so job lists read one document per job instead of
+ * querying the raw execution logs. Durations are counted in fixed buckets
+ * (see {@link #DURATION_BOUNDS_MS}), from which percentiles are estimated.
+ */
+@Document(collection = "cron_job_execution_stats")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CronJobExecutionStats {
+
+    /**
+     * Upper bounds of the duration buckets in milliseconds; longer durations
+     * are counted under {@link #OVERFLOW_BUCKET}
+     */
+    public static final long[] DURATION_BOUNDS_MS = {
+            10, 25, 50, 100, 250, 500, 1_000, 2_500, 5_000, 10_000, 30_000, 60_000,
+            120_000, 300_000, 600_000, 1_800_000, 3_600_000 };
+
+    public static final String OVERFLOW_BUCKET = "inf";
+
+    /**
+     * Job name
+     */
+    @Id
+    private String jobName;
+
+    private Long executionCount;
+    private Long successCount;
+    private Long failureCount;
+
+    /**
+     * Last execution (start time, outcome, duration and error)
+     */
+    private LocalDateTime lastExecution;
+    private Boolean lastSuccess;
+    private Long lastDuration; // in milliseconds
+    private String lastError;
+    private Long lastRowCount; // DATABASE jobs only
+
+    private Long totalRowCount; // DATABASE jobs only
+    private Long totalDuration; // in milliseconds
+    private Long maxDuration; // in milliseconds
+
+    /**
+     * Execution count per duration bucket, keyed by {@link #bucketOf(long)}
+     */
+    @Builder.Default
+    private Map<String, Long> durationBuckets = new HashMap<>();
+
+    private LocalDateTime updatedAt;
+
+    /**
+     * Bucket key of a duration
+     */
+    public static String bucketOf(long durationMs) {
+        for (long bound : DURATION_BOUNDS_MS) {
+            if (durationMs <= bound) {
+                return String.valueOf(bound);
+            }
+        }
+        return OVERFLOW_BUCKET;
+    }
+
+    /**
+     * Average duration in milliseconds, or null without executions
+     */
+    public Long averageDuration() {
+        if (executionCount == null || executionCount == 0 || totalDuration == null) {
+            return null;
+        }
+        return totalDuration / executionCount;
+    }
+
+    /**
+     * Estimated duration percentile: the upper bound of the bucket holding it,
+     * capped at the maximum duration
+     *
+     * @param percentile Percentile (0 - 100)
+     * @return Duration in milliseconds, or null without executions
+     */
+    public Long durationPercentile(double percentile) {
+        if (durationBuckets == null || durationBuckets.isEmpty()) {
+            return null;
+        }
+        long total = durationBuckets.values().stream().mapToLong(count -> count != null ? count : 0L).sum();
+        if (total == 0) {
+            return null;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+        long seen = 0;
+        for (long bound : DURATION_BOUNDS_MS) {
+            seen += durationBuckets.getOrDefault(String.valueOf(bound), 0L);
+            if (seen >= rank) {
+                return maxDuration != null ? Math.min(bound, maxDuration) : bound;
+            }
+        }
+        return maxDuration;
+    }
+}
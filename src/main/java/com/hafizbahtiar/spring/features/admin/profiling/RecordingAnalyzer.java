@@ -0,0 +1,170 @@
+package com.hafizbahtiar.spring.features.admin.profiling;
+
+import com.hafizbahtiar.spring.features.admin.dto.RecordingSummary;
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Summarizes a JFR recording into its top hot methods (CPU samples), top
+ * allocation sites (allocation samples weighted by estimated bytes) and top
+ * contention sites (monitor enter and park events weighted by time blocked).
+ *
+ * Events are streamed from the file, so memory use depends on the number of
+ * distinct sites rather than the size of the recording.
+ */
+public class RecordingAnalyzer {
+
+    private static final String EXECUTION_SAMPLE = "jdk.ExecutionSample";
+    private static final String ALLOCATION_SAMPLE = "jdk.ObjectAllocationSample";
+    private static final String MONITOR_ENTER = "jdk.JavaMonitorEnter";
+    private static final String THREAD_PARK = "jdk.ThreadPark";
+
+    private final Map<Site, long[]> executionSites = new HashMap<>();
+    private final Map<Site, long[]> allocationSites = new HashMap<>();
+    private final Map<Site, long[]> contentionSites = new HashMap<>();
+    private long executionSamples;
+    private long allocatedBytes;
+    private long allocationSamples;
+    private long contentionEvents;
+
+    /**
+     * Read a recording and summarize it.
+     *
+     * @param file    Recording file
+     * @param id      Recording ID
+     * @param profile Recording profile key
+     * @param top     Number of entries per list
+     */
+    public static RecordingSummary analyze(Path file, String id, String profile, int top) throws IOException {
+        RecordingAnalyzer analyzer = new RecordingAnalyzer();
+        try (RecordingFile recording = new RecordingFile(file)) {
+            while (recording.hasMoreEvents()) {
+                analyzer.accept(recording.readEvent());
+            }
+        }
+        return analyzer.summarize(id, profile, top);
+    }
+
+    private void accept(RecordedEvent event) {
+        switch (event.getEventType().getName()) {
+            case EXECUTION_SAMPLE -> {
+                executionSamples++;
+                add(executionSites, new Site(topFrame(event.getStackTrace()), null), 1);
+            }
+            case ALLOCATION_SAMPLE -> {
+                long weight = event.getLong("weight");
+                allocationSamples++;
+                allocatedBytes += weight;
+                add(allocationSites, new Site(topFrame(event.getStackTrace()),
+                        className(event.getClass("objectClass"))), weight);
+            }
+            case MONITOR_ENTER -> {
+                contentionEvents++;
+                add(contentionSites, new Site(topFrame(event.getStackTrace()),
+                        className(event.getClass("monitorClass"))), event.getDuration().toNanos());
+            }
+            case THREAD_PARK -> {
+                contentionEvents++;
+                add(contentionSites, new Site(topFrame(event.getStackTrace()),
+                        className(event.getClass("parkedClass"))), event.getDuration().toNanos());
+            }
+            default -> {
+                // Not summarized
+            }
+        }
+    }
+
+    private RecordingSummary summarize(String id, String profile, int top) {
+        List<RecordingSummary.HotMethod> hotMethods = top(executionSites, top).stream()
+                .map(entry -> RecordingSummary.HotMethod.builder()
+                        .frame(entry.getKey().frame())
+                        .samples(entry.getValue()[1])
+                        .percentage(percentage(entry.getValue()[1], executionSamples))
+                        .build())
+                .toList();
+
+        List<RecordingSummary.AllocationSite> allocations = top(allocationSites, top).stream()
+                .map(entry -> RecordingSummary.AllocationSite.builder()
+                        .frame(entry.getKey().frame())
+                        .objectClass(entry.getKey().detail())
+                        .bytes(entry.getValue()[1])
+                        .percentage(percentage(entry.getValue()[1], allocatedBytes))
+                        .build())
+                .toList();
+
+        List<RecordingSummary.ContentionSite> contention = top(contentionSites, top).stream()
+                .map(entry -> RecordingSummary.ContentionSite.builder()
+                        .frame(entry.getKey().frame())
+                        .lockClass(entry.getKey().detail())
+                        .events(entry.getValue()[0])
+                        .totalMs(Math.round(entry.getValue()[1] / 10_000.0) / 100.0)
+                        .build())
+                .toList();
+
+        return RecordingSummary.builder()
+                .id(id)
+                .profile(profile)
+                .executionSamples(executionSamples)
+                .allocationSamples(allocationSamples)
+                .contentionEvents(contentionEvents)
+                .hotMethods(hotMethods)
+                .allocationSites(allocations)
+                .contentionSites(contention)
+                .build();
+    }
+
+    /**
+     * Add one event to a site: {events, total weight}
+     */
+    private static void add(Map<Site, long[]> sites, Site site, long weight) {
+        long[] totals = sites.computeIfAbsent(site, key -> new long[2]);
+        totals[0]++;
+        totals[1] += weight;
+    }
+
+    private static List<Map.Entry<Site, long[]>> top(Map<Site, long[]> sites, int top) {
+        return sites.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<Site, long[]> entry) -> entry.getValue()[1]).reversed())
+                .limit(top)
+                .toList();
+    }
+
+    /**
+     * Top Java frame as "package.Class.method"
+     */
+    private static String topFrame(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "(no stack trace)";
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (frame.isJavaFrame() && frame.getMethod() != null) {
+                return frame.getMethod().getType().getName() + "." + frame.getMethod().getName();
+            }
+        }
+        return "(native)";
+    }
+
+    private static String className(RecordedClass recordedClass) {
+        return recordedClass != null ? recordedClass.getName() : null;
+    }
+
+    private static double percentage(long value, long total) {
+        return total > 0 ? Math.round(value * 10_000.0 / total) / 100.0 : 0.0;
+    }
+
+    /**
+     * Top frame plus, for allocations and contention, the class involved
+     */
+    private record Site(String frame, String detail) {
+    }
+}
@@ -0,0 +1,88 @@
+package com.hafizbahtiar.spring.features.admin.profiling;
+
+import jdk.jfr.Configuration;
+
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Preset Java Flight Recorder settings for on-demand recordings.
+ *
+ * All presets start from the JDK's "default" configuration (about 1%
+ * overhead) and only raise the events they are about. Events that capture
+ * environment variables, system properties, JVM arguments or the process
+ * list are always disabled, as they may contain credentials and recordings
+ * can be downloaded.
+ */
+public enum RecordingProfile {
+
+    /**
+     * Low-overhead recording suitable for running continuously
+     */
+    CONTINUOUS(Map.of()),
+
+    /**
+     * Denser allocation sampling to find top allocation sites
+     */
+    ALLOCATION(Map.of(
+            "jdk.ObjectAllocationSample#enabled", "true",
+            "jdk.ObjectAllocationSample#throttle", "1000/s",
+            "jdk.ObjectAllocationSample#stackTrace", "true")),
+
+    /**
+     * Monitor and park events down to 1 ms to find lock contention
+     */
+    LOCKS(Map.of(
+            "jdk.JavaMonitorEnter#enabled", "true",
+            "jdk.JavaMonitorEnter#threshold", "1 ms",
+            "jdk.JavaMonitorEnter#stackTrace", "true",
+            "jdk.ThreadPark#enabled", "true",
+            "jdk.ThreadPark#threshold", "1 ms",
+            "jdk.ThreadPark#stackTrace", "true"));
+
+    private static final Map<String, String> REDACTED = Map.of(
+            "jdk.InitialEnvironmentVariable#enabled", "false",
+            "jdk.InitialSystemProperty#enabled", "false",
+            "jdk.JVMInformation#enabled", "false",
+            "jdk.SystemProcess#enabled", "false");
+
+    private final Map<String, String> overrides;
+
+    RecordingProfile(Map<String, String> overrides) {
+        this.overrides = overrides;
+    }
+
+    /**
+     * Name used in the API and in recording IDs
+     */
+    public String key() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * JFR settings of this preset
+     */
+    public Map<String, String> settings() throws IOException, ParseException {
+        Map<String, String> settings = new HashMap<>(Configuration.getConfiguration("default").getSettings());
+        settings.putAll(overrides);
+        settings.putAll(REDACTED);
+        return settings;
+    }
+
+    /**
+     * Parse a preset name case-insensitively.
+     *
+     * @throws IllegalArgumentException if the name is not a preset
+     */
+    public static RecordingProfile fromKey(String key) {
+        for (RecordingProfile profile : values()) {
+            if (profile.key().equalsIgnoreCase(key)) {
+                return profile;
+            }
+        }
+        throw new IllegalArgumentException("Unknown recording profile: " + key);
+    }
+}
@@ -0,0 +1,174 @@
+package com.hafizbahtiar.spring.features.admin.querystats;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint (HTTP method + URI template) totals of statements and
+ * DB/Redis/MongoDB time since startup, with the worst repeated statement seen
+ * on each endpoint.
+ *
+ * A request that executes the same statement shape at least
+ * admin.query-stats.n-plus-one-threshold times is counted as an N+1 and
+ * logged, as is a request with more statements than
+ * admin.query-stats.statement-warn-threshold. The number of tracked endpoints
+ * is capped like the latency registry's.
+ */
+@Component
+@Slf4j
+public class EndpointQueryStatsRegistry {
+
+    public static final String OVERFLOW_KEY = "OTHER";
+
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+
+    @Value("${admin.query-stats.max-endpoints:200}")
+    private int maxEndpoints;
+
+    @Value("${admin.query-stats.n-plus-one-threshold:5}")
+    private int nPlusOneThreshold;
+
+    @Value("${admin.query-stats.statement-warn-threshold:50}")
+    private int statementWarnThreshold;
+
+    @Value("${admin.query-stats.slow-statement-ms:500}")
+    private long slowStatementMs;
+
+    @PostConstruct
+    public void init() {
+        JdbcTimingListener.setSlowStatementMillis(slowStatementMs);
+    }
+
+    /**
+     * Record the stats of a finished request.
+     *
+     * @param method HTTP method
+     * @param uri    URI template (e.g. /api/v1/users/{id})
+     * @param stats  Stats collected during the request
+     */
+    public void record(String method, String uri, RequestQueryStats stats) {
+        String key = method + " " + uri;
+        EndpointStats endpoint = endpoints.get(key);
+        if (endpoint == null) {
+            if (endpoints.size() >= maxEndpoints) {
+                key = OVERFLOW_KEY;
+            }
+            endpoint = endpoints.computeIfAbsent(key, k -> new EndpointStats());
+        }
+
+        Map.Entry<String, Integer> repeated = stats.getMostRepeated();
+        boolean nPlusOne = repeated != null && repeated.getValue() >= nPlusOneThreshold;
+        endpoint.record(stats, repeated, nPlusOne);
+
+        if (nPlusOne) {
+            log.warn("Possible N+1 on {}: statement executed {} times in one request: {}",
+                    key, repeated.getValue(), repeated.getKey());
+        }
+        if (stats.getStatements() >= statementWarnThreshold) {
+            log.warn("{} executed {} statements ({} ms DB time) in one request",
+                    key, stats.getStatements(), stats.getDbNanos() / 1_000_000L);
+        }
+    }
+
+    /**
+     * Snapshot every endpoint with at least one request
+     *
+     * @return Map of endpoint key ("METHOD uri") to its stats
+     */
+    public Map<String, EndpointStats> getEndpoints() {
+        return new LinkedHashMap<>(endpoints);
+    }
+
+    public int getNPlusOneThreshold() {
+        return nPlusOneThreshold;
+    }
+
+    /**
+     * Running totals of one endpoint
+     */
+    public static final class EndpointStats {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder statements = new LongAdder();
+        private final LongAdder dbNanos = new LongAdder();
+        private final LongAdder redisNanos = new LongAdder();
+        private final LongAdder mongoNanos = new LongAdder();
+        private final LongAdder nPlusOneRequests = new LongAdder();
+        private final LongAccumulator maxStatements = new LongAccumulator(Math::max, 0);
+        private final LongAccumulator maxDbNanos = new LongAccumulator(Math::max, 0);
+        private String worstStatement;
+        private int worstRepeatCount;
+
+        private void record(RequestQueryStats stats, Map.Entry<String, Integer> repeated, boolean nPlusOne) {
+            requests.increment();
+            statements.add(stats.getStatements());
+            dbNanos.add(stats.getDbNanos());
+            redisNanos.add(stats.getRedisNanos());
+            mongoNanos.add(stats.getMongoNanos());
+            maxStatements.accumulate(stats.getStatements());
+            maxDbNanos.accumulate(stats.getDbNanos());
+            if (nPlusOne) {
+                nPlusOneRequests.increment();
+            }
+            if (repeated != null && repeated.getValue() > 1) {
+                synchronized (this) {
+                    if (repeated.getValue() > worstRepeatCount) {
+                        worstRepeatCount = repeated.getValue();
+                        worstStatement = repeated.getKey();
+                    }
+                }
+            }
+        }
+
+        public long getRequests() {
+            return requests.sum();
+        }
+
+        public long getStatements() {
+            return statements.sum();
+        }
+
+        public long getDbNanos() {
+            return dbNanos.sum();
+        }
+
+        public long getRedisNanos() {
+            return redisNanos.sum();
+        }
+
+        public long getMongoNanos() {
+            return mongoNanos.sum();
+        }
+
+        public long getNPlusOneRequests() {
+            return nPlusOneRequests.sum();
+        }
+
+        public long getMaxStatements() {
+            return maxStatements.get();
+        }
+
+        public long getMaxDbNanos() {
+            return maxDbNanos.get();
+        }
+
+        /**
+         * Statement repeated most often within a single request, or null if no
+         * statement was ever repeated
+         */
+        public synchronized String getWorstStatement() {
+            return worstStatement;
+        }
+
+        public synchronized int getWorstRepeatCount() {
+            return worstRepeatCount;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.hafizbahtiar.spring.features.admin.querystats;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate session listener that times JDBC statement and batch executions,
+ * adds the time to the current request and logs slow statements.
+ *
+ * Hibernate creates one instance per session (hibernate.session.events.auto),
+ * so start times need no synchronization.
+ */
+@Slf4j
+public class JdbcTimingListener implements SessionEventListener {
+
+    /**
+     * Statements slower than this are logged; set from
+     * admin.query-stats.slow-statement-ms by {@link EndpointQueryStatsRegistry}
+     */
+    private static volatile long slowStatementNanos = 500_000_000L;
+
+    private long executeStart;
+    private long batchStart;
+
+    static void setSlowStatementMillis(long millis) {
+        slowStatementNanos = millis * 1_000_000L;
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record(System.nanoTime() - executeStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record(System.nanoTime() - batchStart);
+    }
+
+    private void record(long nanos) {
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats != null) {
+            stats.recordDbTime(nanos);
+        }
+        if (nanos >= slowStatementNanos) {
+            log.warn("Slow SQL statement ({} ms): {}", nanos / 1_000_000L, QueryShapeInspector.lastShape());
+        }
+    }
+}
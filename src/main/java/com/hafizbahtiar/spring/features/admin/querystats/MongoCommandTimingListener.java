@@ -0,0 +1,32 @@
+package com.hafizbahtiar.spring.features.admin.querystats;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandSucceededEvent;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MongoDB command listener that adds the time of every command to the
+ * current request. The synchronous driver notifies listeners on the thread
+ * that ran the command.
+ */
+public class MongoCommandTimingListener implements CommandListener {
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        record(event.getElapsedTime(TimeUnit.NANOSECONDS));
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        record(event.getElapsedTime(TimeUnit.NANOSECONDS));
+    }
+
+    private void record(long nanos) {
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats != null) {
+            stats.recordMongo(nanos);
+        }
+    }
+}
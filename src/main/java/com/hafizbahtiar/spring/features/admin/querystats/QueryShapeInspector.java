@@ -0,0 +1,58 @@
+package com.hafizbahtiar.spring.features.admin.querystats;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.regex.Pattern;
+
+/**
+ * Hibernate statement inspector that records the shape of every statement
+ * (SQL with comments, literals and IN lists normalized) against the current
+ * request, so repeated identical queries (N+1) can be detected.
+ *
+ * Registered through hibernate.session_factory.statement_inspector; the SQL
+ * is returned unchanged.
+ */
+public class QueryShapeInspector implements StatementInspector {
+
+    private static final int MAX_SHAPE_LENGTH = 500;
+
+    private static final Pattern COMMENTS = Pattern.compile("/\\*.*?\\*/|--[^\\n]*", Pattern.DOTALL);
+    private static final Pattern STRING_LITERALS = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERALS = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LISTS = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    /**
+     * Shape of the statement last prepared on this thread, for slow statement
+     * logging by {@link JdbcTimingListener}
+     */
+    private static final ThreadLocal<String> LAST_SHAPE = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        String shape = shapeOf(sql);
+        LAST_SHAPE.set(shape);
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats != null) {
+            stats.recordStatement(shape);
+        }
+        return sql;
+    }
+
+    static String lastShape() {
+        return LAST_SHAPE.get();
+    }
+
+    /**
+     * Normalize a statement so executions that differ only in literal values
+     * or IN list lengths have the same shape
+     */
+    static String shapeOf(String sql) {
+        String shape = COMMENTS.matcher(sql).replaceAll(" ");
+        shape = STRING_LITERALS.matcher(shape).replaceAll("?");
+        shape = NUMBER_LITERALS.matcher(shape).replaceAll("?");
+        shape = IN_LISTS.matcher(shape).replaceAll("(?)");
+        shape = WHITESPACE.matcher(shape).replaceAll(" ").trim();
+        return shape.length() > MAX_SHAPE_LENGTH ? shape.substring(0, MAX_SHAPE_LENGTH) + "..." : shape;
+    }
+}
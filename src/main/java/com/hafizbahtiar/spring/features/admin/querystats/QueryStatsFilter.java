@@ -0,0 +1,53 @@
+package com.hafizbahtiar.spring.features.admin.querystats;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Filter that collects statement counts and DB/Redis/MongoDB time for every
+ * HTTP request and records them against its URI template.
+ * Runs right after RequestMetricsFilter so queries made by the security
+ * filters are included.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@RequiredArgsConstructor
+public class QueryStatsFilter extends OncePerRequestFilter {
+
+    private static final String UNMATCHED_URI = "UNMATCHED";
+
+    private final EndpointQueryStatsRegistry endpointQueryStatsRegistry;
+
+    @Value("${admin.query-stats.enabled:true}")
+    private boolean enabled;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestQueryStats stats = RequestQueryStats.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestQueryStats.clear();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : UNMATCHED_URI;
+            endpointQueryStatsRegistry.record(request.getMethod(), uri, stats);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.hafizbahtiar.spring.features.admin.querystats;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Statement counts and DB/Redis/MongoDB time of the HTTP request running on
+ * the current thread.
+ *
+ * Started and cleared by {@link QueryStatsFilter}; recorded into by the
+ * Hibernate statement inspector and session listener, the Redis template and
+ * the MongoDB command listener. Work on other threads (@Async, job queues) is
+ * not attributed to the request.
+ */
+public final class RequestQueryStats {
+
+    /**
+     * Distinct statement shapes tracked per request; further shapes are
+     * counted but not tracked for repeats
+     */
+    private static final int MAX_SHAPES = 256;
+
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, Integer> shapes = new HashMap<>();
+    private int statements;
+    private long dbNanos;
+    private int redisCommands;
+    private long redisNanos;
+    private int mongoCommands;
+    private long mongoNanos;
+
+    private RequestQueryStats() {
+    }
+
+    /**
+     * Start collecting for the current thread
+     */
+    public static RequestQueryStats start() {
+        RequestQueryStats stats = new RequestQueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * Stats of the current request, or null outside a request
+     */
+    public static RequestQueryStats current() {
+        return CURRENT.get();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    void recordStatement(String shape) {
+        statements++;
+        Integer count = shapes.get(shape);
+        if (count != null) {
+            shapes.put(shape, count + 1);
+        } else if (shapes.size() < MAX_SHAPES) {
+            shapes.put(shape, 1);
+        }
+    }
+
+    void recordDbTime(long nanos) {
+        dbNanos += nanos;
+    }
+
+    void recordRedis(long nanos) {
+        redisCommands++;
+        redisNanos += nanos;
+    }
+
+    void recordMongo(long nanos) {
+        mongoCommands++;
+        mongoNanos += nanos;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getDbNanos() {
+        return dbNanos;
+    }
+
+    public int getRedisCommands() {
+        return redisCommands;
+    }
+
+    public long getRedisNanos() {
+        return redisNanos;
+    }
+
+    public int getMongoCommands() {
+        return mongoCommands;
+    }
+
+    public long getMongoNanos() {
+        return mongoNanos;
+    }
+
+    /**
+     * Statement shape executed most often in this request, or null if none
+     */
+    public Map.Entry<String, Integer> getMostRepeated() {
+        Map.Entry<String, Integer> worst = null;
+        for (Map.Entry<String, Integer> entry : shapes.entrySet()) {
+            if (worst == null || entry.getValue() > worst.getValue()) {
+                worst = entry;
+            }
+        }
+        return worst != null ? Map.entry(worst.getKey(), worst.getValue()) : null;
+    }
+}
@@ -0,0 +1,50 @@
+package com.hafizbahtiar.spring.features.admin.querystats;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Locale;
+
+/**
+ * Adds a Server-Timing header with the request's DB, Redis and MongoDB time
+ * to controller responses, e.g.
+ * {@code db;dur=12.4;desc="7 statements", redis;dur=0.8, mongo;dur=2.1}.
+ * Browser dev tools show it in the network timing panel.
+ *
+ * The header is added just before the body is written, so it covers all
+ * work done by the controller. Off by default since it reveals backend
+ * timings to clients (admin.query-stats.server-timing.enabled).
+ */
+@RestControllerAdvice
+public class ServerTimingAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String HEADER = "Server-Timing";
+
+    @Value("${admin.query-stats.server-timing.enabled:false}")
+    private boolean enabled;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return enabled;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+            ServerHttpResponse response) {
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats != null) {
+            response.getHeaders().add(HEADER, String.format(Locale.ROOT,
+                    "db;dur=%.1f;desc=\"%d statements\", redis;dur=%.1f, mongo;dur=%.1f",
+                    stats.getDbNanos() / 1_000_000.0, stats.getStatements(),
+                    stats.getRedisNanos() / 1_000_000.0, stats.getMongoNanos() / 1_000_000.0));
+        }
+        return body;
+    }
+}
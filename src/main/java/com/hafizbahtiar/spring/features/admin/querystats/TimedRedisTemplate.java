@@ -0,0 +1,28 @@
+package com.hafizbahtiar.spring.features.admin.querystats;
+
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+/**
+ * RedisTemplate that adds the time of every command (or pipeline) executed on
+ * a request thread to the request's Redis time.
+ *
+ * @param <K> Key type
+ * @param <V> Value type
+ */
+public class TimedRedisTemplate<K, V> extends RedisTemplate<K, V> {
+
+    @Override
+    public <T> T execute(RedisCallback<T> action, boolean exposeConnection, boolean pipeline) {
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats == null) {
+            return super.execute(action, exposeConnection, pipeline);
+        }
+        long start = System.nanoTime();
+        try {
+            return super.execute(action, exposeConnection, pipeline);
+        } finally {
+            stats.recordRedis(System.nanoTime() - start);
+        }
+    }
+}
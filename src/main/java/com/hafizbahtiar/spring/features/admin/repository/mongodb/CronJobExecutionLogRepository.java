@@ -31,6 +31,13 @@ public interface CronJobExecutionLogRepository extends MongoRepository<CronJobEx
      */
     CronJobExecutionLog findFirstByJobNameOrderByExecutedAtDesc(String jobName);
 
+    /**
+     * Find the most recent execution synced from pg_cron.
+     *
+     * @return Execution with the highest pg_cron run ID, or null if none exists
+     */
+    CronJobExecutionLog findFirstByRunIdNotNullOrderByRunIdDesc();
+
     /**
      * Count executions for a specific job.
      *
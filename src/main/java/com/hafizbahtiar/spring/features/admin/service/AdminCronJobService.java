@@ -33,4 +33,11 @@ public interface AdminCronJobService {
      * @return CronJobHistoryResponse with execution history
      */
     CronJobHistoryResponse getCronJobHistory(String jobName, Integer limit);
+
+    /**
+     * Rebuild the execution statistics of all cron jobs from the execution logs.
+     *
+     * @return Number of jobs with statistics
+     */
+    int rebuildStats();
 }
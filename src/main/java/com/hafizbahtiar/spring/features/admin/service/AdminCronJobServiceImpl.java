@@ -4,9 +4,11 @@ import com.hafizbahtiar.spring.features.admin.dto.CronJobExecution;
 import com.hafizbahtiar.spring.features.admin.dto.CronJobHistoryResponse;
 import com.hafizbahtiar.spring.features.admin.dto.CronJobStatus;
 import com.hafizbahtiar.spring.features.admin.model.CronJobExecutionLog;
+import com.hafizbahtiar.spring.features.admin.model.CronJobExecutionStats;
 import com.hafizbahtiar.spring.features.admin.repository.mongodb.CronJobExecutionLogRepository;
 import com.hafizbahtiar.spring.features.cronjob.entity.CronJob;
 import com.hafizbahtiar.spring.features.cronjob.repository.CronJobRepository;
+import com.hafizbahtiar.spring.features.cronjob.scheduler.JobConcurrencyManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
@@ -16,11 +18,14 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
  * Implementation of AdminCronJobService for cron job management.
- * Reads from CronJob entity and MongoDB execution logs.
+ * Reads from CronJob entity and the rolled-up execution statistics (one read
+ * for the whole list); history comes from the MongoDB execution logs, running
+ * and queued counts from this node's JobConcurrencyManager.
  */
 @Service
 @RequiredArgsConstructor
@@ -29,17 +34,20 @@ public class AdminCronJobServiceImpl implements AdminCronJobService {
 
         private final CronJobExecutionLogRepository cronJobExecutionLogRepository;
         private final CronJobRepository cronJobRepository;
+        private final JobConcurrencyManager jobConcurrencyManager;
+        private final CronJobStatsService cronJobStatsService;
 
         @Override
         public List<CronJobStatus> getAllCronJobStatuses() {
                 log.debug("Getting all cron job statuses");
 
-                // Get all cron jobs from database
+                // Get all cron jobs from database and their statistics in one read
                 List<CronJob> cronJobs = cronJobRepository.findAll();
+                Map<String, CronJobExecutionStats> stats = cronJobStatsService.getAllStats();
 
                 // Convert to CronJobStatus DTOs
                 return cronJobs.stream()
-                                .map(this::toCronJobStatus)
+                                .map(cronJob -> toCronJobStatus(cronJob, stats.get(cronJob.getName())))
                                 .collect(Collectors.toList());
         }
 
@@ -52,27 +60,24 @@ public class AdminCronJobServiceImpl implements AdminCronJobService {
                                 .orElse(null);
 
                 if (cronJob == null) {
-                        // If job not found in database, return status based on execution logs only
+                        // If job not found in database, return status based on execution statistics only
                         // (for backward compatibility with jobs that might not be in the database yet)
-                        return getCronJobStatusFromLogs(jobName);
+                        return getCronJobStatusFromStats(jobName);
                 }
 
-                return toCronJobStatus(cronJob);
+                return toCronJobStatus(cronJob, cronJobStatsService.getStats(cronJob.getName()));
+        }
+
+        @Override
+        public int rebuildStats() {
+                log.debug("Rebuilding cron job execution statistics");
+                return cronJobStatsService.rebuild();
         }
 
         /**
          * Convert CronJob entity to CronJobStatus DTO
          */
-        private CronJobStatus toCronJobStatus(CronJob cronJob) {
-                // Get latest execution from MongoDB
-                CronJobExecutionLog latestExecution = cronJobExecutionLogRepository
-                                .findFirstByJobNameOrderByExecutedAtDesc(cronJob.getName());
-
-                // Get execution counts
-                long totalCount = cronJobExecutionLogRepository.countByJobName(cronJob.getName());
-                long successCount = cronJobExecutionLogRepository.countByJobNameAndSuccess(cronJob.getName(), true);
-                long failureCount = cronJobExecutionLogRepository.countByJobNameAndSuccess(cronJob.getName(), false);
-
+        private CronJobStatus toCronJobStatus(CronJob cronJob, CronJobExecutionStats stats) {
                 // Calculate next execution time
                 LocalDateTime nextExecution = null;
                 try {
@@ -85,52 +90,63 @@ public class AdminCronJobServiceImpl implements AdminCronJobService {
                 // Build status response
                 CronJobStatus.CronJobStatusBuilder builder = CronJobStatus.builder()
                                 .name(cronJob.getName())
+                                .jobType(cronJob.getJobType() != null ? cronJob.getJobType().name() : null)
                                 .cronExpression(cronJob.getCronExpression())
                                 .enabled(cronJob.isEnabled())
-                                .executionCount(totalCount)
-                                .successCount(successCount)
-                                .failureCount(failureCount)
-                                .nextExecution(nextExecution);
-
-                if (latestExecution != null) {
-                        builder.lastExecution(latestExecution.getExecutedAt())
-                                        .lastDuration(latestExecution.getDuration())
-                                        .lastError(latestExecution.getError());
-                }
-
-                return builder.build();
+                                .nextExecution(nextExecution)
+                                .runningCount(jobConcurrencyManager.getRunning(cronJob.getName()))
+                                .queuedCount(jobConcurrencyManager.getQueued(cronJob.getName()))
+                                .maxConcurrentRuns(cronJob.getEffectiveMaxConcurrentRuns())
+                                .overlapPolicy(cronJob.getEffectiveOverlapPolicy().name())
+                                .misfirePolicy(cronJob.getEffectiveMisfirePolicy().name())
+                                .timeoutSeconds(cronJob.getTimeoutSeconds());
+
+                return withStats(builder, stats).build();
         }
 
         /**
-         * Get cron job status from execution logs only (for backward compatibility)
+         * Get cron job status from execution statistics only (for backward compatibility)
          * Used when job is not found in the database
          */
-        private CronJobStatus getCronJobStatusFromLogs(String jobName) {
-                // Get latest execution from MongoDB
-                CronJobExecutionLog latestExecution = cronJobExecutionLogRepository
-                                .findFirstByJobNameOrderByExecutedAtDesc(jobName);
-
-                // Get execution counts
-                long totalCount = cronJobExecutionLogRepository.countByJobName(jobName);
-                long successCount = cronJobExecutionLogRepository.countByJobNameAndSuccess(jobName, true);
-                long failureCount = cronJobExecutionLogRepository.countByJobNameAndSuccess(jobName, false);
-
+        private CronJobStatus getCronJobStatusFromStats(String jobName) {
                 // Build status response (without cron expression and enabled status)
                 CronJobStatus.CronJobStatusBuilder builder = CronJobStatus.builder()
                                 .name(jobName)
                                 .cronExpression("") // Not available from logs
-                                .enabled(false) // Unknown status
-                                .executionCount(totalCount)
-                                .successCount(successCount)
-                                .failureCount(failureCount);
-
-                if (latestExecution != null) {
-                        builder.lastExecution(latestExecution.getExecutedAt())
-                                        .lastDuration(latestExecution.getDuration())
-                                        .lastError(latestExecution.getError());
+                                .enabled(false); // Unknown status
+
+                return withStats(builder, cronJobStatsService.getStats(jobName)).build();
+        }
+
+        /**
+         * Add execution statistics to a status; jobs that never ran get zero counts
+         */
+        private CronJobStatus.CronJobStatusBuilder withStats(CronJobStatus.CronJobStatusBuilder builder,
+                        CronJobExecutionStats stats) {
+                if (stats == null) {
+                        return builder.executionCount(0L)
+                                        .successCount(0L)
+                                        .failureCount(0L);
                 }
 
-                return builder.build();
+                return builder.executionCount(valueOf(stats.getExecutionCount()))
+                                .successCount(valueOf(stats.getSuccessCount()))
+                                .failureCount(valueOf(stats.getFailureCount()))
+                                .lastExecution(stats.getLastExecution())
+                                .lastSuccess(stats.getLastSuccess())
+                                .lastDuration(stats.getLastDuration())
+                                .lastError(stats.getLastError())
+                                .averageDuration(stats.averageDuration())
+                                .maxDuration(stats.getMaxDuration())
+                                .durationP50(stats.durationPercentile(50))
+                                .durationP95(stats.durationPercentile(95))
+                                .durationP99(stats.durationPercentile(99))
+                                .lastRowCount(stats.getLastRowCount())
+                                .totalRowCount(stats.getTotalRowCount());
+        }
+
+        private long valueOf(Long count) {
+                return count != null ? count : 0L;
         }
 
         @Override
@@ -0,0 +1,29 @@
+package com.hafizbahtiar.spring.features.admin.service;
+
+import com.hafizbahtiar.spring.features.admin.dto.ExecutorMetrics;
+import com.hafizbahtiar.spring.features.admin.dto.ExecutorMetricsResponse;
+
+/**
+ * Service interface for executor observability and tuning.
+ */
+public interface AdminExecutorService {
+
+    /**
+     * Get the state and task statistics of all registered executors.
+     *
+     * @param windowMinutes Window of the wait and run time statistics (1-15)
+     * @return ExecutorMetricsResponse
+     */
+    ExecutorMetricsResponse getExecutorMetrics(int windowMinutes);
+
+    /**
+     * Change the core and/or max pool size of an executor within its
+     * configured limit.
+     *
+     * @param name         Executor name
+     * @param corePoolSize New core size (null to keep)
+     * @param maxPoolSize  New max size (null to keep)
+     * @return Executor metrics after the change
+     */
+    ExecutorMetrics resizeExecutor(String name, Integer corePoolSize, Integer maxPoolSize);
+}
@@ -0,0 +1,126 @@
+package com.hafizbahtiar.spring.features.admin.service;
+
+import com.hafizbahtiar.spring.features.admin.dto.ExecutorMetrics;
+import com.hafizbahtiar.spring.features.admin.dto.ExecutorMetricsResponse;
+import com.hafizbahtiar.spring.features.admin.dto.LatencyMetrics;
+import com.hafizbahtiar.spring.features.admin.metrics.ExecutorRegistry;
+import com.hafizbahtiar.spring.features.admin.metrics.LatencyHistogram;
+import com.hafizbahtiar.spring.features.admin.metrics.MonitoredExecutor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Implementation of AdminExecutorService on the ExecutorRegistry.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AdminExecutorServiceImpl implements AdminExecutorService {
+
+    private final ExecutorRegistry executorRegistry;
+
+    @Override
+    public ExecutorMetricsResponse getExecutorMetrics(int windowMinutes) {
+        log.debug("Getting executor metrics for {} minute window", windowMinutes);
+
+        long now = System.currentTimeMillis();
+        List<ExecutorMetrics> executors = new ArrayList<>();
+        for (MonitoredExecutor executor : executorRegistry.getExecutors()) {
+            executors.add(toExecutorMetrics(executor, windowMinutes, now));
+        }
+        executorRegistry.getThreadGroups().forEach((name, threads) -> executors.add(ExecutorMetrics.builder()
+                .name(name)
+                .type("thread-group")
+                .poolSize(threads.size())
+                .resizable(false)
+                .threadStates(threadStates(threads))
+                .build()));
+
+        return ExecutorMetricsResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .windowMinutes(windowMinutes)
+                .executors(executors)
+                .build();
+    }
+
+    @Override
+    public ExecutorMetrics resizeExecutor(String name, Integer corePoolSize, Integer maxPoolSize) {
+        MonitoredExecutor executor = executorRegistry.find(name);
+        if (executor == null) {
+            throw new IllegalArgumentException("Unknown executor: " + name);
+        }
+        if (corePoolSize == null && maxPoolSize == null) {
+            throw new IllegalArgumentException("Core or max pool size is required");
+        }
+
+        executor.resize(corePoolSize, maxPoolSize);
+        log.info("Resized executor {} (core: {}, max: {})", name, corePoolSize, maxPoolSize);
+        return toExecutorMetrics(executor, 1, System.currentTimeMillis());
+    }
+
+    private ExecutorMetrics toExecutorMetrics(MonitoredExecutor executor, int windowMinutes, long now) {
+        LatencyHistogram.Snapshot runTimes = new LatencyHistogram.Snapshot();
+        executor.addRunTimes(windowMinutes, now, runTimes);
+        LatencyHistogram.Snapshot waitTimes = null;
+        if (executor.isTracksWait()) {
+            waitTimes = new LatencyHistogram.Snapshot();
+            executor.addWaitTimes(windowMinutes, now, waitTimes);
+        }
+
+        ExecutorMetrics.ExecutorMetricsBuilder metrics = ExecutorMetrics.builder()
+                .name(executor.getName())
+                .maxPoolSizeLimit(executor.getMaxPoolSizeLimit())
+                .rejectedTasks(executor.getRejectedCount())
+                .waitTime(waitTimes != null ? toLatencyMetrics(waitTimes) : null)
+                .runTime(toLatencyMetrics(runTimes));
+
+        ThreadPoolExecutor pool = executor.getPool();
+        if (pool == null) {
+            return metrics.resizable(false).build();
+        }
+        return metrics
+                .type(pool instanceof ScheduledThreadPoolExecutor ? "scheduled-pool" : "thread-pool")
+                .corePoolSize(pool.getCorePoolSize())
+                .maxPoolSize(pool.getMaximumPoolSize())
+                .poolSize(pool.getPoolSize())
+                .activeThreads(pool.getActiveCount())
+                .largestPoolSize(pool.getLargestPoolSize())
+                .queueDepth(pool.getQueue().size())
+                .queueRemainingCapacity(pool.getQueue().remainingCapacity())
+                .submittedTasks(pool.getTaskCount())
+                .completedTasks(pool.getCompletedTaskCount())
+                .resizable(true)
+                .coreSizeOnly(MonitoredExecutor.isCoreSizeOnly(pool))
+                .build();
+    }
+
+    private Map<String, Integer> threadStates(List<Thread> threads) {
+        Map<String, Integer> states = new TreeMap<>();
+        for (Thread thread : threads) {
+            states.merge(thread.getState().name(), 1, Integer::sum);
+        }
+        return states;
+    }
+
+    private LatencyMetrics toLatencyMetrics(LatencyHistogram.Snapshot snapshot) {
+        return LatencyMetrics.builder()
+                .count(snapshot.getTotalCount())
+                .mean(snapshot.getMeanMicros() / 1000.0)
+                .p50(snapshot.getValueAtPercentile(50.0) / 1000.0)
+                .p90(snapshot.getValueAtPercentile(90.0) / 1000.0)
+                .p95(snapshot.getValueAtPercentile(95.0) / 1000.0)
+                .p99(snapshot.getValueAtPercentile(99.0) / 1000.0)
+                .p999(snapshot.getValueAtPercentile(99.9) / 1000.0)
+                .max(snapshot.getMaxMicros() / 1000.0)
+                .build();
+    }
+}
@@ -5,6 +5,7 @@ import com.hafizbahtiar.spring.features.admin.dto.MongoDBHealth;
 import com.hafizbahtiar.spring.features.admin.dto.PostgreSQLHealth;
 import com.hafizbahtiar.spring.features.admin.dto.RedisHealth;
 import com.hafizbahtiar.spring.features.admin.dto.SystemHealth;
+import com.hafizbahtiar.spring.features.admin.metrics.DependencyProbeSampler;
 import com.zaxxer.hikari.HikariDataSource;
 import com.zaxxer.hikari.HikariPoolMXBean;
 import lombok.RequiredArgsConstructor;
@@ -15,27 +16,42 @@ import org.springframework.stereotype.Service;
 
 import javax.sql.DataSource;
 import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Implementation of AdminHealthService for checking system health.
+ * Dependency checks run through {@link DependencyProbeSampler}: in parallel,
+ * time-budgeted and cached briefly.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AdminHealthServiceImpl implements AdminHealthService {
 
+    private static final String PROBE_POSTGRESQL = "health.postgresql";
+    private static final String PROBE_REDIS = "health.redis";
+    private static final String PROBE_MONGODB = "health.mongodb";
+
     private final DataSource dataSource;
     private final MongoTemplate mongoTemplate;
     private final RedisConnectionFactory redisConnectionFactory;
+    private final DependencyProbeSampler dependencyProbes;
 
     @Override
     public HealthCheckResponse getSystemHealth() {
         log.debug("Getting system health status");
 
+        // Start all probes first so they run in parallel
+        CompletableFuture<PostgreSQLHealth> postgresqlProbe = dependencyProbes.probe(PROBE_POSTGRESQL,
+                this::checkPostgreSQL);
+        CompletableFuture<RedisHealth> redisProbe = dependencyProbes.probe(PROBE_REDIS, this::checkRedis);
+        CompletableFuture<MongoDBHealth> mongodbProbe = dependencyProbes.probe(PROBE_MONGODB, this::checkMongoDB);
+
         SystemHealth apiHealth = getApiHealth();
-        PostgreSQLHealth postgresqlHealth = getPostgreSQLHealth();
-        RedisHealth redisHealth = getRedisHealth();
-        MongoDBHealth mongodbHealth = getMongoDBHealth();
+        PostgreSQLHealth postgresqlHealth = dependencyProbes.await(PROBE_POSTGRESQL, postgresqlProbe,
+                this::postgreSQLFailure);
+        RedisHealth redisHealth = dependencyProbes.await(PROBE_REDIS, redisProbe, this::redisFailure);
+        MongoDBHealth mongodbHealth = dependencyProbes.await(PROBE_MONGODB, mongodbProbe, this::mongoDBFailure);
 
         return HealthCheckResponse.builder()
                 .api(apiHealth)
@@ -47,6 +63,20 @@ public class AdminHealthServiceImpl implements AdminHealthService {
 
     @Override
     public PostgreSQLHealth getPostgreSQLHealth() {
+        return dependencyProbes.sample(PROBE_POSTGRESQL, this::checkPostgreSQL, this::postgreSQLFailure);
+    }
+
+    @Override
+    public RedisHealth getRedisHealth() {
+        return dependencyProbes.sample(PROBE_REDIS, this::checkRedis, this::redisFailure);
+    }
+
+    @Override
+    public MongoDBHealth getMongoDBHealth() {
+        return dependencyProbes.sample(PROBE_MONGODB, this::checkMongoDB, this::mongoDBFailure);
+    }
+
+    private PostgreSQLHealth checkPostgreSQL() {
         log.debug("Checking PostgreSQL health");
 
         try {
@@ -107,17 +137,11 @@ public class AdminHealthServiceImpl implements AdminHealthService {
             }
         } catch (Exception e) {
             log.error("Error checking PostgreSQL health: {}", e.getMessage(), e);
-            return PostgreSQLHealth.builder()
-                    .status("error")
-                    .message("PostgreSQL health check failed: " + e.getMessage())
-                    .timestamp(LocalDateTime.now())
-                    .connected(false)
-                    .build();
+            return postgreSQLFailure(e);
         }
     }
 
-    @Override
-    public RedisHealth getRedisHealth() {
+    private RedisHealth checkRedis() {
         log.debug("Checking Redis health");
 
         try {
@@ -159,18 +183,11 @@ public class AdminHealthServiceImpl implements AdminHealthService {
             }
         } catch (Exception e) {
             log.error("Error checking Redis health: {}", e.getMessage(), e);
-            return RedisHealth.builder()
-                    .status("error")
-                    .message("Redis health check failed: " + e.getMessage())
-                    .timestamp(LocalDateTime.now())
-                    .connected(false)
-                    .healthy(false)
-                    .build();
+            return redisFailure(e);
         }
     }
 
-    @Override
-    public MongoDBHealth getMongoDBHealth() {
+    private MongoDBHealth checkMongoDB() {
         log.debug("Checking MongoDB health");
 
         try {
@@ -187,15 +204,38 @@ public class AdminHealthServiceImpl implements AdminHealthService {
                     .build();
         } catch (Exception e) {
             log.error("Error checking MongoDB health: {}", e.getMessage(), e);
-            return MongoDBHealth.builder()
-                    .status("error")
-                    .message("MongoDB health check failed: " + e.getMessage())
-                    .timestamp(LocalDateTime.now())
-                    .connected(false)
-                    .build();
+            return mongoDBFailure(e);
         }
     }
 
+    private PostgreSQLHealth postgreSQLFailure(Exception e) {
+        return PostgreSQLHealth.builder()
+                .status("error")
+                .message("PostgreSQL health check failed: " + e.getMessage())
+                .timestamp(LocalDateTime.now())
+                .connected(false)
+                .build();
+    }
+
+    private RedisHealth redisFailure(Exception e) {
+        return RedisHealth.builder()
+                .status("error")
+                .message("Redis health check failed: " + e.getMessage())
+                .timestamp(LocalDateTime.now())
+                .connected(false)
+                .healthy(false)
+                .build();
+    }
+
+    private MongoDBHealth mongoDBFailure(Exception e) {
+        return MongoDBHealth.builder()
+                .status("error")
+                .message("MongoDB health check failed: " + e.getMessage())
+                .timestamp(LocalDateTime.now())
+                .connected(false)
+                .build();
+    }
+
     /**
      * Get API health status.
      * This is a simple check that the API is responding.
@@ -0,0 +1,21 @@
+package com.hafizbahtiar.spring.features.admin.service;
+
+import com.hafizbahtiar.spring.features.admin.dto.MetricsHistoryResponse;
+
+import java.util.List;
+
+/**
+ * Service interface for the in-memory system metrics history.
+ */
+public interface AdminMetricsHistoryService {
+
+    /**
+     * Get the recorded history of system metrics over a range, at the finest
+     * resolution that covers it.
+     *
+     * @param rangeSeconds Range length in seconds, ending now
+     * @param series       Series names to include (all if null or empty)
+     * @return MetricsHistoryResponse with timestamps and per-series values
+     */
+    MetricsHistoryResponse getHistory(long rangeSeconds, List<String> series);
+}
@@ -0,0 +1,168 @@
+package com.hafizbahtiar.spring.features.admin.service;
+
+import com.hafizbahtiar.spring.features.admin.dto.DatabasePoolMetrics;
+import com.hafizbahtiar.spring.features.admin.dto.JvmMetrics;
+import com.hafizbahtiar.spring.features.admin.dto.MetricsHistoryResponse;
+import com.hafizbahtiar.spring.features.admin.dto.MongoMetrics;
+import com.hafizbahtiar.spring.features.admin.dto.RedisMetrics;
+import com.hafizbahtiar.spring.features.admin.metrics.MetricsHistory;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Implementation of AdminMetricsHistoryService.
+ *
+ * Samples CPU, heap, the Hikari pool, Redis memory and MongoDB connections
+ * every second into a {@link MetricsHistory} with three tiers: 1 s for 10
+ * minutes, 10 s for 6 hours and 1 min for 7 days (~1.3 MB in total).
+ * Redis and MongoDB values come from the shared dependency probes without
+ * waiting, so a slow dependency never delays sampling; while a probe is in
+ * flight its last value is repeated.
+ */
+@Service
+@Slf4j
+public class AdminMetricsHistoryServiceImpl implements AdminMetricsHistoryService {
+
+    public static final String SERIES_CPU = "cpu";
+    public static final String SERIES_HEAP = "heap";
+    public static final String SERIES_DB_POOL_ACTIVE = "db.pool.active";
+    public static final String SERIES_DB_POOL_AWAITING = "db.pool.awaiting";
+    public static final String SERIES_REDIS_MEMORY = "redis.memory";
+    public static final String SERIES_MONGODB_CONNECTIONS = "mongodb.connections";
+
+    private static final List<String> SERIES = List.of(SERIES_CPU, SERIES_HEAP, SERIES_DB_POOL_ACTIVE,
+            SERIES_DB_POOL_AWAITING, SERIES_REDIS_MEMORY, SERIES_MONGODB_CONNECTIONS);
+
+    /**
+     * {resolutionSeconds, capacity}: 10 minutes at 1 s, 6 hours at 10 s, 7 days at 1 min
+     */
+    private static final int[][] TIERS = { { 1, 600 }, { 10, 2160 }, { 60, 10080 } };
+
+    private final AdminMetricsService adminMetricsService;
+    private final MetricsHistory history = new MetricsHistory(SERIES, TIERS);
+
+    private double lastRedisMemory = Double.NaN;
+    private double lastMongoConnections = Double.NaN;
+
+    @Value("${admin.metrics.history.enabled:true}")
+    private boolean enabled;
+
+    public AdminMetricsHistoryServiceImpl(AdminMetricsService adminMetricsService) {
+        this.adminMetricsService = adminMetricsService;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (enabled) {
+            log.info("Metrics history enabled: {} series, {} slots", SERIES.size(), history.getSlotCount());
+        }
+    }
+
+    /**
+     * Record one sample of every series.
+     */
+    @Scheduled(fixedRate = 1000)
+    public void sample() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            double[] values = new double[SERIES.size()];
+
+            JvmMetrics jvm = adminMetricsService.getJvmMetrics();
+            values[0] = valueOf(jvm.getProcessCpu());
+            values[1] = valueOf(jvm.getHeap().getPercentage());
+
+            DatabasePoolMetrics pool = adminMetricsService.getDatabasePoolMetrics();
+            values[2] = pool != null ? valueOf(pool.getActive()) : Double.NaN;
+            values[3] = pool != null ? valueOf(pool.getAwaiting()) : Double.NaN;
+
+            RedisMetrics redis = completed(adminMetricsService.probeRedisMetrics());
+            if (redis != null) {
+                lastRedisMemory = Boolean.TRUE.equals(redis.getConnected()) && redis.getMemory() != null
+                        ? valueOf(redis.getMemory().getUsed())
+                        : Double.NaN;
+            }
+            values[4] = lastRedisMemory;
+
+            MongoMetrics mongodb = completed(adminMetricsService.probeMongoMetrics());
+            if (mongodb != null) {
+                lastMongoConnections = Boolean.TRUE.equals(mongodb.getConnected())
+                        && mongodb.getConnectionPool() != null
+                        ? valueOf(mongodb.getConnectionPool().getCurrent())
+                        : Double.NaN;
+            }
+            values[5] = lastMongoConnections;
+
+            history.record(System.currentTimeMillis() / 1000L, values);
+        } catch (Exception e) {
+            log.debug("Error sampling metrics history: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public MetricsHistoryResponse getHistory(long rangeSeconds, List<String> series) {
+        log.debug("Getting metrics history for last {} seconds", rangeSeconds);
+
+        int resolution = history.resolutionFor(rangeSeconds);
+        long from = System.currentTimeMillis() / 1000L - rangeSeconds;
+        MetricsHistory.Range range = history.query(resolution, from);
+
+        List<Long> timestamps = new ArrayList<>(range.times().length);
+        for (long time : range.times()) {
+            timestamps.add(time * 1000L);
+        }
+
+        Map<String, MetricsHistoryResponse.SeriesHistory> values = new LinkedHashMap<>();
+        for (int i = 0; i < SERIES.size(); i++) {
+            String name = SERIES.get(i);
+            if (series != null && !series.isEmpty() && !series.contains(name)) {
+                continue;
+            }
+            values.put(name, MetricsHistoryResponse.SeriesHistory.builder()
+                    .average(toList(range.averages()[i]))
+                    .max(toList(range.maxima()[i]))
+                    .build());
+        }
+
+        return MetricsHistoryResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .resolutionSeconds(resolution)
+                .timestamps(timestamps)
+                .series(values)
+                .build();
+    }
+
+    /**
+     * Result of a probe if it has completed, without waiting
+     */
+    private <T> T completed(CompletableFuture<T> probe) {
+        if (probe.isDone() && !probe.isCompletedExceptionally()) {
+            return probe.getNow(null);
+        }
+        return null;
+    }
+
+    private double valueOf(Number value) {
+        return value != null ? value.doubleValue() : Double.NaN;
+    }
+
+    private List<Double> toList(double[] values) {
+        List<Double> list = new ArrayList<>(values.length);
+        for (double value : values) {
+            list.add(Double.isNaN(value) ? null : value);
+        }
+        return list;
+    }
+}
@@ -1,7 +1,18 @@
 package com.hafizbahtiar.spring.features.admin.service;
 
+import com.hafizbahtiar.spring.features.admin.dto.ApiMetrics;
+import com.hafizbahtiar.spring.features.admin.dto.DatabasePoolMetrics;
+import com.hafizbahtiar.spring.features.admin.dto.JvmMetrics;
+import com.hafizbahtiar.spring.features.admin.dto.LatencyMetricsResponse;
+import com.hafizbahtiar.spring.features.admin.dto.MongoMetrics;
+import com.hafizbahtiar.spring.features.admin.dto.QueryMetricsResponse;
+import com.hafizbahtiar.spring.features.admin.dto.RateMetrics;
+import com.hafizbahtiar.spring.features.admin.dto.RateMetricsResponse;
+import com.hafizbahtiar.spring.features.admin.dto.RedisMetrics;
 import com.hafizbahtiar.spring.features.admin.dto.SystemMetricsResponse;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Service interface for admin metrics.
  */
@@ -14,4 +25,89 @@ public interface AdminMetricsService {
      * @return SystemMetricsResponse containing all system metrics
      */
     SystemMetricsResponse getSystemMetrics();
+
+    /**
+     * Get Redis metrics.
+     *
+     * @return RedisMetrics with connection status, memory, connections, commands,
+     *         and keyspace info
+     */
+    RedisMetrics getRedisMetrics();
+
+    /**
+     * Get MongoDB metrics.
+     *
+     * @return MongoMetrics with connection pool and database information
+     */
+    MongoMetrics getMongoMetrics();
+
+    /**
+     * Start (or join) a Redis metrics probe without waiting for it.
+     * Completes immediately if a recent result is cached.
+     *
+     * @return Future of the RedisMetrics
+     */
+    CompletableFuture<RedisMetrics> probeRedisMetrics();
+
+    /**
+     * Start (or join) a MongoDB metrics probe without waiting for it.
+     * Completes immediately if a recent result is cached.
+     *
+     * @return Future of the MongoMetrics
+     */
+    CompletableFuture<MongoMetrics> probeMongoMetrics();
+
+    /**
+     * Get API metrics.
+     *
+     * @return ApiMetrics with request counts, response times, rates and error rates
+     */
+    ApiMetrics getApiMetrics();
+
+    /**
+     * Get JVM memory, thread, GC and CPU metrics.
+     *
+     * @return JvmMetrics for this process
+     */
+    JvmMetrics getJvmMetrics();
+
+    /**
+     * Get PostgreSQL connection pool metrics.
+     *
+     * @return DatabasePoolMetrics, or null if the DataSource is not a HikariCP pool
+     */
+    DatabasePoolMetrics getDatabasePoolMetrics();
+
+    /**
+     * Get per-endpoint latency percentiles over a sliding window.
+     *
+     * @param windowMinutes Window length in minutes (1, 5 or 15)
+     * @return LatencyMetricsResponse with overall and per-endpoint percentiles
+     */
+    LatencyMetricsResponse getLatencyMetrics(int windowMinutes);
+
+    /**
+     * Get current request rates, error rates and saturation, overall and per
+     * endpoint.
+     *
+     * @return RateMetricsResponse with overall and per-endpoint rates
+     */
+    RateMetricsResponse getRateMetrics();
+
+    /**
+     * Get per-endpoint statement counts, DB/Redis/MongoDB time and the worst
+     * repeated statement (N+1 candidates).
+     *
+     * @param limit Maximum number of endpoints
+     * @return QueryMetricsResponse with the worst offenders first
+     */
+    QueryMetricsResponse getQueryMetrics(int limit);
+
+    /**
+     * Get current overall request rates only.
+     * Cheap enough to be polled every few seconds.
+     *
+     * @return Overall RateMetrics
+     */
+    RateMetrics getOverallRateMetrics();
 }
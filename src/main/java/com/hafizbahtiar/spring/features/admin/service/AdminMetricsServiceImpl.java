@@ -1,23 +1,48 @@
 package com.hafizbahtiar.spring.features.admin.service;
 
+import com.hafizbahtiar.spring.common.queue.JobQueueService;
 import com.hafizbahtiar.spring.features.admin.dto.ApiMetrics;
+import com.hafizbahtiar.spring.features.admin.dto.DatabasePoolMetrics;
+import com.hafizbahtiar.spring.features.admin.dto.JvmMetrics;
+import com.hafizbahtiar.spring.features.admin.dto.LatencyMetrics;
+import com.hafizbahtiar.spring.features.admin.dto.LatencyMetricsResponse;
 import com.hafizbahtiar.spring.features.admin.dto.MongoMetrics;
+import com.hafizbahtiar.spring.features.admin.dto.QueryMetrics;
+import com.hafizbahtiar.spring.features.admin.dto.QueryMetricsResponse;
 import com.hafizbahtiar.spring.features.admin.dto.QueueMetrics;
+import com.hafizbahtiar.spring.features.admin.dto.RateMetrics;
+import com.hafizbahtiar.spring.features.admin.dto.RateMetricsResponse;
 import com.hafizbahtiar.spring.features.admin.dto.RedisMetrics;
 import com.hafizbahtiar.spring.features.admin.dto.SystemMetricsResponse;
+import com.hafizbahtiar.spring.features.admin.metrics.DependencyProbeSampler;
+import com.hafizbahtiar.spring.features.admin.metrics.EndpointLatencyRegistry;
+import com.hafizbahtiar.spring.features.admin.metrics.LatencyHistogram;
+import com.hafizbahtiar.spring.features.admin.metrics.RequestRateRegistry;
+import com.hafizbahtiar.spring.features.admin.metrics.RequestRateTracker;
+import com.hafizbahtiar.spring.features.admin.querystats.EndpointQueryStatsRegistry;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
 import io.micrometer.core.instrument.MeterRegistry;
-import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.stereotype.Service;
 
+import javax.sql.DataSource;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.management.ThreadMXBean;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Implementation of AdminMetricsService for collecting system metrics.
@@ -27,18 +52,48 @@ import java.util.Properties;
 @Slf4j
 public class AdminMetricsServiceImpl implements AdminMetricsService {
 
+    /**
+     * Window used for the response time summary in the system metrics
+     */
+    private static final int SUMMARY_WINDOW_MINUTES = 5;
+
+    /**
+     * Seconds averaged for the current request rate
+     */
+    private static final int RATE_WINDOW_SECONDS = 10;
+
+    /**
+     * Seconds scanned for peak rate, error rate and saturation
+     */
+    private static final int PEAK_WINDOW_SECONDS = 60;
+
+    private static final String PROBE_REDIS = "metrics.redis";
+    private static final String PROBE_MONGODB = "metrics.mongodb";
+
     private final MeterRegistry meterRegistry;
     private final MongoTemplate mongoTemplate;
     private final RedisConnectionFactory redisConnectionFactory;
+    private final DataSource dataSource;
+    private final EndpointLatencyRegistry endpointLatencyRegistry;
+    private final RequestRateRegistry requestRateRegistry;
+    private final DependencyProbeSampler dependencyProbes;
+    private final JobQueueService jobQueueService;
+    private final EndpointQueryStatsRegistry endpointQueryStatsRegistry;
 
     @Override
     public SystemMetricsResponse getSystemMetrics() {
         log.debug("Getting system metrics");
 
+        // Start the dependency probes first so they run in parallel with the local metrics
+        CompletableFuture<RedisMetrics> redisProbe = probeRedisMetrics();
+        CompletableFuture<MongoMetrics> mongodbProbe = probeMongoMetrics();
+
         List<QueueMetrics> queues = getQueueMetrics();
-        RedisMetrics redis = getRedisMetrics();
-        MongoMetrics mongodb = getMongoMetrics();
         ApiMetrics api = getApiMetrics();
+        JvmMetrics jvm = getJvmMetrics();
+        DatabasePoolMetrics databasePool = getDatabasePoolMetrics();
+        RedisMetrics redis = dependencyProbes.await(PROBE_REDIS, redisProbe, e -> emptyRedisMetrics());
+        MongoMetrics mongodb = dependencyProbes.await(PROBE_MONGODB, mongodbProbe, e -> emptyMongoMetrics());
 
         return SystemMetricsResponse.builder()
                 .timestamp(LocalDateTime.now())
@@ -46,27 +101,157 @@ public class AdminMetricsServiceImpl implements AdminMetricsService {
                 .redis(redis)
                 .mongodb(mongodb)
                 .api(api)
+                .jvm(jvm)
+                .databasePool(databasePool)
+                .build();
+    }
+
+    @Override
+    public LatencyMetricsResponse getLatencyMetrics(int windowMinutes) {
+        log.debug("Getting latency metrics for {} minute window", windowMinutes);
+
+        List<LatencyMetrics> endpoints = new ArrayList<>();
+        for (Map.Entry<String, LatencyHistogram.Snapshot> entry : endpointLatencyRegistry
+                .snapshotEndpoints(windowMinutes).entrySet()) {
+            String key = entry.getKey();
+            int separator = key.indexOf(' ');
+            String method = separator > 0 ? key.substring(0, separator) : null;
+            String uri = separator > 0 ? key.substring(separator + 1) : key;
+            endpoints.add(toLatencyMetrics(method, uri, entry.getValue()));
+        }
+        endpoints.sort(Comparator.comparing(LatencyMetrics::getP99).reversed());
+
+        return LatencyMetricsResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .windowMinutes(windowMinutes)
+                .overall(toLatencyMetrics(null, null, endpointLatencyRegistry.snapshotOverall(windowMinutes)))
+                .endpoints(endpoints)
+                .build();
+    }
+
+    @Override
+    public RateMetricsResponse getRateMetrics() {
+        log.debug("Getting request rate metrics");
+
+        List<RateMetrics> endpoints = new ArrayList<>();
+        for (Map.Entry<String, RequestRateTracker.Snapshot> entry : requestRateRegistry
+                .snapshotEndpoints(RATE_WINDOW_SECONDS, PEAK_WINDOW_SECONDS).entrySet()) {
+            String key = entry.getKey();
+            int separator = key.indexOf(' ');
+            String method = separator > 0 ? key.substring(0, separator) : null;
+            String uri = separator > 0 ? key.substring(separator + 1) : key;
+            endpoints.add(toRateMetrics(method, uri, entry.getValue(), false));
+        }
+        endpoints.sort(Comparator.comparing(RateMetrics::getOneMinute).reversed());
+
+        return RateMetricsResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .overall(getOverallRateMetrics())
+                .endpoints(endpoints)
+                .build();
+    }
+
+    @Override
+    public QueryMetricsResponse getQueryMetrics(int limit) {
+        log.debug("Getting query metrics for top {} endpoints", limit);
+
+        List<QueryMetrics> endpoints = new ArrayList<>();
+        endpointQueryStatsRegistry.getEndpoints().forEach((key, stats) -> {
+            int separator = key.indexOf(' ');
+            String method = separator > 0 ? key.substring(0, separator) : null;
+            String uri = separator > 0 ? key.substring(separator + 1) : key;
+            long requests = Math.max(stats.getRequests(), 1);
+            endpoints.add(QueryMetrics.builder()
+                    .method(method)
+                    .uri(uri)
+                    .requests(stats.getRequests())
+                    .avgStatements((double) stats.getStatements() / requests)
+                    .maxStatements(stats.getMaxStatements())
+                    .avgDbTime(stats.getDbNanos() / 1_000_000.0 / requests)
+                    .maxDbTime(stats.getMaxDbNanos() / 1_000_000.0)
+                    .avgRedisTime(stats.getRedisNanos() / 1_000_000.0 / requests)
+                    .avgMongoTime(stats.getMongoNanos() / 1_000_000.0 / requests)
+                    .repeatedStatementRequests(stats.getNPlusOneRequests())
+                    .worstStatement(stats.getWorstStatement())
+                    .worstRepeatCount(stats.getWorstStatement() != null ? stats.getWorstRepeatCount() : null)
+                    .build());
+        });
+        endpoints.sort(Comparator.comparing(QueryMetrics::getRepeatedStatementRequests)
+                .thenComparing(QueryMetrics::getAvgDbTime)
+                .reversed());
+
+        return QueryMetricsResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .repeatThreshold(endpointQueryStatsRegistry.getNPlusOneThreshold())
+                .endpoints(endpoints.size() > limit ? endpoints.subList(0, limit) : endpoints)
                 .build();
     }
 
+    @Override
+    public RateMetrics getOverallRateMetrics() {
+        return toRateMetrics(null, null,
+                requestRateRegistry.snapshotGlobal(RATE_WINDOW_SECONDS, PEAK_WINDOW_SECONDS), true);
+    }
+
     /**
      * Get queue metrics.
-     * Currently returns empty list as no queue system is implemented.
+     * Rates are over all jobs processed since the queue was created;
+     * throughput is completed jobs per minute over the last minute.
      *
-     * @return Empty list of queue metrics
+     * @return Metrics per job queue (empty if Redis is unavailable)
      */
     private List<QueueMetrics> getQueueMetrics() {
-        // No queue system implemented yet
-        return new ArrayList<>();
+        List<QueueMetrics> queues = new ArrayList<>();
+        try {
+            for (String queueName : jobQueueService.getQueueNames()) {
+                JobQueueService.QueueCounts counts = jobQueueService.getCounts(queueName);
+                long total = counts.totalCompleted() + counts.totalFailed();
+                queues.add(QueueMetrics.builder()
+                        .name(queueName)
+                        .waiting(counts.waiting())
+                        .active(counts.active())
+                        .completed(counts.completed())
+                        .failed(counts.failed())
+                        .delayed(counts.delayed())
+                        .total(total)
+                        .successRate(total > 0 ? counts.totalCompleted() * 100.0 / total : 0.0)
+                        .failureRate(total > 0 ? counts.totalFailed() * 100.0 / total : 0.0)
+                        .throughput((double) counts.completedLastMinute())
+                        .build());
+            }
+        } catch (Exception e) {
+            log.warn("Error collecting queue metrics: {}", e.getMessage());
+        }
+        return queues;
+    }
+
+    @Override
+    public RedisMetrics getRedisMetrics() {
+        return dependencyProbes.sample(PROBE_REDIS, this::collectRedisMetrics, e -> emptyRedisMetrics());
+    }
+
+    @Override
+    public MongoMetrics getMongoMetrics() {
+        return dependencyProbes.sample(PROBE_MONGODB, this::collectMongoMetrics, e -> emptyMongoMetrics());
+    }
+
+    @Override
+    public CompletableFuture<RedisMetrics> probeRedisMetrics() {
+        return dependencyProbes.probe(PROBE_REDIS, this::collectRedisMetrics);
+    }
+
+    @Override
+    public CompletableFuture<MongoMetrics> probeMongoMetrics() {
+        return dependencyProbes.probe(PROBE_MONGODB, this::collectMongoMetrics);
     }
 
     /**
-     * Get Redis metrics.
+     * Collect Redis metrics from INFO and a PING round trip.
      *
      * @return RedisMetrics with connection status, memory, connections, commands,
      *         and keyspace info
      */
-    private RedisMetrics getRedisMetrics() {
+    private RedisMetrics collectRedisMetrics() {
         try {
             var connection = redisConnectionFactory.getConnection();
             try {
@@ -139,36 +324,40 @@ public class AdminMetricsServiceImpl implements AdminMetricsService {
             }
         } catch (Exception e) {
             log.error("Error getting Redis metrics: {}", e.getMessage(), e);
-            return RedisMetrics.builder()
-                    .connected(false)
-                    .memory(RedisMetrics.RedisMemory.builder()
-                            .used(0L)
-                            .peak(0L)
-                            .total(0L)
-                            .percentage(0.0)
-                            .build())
-                    .connections(RedisMetrics.RedisConnections.builder()
-                            .connected(0L)
-                            .rejected(0L)
-                            .build())
-                    .commands(RedisMetrics.RedisCommands.builder()
-                            .processed(0L)
-                            .total(0L)
-                            .build())
-                    .keyspace(RedisMetrics.RedisKeyspace.builder()
-                            .keys(0L)
-                            .expires(0L)
-                            .build())
-                    .build();
+            return emptyRedisMetrics();
         }
     }
 
+    private RedisMetrics emptyRedisMetrics() {
+        return RedisMetrics.builder()
+                .connected(false)
+                .memory(RedisMetrics.RedisMemory.builder()
+                        .used(0L)
+                        .peak(0L)
+                        .total(0L)
+                        .percentage(0.0)
+                        .build())
+                .connections(RedisMetrics.RedisConnections.builder()
+                        .connected(0L)
+                        .rejected(0L)
+                        .build())
+                .commands(RedisMetrics.RedisCommands.builder()
+                        .processed(0L)
+                        .total(0L)
+                        .build())
+                .keyspace(RedisMetrics.RedisKeyspace.builder()
+                        .keys(0L)
+                        .expires(0L)
+                        .build())
+                .build();
+    }
+
     /**
-     * Get MongoDB metrics.
+     * Collect MongoDB metrics from the collection list and serverStatus.
      *
      * @return MongoMetrics with connection pool and database information
      */
-    private MongoMetrics getMongoMetrics() {
+    private MongoMetrics collectMongoMetrics() {
         boolean connected = false;
         int collectionsCount = 0;
         List<String> databases = new ArrayList<>();
@@ -192,14 +381,6 @@ public class AdminMetricsServiceImpl implements AdminMetricsService {
                 log.debug("Error getting collections count: {}", e.getMessage());
             }
 
-            // Try to get database stats (optional - may require additional permissions)
-            try {
-                mongoTemplate.getDb().runCommand(
-                        org.bson.Document.parse("{ dbStats: 1 }"));
-            } catch (Exception e) {
-                log.debug("Error getting database stats (may require admin permissions): {}", e.getMessage());
-            }
-
             // Try to get server status (optional - requires admin permissions)
             org.bson.Document serverStatus = null;
             try {
@@ -226,10 +407,25 @@ public class AdminMetricsServiceImpl implements AdminMetricsService {
                 }
             }
 
-            // Extract connection pool info (not directly available from MongoDB Java driver)
+            // Extract connection counts from server status if available (not directly
+            // available from the MongoDB Java driver)
+            int currentConnections = 0;
+            int availableConnections = 0;
+            org.bson.Document connections = serverStatus != null
+                    ? serverStatus.get("connections", org.bson.Document.class)
+                    : null;
+            if (connections != null) {
+                if (connections.get("current") instanceof Number current) {
+                    currentConnections = current.intValue();
+                }
+                if (connections.get("available") instanceof Number available) {
+                    availableConnections = available.intValue();
+                }
+            }
+
             MongoMetrics.ConnectionPool connectionPool = MongoMetrics.ConnectionPool.builder()
-                    .current(0) // Not directly available from MongoDB Java driver
-                    .available(0)
+                    .current(currentConnections)
+                    .available(availableConnections)
                     .max(100) // Default value
                     .min(0)
                     .build();
@@ -243,62 +439,56 @@ public class AdminMetricsServiceImpl implements AdminMetricsService {
                     .build();
         } catch (Exception e) {
             log.error("Error getting MongoDB metrics: {}", e.getMessage(), e);
-            return MongoMetrics.builder()
-                    .connected(false)
-                    .connectionPool(MongoMetrics.ConnectionPool.builder()
-                            .current(0)
-                            .available(0)
-                            .max(0)
-                            .min(0)
-                            .build())
-                    .collections(0)
-                    .databases(Collections.emptyList())
-                    .build();
+            return emptyMongoMetrics();
         }
     }
 
-    /**
-     * Get API metrics from Spring Boot Actuator.
-     *
-     * @return ApiMetrics with request counts, response times, and error rates
-     */
-    private ApiMetrics getApiMetrics() {
+    private MongoMetrics emptyMongoMetrics() {
+        return MongoMetrics.builder()
+                .connected(false)
+                .connectionPool(MongoMetrics.ConnectionPool.builder()
+                        .current(0)
+                        .available(0)
+                        .max(0)
+                        .min(0)
+                        .build())
+                .collections(0)
+                .databases(Collections.emptyList())
+                .build();
+    }
+
+    @Override
+    public ApiMetrics getApiMetrics() {
         try {
             // Get HTTP server request metrics
             long totalRequests = getCounterValue("http.server.requests", "total");
             long successfulRequests = getCounterValue("http.server.requests", "status", "2xx", "3xx");
             long failedRequests = getCounterValue("http.server.requests", "status", "4xx", "5xx");
 
-            // Calculate rates (requests per second) - approximate
-            double requestRate = calculateRate("http.server.requests");
-
-            // Get response time metrics
-            Timer timer = meterRegistry.find("http.server.requests").timer();
+            // Get windowed request and error rates
+            RateMetrics throughput = getOverallRateMetrics();
 
-            double averageResponseTime = timer != null ? timer.mean(java.util.concurrent.TimeUnit.MILLISECONDS) : 0.0;
-            // Note: Percentile methods are deprecated, using mean as approximation
-            // For production, consider using DistributionSummary or custom metrics
-            double p50 = averageResponseTime; // Approximation
-            double p95 = averageResponseTime * 1.5; // Approximation
-            double p99 = averageResponseTime * 2.0; // Approximation
-
-            // Calculate error rate
-            double errorRate = totalRequests > 0 ? (double) failedRequests / totalRequests * 100.0 : 0.0;
+            // Get response time percentiles from the windowed latency histograms
+            LatencyHistogram.Snapshot latency = endpointLatencyRegistry.snapshotOverall(SUMMARY_WINDOW_MINUTES);
 
             return ApiMetrics.builder()
                     .requests(ApiMetrics.RequestMetrics.builder()
                             .total(totalRequests)
                             .successful(successfulRequests)
                             .failed(failedRequests)
-                            .rate(requestRate)
+                            .rate(throughput.getCurrent())
                             .build())
                     .responseTime(ApiMetrics.ResponseTimeMetrics.builder()
-                            .average(averageResponseTime)
-                            .p50(p50)
-                            .p95(p95)
-                            .p99(p99)
+                            .average(latency.getMeanMicros() / 1000.0)
+                            .p50(percentileMillis(latency, 50.0))
+                            .p90(percentileMillis(latency, 90.0))
+                            .p95(percentileMillis(latency, 95.0))
+                            .p99(percentileMillis(latency, 99.0))
+                            .p999(percentileMillis(latency, 99.9))
+                            .max(latency.getMaxMicros() / 1000.0)
                             .build())
-                    .errorRate(errorRate)
+                    .throughput(throughput)
+                    .errorRate(throughput.getErrorRate())
                     .build();
         } catch (Exception e) {
             log.error("Error getting API metrics: {}", e.getMessage(), e);
@@ -313,14 +503,134 @@ public class AdminMetricsServiceImpl implements AdminMetricsService {
                     .responseTime(ApiMetrics.ResponseTimeMetrics.builder()
                             .average(0.0)
                             .p50(0.0)
+                            .p90(0.0)
                             .p95(0.0)
                             .p99(0.0)
+                            .p999(0.0)
+                            .max(0.0)
                             .build())
                     .errorRate(0.0)
                     .build();
         }
     }
 
+    @Override
+    public JvmMetrics getJvmMetrics() {
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        MemoryUsage nonHeap = ManagementFactory.getMemoryMXBean().getNonHeapMemoryUsage();
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+
+        long gcCollections = 0;
+        long gcTime = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            gcCollections += Math.max(0, gc.getCollectionCount());
+            gcTime += Math.max(0, gc.getCollectionTime());
+        }
+
+        Double processCpu = null;
+        if (os instanceof com.sun.management.OperatingSystemMXBean sunOs && sunOs.getProcessCpuLoad() >= 0) {
+            processCpu = sunOs.getProcessCpuLoad() * 100.0;
+        }
+
+        return JvmMetrics.builder()
+                .heap(toJvmMemory(heap))
+                .nonHeap(toJvmMemory(nonHeap))
+                .threads(JvmMetrics.JvmThreads.builder()
+                        .live(threads.getThreadCount())
+                        .daemon(threads.getDaemonThreadCount())
+                        .peak(threads.getPeakThreadCount())
+                        .build())
+                .gc(JvmMetrics.JvmGc.builder()
+                        .collections(gcCollections)
+                        .time(gcTime)
+                        .build())
+                .processCpu(processCpu)
+                .systemLoadAverage(os.getSystemLoadAverage() >= 0 ? os.getSystemLoadAverage() : null)
+                .availableProcessors(os.getAvailableProcessors())
+                .uptime(ManagementFactory.getRuntimeMXBean().getUptime())
+                .build();
+    }
+
+    @Override
+    public DatabasePoolMetrics getDatabasePoolMetrics() {
+        if (!(dataSource instanceof HikariDataSource hikariDataSource)) {
+            return null;
+        }
+
+        HikariPoolMXBean poolBean = hikariDataSource.getHikariPoolMXBean();
+        if (poolBean == null) {
+            // Pool not started yet
+            return null;
+        }
+
+        int active = poolBean.getActiveConnections();
+        int max = hikariDataSource.getMaximumPoolSize();
+        return DatabasePoolMetrics.builder()
+                .pool(hikariDataSource.getPoolName())
+                .active(active)
+                .idle(poolBean.getIdleConnections())
+                .total(poolBean.getTotalConnections())
+                .max(max)
+                .minIdle(hikariDataSource.getMinimumIdle())
+                .awaiting(poolBean.getThreadsAwaitingConnection())
+                .usage(max > 0 ? (double) active / max * 100.0 : 0.0)
+                .build();
+    }
+
+    private JvmMetrics.JvmMemory toJvmMemory(MemoryUsage usage) {
+        return JvmMetrics.JvmMemory.builder()
+                .used(usage.getUsed())
+                .committed(usage.getCommitted())
+                .max(usage.getMax() >= 0 ? usage.getMax() : null)
+                .percentage(usage.getMax() > 0 ? (double) usage.getUsed() / usage.getMax() * 100.0 : null)
+                .build();
+    }
+
+    /**
+     * Convert a latency snapshot to a LatencyMetrics DTO (milliseconds).
+     */
+    private LatencyMetrics toLatencyMetrics(String method, String uri, LatencyHistogram.Snapshot snapshot) {
+        return LatencyMetrics.builder()
+                .method(method)
+                .uri(uri)
+                .count(snapshot.getTotalCount())
+                .mean(snapshot.getMeanMicros() / 1000.0)
+                .p50(percentileMillis(snapshot, 50.0))
+                .p90(percentileMillis(snapshot, 90.0))
+                .p95(percentileMillis(snapshot, 95.0))
+                .p99(percentileMillis(snapshot, 99.0))
+                .p999(percentileMillis(snapshot, 99.9))
+                .max(snapshot.getMaxMicros() / 1000.0)
+                .build();
+    }
+
+    /**
+     * Convert a rate snapshot to a RateMetrics DTO. Saturation is only
+     * meaningful against the whole worker pool, so it is reported overall only.
+     */
+    private RateMetrics toRateMetrics(String method, String uri, RequestRateTracker.Snapshot snapshot,
+            boolean overall) {
+        return RateMetrics.builder()
+                .method(method)
+                .uri(uri)
+                .current(snapshot.current())
+                .peak(snapshot.peak())
+                .oneMinute(snapshot.oneMinute())
+                .fiveMinute(snapshot.fiveMinute())
+                .fifteenMinute(snapshot.fifteenMinute())
+                .errorRate(snapshot.errorRatio() * 100.0)
+                .concurrency(snapshot.concurrency())
+                .saturation(overall
+                        ? Math.min(snapshot.concurrency() / requestRateRegistry.getMaxThreads() * 100.0, 100.0)
+                        : null)
+                .build();
+    }
+
+    private double percentileMillis(LatencyHistogram.Snapshot snapshot, double percentile) {
+        return snapshot.getValueAtPercentile(percentile) / 1000.0;
+    }
+
     /**
      * Get counter value from MeterRegistry.
      */
@@ -335,22 +645,4 @@ public class AdminMetricsServiceImpl implements AdminMetricsService {
             return 0L;
         }
     }
-
-    /**
-     * Calculate approximate rate for a metric.
-     */
-    private double calculateRate(String name) {
-        try {
-            io.micrometer.core.instrument.Counter counter = meterRegistry.find(name).counter();
-            if (counter != null) {
-                // This is a simplified rate calculation
-                // In production, you might want to use a more sophisticated approach
-                return counter.count();
-            }
-            return 0.0;
-        } catch (Exception e) {
-            log.debug("Error calculating rate for {}: {}", name, e.getMessage());
-            return 0.0;
-        }
-    }
 }
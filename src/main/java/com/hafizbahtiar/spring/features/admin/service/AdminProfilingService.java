@@ -0,0 +1,62 @@
+package com.hafizbahtiar.spring.features.admin.service;
+
+import com.hafizbahtiar.spring.features.admin.dto.RecordingInfo;
+import com.hafizbahtiar.spring.features.admin.dto.RecordingSummary;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Service interface for on-demand Java Flight Recorder recordings.
+ */
+public interface AdminProfilingService {
+
+    /**
+     * Start a recording. Only one recording runs at a time.
+     *
+     * @param profile         Preset: "continuous", "allocation" or "locks"
+     * @param durationSeconds Recording stops by itself after this long (optional)
+     * @return Started recording
+     */
+    RecordingInfo startRecording(String profile, Long durationSeconds);
+
+    /**
+     * Stop the running recording and write it to disk.
+     *
+     * @param id Recording ID
+     * @return Stored recording
+     */
+    RecordingInfo stopRecording(String id);
+
+    /**
+     * Running and stored recordings, newest first.
+     *
+     * @return Recordings
+     */
+    List<RecordingInfo> getRecordings();
+
+    /**
+     * File of a stored recording, for download.
+     *
+     * @param id Recording ID
+     * @return Path of the .jfr file
+     */
+    Path getRecordingFile(String id);
+
+    /**
+     * Top hot methods, allocation sites and contention sites of a stored
+     * recording.
+     *
+     * @param id  Recording ID
+     * @param top Number of entries per list
+     * @return Summary
+     */
+    RecordingSummary getRecordingSummary(String id, int top);
+
+    /**
+     * Delete a stored recording.
+     *
+     * @param id Recording ID
+     */
+    void deleteRecording(String id);
+}
@@ -0,0 +1,344 @@
+package com.hafizbahtiar.spring.features.admin.service;
+
+import com.hafizbahtiar.spring.features.admin.dto.RecordingInfo;
+import com.hafizbahtiar.spring.features.admin.dto.RecordingSummary;
+import com.hafizbahtiar.spring.features.admin.profiling.RecordingAnalyzer;
+import com.hafizbahtiar.spring.features.admin.profiling.RecordingProfile;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of AdminProfilingService on the JDK's Flight Recorder API.
+ *
+ * One recording runs at a time, written straight to disk in the recordings
+ * directory as {@code <profile>-<timestamp>.jfr}; it stops after its duration
+ * or when stopped through the API. Stored recordings are pruned to a maximum
+ * count and total size, oldest first. Summaries are computed on demand and a
+ * few are cached, since recordings never change once stored.
+ */
+@Service
+@Slf4j
+public class AdminProfilingServiceImpl implements AdminProfilingService {
+
+    private static final DateTimeFormatter ID_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+    private static final Pattern ID_PATTERN = Pattern.compile("^([a-z]+)-(\\d{8}-\\d{6}-\\d{3})$");
+    private static final String FILE_EXTENSION = ".jfr";
+    private static final int SUMMARY_CACHE_SIZE = 8;
+
+    private final Path directory;
+
+    @Value("${admin.profiling.enabled:true}")
+    private boolean enabled;
+
+    @Value("${admin.profiling.default-duration-seconds:300}")
+    private long defaultDurationSeconds;
+
+    @Value("${admin.profiling.max-duration-seconds:1800}")
+    private long maxDurationSeconds;
+
+    /**
+     * Size at which a running recording starts discarding its oldest data
+     */
+    @Value("${admin.profiling.max-recording-size-mb:100}")
+    private long maxRecordingSizeMb;
+
+    @Value("${admin.profiling.retention.max-recordings:10}")
+    private int maxRecordings;
+
+    @Value("${admin.profiling.retention.max-total-size-mb:500}")
+    private long maxTotalSizeMb;
+
+    private final Map<String, RecordingSummary> summaries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, RecordingSummary> eldest) {
+            return size() > SUMMARY_CACHE_SIZE;
+        }
+    };
+
+    private Recording active;
+    private String activeId;
+    private RecordingProfile activeProfile;
+    private LocalDateTime activeStartedAt;
+    private long activeDurationSeconds;
+
+    public AdminProfilingServiceImpl(@Value("${admin.profiling.directory:./data/recordings}") String directory) {
+        this.directory = Paths.get(directory).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public synchronized RecordingInfo startRecording(String profile, Long durationSeconds) {
+        if (!enabled) {
+            throw new IllegalArgumentException("Profiling is disabled");
+        }
+        refreshActive();
+        if (active != null) {
+            throw new IllegalArgumentException("Recording " + activeId + " is already running");
+        }
+
+        RecordingProfile recordingProfile = RecordingProfile.fromKey(profile);
+        long duration = durationSeconds != null ? durationSeconds : defaultDurationSeconds;
+        if (duration < 1 || duration > maxDurationSeconds) {
+            throw new IllegalArgumentException("Duration must be between 1 and " + maxDurationSeconds + " seconds");
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        String id = recordingProfile.key() + "-" + startedAt.format(ID_TIMESTAMP);
+        try {
+            Files.createDirectories(directory);
+            Recording recording = new Recording(recordingProfile.settings());
+            recording.setName("admin-" + id);
+            recording.setToDisk(true);
+            recording.setMaxSize(maxRecordingSizeMb * 1024 * 1024);
+            recording.setDuration(Duration.ofSeconds(duration));
+            recording.setDestination(fileOf(id));
+            recording.start();
+
+            active = recording;
+            activeId = id;
+            activeProfile = recordingProfile;
+            activeStartedAt = startedAt;
+            activeDurationSeconds = duration;
+        } catch (Exception e) {
+            log.error("Failed to start recording {}: {}", id, e.getMessage(), e);
+            throw new IllegalArgumentException("Failed to start recording: " + e.getMessage());
+        }
+
+        log.info("Started JFR recording {} ({} s)", id, duration);
+        return activeInfo();
+    }
+
+    @Override
+    public synchronized RecordingInfo stopRecording(String id) {
+        refreshActive();
+        if (active == null || !activeId.equals(id)) {
+            throw new IllegalArgumentException("Recording " + id + " is not running");
+        }
+
+        active.stop();
+        closeActive();
+        log.info("Stopped JFR recording {}", id);
+        return storedInfo(fileOf(id));
+    }
+
+    @Override
+    public synchronized List<RecordingInfo> getRecordings() {
+        refreshActive();
+
+        List<RecordingInfo> recordings = new ArrayList<>();
+        if (active != null) {
+            recordings.add(activeInfo());
+        }
+        for (Path file : storedFiles()) {
+            RecordingInfo info = storedInfo(file);
+            if (info != null) {
+                recordings.add(info);
+            }
+        }
+        return recordings;
+    }
+
+    @Override
+    public synchronized Path getRecordingFile(String id) {
+        refreshActive();
+        if (id.equals(activeId)) {
+            throw new IllegalArgumentException("Recording " + id + " is still running");
+        }
+
+        Path file = fileOf(id);
+        if (!Files.isRegularFile(file)) {
+            throw new IllegalArgumentException("Recording not found: " + id);
+        }
+        return file;
+    }
+
+    @Override
+    public RecordingSummary getRecordingSummary(String id, int top) {
+        String cacheKey = id + ":" + top;
+        synchronized (summaries) {
+            RecordingSummary cached = summaries.get(cacheKey);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        Path file = getRecordingFile(id);
+        Matcher matcher = ID_PATTERN.matcher(id);
+        String profile = matcher.matches() ? matcher.group(1) : null;
+        RecordingSummary summary;
+        try {
+            summary = RecordingAnalyzer.analyze(file, id, profile, top);
+        } catch (IOException e) {
+            log.error("Failed to read recording {}: {}", id, e.getMessage());
+            throw new IllegalArgumentException("Failed to read recording " + id + ": " + e.getMessage());
+        }
+
+        synchronized (summaries) {
+            summaries.put(cacheKey, summary);
+        }
+        return summary;
+    }
+
+    @Override
+    public synchronized void deleteRecording(String id) {
+        Path file = getRecordingFile(id);
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to delete recording " + id + ": " + e.getMessage());
+        }
+        evictSummaries(id);
+        log.info("Deleted JFR recording {}", id);
+    }
+
+    /**
+     * Stop a running recording on shutdown so it is written to disk
+     */
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (active != null && active.getState() == RecordingState.RUNNING) {
+            active.stop();
+        }
+        if (active != null) {
+            active.close();
+        }
+    }
+
+    /**
+     * Release a recording that stopped by itself after its duration
+     */
+    private void refreshActive() {
+        if (active != null && active.getState() != RecordingState.RUNNING
+                && active.getState() != RecordingState.DELAYED && active.getState() != RecordingState.NEW) {
+            log.info("JFR recording {} finished", activeId);
+            closeActive();
+        }
+    }
+
+    private void closeActive() {
+        active.close();
+        active = null;
+        activeId = null;
+        activeProfile = null;
+        activeStartedAt = null;
+        prune();
+    }
+
+    /**
+     * Delete the oldest recordings beyond the configured count or total size
+     */
+    private void prune() {
+        long maxTotalBytes = maxTotalSizeMb * 1024 * 1024;
+        long totalBytes = 0;
+        int kept = 0;
+        for (Path file : storedFiles()) {
+            try {
+                long size = Files.size(file);
+                if (kept < maxRecordings && totalBytes + size <= maxTotalBytes) {
+                    kept++;
+                    totalBytes += size;
+                    continue;
+                }
+                Files.deleteIfExists(file);
+                evictSummaries(idOf(file));
+                log.info("Pruned JFR recording {}", file.getFileName());
+            } catch (IOException e) {
+                log.warn("Failed to prune recording {}: {}", file, e.getMessage());
+            }
+        }
+    }
+
+    private void evictSummaries(String id) {
+        synchronized (summaries) {
+            summaries.keySet().removeIf(key -> key.startsWith(id + ":"));
+        }
+    }
+
+    /**
+     * Stored recording files, newest first
+     */
+    private List<Path> storedFiles() {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(file -> ID_PATTERN.matcher(idOf(file)).matches())
+                    .filter(file -> !idOf(file).equals(activeId))
+                    .sorted(Comparator.comparing(this::idOf).reversed())
+                    .toList();
+        } catch (IOException e) {
+            log.warn("Failed to list recordings in {}: {}", directory, e.getMessage());
+            return List.of();
+        }
+    }
+
+    /**
+     * Path of a recording; rejects anything that is not a recording ID, so
+     * IDs from requests cannot point outside the recordings directory
+     */
+    private Path fileOf(String id) {
+        if (id == null || !ID_PATTERN.matcher(id).matches()) {
+            throw new IllegalArgumentException("Invalid recording ID: " + id);
+        }
+        return directory.resolve(id + FILE_EXTENSION);
+    }
+
+    private String idOf(Path file) {
+        String name = file.getFileName().toString();
+        return name.endsWith(FILE_EXTENSION) ? name.substring(0, name.length() - FILE_EXTENSION.length()) : name;
+    }
+
+    private RecordingInfo activeInfo() {
+        return RecordingInfo.builder()
+                .id(activeId)
+                .profile(activeProfile.key())
+                .state("recording")
+                .startedAt(activeStartedAt)
+                .maxDurationSeconds(activeDurationSeconds)
+                .sizeBytes(active.getSize())
+                .build();
+    }
+
+    private RecordingInfo storedInfo(Path file) {
+        String id = idOf(file);
+        Matcher matcher = ID_PATTERN.matcher(id);
+        if (!matcher.matches()) {
+            return null;
+        }
+        try {
+            return RecordingInfo.builder()
+                    .id(id)
+                    .profile(matcher.group(1))
+                    .state("stored")
+                    .startedAt(LocalDateTime.parse(matcher.group(2), ID_TIMESTAMP))
+                    .stoppedAt(LocalDateTime.ofInstant(Files.getLastModifiedTime(file).toInstant(),
+                            ZoneId.systemDefault()))
+                    .sizeBytes(Files.size(file))
+                    .build();
+        } catch (IOException e) {
+            log.warn("Failed to read recording {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+}
@@ -1,47 +1,70 @@
 package com.hafizbahtiar.spring.features.admin.service;
 
+import com.hafizbahtiar.spring.common.queue.JobHandler;
+import com.hafizbahtiar.spring.common.queue.JobQueueService;
+import com.hafizbahtiar.spring.common.queue.JobStatus;
+import com.hafizbahtiar.spring.common.queue.QueuedJob;
 import com.hafizbahtiar.spring.features.admin.dto.CleanJobsResponse;
 import com.hafizbahtiar.spring.features.admin.dto.JobHistoryResponse;
+import com.hafizbahtiar.spring.features.admin.dto.QueueJob;
 import com.hafizbahtiar.spring.features.admin.dto.QueueStats;
 import com.hafizbahtiar.spring.features.admin.dto.QueueStatsResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Implementation of AdminQueueService for queue management.
- * 
- * Note: Currently returns placeholder data as no queue system is implemented.
- * This can be extended to integrate with actual queue systems like:
- * - Spring AMQP (RabbitMQ)
- * - Redis-based queues (Redisson, etc.)
- * - Custom queue implementations
+ * Reads and manages the Redis Streams job queues through JobQueueService.
+ * Job data keys a queue's {@link JobHandler} declares sensitive are masked
+ * in every job returned.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AdminQueueServiceImpl implements AdminQueueService {
 
+    private static final String REDACTED = "[REDACTED]";
+
+    private final JobQueueService jobQueueService;
+    private final List<JobHandler> jobHandlers;
+
     @Override
     public QueueStatsResponse getQueueStats() {
         log.debug("Getting queue statistics");
 
-        // Return empty statistics as no queue system is implemented
-        Map<String, QueueStats> queues = new HashMap<>();
-
-        // Placeholder: Return empty stats for now
-        // In the future, this would query actual queue systems
+        Map<String, QueueStats> queues = new LinkedHashMap<>();
+        long waiting = 0, active = 0, completed = 0, failed = 0, delayed = 0;
+
+        for (String queueName : jobQueueService.getQueueNames()) {
+            JobQueueService.QueueCounts counts = jobQueueService.getCounts(queueName);
+            queues.put(queueName, QueueStats.builder()
+                    .waiting(counts.waiting())
+                    .active(counts.active())
+                    .completed(counts.completed())
+                    .failed(counts.failed())
+                    .delayed(counts.delayed())
+                    .paused(0L)
+                    .build());
+
+            waiting += counts.waiting();
+            active += counts.active();
+            completed += counts.completed();
+            failed += counts.failed();
+            delayed += counts.delayed();
+        }
 
         QueueStatsResponse.QueueStatsSummary summary = QueueStatsResponse.QueueStatsSummary.builder()
-                .totalWaiting(0L)
-                .totalActive(0L)
-                .totalCompleted(0L)
-                .totalFailed(0L)
-                .totalDelayed(0L)
+                .totalWaiting(waiting)
+                .totalActive(active)
+                .totalCompleted(completed)
+                .totalFailed(failed)
+                .totalDelayed(delayed)
                 .totalPaused(0L)
                 .build();
 
@@ -54,15 +77,7 @@ public class AdminQueueServiceImpl implements AdminQueueService {
     @Override
     public JobHistoryResponse getFailedJobs(String queueName, Integer start, Integer end) {
         log.debug("Getting failed jobs for queue: {}, start: {}, end: {}", queueName, start, end);
-
-        // Return empty list as no queue system is implemented
-        // In the future, this would query actual queue systems for failed jobs
-
-        return JobHistoryResponse.builder()
-                .jobs(Collections.emptyList())
-                .total(0L)
-                .status("failed")
-                .build();
+        return getJobHistory(queueName, "failed", start, end);
     }
 
     @Override
@@ -70,12 +85,16 @@ public class AdminQueueServiceImpl implements AdminQueueService {
         log.debug("Getting job history for queue: {}, status: {}, start: {}, end: {}",
                 queueName, status, start, end);
 
-        // Return empty list as no queue system is implemented
-        // In the future, this would query actual queue systems for job history
+        requireQueue(queueName);
+        JobStatus jobStatus = JobStatus.fromName(status);
+        Set<String> sensitiveKeys = sensitiveKeysOf(queueName);
+        List<QueueJob> jobs = jobQueueService.getJobs(queueName, jobStatus, start, end).stream()
+                .map(job -> toQueueJob(job, sensitiveKeys))
+                .toList();
 
         return JobHistoryResponse.builder()
-                .jobs(Collections.emptyList())
-                .total(0L)
+                .jobs(jobs)
+                .total(countOf(jobQueueService.getCounts(queueName), jobStatus))
                 .status(status)
                 .build();
     }
@@ -84,11 +103,8 @@ public class AdminQueueServiceImpl implements AdminQueueService {
     public RetryJobResponse retryJob(String queueName, String jobId) {
         log.debug("Retrying job: {} in queue: {}", jobId, queueName);
 
-        // Placeholder: Return job info without actually retrying
-        // In the future, this would retry the job in the actual queue system
-
-        log.warn("Queue retry not implemented. Job ID: {}, Queue: {}", jobId, queueName);
-
+        requireQueue(queueName);
+        jobQueueService.retry(queueName, jobId);
         return new RetryJobResponse(jobId, queueName);
     }
 
@@ -96,15 +112,61 @@ public class AdminQueueServiceImpl implements AdminQueueService {
     public CleanJobsResponse cleanJobs(String queueName, String status, Long grace) {
         log.debug("Cleaning jobs from queue: {}, status: {}, grace: {}ms", queueName, status, grace);
 
-        // Placeholder: Return 0 cleaned jobs
-        // In the future, this would clean jobs from the actual queue system
-
-        log.warn("Queue clean not implemented. Queue: {}, Status: {}", queueName, status);
+        requireQueue(queueName);
+        JobStatus jobStatus = "all".equalsIgnoreCase(status) ? null : JobStatus.fromName(status);
+        long cleaned = jobQueueService.clean(queueName, jobStatus, grace != null ? grace : 0L);
 
         return CleanJobsResponse.builder()
                 .queueName(queueName)
                 .status(status)
-                .cleaned(0L)
+                .cleaned(cleaned)
+                .build();
+    }
+
+    private void requireQueue(String queueName) {
+        if (!jobQueueService.getQueueNames().contains(queueName)) {
+            throw new IllegalArgumentException("Unknown queue: " + queueName);
+        }
+    }
+
+    private long countOf(JobQueueService.QueueCounts counts, JobStatus status) {
+        return switch (status) {
+            case WAITING -> counts.waiting();
+            case ACTIVE -> counts.active();
+            case DELAYED -> counts.delayed();
+            case COMPLETED -> counts.completed();
+            case FAILED -> counts.failed();
+        };
+    }
+
+    /**
+     * Sensitive data keys declared by the handler of a queue
+     */
+    private Set<String> sensitiveKeysOf(String queueName) {
+        return jobHandlers.stream()
+                .filter(handler -> queueName.equals(handler.getQueueName()))
+                .findFirst()
+                .map(JobHandler::getSensitiveDataKeys)
+                .orElse(Set.of());
+    }
+
+    private QueueJob toQueueJob(QueuedJob job, Set<String> sensitiveKeys) {
+        Map<String, Object> data = null;
+        if (job.getData() != null) {
+            data = new LinkedHashMap<>();
+            for (Map.Entry<String, String> entry : job.getData().entrySet()) {
+                data.put(entry.getKey(), sensitiveKeys.contains(entry.getKey()) ? REDACTED : entry.getValue());
+            }
+        }
+        return QueueJob.builder()
+                .id(job.getId())
+                .name(job.getName())
+                .data(data)
+                .failedReason(job.getFailedReason())
+                .timestamp(job.getTimestamp())
+                .processedOn(job.getProcessedOn())
+                .finishedOn(job.getFinishedOn())
+                .attemptsMade(job.getAttemptsMade())
                 .build();
     }
 }
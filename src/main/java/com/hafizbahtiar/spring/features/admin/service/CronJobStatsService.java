@@ -0,0 +1,50 @@
+package com.hafizbahtiar.spring.features.admin.service;
+
+import com.hafizbahtiar.spring.features.admin.model.CronJobExecutionStats;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Service for the rolled-up execution statistics of cron jobs.
+ * Statistics are updated on every execution and read in place of the raw
+ * execution logs by the cron job lists.
+ */
+public interface CronJobStatsService {
+
+    /**
+     * Record an execution.
+     *
+     * @param jobName    Name of the cron job
+     * @param executedAt Start of the execution
+     * @param success    Whether the execution succeeded
+     * @param error      Error message of a failed execution
+     * @param durationMs Duration in milliseconds
+     * @param rowCount   Rows affected (DATABASE jobs), or null
+     */
+    void record(String jobName, LocalDateTime executedAt, boolean success, String error, long durationMs,
+            Long rowCount);
+
+    /**
+     * Get the statistics of a job.
+     *
+     * @param jobName Name of the cron job
+     * @return Statistics, or null if the job never ran
+     */
+    CronJobExecutionStats getStats(String jobName);
+
+    /**
+     * Get the statistics of all jobs in one read.
+     *
+     * @return Map of job name to statistics
+     */
+    Map<String, CronJobExecutionStats> getAllStats();
+
+    /**
+     * Rebuild all statistics from the execution logs.
+     *
+     * @return Number of jobs with statistics
+     * @throws IllegalStateException if a rebuild is running on another node
+     */
+    int rebuild();
+}
@@ -0,0 +1,223 @@
+package com.hafizbahtiar.spring.features.admin.service;
+
+import com.hafizbahtiar.spring.common.lock.DistributedLockService;
+import com.hafizbahtiar.spring.features.admin.model.CronJobExecutionLog;
+import com.hafizbahtiar.spring.features.admin.model.CronJobExecutionStats;
+import com.mongodb.MongoNamespace;
+import com.mongodb.client.model.RenameCollectionOptions;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of CronJobStatsService on a MongoDB summary collection.
+ *
+ * Each execution costs two writes: an upsert adding to the counts and
+ * duration bucket, and an update of the last-execution fields that only
+ * applies if no later execution was recorded first (runs of a job may
+ * overlap or run on several nodes). Statistics are rebuilt from the
+ * execution logs on startup when the summary collection is empty.
+ *
+ * A rebuild runs on one node at a time. It writes the executions logged
+ * before a cutoff into a staging collection, renames that over the summary
+ * collection, then records the executions logged between the cutoff and the
+ * swap again, since their statistics went to the replaced collection.
+ * Readers never see an empty or partial summary. An execution whose log is
+ * written just before the swap and whose statistics are written just after it
+ * is counted twice; the gap between the two writes is a few milliseconds.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CronJobStatsServiceImpl implements CronJobStatsService {
+
+    private static final String LOCK_NAME = "cron-job-stats-rebuild";
+
+    /**
+     * Suffix of the collection a rebuild writes before it is swapped in
+     */
+    private static final String STAGING_SUFFIX = "_rebuild";
+
+    /**
+     * Minimum age of the rebuild cutoff, so executions being recorded when
+     * the rebuild starts are stored before the scan
+     */
+    private static final long CUTOFF_SETTLE_SECONDS = 5;
+
+    private final MongoTemplate mongoTemplate;
+    private final DistributedLockService distributedLockService;
+
+    @Override
+    public void record(String jobName, LocalDateTime executedAt, boolean success, String error, long durationMs,
+            Long rowCount) {
+        Query byJob = Query.query(Criteria.where("_id").is(jobName));
+        Update counts = new Update()
+                .inc("executionCount", 1)
+                .inc(success ? "successCount" : "failureCount", 1)
+                .inc("totalDuration", durationMs)
+                .inc("durationBuckets." + CronJobExecutionStats.bucketOf(durationMs), 1)
+                .max("maxDuration", durationMs)
+                .set("updatedAt", LocalDateTime.now());
+        if (rowCount != null) {
+            counts.inc("totalRowCount", rowCount);
+        }
+        mongoTemplate.upsert(byJob, counts, CronJobExecutionStats.class);
+
+        Query olderThanThis = Query.query(Criteria.where("_id").is(jobName)
+                .orOperator(Criteria.where("lastExecution").is(null), Criteria.where("lastExecution").lte(executedAt)));
+        Update last = new Update()
+                .set("lastExecution", executedAt)
+                .set("lastSuccess", success)
+                .set("lastDuration", durationMs)
+                .set("lastError", error)
+                .set("lastRowCount", rowCount);
+        mongoTemplate.updateFirst(olderThanThis, last, CronJobExecutionStats.class);
+    }
+
+    @Override
+    public CronJobExecutionStats getStats(String jobName) {
+        return mongoTemplate.findById(jobName, CronJobExecutionStats.class);
+    }
+
+    @Override
+    public Map<String, CronJobExecutionStats> getAllStats() {
+        Map<String, CronJobExecutionStats> stats = new HashMap<>();
+        for (CronJobExecutionStats jobStats : mongoTemplate.findAll(CronJobExecutionStats.class)) {
+            stats.put(jobStats.getJobName(), jobStats);
+        }
+        return stats;
+    }
+
+    @Override
+    public int rebuild() {
+        AtomicInteger jobs = new AtomicInteger();
+        boolean ran = distributedLockService.runExclusive(LOCK_NAME, lease -> jobs.set(rebuildLocked()));
+        if (!ran) {
+            throw new IllegalStateException("Cron job statistics are already being rebuilt on another node");
+        }
+        return jobs.get();
+    }
+
+    /**
+     * Build the statistics from the execution logs on first start. The
+     * collection is checked again under the lock, so only the first node to
+     * start rebuilds it.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        try {
+            distributedLockService.runExclusive(LOCK_NAME, lease -> {
+                if (mongoTemplate.count(new Query(), CronJobExecutionStats.class) == 0
+                        && mongoTemplate.count(new Query(), CronJobExecutionLog.class) > 0) {
+                    rebuildLocked();
+                }
+            });
+        } catch (Exception e) {
+            log.warn("Failed to rebuild cron job execution statistics: {}", e.getMessage());
+        }
+    }
+
+    private int rebuildLocked() {
+        long startTime = System.currentTimeMillis();
+        LocalDateTime cutoff = LocalDateTime.now().minusSeconds(CUTOFF_SETTLE_SECONDS);
+        Map<String, CronJobExecutionStats> rebuilt = new LinkedHashMap<>();
+
+        // Logs from before createdAt was stored count as before the cutoff
+        Query beforeCutoff = Query.query(new Criteria().orOperator(
+                Criteria.where("createdAt").lt(cutoff), Criteria.where("createdAt").is(null)))
+                .with(Sort.by(Sort.Direction.ASC, "executedAt"));
+        try (Stream<CronJobExecutionLog> executions = mongoTemplate.stream(beforeCutoff, CronJobExecutionLog.class)) {
+            executions.forEach(execution -> {
+                if (execution.getJobName() != null) {
+                    accumulate(rebuilt.computeIfAbsent(execution.getJobName(), this::emptyStats), execution);
+                }
+            });
+        }
+
+        String collection = mongoTemplate.getCollectionName(CronJobExecutionStats.class);
+        String staging = collection + STAGING_SUFFIX;
+        if (mongoTemplate.collectionExists(staging)) {
+            mongoTemplate.dropCollection(staging); // left behind by an interrupted rebuild
+        }
+        mongoTemplate.createCollection(staging);
+        if (!rebuilt.isEmpty()) {
+            mongoTemplate.insert(rebuilt.values(), staging);
+        }
+
+        // Replaces the live collection in one step; statistics recorded from here on go to the rebuilt one
+        mongoTemplate.getCollection(staging).renameCollection(
+                new MongoNamespace(mongoTemplate.getDb().getName(), collection),
+                new RenameCollectionOptions().dropTarget(true));
+        LocalDateTime swappedAt = LocalDateTime.now();
+
+        Query sinceCutoff = Query.query(Criteria.where("createdAt").gte(cutoff).lt(swappedAt))
+                .with(Sort.by(Sort.Direction.ASC, "executedAt"));
+        List<CronJobExecutionLog> recent = mongoTemplate.find(sinceCutoff, CronJobExecutionLog.class);
+        for (CronJobExecutionLog execution : recent) {
+            if (execution.getJobName() != null) {
+                record(execution.getJobName(), execution.getExecutedAt(), Boolean.TRUE.equals(execution.getSuccess()),
+                        execution.getError(), execution.getDuration() != null ? execution.getDuration() : 0L,
+                        execution.getRowCount());
+            }
+        }
+
+        log.info("Rebuilt execution statistics of {} cron job(s) in {} ms ({} recent execution(s) re-recorded)",
+                rebuilt.size(), System.currentTimeMillis() - startTime, recent.size());
+        return rebuilt.size();
+    }
+
+    private CronJobExecutionStats emptyStats(String jobName) {
+        return CronJobExecutionStats.builder()
+                .jobName(jobName)
+                .executionCount(0L)
+                .successCount(0L)
+                .failureCount(0L)
+                .totalDuration(0L)
+                .maxDuration(0L)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * Add an execution to statistics; executions are added oldest first
+     */
+    private void accumulate(CronJobExecutionStats stats, CronJobExecutionLog execution) {
+        boolean success = Boolean.TRUE.equals(execution.getSuccess());
+        long duration = execution.getDuration() != null ? execution.getDuration() : 0L;
+
+        stats.setExecutionCount(stats.getExecutionCount() + 1);
+        if (success) {
+            stats.setSuccessCount(stats.getSuccessCount() + 1);
+        } else {
+            stats.setFailureCount(stats.getFailureCount() + 1);
+        }
+        stats.setTotalDuration(stats.getTotalDuration() + duration);
+        stats.setMaxDuration(Math.max(stats.getMaxDuration(), duration));
+        stats.getDurationBuckets().merge(CronJobExecutionStats.bucketOf(duration), 1L, Long::sum);
+
+        stats.setLastExecution(execution.getExecutedAt());
+        stats.setLastSuccess(success);
+        stats.setLastDuration(duration);
+        stats.setLastError(execution.getError());
+        stats.setLastRowCount(execution.getRowCount());
+        if (execution.getRowCount() != null) {
+            stats.setTotalRowCount((stats.getTotalRowCount() != null ? stats.getTotalRowCount() : 0L)
+                    + execution.getRowCount());
+        }
+    }
+}
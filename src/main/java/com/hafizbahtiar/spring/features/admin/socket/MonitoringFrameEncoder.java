@@ -0,0 +1,197 @@
+package com.hafizbahtiar.spring.features.admin.socket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.RawValue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Turns successive states of one monitoring topic into pre-serialized frames.
+ *
+ * A keyframe carries the full state; a delta carries a JSON Merge Patch (RFC
+ * 7386) from a state the client already has: changed fields only, nested
+ * objects patched recursively, arrays replaced whole and removed fields set to
+ * null. Clients poll at different rates, so the last few states are kept and a
+ * delta can be built from any of them. Frames are numbered so clients can
+ * detect a gap and request a refresh.
+ *
+ * Each frame is serialized once and cached until the state changes; the
+ * resulting {@link RawValue} is written verbatim by the Socket.IO JSON encoder
+ * for every client that needs it. Not thread-safe.
+ */
+public class MonitoringFrameEncoder {
+
+    /**
+     * Number of past states deltas can be built from
+     */
+    private static final int HISTORY_SIZE = 8;
+
+    private final ObjectMapper objectMapper;
+    private final MonitoringTopic topic;
+
+    private final Deque<Version> history = new ArrayDeque<>();
+    private final Map<Long, RawValue> deltaFrames = new HashMap<>();
+    private RawValue keyframe;
+    private long sequence;
+    private long updatedAt;
+
+    public MonitoringFrameEncoder(ObjectMapper objectMapper, MonitoringTopic topic) {
+        this.objectMapper = objectMapper;
+        this.topic = topic;
+    }
+
+    /**
+     * Record the topic's latest state. A state equal to the current one keeps
+     * the current sequence number, so clients are not sent empty deltas.
+     *
+     * @param state Latest state
+     */
+    public void update(JsonNode state) {
+        updatedAt = System.currentTimeMillis();
+
+        Version current = history.peekLast();
+        if (current != null && current.state().equals(state)) {
+            return;
+        }
+
+        sequence++;
+        history.addLast(new Version(sequence, state, LocalDateTime.now().toString()));
+        if (history.size() > HISTORY_SIZE) {
+            history.removeFirst();
+        }
+        keyframe = null;
+        deltaFrames.clear();
+    }
+
+    /**
+     * Current sequence number (0 before the first update)
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Time of the last update in epoch milliseconds (0 before the first update)
+     */
+    public long getUpdatedAt() {
+        return updatedAt;
+    }
+
+    /**
+     * Whether a delta can be built from the given sequence number
+     */
+    public boolean canDeltaFrom(long baseSequence) {
+        Version base = findVersion(baseSequence);
+        Version current = history.peekLast();
+        return base != null && base != current
+                && base.state() instanceof ObjectNode && current.state() instanceof ObjectNode;
+    }
+
+    /**
+     * Keyframe for the current state.
+     *
+     * @return Keyframe, or null before the first update
+     */
+    public RawValue getKeyframe() throws JsonProcessingException {
+        Version current = history.peekLast();
+        if (current == null) {
+            return null;
+        }
+        if (keyframe == null) {
+            ObjectNode frame = objectMapper.createObjectNode();
+            frame.put("topic", topic.key());
+            frame.put("seq", current.sequence());
+            frame.put("timestamp", current.timestamp());
+            frame.set("data", current.state());
+            keyframe = serialize(frame);
+        }
+        return keyframe;
+    }
+
+    /**
+     * Delta from the given sequence number to the current state. Check
+     * {@link #canDeltaFrom(long)} first.
+     */
+    public RawValue getDelta(long baseSequence) throws JsonProcessingException {
+        RawValue cached = deltaFrames.get(baseSequence);
+        if (cached != null) {
+            return cached;
+        }
+
+        Version base = findVersion(baseSequence);
+        Version current = history.peekLast();
+        ObjectNode frame = objectMapper.createObjectNode();
+        frame.put("topic", topic.key());
+        frame.put("seq", current.sequence());
+        frame.put("baseSeq", baseSequence);
+        frame.put("timestamp", current.timestamp());
+        frame.set("changes", diff((ObjectNode) base.state(), (ObjectNode) current.state()));
+
+        RawValue delta = serialize(frame);
+        deltaFrames.put(baseSequence, delta);
+        return delta;
+    }
+
+    /**
+     * JSON Merge Patch that turns previous into current
+     */
+    static ObjectNode diff(ObjectNode previous, ObjectNode current) {
+        ObjectNode patch = previous.objectNode();
+
+        Iterator<Map.Entry<String, JsonNode>> fields = current.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            JsonNode before = previous.get(field.getKey());
+            JsonNode after = field.getValue();
+            if (after.equals(before)) {
+                continue;
+            }
+            if (before instanceof ObjectNode beforeObject && after instanceof ObjectNode afterObject) {
+                ObjectNode nested = diff(beforeObject, afterObject);
+                if (!nested.isEmpty()) {
+                    patch.set(field.getKey(), nested);
+                }
+            } else {
+                patch.set(field.getKey(), after);
+            }
+        }
+
+        Iterator<String> names = previous.fieldNames();
+        while (names.hasNext()) {
+            String name = names.next();
+            if (!current.has(name)) {
+                patch.putNull(name);
+            }
+        }
+        return patch;
+    }
+
+    private Version findVersion(long versionSequence) {
+        for (Version version : history) {
+            if (version.sequence() == versionSequence) {
+                return version;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Serialize once to UTF-8; SerializedString caches the encoded bytes, so
+     * writing the frame to each client is a plain copy.
+     */
+    private RawValue serialize(JsonNode node) throws JsonProcessingException {
+        return new RawValue(new SerializedString(objectMapper.writeValueAsString(node)));
+    }
+
+    private record Version(long sequence, JsonNode state, String timestamp) {
+    }
+}
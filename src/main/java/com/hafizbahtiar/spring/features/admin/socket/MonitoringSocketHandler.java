@@ -6,45 +6,102 @@ import com.corundumstudio.socketio.SocketIOServer;
 import com.corundumstudio.socketio.annotation.OnConnect;
 import com.corundumstudio.socketio.annotation.OnDisconnect;
 import com.corundumstudio.socketio.annotation.OnEvent;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.hafizbahtiar.spring.features.admin.dto.HealthCheckResponse;
-import com.hafizbahtiar.spring.features.admin.dto.SystemMetricsResponse;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.hafizbahtiar.spring.features.admin.service.AdminCronJobService;
 import com.hafizbahtiar.spring.features.admin.service.AdminHealthService;
 import com.hafizbahtiar.spring.features.admin.service.AdminMetricsService;
 import com.hafizbahtiar.spring.security.JwtTokenProvider;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Socket.IO event handler for real-time monitoring.
  * Handles connections to the /monitoring namespace and broadcasts system
  * health/metrics updates.
+ *
+ * Clients subscribe to topics (see {@link MonitoringTopic}) with an update
+ * interval within server-enforced bounds. Every tick, the topics wanted by
+ * the clients that are due are computed once, encoded once per distinct base
+ * version (see {@link MonitoringFrameEncoder}) and the same bytes are sent to
+ * every client that needs them. Topics nobody subscribes to are not computed.
+ *
+ * Events sent: monitoring:subscribed (effective subscription),
+ * monitoring:update (topic keyframe), monitoring:delta (topic changes since
+ * the client's last frame) and monitoring:error.
  */
 @Component
 @Slf4j
 @RequiredArgsConstructor
 public class MonitoringSocketHandler {
 
+    /**
+     * Granularity of client update intervals
+     */
+    private static final long TICK_INTERVAL_MS = 1000;
+
     @SuppressWarnings("unused")
     private final SocketIOServer socketIOServer;
     private final AdminHealthService adminHealthService;
     private final AdminMetricsService adminMetricsService;
+    private final AdminCronJobService adminCronJobService;
     private final JwtTokenProvider jwtTokenProvider;
     private final ObjectMapper objectMapper;
 
-    // Store authenticated clients
-    private final Map<String, SocketIOClient> authenticatedClients = new ConcurrentHashMap<>();
+    // Store authenticated clients and their subscriptions
+    private final Map<String, MonitoringSubscription> subscriptions = new ConcurrentHashMap<>();
+
+    private final Map<MonitoringTopic, MonitoringFrameEncoder> encoders = new EnumMap<>(MonitoringTopic.class);
+
+    /**
+     * Number of deltas a client is sent per topic between full keyframes
+     */
+    @Value("${admin.monitoring.keyframe-interval:10}")
+    private int keyframeInterval;
+
+    @Value("${admin.monitoring.interval.min-ms:2000}")
+    private long minIntervalMs;
+
+    @Value("${admin.monitoring.interval.max-ms:300000}")
+    private long maxIntervalMs;
+
+    @Value("${admin.monitoring.interval.default-ms:30000}")
+    private long defaultIntervalMs;
+
+    @Value("${admin.monitoring.default-topics:health,jvm,db_pools,redis,mongodb,api,cron}")
+    private List<String> defaultTopicKeys;
+
+    private Set<MonitoringTopic> defaultTopics;
+
+    @PostConstruct
+    public void init() {
+        for (MonitoringTopic topic : MonitoringTopic.values()) {
+            encoders.put(topic, new MonitoringFrameEncoder(objectMapper, topic));
+        }
+        defaultTopics = parseTopics(defaultTopicKeys, new ArrayList<>());
+    }
 
     /**
      * Handle client connection to /monitoring namespace.
-     * Validates JWT token and sends initial monitoring data.
+     * Validates JWT token and subscribes the client to the default topics.
      */
     @OnConnect
     public void onConnect(SocketIOClient client) {
@@ -140,13 +197,16 @@ public class MonitoringSocketHandler {
                     return;
                 }
 
-                // Store authenticated client
-                authenticatedClients.put(client.getSessionId().toString(), client);
+                // Store authenticated client with the default subscription; it is sent
+                // keyframes for those topics on the next broadcast tick
+                MonitoringSubscription subscription = new MonitoringSubscription(client, defaultTopics,
+                        clampInterval(defaultIntervalMs));
+                subscriptions.put(client.getSessionId().toString(), subscription);
                 log.info("Client {} connected successfully (userId: {}, role: {})", client.getSessionId(), userId,
                         role);
 
-                // Send initial monitoring data
-                sendInitialData(client);
+                // Tell the client what it is subscribed to
+                client.sendEvent("monitoring:subscribed", describe(subscription));
 
             } catch (Exception e) {
                 log.error("Error authenticating client {}: {}", client.getSessionId(), e.getMessage());
@@ -164,81 +224,73 @@ public class MonitoringSocketHandler {
     @OnDisconnect
     public void onDisconnect(SocketIOClient client) {
         log.debug("Client disconnected: {}", client.getSessionId());
-        authenticatedClients.remove(client.getSessionId().toString());
+        subscriptions.remove(client.getSessionId().toString());
     }
 
     /**
-     * Handle manual refresh request from client.
+     * Handle subscription change from client.
+     * Expects { topics: ["health", "api", ...], intervalMs: 5000 }; both are
+     * optional and keep their current value when omitted. The interval is
+     * clamped to the server bounds and unknown topics are ignored. Acks with
+     * the effective subscription.
      */
-    @OnEvent("monitoring:refresh")
-    public void onRefreshRequest(SocketIOClient client, AckRequest ackRequest) {
-        log.debug("Refresh request from client: {}", client.getSessionId());
-
-        // Verify client is authenticated
-        if (!authenticatedClients.containsKey(client.getSessionId().toString())) {
-            log.warn("Unauthenticated client {} attempted to request refresh", client.getSessionId());
+    @OnEvent("monitoring:subscribe")
+    public void onSubscribe(SocketIOClient client, Map<String, Object> data, AckRequest ackRequest) {
+        MonitoringSubscription subscription = subscriptions.get(client.getSessionId().toString());
+        if (subscription == null) {
+            log.warn("Unauthenticated client {} attempted to subscribe", client.getSessionId());
             if (ackRequest != null) {
                 ackRequest.sendAckData(Map.of("error", "Unauthorized"));
             }
             return;
         }
 
-        try {
-            // Send updated data
-            sendMonitoringUpdate(client);
-
-            if (ackRequest != null) {
-                ackRequest.sendAckData(Map.of("status", "success"));
-            }
-        } catch (Exception e) {
-            log.error("Error handling refresh request: {}", e.getMessage(), e);
-            if (ackRequest != null) {
-                ackRequest.sendAckData(Map.of("error", "Failed to refresh data"));
-            }
-            sendError(client, "Failed to refresh monitoring data: " + e.getMessage());
+        Set<MonitoringTopic> topics = subscription.getTopics();
+        List<String> ignored = new ArrayList<>();
+        if (data != null && data.get("topics") instanceof Collection<?> requested) {
+            topics = parseTopics(requested.stream().map(String::valueOf).toList(), ignored);
         }
-    }
 
-    /**
-     * Send initial monitoring data to a newly connected client.
-     */
-    private void sendInitialData(SocketIOClient client) {
-        try {
-            HealthCheckResponse systemHealth = adminHealthService.getSystemHealth();
-            SystemMetricsResponse systemMetrics = adminMetricsService.getSystemMetrics();
+        long intervalMs = subscription.getIntervalMs();
+        if (data != null && data.get("intervalMs") instanceof Number requested) {
+            intervalMs = clampInterval(requested.longValue());
+        }
 
-            // Serialize DTOs to Maps using ObjectMapper to handle LocalDateTime properly
-            Map<String, Object> data = new HashMap<>();
-            data.put("systemHealth", objectMapper.convertValue(systemHealth, Map.class));
-            data.put("systemMetrics", objectMapper.convertValue(systemMetrics, Map.class));
-            data.put("timestamp", LocalDateTime.now().toString());
+        subscription.update(topics, intervalMs);
+        log.debug("Client {} subscribed to {} every {} ms", client.getSessionId(), topics, intervalMs);
 
-            client.sendEvent("monitoring:initial", data);
-            log.debug("Sent initial monitoring data to client: {}", client.getSessionId());
-        } catch (Exception e) {
-            log.error("Error sending initial monitoring data: {}", e.getMessage(), e);
-            sendError(client, "Failed to load initial monitoring data: " + e.getMessage());
+        Map<String, Object> response = describe(subscription);
+        if (!ignored.isEmpty()) {
+            response.put("ignored", ignored);
+        }
+        if (ackRequest != null) {
+            ackRequest.sendAckData(response);
         }
+        client.sendEvent("monitoring:subscribed", response);
     }
 
     /**
-     * Send monitoring update to a specific client.
+     * Handle manual refresh request from client.
+     * The client is sent keyframes for its topics on the next tick; topics are
+     * recomputed if older than the minimum interval.
      */
-    private void sendMonitoringUpdate(SocketIOClient client) {
-        try {
-            HealthCheckResponse systemHealth = adminHealthService.getSystemHealth();
-            SystemMetricsResponse systemMetrics = adminMetricsService.getSystemMetrics();
+    @OnEvent("monitoring:refresh")
+    public void onRefreshRequest(SocketIOClient client, AckRequest ackRequest) {
+        log.debug("Refresh request from client: {}", client.getSessionId());
 
-            // Serialize DTOs to Maps using ObjectMapper to handle LocalDateTime properly
-            Map<String, Object> data = new HashMap<>();
-            data.put("systemHealth", objectMapper.convertValue(systemHealth, Map.class));
-            data.put("systemMetrics", objectMapper.convertValue(systemMetrics, Map.class));
-            data.put("timestamp", LocalDateTime.now().toString());
+        // Verify client is authenticated
+        MonitoringSubscription subscription = subscriptions.get(client.getSessionId().toString());
+        if (subscription == null) {
+            log.warn("Unauthenticated client {} attempted to request refresh", client.getSessionId());
+            if (ackRequest != null) {
+                ackRequest.sendAckData(Map.of("error", "Unauthorized"));
+            }
+            return;
+        }
 
-            client.sendEvent("monitoring:update", data);
-        } catch (Exception e) {
-            log.error("Error sending monitoring update: {}", e.getMessage(), e);
-            sendError(client, "Failed to update monitoring data: " + e.getMessage());
+        subscription.requestKeyframe();
+        if (ackRequest != null) {
+            ackRequest.sendAckData(Map.of("status", "success"));
         }
     }
 
@@ -253,38 +305,147 @@ public class MonitoringSocketHandler {
     }
 
     /**
-     * Broadcast monitoring updates to all connected clients.
-     * Runs every 30 seconds (configurable via cron expression).
+     * Send due clients their topic updates.
+     * Runs every second; each client is served at its own interval.
      */
-    @Scheduled(fixedRate = 30000) // 30 seconds
+    @Scheduled(fixedRate = TICK_INTERVAL_MS)
     public void broadcastMonitoringUpdates() {
-        if (authenticatedClients.isEmpty()) {
+        if (subscriptions.isEmpty()) {
             return;
         }
 
-        try {
-            HealthCheckResponse systemHealth = adminHealthService.getSystemHealth();
-            SystemMetricsResponse systemMetrics = adminMetricsService.getSystemMetrics();
-
-            // Serialize DTOs to Maps using ObjectMapper to handle LocalDateTime properly
-            Map<String, Object> data = new HashMap<>();
-            data.put("systemHealth", objectMapper.convertValue(systemHealth, Map.class));
-            data.put("systemMetrics", objectMapper.convertValue(systemMetrics, Map.class));
-            data.put("timestamp", LocalDateTime.now().toString());
-
-            // Broadcast to all authenticated clients
-            for (SocketIOClient client : authenticatedClients.values()) {
-                try {
-                    client.sendEvent("monitoring:update", data);
-                } catch (Exception e) {
-                    log.debug("Failed to send update to client {}: {}", client.getSessionId(), e.getMessage());
-                    // Remove disconnected client
-                    authenticatedClients.remove(client.getSessionId().toString());
+        long now = System.currentTimeMillis();
+        List<MonitoringSubscription> due = subscriptions.values().stream()
+                .filter(subscription -> subscription.isDue(now))
+                .toList();
+        if (due.isEmpty()) {
+            return;
+        }
+
+        // Compute each wanted topic once for all due clients
+        Set<MonitoringTopic> topics = EnumSet.noneOf(MonitoringTopic.class);
+        due.forEach(subscription -> topics.addAll(subscription.getTopics()));
+        Set<MonitoringTopic> failed = refreshTopics(topics, now);
+
+        for (MonitoringSubscription subscription : due) {
+            SocketIOClient client = subscription.getClient();
+            try {
+                sendTopics(subscription);
+                subscription.markSent(now);
+                for (MonitoringTopic topic : subscription.getTopics()) {
+                    if (failed.contains(topic)) {
+                        sendError(client, "Failed to update monitoring topic: " + topic.key());
+                    }
                 }
+            } catch (Exception e) {
+                log.debug("Failed to send update to client {}: {}", client.getSessionId(), e.getMessage());
+                // Remove disconnected client
+                subscriptions.remove(client.getSessionId().toString());
             }
-            log.debug("Broadcasted monitoring update to {} clients", authenticatedClients.size());
-        } catch (Exception e) {
-            log.error("Error broadcasting monitoring updates: {}", e.getMessage(), e);
         }
+        log.debug("Sent monitoring updates for {} to {} clients", topics, due.size());
+    }
+
+    /**
+     * Recompute topics whose state is older than the minimum client interval.
+     * A topic that fails keeps its last state.
+     *
+     * @return Topics that failed to compute
+     */
+    private Set<MonitoringTopic> refreshTopics(Set<MonitoringTopic> topics, long now) {
+        Set<MonitoringTopic> failed = EnumSet.noneOf(MonitoringTopic.class);
+        long maxAgeMs = Math.max(0, minIntervalMs - TICK_INTERVAL_MS / 2);
+        for (MonitoringTopic topic : topics) {
+            MonitoringFrameEncoder encoder = encoders.get(topic);
+            if (encoder.getSequence() > 0 && now - encoder.getUpdatedAt() < maxAgeMs) {
+                continue;
+            }
+            try {
+                Object value = computeTopic(topic);
+                // Convert DTOs to a tree using ObjectMapper to handle LocalDateTime properly
+                JsonNode state = value != null ? objectMapper.valueToTree(value) : NullNode.getInstance();
+                encoder.update(state);
+            } catch (Exception e) {
+                log.error("Error computing monitoring topic {}: {}", topic.key(), e.getMessage(), e);
+                failed.add(topic);
+            }
+        }
+        return failed;
+    }
+
+    private Object computeTopic(MonitoringTopic topic) {
+        return switch (topic) {
+            case HEALTH -> adminHealthService.getSystemHealth();
+            case JVM -> adminMetricsService.getJvmMetrics();
+            case DB_POOLS -> adminMetricsService.getDatabasePoolMetrics();
+            case REDIS -> adminMetricsService.getRedisMetrics();
+            case MONGODB -> adminMetricsService.getMongoMetrics();
+            case API -> adminMetricsService.getApiMetrics();
+            case CRON -> adminCronJobService.getAllCronJobStatuses();
+        };
+    }
+
+    /**
+     * Send a client a keyframe or delta for each of its topics that changed
+     * since its last frame
+     */
+    private void sendTopics(MonitoringSubscription subscription) throws Exception {
+        boolean keyframes = subscription.consumeKeyframeRequest();
+
+        for (MonitoringTopic topic : subscription.getTopics()) {
+            MonitoringFrameEncoder encoder = encoders.get(topic);
+            long sequence = encoder.getSequence();
+            if (sequence == 0) {
+                continue;
+            }
+
+            Long sent = subscription.getSentSequence(topic);
+            if (!keyframes && sent != null && sent == sequence) {
+                continue;
+            }
+
+            boolean keyframe = keyframes || sent == null
+                    || subscription.getDeltasSinceKeyframe(topic) >= keyframeInterval
+                    || !encoder.canDeltaFrom(sent);
+            RawValue payload = keyframe ? encoder.getKeyframe() : encoder.getDelta(sent);
+
+            subscription.getClient().sendEvent(keyframe ? "monitoring:update" : "monitoring:delta", payload);
+            subscription.recordSent(topic, sequence, keyframe);
+        }
+    }
+
+    private Set<MonitoringTopic> parseTopics(Collection<String> keys, List<String> ignored) {
+        Set<MonitoringTopic> topics = EnumSet.noneOf(MonitoringTopic.class);
+        for (String key : keys) {
+            if ("all".equalsIgnoreCase(key.trim())) {
+                topics.addAll(EnumSet.allOf(MonitoringTopic.class));
+                continue;
+            }
+            MonitoringTopic topic = MonitoringTopic.fromKey(key);
+            if (topic != null) {
+                topics.add(topic);
+            } else {
+                ignored.add(key);
+            }
+        }
+        return topics;
+    }
+
+    private long clampInterval(long intervalMs) {
+        return Math.min(Math.max(intervalMs, minIntervalMs), maxIntervalMs);
+    }
+
+    /**
+     * Effective subscription and the server bounds, as sent to the client
+     */
+    private Map<String, Object> describe(MonitoringSubscription subscription) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("topics", subscription.getTopics().stream().map(MonitoringTopic::key).toList());
+        data.put("intervalMs", subscription.getIntervalMs());
+        data.put("minIntervalMs", minIntervalMs);
+        data.put("maxIntervalMs", maxIntervalMs);
+        data.put("availableTopics", EnumSet.allOf(MonitoringTopic.class).stream().map(MonitoringTopic::key).toList());
+        data.put("timestamp", LocalDateTime.now().toString());
+        return data;
     }
 }
@@ -0,0 +1,109 @@
+package com.hafizbahtiar.spring.features.admin.socket;
+
+import com.corundumstudio.socketio.SocketIOClient;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Topics, update interval and delivery state of one monitoring client.
+ *
+ * Topics and interval are replaced atomically from Socket.IO event threads;
+ * the per-topic delivery state is only touched by the broadcast thread.
+ */
+public class MonitoringSubscription {
+
+    private final SocketIOClient client;
+    private volatile Set<MonitoringTopic> topics;
+    private volatile long intervalMs;
+    private volatile long nextDueAt;
+    private final AtomicBoolean keyframeRequested = new AtomicBoolean(true);
+
+    /**
+     * Last sequence number sent per topic, and updates sent since that topic's
+     * last keyframe
+     */
+    private final Map<MonitoringTopic, Long> sentSequences = new HashMap<>();
+    private final Map<MonitoringTopic, Integer> deltasSinceKeyframe = new HashMap<>();
+
+    public MonitoringSubscription(SocketIOClient client, Set<MonitoringTopic> topics, long intervalMs) {
+        this.client = client;
+        this.topics = copyOf(topics);
+        this.intervalMs = intervalMs;
+    }
+
+    public SocketIOClient getClient() {
+        return client;
+    }
+
+    public Set<MonitoringTopic> getTopics() {
+        return topics;
+    }
+
+    public long getIntervalMs() {
+        return intervalMs;
+    }
+
+    /**
+     * Replace topics and interval; the client is sent keyframes for all its
+     * topics on the next broadcast.
+     */
+    public void update(Set<MonitoringTopic> topics, long intervalMs) {
+        this.topics = copyOf(topics);
+        this.intervalMs = intervalMs;
+        requestKeyframe();
+    }
+
+    /**
+     * Send keyframes for all topics on the next broadcast
+     */
+    public void requestKeyframe() {
+        keyframeRequested.set(true);
+        nextDueAt = 0;
+    }
+
+    public boolean isDue(long now) {
+        return !topics.isEmpty() && now >= nextDueAt;
+    }
+
+    /**
+     * Whether keyframes were requested since the last broadcast; clears the
+     * request
+     */
+    public boolean consumeKeyframeRequest() {
+        return keyframeRequested.getAndSet(false);
+    }
+
+    /**
+     * Schedule the next broadcast
+     */
+    public void markSent(long now) {
+        nextDueAt = now + intervalMs;
+    }
+
+    /**
+     * Last sequence number sent for a topic, or null if none
+     */
+    Long getSentSequence(MonitoringTopic topic) {
+        return sentSequences.get(topic);
+    }
+
+    int getDeltasSinceKeyframe(MonitoringTopic topic) {
+        return deltasSinceKeyframe.getOrDefault(topic, 0);
+    }
+
+    private static Set<MonitoringTopic> copyOf(Set<MonitoringTopic> topics) {
+        EnumSet<MonitoringTopic> copy = EnumSet.noneOf(MonitoringTopic.class);
+        copy.addAll(topics);
+        return Collections.unmodifiableSet(copy);
+    }
+
+    void recordSent(MonitoringTopic topic, long sequence, boolean keyframe) {
+        sentSequences.put(topic, sequence);
+        deltasSinceKeyframe.put(topic, keyframe ? 0 : getDeltasSinceKeyframe(topic) + 1);
+    }
+}
@@ -0,0 +1,69 @@
+package com.hafizbahtiar.spring.features.admin.socket;
+
+import java.util.Locale;
+
+/**
+ * Topics a client can subscribe to on the /monitoring namespace.
+ * Each topic is computed independently and only while at least one client is
+ * subscribed to it.
+ */
+public enum MonitoringTopic {
+    /**
+     * API, PostgreSQL, Redis and MongoDB health checks
+     */
+    HEALTH,
+
+    /**
+     * JVM memory, threads, GC and CPU
+     */
+    JVM,
+
+    /**
+     * PostgreSQL connection pool usage
+     */
+    DB_POOLS,
+
+    /**
+     * Redis server metrics
+     */
+    REDIS,
+
+    /**
+     * MongoDB server metrics
+     */
+    MONGODB,
+
+    /**
+     * API request counts, latencies, rates and error rates
+     */
+    API,
+
+    /**
+     * Cron job statuses
+     */
+    CRON;
+
+    /**
+     * Name used on the wire, e.g. "db_pools"
+     */
+    public String key() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Resolve a wire name (case-insensitive).
+     *
+     * @return Topic, or null if unknown
+     */
+    public static MonitoringTopic fromKey(String key) {
+        if (key == null) {
+            return null;
+        }
+        for (MonitoringTopic topic : values()) {
+            if (topic.name().equalsIgnoreCase(key.trim())) {
+                return topic;
+            }
+        }
+        return null;
+    }
+}
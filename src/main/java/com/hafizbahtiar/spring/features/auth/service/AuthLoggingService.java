@@ -2,6 +2,7 @@ package com.hafizbahtiar.spring.features.auth.service;
 
 import com.hafizbahtiar.spring.features.auth.model.AuthLog;
 import com.hafizbahtiar.spring.features.auth.repository.mongodb.AuthLogRepository;
+import com.hafizbahtiar.spring.features.logs.service.LogEventWriter;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,6 +22,7 @@ import java.time.LocalDateTime;
 public class AuthLoggingService {
 
     private final AuthLogRepository authLogRepository;
+    private final LogEventWriter logEventWriter;
 
     /**
      * Log a successful login event
@@ -42,7 +44,7 @@ public class AuthLoggingService {
                     .tokenExpiresAt(tokenExpiresAt)
                     .build();
 
-            authLogRepository.save(authLog);
+            save(authLog);
             log.debug("Logged successful login for user: {}", userId);
         } catch (Exception e) {
             log.error("Failed to log login success event", e);
@@ -68,7 +70,7 @@ public class AuthLoggingService {
                     .failureReason(failureReason)
                     .build();
 
-            authLogRepository.save(authLog);
+            save(authLog);
             log.debug("Logged failed login attempt for identifier: {}", identifier);
         } catch (Exception e) {
             log.error("Failed to log login failure event", e);
@@ -94,7 +96,7 @@ public class AuthLoggingService {
                     .failureReason(isValid ? null : "TOKEN_INVALID")
                     .build();
 
-            authLogRepository.save(authLog);
+            save(authLog);
             log.debug("Logged token validation for user: {}, valid: {}", userId, isValid);
         } catch (Exception e) {
             log.error("Failed to log token validation event", e);
@@ -120,7 +122,7 @@ public class AuthLoggingService {
                     .success(true)
                     .build();
 
-            authLogRepository.save(authLog);
+            save(authLog);
             log.debug("Logged logout for user: {}", userId);
         } catch (Exception e) {
             log.error("Failed to log logout event", e);
@@ -172,7 +174,7 @@ public class AuthLoggingService {
                     .failureReason(failureReason)
                     .build();
 
-            authLogRepository.save(authLog);
+            save(authLog);
             log.debug("Logged password reset request for email: {}, success: {}", email, success);
         } catch (Exception e) {
             log.error("Failed to log password reset request event", e);
@@ -199,7 +201,7 @@ public class AuthLoggingService {
                     .failureReason(failureReason)
                     .build();
 
-            authLogRepository.save(authLog);
+            save(authLog);
             log.debug("Logged password reset completion for user: {}, success: {}", userId, success);
         } catch (Exception e) {
             log.error("Failed to log password reset completion event", e);
@@ -225,7 +227,7 @@ public class AuthLoggingService {
                     .success(true)
                     .build();
 
-            authLogRepository.save(authLog);
+            save(authLog);
             log.debug("Logged session creation for user: {}, sessionId: {}", userId, sessionId);
         } catch (Exception e) {
             log.error("Failed to log session creation event", e);
@@ -251,7 +253,7 @@ public class AuthLoggingService {
                     .success(true)
                     .build();
 
-            authLogRepository.save(authLog);
+            save(authLog);
             log.debug("Logged session revocation for user: {}, sessionId: {}", userId, sessionId);
         } catch (Exception e) {
             log.error("Failed to log session revocation event", e);
@@ -277,7 +279,7 @@ public class AuthLoggingService {
                     .success(true)
                     .build();
 
-            authLogRepository.save(authLog);
+            save(authLog);
             log.debug("Logged all sessions revoked for user: {}, currentSessionId: {}", userId, currentSessionId);
         } catch (Exception e) {
             log.error("Failed to log all sessions revoked event", e);
@@ -305,7 +307,7 @@ public class AuthLoggingService {
                     .tokenExpiresAt(tokenExpiresAt)
                     .build();
 
-            authLogRepository.save(authLog);
+            save(authLog);
             log.debug("Logged successful token refresh for user: {}, refreshToken: {}", userId, refreshToken);
         } catch (Exception e) {
             log.error("Failed to log token refresh success event", e);
@@ -332,7 +334,7 @@ public class AuthLoggingService {
                     .failureReason(failureReason)
                     .build();
 
-            authLogRepository.save(authLog);
+            save(authLog);
             log.debug("Logged failed token refresh for refreshToken: {}, reason: {}", refreshToken, failureReason);
         } catch (Exception e) {
             log.error("Failed to log token refresh failure event", e);
@@ -354,4 +356,11 @@ public class AuthLoggingService {
         }
         return requestId;
     }
+
+    /**
+     * Persist log through the shared log writer (admission policy applied)
+     */
+    private void save(AuthLog authLog) {
+        logEventWriter.write("AUTH", authLog.getEventType(), authLog, authLogRepository::save);
+    }
 }
@@ -1,19 +1,32 @@
 package com.hafizbahtiar.spring.features.auth.service;
 
+import com.hafizbahtiar.spring.common.batch.BatchJob;
+import com.hafizbahtiar.spring.common.batch.BatchJobRunner;
+import com.hafizbahtiar.spring.common.batch.BatchRunResult;
+import com.hafizbahtiar.spring.common.batch.JpaKeysetReader;
+import com.hafizbahtiar.spring.common.lock.DistributedLockService;
+import com.hafizbahtiar.spring.common.lock.LockLease;
 import com.hafizbahtiar.spring.features.auth.entity.Session;
+import com.hafizbahtiar.spring.features.cronjob.annotation.CronJobMethod;
 import com.hafizbahtiar.spring.features.auth.repository.SessionRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service for cleaning up expired sessions.
- * Runs scheduled tasks to automatically revoke expired refresh tokens.
+ * Runs scheduled tasks to automatically revoke expired refresh tokens; the
+ * scheduled cleanup runs as a chunked, checkpointed batch job.
  */
 @Service
 @RequiredArgsConstructor
@@ -21,6 +34,27 @@ import java.util.List;
 public class SessionCleanupService {
 
     private final SessionRepository sessionRepository;
+    private final DistributedLockService distributedLockService;
+    private final BatchJobRunner batchJobRunner;
+    private final EntityManager entityManager;
+
+    /**
+     * Sessions revoked per transaction by the scheduled cleanup
+     */
+    @Value("${session.cleanup.chunk-size:500}")
+    private int chunkSize;
+
+    /**
+     * Partitions of the scheduled cleanup run in parallel
+     */
+    @Value("${session.cleanup.partitions:2}")
+    private int partitions;
+
+    /**
+     * Attempts at a failing chunk before its sessions are skipped
+     */
+    @Value("${session.cleanup.max-chunk-failures:3}")
+    private int maxChunkFailures;
 
     /**
      * Clean up expired refresh tokens.
@@ -33,43 +67,46 @@ public class SessionCleanupService {
      * - Day of month: * (every day)
      * - Month: * (every month)
      * - Day of week: ? (no specific day)
+     * 
+     * Runs on one node only: the one that takes the lock for this minute.
      */
     @Scheduled(cron = "0 0 2 * * ?")
-    @Transactional
+    @CronJobMethod(description = "Revoke sessions with expired refresh tokens")
     public void cleanupExpiredSessions() {
+        boolean ran = distributedLockService.runOnce("session-cleanup",
+                Instant.now().truncatedTo(ChronoUnit.MINUTES), this::revokeExpiredSessions);
+        if (!ran) {
+            log.info("Skipping cleanup of expired refresh tokens: running on another node");
+        }
+    }
+
+    /**
+     * Revoke active sessions with expired refresh tokens in checkpointed
+     * chunks; a run interrupted part way resumes on the next run. The lease
+     * fences the checkpoints, so a run that lost its lock stops instead of
+     * writing next to the new holder.
+     */
+    private void revokeExpiredSessions(LockLease lease) {
         log.info("Starting scheduled cleanup of expired refresh tokens...");
 
-        LocalDateTime now = LocalDateTime.now();
+        Map<String, Object> parameters = Map.of("now", LocalDateTime.now());
+        BatchJob<Session> job = BatchJob.<Session>builder()
+                .name("session-cleanup")
+                .chunkSize(chunkSize)
+                .partitions(partitions)
+                .maxChunkFailures(maxChunkFailures)
+                .onChunkFailure(BatchJob.ChunkFailurePolicy.SKIP)
+                .reader((partition, partitionCount) -> new JpaKeysetReader<>(entityManager, Session.class,
+                        "e.isActive = true AND e.refreshTokenExpiresAt < :now", parameters,
+                        partition, partitionCount))
+                .processor(sessions -> sessions.forEach(Session::revoke))
+                .build();
 
         try {
-            // Find all sessions with expired refresh tokens
-            List<Session> expiredSessions = sessionRepository.findByRefreshTokenExpiresAtBefore(now);
-
-            if (expiredSessions.isEmpty()) {
-                log.info("No expired sessions found. Cleanup completed.");
-                return;
-            }
-
-            int totalExpired = expiredSessions.size();
-            int revokedCount = 0;
-            int alreadyInactiveCount = 0;
-
-            // Revoke expired sessions
-            for (Session session : expiredSessions) {
-                if (Boolean.TRUE.equals(session.getIsActive())) {
-                    session.revoke();
-                    sessionRepository.save(session);
-                    revokedCount++;
-                } else {
-                    alreadyInactiveCount++;
-                }
-            }
-
-            log.info("Session cleanup completed successfully:");
-            log.info("  - Total expired sessions found: {}", totalExpired);
-            log.info("  - Sessions revoked: {}", revokedCount);
-            log.info("  - Sessions already inactive: {}", alreadyInactiveCount);
-
+            BatchRunResult result = batchJobRunner.run(job, lease);
+            log.info("Session cleanup {}: {} session(s) revoked, {} skipped in {} ms{}",
+                    result.completed() ? "completed" : "stopped", result.processed(), result.skipped(),
+                    result.durationMs(), result.resumed() ? " (resumed)" : "");
         } catch (Exception e) {
             log.error("Error during session cleanup", e);
         }
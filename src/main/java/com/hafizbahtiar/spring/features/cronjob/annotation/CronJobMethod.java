@@ -0,0 +1,28 @@
+package com.hafizbahtiar.spring.features.cronjob.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a public, no-argument bean method as selectable for APPLICATION cron
+ * jobs. Marked methods are listed by the job registry (available-jobs
+ * endpoint) as "beanName.methodName".
+ * 
+ * <pre>
+ * {@code @CronJobMethod(description = "Revoke sessions with expired refresh tokens")}
+ * public void cleanupExpiredSessions() { ... }
+ * </pre>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CronJobMethod {
+
+    /**
+     * Description shown when selecting the job
+     */
+    String description() default "";
+}
@@ -1,10 +1,13 @@
 package com.hafizbahtiar.spring.features.cronjob.config;
 
+import com.hafizbahtiar.spring.features.admin.metrics.ExecutorRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
+import java.util.concurrent.ThreadPoolExecutor;
+
 /**
  * Configuration for cron job scheduling.
  * Provides TaskScheduler bean for dynamic job scheduling.
@@ -14,17 +17,24 @@ public class CronJobSchedulerConfig {
 
     /**
      * Create a ThreadPoolTaskScheduler bean for dynamic cron job scheduling.
+     * The pool is registered with the executor registry as "cron-jobs"; wait
+     * time is not tracked since periodic tasks are only wrapped once.
      * 
+     * @param executorRegistry Executor registry
      * @return TaskScheduler instance
      */
     @Bean(name = "cronJobTaskScheduler")
-    public TaskScheduler taskScheduler() {
+    public TaskScheduler taskScheduler(ExecutorRegistry executorRegistry) {
         ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
         scheduler.setPoolSize(10); // Allow up to 10 concurrent scheduled tasks
         scheduler.setThreadNamePrefix("cron-job-");
         scheduler.setWaitForTasksToCompleteOnShutdown(true);
         scheduler.setAwaitTerminationSeconds(60);
+        scheduler.setTaskDecorator(executorRegistry.taskDecorator("cron-jobs", false));
+        scheduler.setRejectedExecutionHandler(
+                executorRegistry.rejectionHandler("cron-jobs", new ThreadPoolExecutor.AbortPolicy()));
         scheduler.initialize();
+        executorRegistry.register("cron-jobs", scheduler::getScheduledThreadPoolExecutor);
         return scheduler;
     }
 }
@@ -2,6 +2,8 @@ package com.hafizbahtiar.spring.features.cronjob.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.hafizbahtiar.spring.features.cronjob.entity.JobType;
+import com.hafizbahtiar.spring.features.cronjob.entity.MisfirePolicy;
+import com.hafizbahtiar.spring.features.cronjob.entity.OverlapPolicy;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -27,6 +29,14 @@ public class CronJobResponse {
     private Boolean enabled;
     private String jobClass;
     private String sqlScript;
+
+    /**
+     * Execution policies (APPLICATION jobs)
+     */
+    private Integer maxConcurrentRuns;
+    private OverlapPolicy overlapPolicy;
+    private MisfirePolicy misfirePolicy;
+    private Integer timeoutSeconds;
     private Long createdBy;
     private String createdByName; // Optional: creator's name
 
@@ -1,6 +1,9 @@
 package com.hafizbahtiar.spring.features.cronjob.dto;
 
 import com.hafizbahtiar.spring.features.cronjob.entity.JobType;
+import com.hafizbahtiar.spring.features.cronjob.entity.MisfirePolicy;
+import com.hafizbahtiar.spring.features.cronjob.entity.OverlapPolicy;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
@@ -54,4 +57,26 @@ public class UpdateCronJobRequest {
      * Whether the job is enabled (optional)
      */
     private Boolean enabled;
+
+    /**
+     * Maximum runs in progress at once (optional, APPLICATION jobs, default: 1)
+     */
+    @Min(value = 1, message = "Max concurrent runs must be at least 1")
+    private Integer maxConcurrentRuns;
+
+    /**
+     * Overlap policy: SKIP or QUEUE (optional, APPLICATION jobs, default: SKIP)
+     */
+    private OverlapPolicy overlapPolicy;
+
+    /**
+     * Misfire policy: SKIP, FIRE_ONCE or FIRE_ALL (optional, APPLICATION jobs, default: SKIP)
+     */
+    private MisfirePolicy misfirePolicy;
+
+    /**
+     * Timeout in seconds after which a run is interrupted (optional, APPLICATION jobs)
+     */
+    @Min(value = 1, message = "Timeout must be at least 1 second")
+    private Integer timeoutSeconds;
 }
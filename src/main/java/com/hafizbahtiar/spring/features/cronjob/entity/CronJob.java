@@ -2,6 +2,7 @@ package com.hafizbahtiar.spring.features.cronjob.entity;
 
 import com.hafizbahtiar.spring.features.user.entity.User;
 import jakarta.persistence.*;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
@@ -88,6 +89,38 @@ public class CronJob {
     @Column(name = "sql_script", columnDefinition = "TEXT")
     private String sqlScript;
 
+    /**
+     * Maximum runs of this job in progress at once on a node (null means 1).
+     * APPLICATION jobs only.
+     */
+    @Min(value = 1, message = "Max concurrent runs must be at least 1")
+    @Column(name = "max_concurrent_runs")
+    private Integer maxConcurrentRuns;
+
+    /**
+     * What happens when the job fires while at its concurrency limit
+     * (null means SKIP). APPLICATION jobs only.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "overlap_policy", length = 20)
+    private OverlapPolicy overlapPolicy;
+
+    /**
+     * What happens to fire times missed while the application was down
+     * (null means SKIP). APPLICATION jobs only.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "misfire_policy", length = 20)
+    private MisfirePolicy misfirePolicy;
+
+    /**
+     * Runs still in progress after this many seconds are interrupted
+     * (null means no timeout). APPLICATION jobs only.
+     */
+    @Min(value = 1, message = "Timeout must be at least 1 second")
+    @Column(name = "timeout_seconds")
+    private Integer timeoutSeconds;
+
     /**
      * User who created this job
      */
@@ -149,6 +182,27 @@ public class CronJob {
         this.enabled = false;
     }
 
+    /**
+     * Effective maximum concurrent runs
+     */
+    public int getEffectiveMaxConcurrentRuns() {
+        return maxConcurrentRuns != null && maxConcurrentRuns > 0 ? maxConcurrentRuns : 1;
+    }
+
+    /**
+     * Effective overlap policy
+     */
+    public OverlapPolicy getEffectiveOverlapPolicy() {
+        return overlapPolicy != null ? overlapPolicy : OverlapPolicy.SKIP;
+    }
+
+    /**
+     * Effective misfire policy
+     */
+    public MisfirePolicy getEffectiveMisfirePolicy() {
+        return misfirePolicy != null ? misfirePolicy : MisfirePolicy.SKIP;
+    }
+
     /**
      * Business method to validate job configuration
      * APPLICATION jobs must have jobClass, DATABASE jobs must have sqlScript
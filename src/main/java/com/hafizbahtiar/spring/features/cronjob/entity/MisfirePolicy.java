@@ -0,0 +1,26 @@
+package com.hafizbahtiar.spring.features.cronjob.entity;
+
+/**
+ * What happens on startup to the fire times an application job missed while
+ * the application was down.
+ *
+ * - SKIP: Ignore them and wait for the next fire time (default).
+ * - FIRE_ONCE: Run once for the most recent missed fire time.
+ * - FIRE_ALL: Run once per missed fire time, oldest first.
+ */
+public enum MisfirePolicy {
+    /**
+     * Ignore missed fire times.
+     */
+    SKIP,
+
+    /**
+     * Run once to catch up, however many fire times were missed.
+     */
+    FIRE_ONCE,
+
+    /**
+     * Run for every missed fire time, capped by cron.misfire.max-catch-up.
+     */
+    FIRE_ALL
+}
@@ -0,0 +1,21 @@
+package com.hafizbahtiar.spring.features.cronjob.entity;
+
+/**
+ * What happens when an application job fires while it already has its
+ * maximum number of runs in progress.
+ *
+ * - SKIP: Drop the new run (default).
+ * - QUEUE: Run it as soon as a running execution finishes.
+ */
+public enum OverlapPolicy {
+    /**
+     * Drop the run; the job runs again at its next fire time.
+     */
+    SKIP,
+
+    /**
+     * Hold the run until a running execution finishes.
+     * Queued runs are capped by cron.overlap.max-queued.
+     */
+    QUEUE
+}
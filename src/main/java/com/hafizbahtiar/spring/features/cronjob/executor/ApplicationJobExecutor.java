@@ -6,23 +6,40 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationContext;
 import org.springframework.stereotype.Component;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Executor for application-level cron jobs.
- * Executes Spring service methods using reflection.
+ * Executes Spring service methods through method handles.
  * 
  * Job class format: "ServiceName.methodName" or
  * "com.package.ServiceName.methodName"
  * Example: "SessionCleanupService.cleanupExpiredSessions"
+ * 
+ * The target bean and method are resolved once per job (when it is validated
+ * or first executed) and cached as a method handle bound to the bean. The
+ * cache entry is re-resolved when the job's class changes and evicted when the
+ * job is unscheduled.
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class ApplicationJobExecutor {
 
+    private static final MethodType JOB_METHOD_TYPE = MethodType.methodType(void.class);
+
     private final ApplicationContext applicationContext;
 
+    /**
+     * Resolved targets by job name
+     */
+    private final Map<String, JobTarget> targets = new ConcurrentHashMap<>();
+
     /**
      * Execute a cron job by calling the specified Spring service method.
      *
@@ -30,47 +47,15 @@ public class ApplicationJobExecutor {
      * @throws JobExecutionException if the job cannot be executed
      */
     public void execute(CronJob cronJob) throws JobExecutionException {
-        if (cronJob.getJobClass() == null || cronJob.getJobClass().trim().isEmpty()) {
-            throw new JobExecutionException("Job class is not specified for job: " + cronJob.getName());
-        }
-
-        String jobClass = cronJob.getJobClass().trim();
-        log.debug("Executing application job: {} with class: {}", cronJob.getName(), jobClass);
+        JobTarget target = resolve(cronJob);
+        log.debug("Executing application job: {} with class: {}", cronJob.getName(), target.jobClass());
 
         try {
-            // Parse job class and method name
-            String[] parts = jobClass.split("\\.");
-            if (parts.length < 2) {
-                throw new JobExecutionException(
-                        "Invalid job class format. Expected 'ServiceName.methodName' or 'com.package.ServiceName.methodName', got: "
-                                + jobClass);
-            }
-
-            String methodName = parts[parts.length - 1];
-            String serviceName = parts[parts.length - 2];
-
-            // Find the bean in Spring context
-            Object bean = findBean(serviceName);
-            if (bean == null) {
-                throw new JobExecutionException("Service bean not found: " + serviceName);
-            }
-
-            // Find the method
-            Method method = findMethod(bean.getClass(), methodName);
-            if (method == null) {
-                throw new JobExecutionException(
-                        "Method not found: " + methodName + " in class " + bean.getClass().getName());
-            }
-
-            // Invoke the method
-            log.debug("Invoking method: {}.{}()", bean.getClass().getSimpleName(), methodName);
-            method.invoke(bean);
-
+            target.handle().invokeExact();
             log.info("Successfully executed application job: {}", cronJob.getName());
-
-        } catch (JobExecutionException e) {
+        } catch (Error e) {
             throw e;
-        } catch (Exception e) {
+        } catch (Throwable e) {
             log.error("Error executing application job: {}", cronJob.getName(), e);
             throw new JobExecutionException(
                     "Failed to execute job: " + cronJob.getName() + ". Error: " + e.getMessage(), e);
@@ -79,37 +64,102 @@ public class ApplicationJobExecutor {
 
     /**
      * Validate that the job class and method exist and are accessible.
+     * A valid target is cached for the job's executions.
      *
      * @param cronJob The cron job to validate
      * @return true if valid, false otherwise
      */
     public boolean validate(CronJob cronJob) {
-        if (cronJob.getJobClass() == null || cronJob.getJobClass().trim().isEmpty()) {
+        try {
+            resolve(cronJob);
+            return true;
+        } catch (Exception e) {
+            log.debug("Job validation failed for: {}", cronJob.getName(), e);
             return false;
         }
+    }
 
-        try {
-            String jobClass = cronJob.getJobClass().trim();
-            String[] parts = jobClass.split("\\.");
-            if (parts.length < 2) {
-                return false;
-            }
+    /**
+     * Drop the cached target of a job, e.g. when it is unscheduled or edited.
+     *
+     * @param jobName The name of the job
+     */
+    public void invalidate(String jobName) {
+        targets.remove(jobName);
+    }
 
-            String methodName = parts[parts.length - 1];
-            String serviceName = parts[parts.length - 2];
+    /**
+     * Get the cached target of a job, resolving it if there is none or the job
+     * class changed.
+     */
+    private JobTarget resolve(CronJob cronJob) throws JobExecutionException {
+        if (cronJob.getJobClass() == null || cronJob.getJobClass().trim().isEmpty()) {
+            throw new JobExecutionException("Job class is not specified for job: " + cronJob.getName());
+        }
 
-            Object bean = findBean(serviceName);
-            if (bean == null) {
-                return false;
-            }
+        String jobClass = cronJob.getJobClass().trim();
+        JobTarget target = cronJob.getName() != null ? targets.get(cronJob.getName()) : null;
+        if (target != null && target.jobClass().equals(jobClass)) {
+            return target;
+        }
+
+        target = resolveTarget(jobClass);
+        if (cronJob.getName() != null) {
+            targets.put(cronJob.getName(), target);
+        }
+        log.debug("Resolved application job {} to {}", cronJob.getName(), jobClass);
+        return target;
+    }
+
+    private JobTarget resolveTarget(String jobClass) throws JobExecutionException {
+        // Parse job class and method name
+        String[] parts = jobClass.split("\\.");
+        if (parts.length < 2) {
+            throw new JobExecutionException(
+                    "Invalid job class format. Expected 'ServiceName.methodName' or 'com.package.ServiceName.methodName', got: "
+                            + jobClass);
+        }
 
-            Method method = findMethod(bean.getClass(), methodName);
-            return method != null;
+        String methodName = parts[parts.length - 1];
+        String serviceName = parts[parts.length - 2];
 
-        } catch (Exception e) {
-            log.debug("Job validation failed for: {}", cronJob.getName(), e);
-            return false;
+        // Find the bean in Spring context
+        Object bean = findBean(serviceName);
+        if (bean == null) {
+            throw new JobExecutionException("Service bean not found: " + serviceName);
         }
+
+        // Find the method
+        Method method = findMethod(bean.getClass(), methodName);
+        if (method == null) {
+            throw new JobExecutionException(
+                    "Method not found: " + methodName + " in class " + bean.getClass().getName());
+        }
+
+        return new JobTarget(jobClass, bind(bean, method));
+    }
+
+    /**
+     * Bind a method to its bean as a handle taking no arguments and ignoring
+     * the return value
+     */
+    private MethodHandle bind(Object bean, Method method) throws JobExecutionException {
+        MethodHandle handle;
+        try {
+            handle = MethodHandles.publicLookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            // e.g. a JDK proxy class in a non-exported module; go through reflection
+            try {
+                handle = MethodHandles.publicLookup()
+                        .findVirtual(Method.class, "invoke",
+                                MethodType.methodType(Object.class, Object.class, Object[].class))
+                        .bindTo(method);
+                handle = MethodHandles.insertArguments(handle, 1, (Object) new Object[0]);
+            } catch (ReflectiveOperationException ex) {
+                throw new JobExecutionException("Method not accessible: " + method, ex);
+            }
+        }
+        return handle.bindTo(bean).asType(JOB_METHOD_TYPE);
     }
 
     /**
@@ -155,6 +205,12 @@ public class ApplicationJobExecutor {
         return null;
     }
 
+    /**
+     * A resolved job: its job class string and bound method handle
+     */
+    private record JobTarget(String jobClass, MethodHandle handle) {
+    }
+
     /**
      * Exception thrown when job execution fails.
      */
@@ -15,7 +15,7 @@ public interface JobRegistry {
 
     /**
      * Get all available predefined jobs.
-     * Scans Spring context for service beans with executable methods.
+     * Lists bean methods marked with @CronJobMethod.
      *
      * @return List of available job definitions
      */
@@ -39,7 +39,7 @@ public interface JobRegistry {
     JobDefinition getJob(String serviceName, String methodName);
 
     /**
-     * Refresh the registry (re-scan Spring context).
+     * Refresh the registry (re-index the beans created so far).
      * Useful when new services are added dynamically.
      */
     void refresh();
@@ -79,7 +79,7 @@ public interface JobRegistry {
         private String jobClass;
 
         /**
-         * Method description (from JavaDoc or annotation, if available)
+         * Method description (from @CronJobMethod or @Scheduled, if available)
          */
         private String description;
 
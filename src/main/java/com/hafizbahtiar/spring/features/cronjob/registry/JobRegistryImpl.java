@@ -1,37 +1,83 @@
 package com.hafizbahtiar.spring.features.cronjob.registry;
 
-import lombok.RequiredArgsConstructor;
+import com.hafizbahtiar.spring.features.cronjob.annotation.CronJobMethod;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationContext;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.stereotype.Component;
 
-import jakarta.annotation.PostConstruct;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 /**
  * Implementation of JobRegistry.
- * Scans Spring context for available service beans and their executable
- * methods.
+ * Collects methods marked with {@link CronJobMethod} as a bean post-processor,
+ * while beans are created anyway, so discovery never instantiates beans or
+ * reflects over unrelated ones. Lazy beans are listed once they are created.
+ *
+ * AnnotationUtils.isCandidateClass only rules out JDK types, so application
+ * classes found to carry no job methods are remembered and not introspected
+ * again, as ScheduledAnnotationBeanPostProcessor does. Once the context is
+ * refreshed the time spent on discovery is logged; at debug level it is
+ * compared with the full reflective scan over every singleton used before.
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
-public class JobRegistryImpl implements JobRegistry {
+public class JobRegistryImpl implements JobRegistry, BeanPostProcessor, BeanFactoryAware,
+        ApplicationListener<ContextRefreshedEvent> {
 
-    private final ApplicationContext applicationContext;
     private final Map<String, JobDefinition> jobCache = new ConcurrentHashMap<>();
+    private final Set<Class<?>> nonAnnotatedClasses = ConcurrentHashMap.newKeySet();
+    private final AtomicLong discoveryNanos = new AtomicLong();
+    private final AtomicInteger beansChecked = new AtomicInteger();
+    private final AtomicInteger classesIntrospected = new AtomicInteger();
+    private ConfigurableListableBeanFactory beanFactory;
 
-    /**
-     * Initialize registry on startup
-     */
-    @PostConstruct
-    public void initialize() {
-        refresh();
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) {
+        if (beanFactory instanceof ConfigurableListableBeanFactory listableBeanFactory) {
+            this.beanFactory = listableBeanFactory;
+        }
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+        long start = System.nanoTime();
+        register(beanName, bean);
+        discoveryNanos.addAndGet(System.nanoTime() - start);
+        beansChecked.incrementAndGet();
+        return bean;
+    }
+
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        log.info("Cron job discovery took {} ms: {} beans checked, {} classes introspected, {} jobs found",
+                String.format("%.2f", discoveryNanos.get() / 1_000_000.0), beansChecked.get(),
+                classesIntrospected.get(), jobCache.size());
+
+        if (log.isDebugEnabled() && beanFactory != null) {
+            long start = System.nanoTime();
+            int candidates = fullScan();
+            log.debug("Full reflective scan over all singletons took {} ms and listed {} candidate methods",
+                    String.format("%.2f", (System.nanoTime() - start) / 1_000_000.0), candidates);
+        }
     }
 
     @Override
@@ -52,152 +98,109 @@ public class JobRegistryImpl implements JobRegistry {
         return jobCache.get(key);
     }
 
+    /**
+     * Re-index the singletons created so far; beans that do not exist yet are
+     * not created.
+     */
     @Override
     public void refresh() {
+        if (beanFactory == null) {
+            return;
+        }
+
         log.info("Refreshing job registry...");
+        long start = System.nanoTime();
         jobCache.clear();
-
-        // Get all Spring beans
-        String[] beanNames = applicationContext.getBeanNamesForType(Object.class);
-
-        for (String beanName : beanNames) {
-            try {
-                Object bean = applicationContext.getBean(beanName);
-
-                // Skip Spring internal beans and non-service beans
-                if (shouldSkipBean(beanName, bean)) {
-                    continue;
-                }
-
-                // Find executable methods (public, no parameters)
-                List<Method> executableMethods = findExecutableMethods(bean.getClass());
-
-                for (Method method : executableMethods) {
-                    JobDefinition jobDef = JobDefinition.builder()
-                            .serviceName(beanName)
-                            .serviceClassName(bean.getClass().getName())
-                            .methodName(method.getName())
-                            .jobClass(beanName + "." + method.getName())
-                            .description(extractDescription(method))
-                            .available(true)
-                            .build();
-
-                    String key = buildKey(beanName, method.getName());
-                    jobCache.put(key, jobDef);
-                    log.debug("Registered job: {}", jobDef.getJobClass());
-                }
-            } catch (Exception e) {
-                log.debug("Error scanning bean {} for jobs: {}", beanName, e.getMessage());
+        for (String beanName : beanFactory.getSingletonNames()) {
+            Object bean = beanFactory.getSingleton(beanName);
+            if (bean != null) {
+                register(beanName, bean);
             }
         }
-
-        log.info("Job registry refreshed. Found {} available jobs", jobCache.size());
+        log.info("Job registry refreshed in {} ms. Found {} available jobs",
+                (System.nanoTime() - start) / 1_000_000L, jobCache.size());
     }
 
     /**
-     * Check if a bean should be skipped during scanning
+     * Register the marked methods of a bean
      */
-    private boolean shouldSkipBean(String beanName, Object bean) {
-        // Skip Spring internal beans
-        if (beanName.startsWith("org.springframework.") ||
-                beanName.startsWith("org.hibernate.") ||
-                beanName.startsWith("org.apache.") ||
-                beanName.startsWith("com.zaxxer.") ||
-                beanName.startsWith("org.apache.tomcat.") ||
-                beanName.startsWith("org.apache.catalina.")) {
-            return true;
+    private void register(String beanName, Object bean) {
+        Class<?> targetClass = AopUtils.getTargetClass(bean);
+        if (nonAnnotatedClasses.contains(targetClass)) {
+            return;
+        }
+        if (!AnnotationUtils.isCandidateClass(targetClass, CronJobMethod.class)) {
+            nonAnnotatedClasses.add(targetClass);
+            return;
+        }
+
+        classesIntrospected.incrementAndGet();
+        Map<Method, CronJobMethod> methods = MethodIntrospector.selectMethods(targetClass,
+                (MethodIntrospector.MetadataLookup<CronJobMethod>) method -> AnnotatedElementUtils
+                        .findMergedAnnotation(method, CronJobMethod.class));
+        if (methods.isEmpty()) {
+            nonAnnotatedClasses.add(targetClass);
+            return;
         }
 
-        // Skip if bean is not a service/component (optional check)
-        // We'll scan all beans and filter by method signature instead
+        methods.forEach((method, annotation) -> {
+            if (!isExecutable(method)) {
+                log.warn("Ignoring @CronJobMethod {}.{}: job methods must be public, non-static and take no arguments",
+                        targetClass.getSimpleName(), method.getName());
+                return;
+            }
 
-        return false;
+            JobDefinition jobDef = JobDefinition.builder()
+                    .serviceName(beanName)
+                    .serviceClassName(targetClass.getName())
+                    .methodName(method.getName())
+                    .jobClass(beanName + "." + method.getName())
+                    .description(extractDescription(method, annotation))
+                    .available(true)
+                    .build();
+
+            jobCache.put(buildKey(beanName, method.getName()), jobDef);
+            log.debug("Registered job: {}", jobDef.getJobClass());
+        });
     }
 
     /**
-     * Find executable methods in a class.
-     * Methods must be:
-     * - Public
-     * - No parameters
-     * - Not static (instance methods only)
-     * - Not from Object class
+     * The discovery used before job methods were marked: every public no-arg
+     * instance method of every singleton, kept only to time against
      */
-    private List<Method> findExecutableMethods(Class<?> clazz) {
-        List<Method> executableMethods = new ArrayList<>();
-
-        // Get all public methods
-        Method[] methods = clazz.getMethods();
-
-        for (Method method : methods) {
-            // Skip methods from Object class
-            if (method.getDeclaringClass() == Object.class) {
+    private int fullScan() {
+        int candidates = 0;
+        for (String beanName : beanFactory.getSingletonNames()) {
+            Object bean = beanFactory.getSingleton(beanName);
+            if (bean == null) {
                 continue;
             }
-
-            // Skip static methods
-            if (java.lang.reflect.Modifier.isStatic(method.getModifiers())) {
-                continue;
-            }
-
-            // Only include methods with no parameters
-            if (method.getParameterCount() == 0) {
-                // Skip getters, setters, and common methods
-                if (isSkippableMethod(method)) {
-                    continue;
+            for (Method method : bean.getClass().getMethods()) {
+                if (method.getDeclaringClass() != Object.class && isExecutable(method)) {
+                    candidates++;
                 }
-
-                executableMethods.add(method);
             }
         }
-
-        return executableMethods;
+        return candidates;
     }
 
     /**
-     * Check if a method should be skipped (getters, setters, etc.)
+     * Job methods must be public instance methods with no parameters, the
+     * signature ApplicationJobExecutor can invoke
      */
-    private boolean isSkippableMethod(Method method) {
-        String methodName = method.getName();
-
-        // Skip getters
-        if (methodName.startsWith("get") && methodName.length() > 3 && Character.isUpperCase(methodName.charAt(3))) {
-            return true;
-        }
-
-        // Skip setters
-        if (methodName.startsWith("set") && methodName.length() > 3 && Character.isUpperCase(methodName.charAt(3))) {
-            return true;
-        }
-
-        // Skip boolean getters (isXxx)
-        if (methodName.startsWith("is") && methodName.length() > 2 && Character.isUpperCase(methodName.charAt(2))) {
-            return true;
-        }
-
-        // Skip common methods
-        if (methodName.equals("toString") ||
-                methodName.equals("equals") ||
-                methodName.equals("hashCode") ||
-                methodName.equals("clone") ||
-                methodName.equals("wait") ||
-                methodName.equals("notify") ||
-                methodName.equals("notifyAll") ||
-                methodName.equals("getClass")) {
-            return true;
-        }
-
-        // Skip methods that return void but are likely not job methods
-        // (we'll include void methods as they might be job methods)
-        return false;
+    private boolean isExecutable(Method method) {
+        return Modifier.isPublic(method.getModifiers())
+                && !Modifier.isStatic(method.getModifiers())
+                && method.getParameterCount() == 0;
     }
 
     /**
-     * Extract description from method (JavaDoc or annotation)
+     * Extract description from method annotations
      */
-    private String extractDescription(Method method) {
-        // Try to get description from annotations or JavaDoc
-        // For now, return a default description
-        // Could be enhanced to read JavaDoc comments or custom annotations
+    private String extractDescription(Method method, CronJobMethod annotation) {
+        if (!annotation.description().isEmpty()) {
+            return annotation.description();
+        }
 
         // Check for @Scheduled annotation (common for cron jobs)
         if (method.isAnnotationPresent(org.springframework.scheduling.annotation.Scheduled.class)) {
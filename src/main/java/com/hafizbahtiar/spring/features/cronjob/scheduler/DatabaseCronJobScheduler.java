@@ -23,6 +23,10 @@ import java.util.Map;
  * - Job name: Must be unique across all pg_cron jobs
  * - Schedule: Uses standard cron format (minute hour day month day-of-week)
  * - Command: SQL script to execute
+ * 
+ * Job names, schedules and scripts are passed to pg_cron as statement
+ * parameters. Run history is synced into the execution statistics by
+ * PgCronRunSync.
  */
 @Component
 @RequiredArgsConstructor
@@ -114,17 +118,13 @@ public class DatabaseCronJobScheduler {
                 unscheduleDatabaseJob(cronJob.getName());
             }
 
-            // Schedule the job using pg_cron.schedule
-            // pg_cron.schedule(job_name, schedule, command)
-            String scheduleSql = String.format(
-                    "SELECT cron.schedule('%s', '%s', '%s')",
-                    sanitizeJobName(cronJob.getName()),
-                    pgCronSchedule,
-                    sqlScript.replace("'", "''") // Escape single quotes
-            );
-
-            jdbcTemplate.execute(scheduleSql);
-            log.info("Scheduled database job: {} with schedule: {}", cronJob.getName(), pgCronSchedule);
+            // Schedule the job using pg_cron.schedule(job_name, schedule, command);
+            // all three are bound as parameters, so the script is passed as is
+            Long pgCronJobId = jdbcTemplate.queryForObject(
+                    "SELECT cron.schedule(?::text, ?::text, ?::text)", Long.class,
+                    toPgCronJobName(cronJob.getName()), pgCronSchedule, sqlScript);
+            log.info("Scheduled database job: {} with schedule: {} (pg_cron job ID: {})", cronJob.getName(),
+                    pgCronSchedule, pgCronJobId);
 
         } catch (Exception e) {
             log.error("Failed to schedule database job: {}", cronJob.getName(), e);
@@ -151,13 +151,9 @@ public class DatabaseCronJobScheduler {
                 return;
             }
 
-            // Unschedule the job using pg_cron.unschedule
-            // pg_cron.unschedule(job_name)
-            String unscheduleSql = String.format(
-                    "SELECT cron.unschedule('%s')",
-                    sanitizeJobName(jobName));
-
-            jdbcTemplate.execute(unscheduleSql);
+            // Unschedule the job using pg_cron.unschedule(job_name); the cast picks
+            // the by-name overload over unschedule(job_id)
+            jdbcTemplate.queryForObject("SELECT cron.unschedule(?::text)", Boolean.class, toPgCronJobName(jobName));
             log.info("Unscheduled database job: {}", jobName);
 
         } catch (Exception e) {
@@ -185,10 +181,8 @@ public class DatabaseCronJobScheduler {
      */
     private boolean pgCronJobExists(String jobName) {
         try {
-            String checkSql = String.format(
-                    "SELECT COUNT(*) FROM cron.job WHERE jobname = '%s'",
-                    sanitizeJobName(jobName));
-            Integer count = jdbcTemplate.queryForObject(checkSql, Integer.class);
+            Integer count = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM cron.job WHERE jobname = ?", Integer.class, toPgCronJobName(jobName));
             return count != null && count > 0;
         } catch (Exception e) {
             log.debug("Error checking if pg_cron job exists: {}", jobName, e);
@@ -223,14 +217,14 @@ public class DatabaseCronJobScheduler {
     }
 
     /**
-     * Sanitize job name for SQL injection prevention.
-     * Only allows alphanumeric, underscore, and hyphen.
+     * Name of a job in pg_cron's cron.job table.
+     * Only allows alphanumeric, underscore, and hyphen, so names stay the same
+     * as for jobs scheduled before names were passed as parameters.
      */
-    private String sanitizeJobName(String jobName) {
+    public String toPgCronJobName(String jobName) {
         if (jobName == null) {
             throw new IllegalArgumentException("Job name cannot be null");
         }
-        // Remove any characters that could be used for SQL injection
         return jobName.replaceAll("[^a-zA-Z0-9_-]", "_");
     }
 
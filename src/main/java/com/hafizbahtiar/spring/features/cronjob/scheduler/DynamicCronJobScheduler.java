@@ -1,25 +1,44 @@
 package com.hafizbahtiar.spring.features.cronjob.scheduler;
 
+import com.hafizbahtiar.spring.common.lock.DistributedLockService;
+import com.hafizbahtiar.spring.features.admin.model.CronJobExecutionLog;
+import com.hafizbahtiar.spring.features.admin.repository.mongodb.CronJobExecutionLogRepository;
 import com.hafizbahtiar.spring.features.cronjob.entity.CronJob;
 import com.hafizbahtiar.spring.features.cronjob.entity.JobType;
+import com.hafizbahtiar.spring.features.cronjob.entity.MisfirePolicy;
 import com.hafizbahtiar.spring.features.cronjob.executor.ApplicationJobExecutor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.Trigger;
 import org.springframework.scheduling.support.CronExpression;
 import org.springframework.scheduling.support.CronTrigger;
 import org.springframework.stereotype.Component;
 
 import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Dynamic scheduler for application-level cron jobs.
  * Uses Spring's ThreadPoolTaskScheduler to schedule jobs dynamically.
  * 
+ * Every node schedules every enabled job; each fire time runs on one node
+ * only, the one that takes the job's distributed lock for that fire time.
+ * Scheduler threads only dispatch runs to the {@link JobConcurrencyManager},
+ * which applies the job's concurrency, overlap and timeout policies. Fire
+ * times missed while the application was down are caught up on startup
+ * according to the job's misfire policy.
+ * 
  * Note: This scheduler only handles APPLICATION type jobs.
  * DATABASE type jobs are handled by DatabaseCronJobScheduler.
  */
@@ -30,14 +49,36 @@ public class DynamicCronJobScheduler {
     private final TaskScheduler taskScheduler;
     private final ApplicationJobExecutor applicationJobExecutor;
     private final JobExecutionWrapper jobExecutionWrapper;
+    private final DistributedLockService distributedLockService;
+    private final JobConcurrencyManager jobConcurrencyManager;
+    private final CronJobExecutionLogRepository cronJobExecutionLogRepository;
+
+    /**
+     * Maximum missed fire times run per job under the FIRE_ALL misfire policy
+     * (the most recent ones)
+     */
+    @Value("${cron.misfire.max-catch-up:10}")
+    private int maxCatchUp;
+
+    /**
+     * How far back missed fire times are looked for
+     */
+    @Value("${cron.misfire.lookback-hours:24}")
+    private long misfireLookbackHours;
 
     public DynamicCronJobScheduler(
             @Qualifier("cronJobTaskScheduler") TaskScheduler taskScheduler,
             ApplicationJobExecutor applicationJobExecutor,
-            JobExecutionWrapper jobExecutionWrapper) {
+            JobExecutionWrapper jobExecutionWrapper,
+            DistributedLockService distributedLockService,
+            JobConcurrencyManager jobConcurrencyManager,
+            CronJobExecutionLogRepository cronJobExecutionLogRepository) {
         this.taskScheduler = taskScheduler;
         this.applicationJobExecutor = applicationJobExecutor;
         this.jobExecutionWrapper = jobExecutionWrapper;
+        this.distributedLockService = distributedLockService;
+        this.jobConcurrencyManager = jobConcurrencyManager;
+        this.cronJobExecutionLogRepository = cronJobExecutionLogRepository;
     }
 
     /**
@@ -75,21 +116,23 @@ public class DynamicCronJobScheduler {
                     "Job class or method not found. Job: " + cronJob.getName() + ", Class: " + cronJob.getJobClass());
         }
 
-        // Unschedule existing job if it exists
-        unscheduleJob(cronJob.getName());
+        // Unschedule existing job if it exists (keeping the target just validated)
+        cancel(cronJob.getName());
 
-        // Create cron trigger
-        CronTrigger trigger = new CronTrigger(cronJob.getCronExpression(), ZoneId.systemDefault());
+        // Create cron trigger, remembering the fire time it hands out: the next
+        // execution is only computed after the current one finishes
+        CronTrigger cronTrigger = new CronTrigger(cronJob.getCronExpression(), ZoneId.systemDefault());
+        AtomicReference<Instant> fireTime = new AtomicReference<>();
+        Trigger trigger = triggerContext -> {
+            Instant next = cronTrigger.nextExecution(triggerContext);
+            fireTime.set(next);
+            return next;
+        };
 
-        // Schedule the job
+        // Schedule the job; the run itself happens on the runner pool
         ScheduledFuture<?> future = taskScheduler.schedule(() -> {
-            jobExecutionWrapper.executeWithLogging(cronJob, () -> {
-                try {
-                    applicationJobExecutor.execute(cronJob);
-                } catch (ApplicationJobExecutor.JobExecutionException e) {
-                    throw new RuntimeException("Job execution failed: " + e.getMessage(), e);
-                }
-            });
+            Instant scheduledAt = fireTime.get();
+            jobConcurrencyManager.submit(cronJob, () -> runLocked(cronJob, scheduledAt));
         }, trigger);
 
         scheduledJobs.put(cronJob.getName(), future);
@@ -103,6 +146,37 @@ public class DynamicCronJobScheduler {
      * @param jobName The name of the job to unschedule
      */
     public void unscheduleJob(String jobName) {
+        cancel(jobName);
+        jobConcurrencyManager.clear(jobName);
+        applicationJobExecutor.invalidate(jobName);
+    }
+
+    /**
+     * Run a job for a fire time; only the node holding the lock for this
+     * fire time runs it. The job method can read the lease through
+     * {@link com.hafizbahtiar.spring.common.lock.LockLease#current()} to stop
+     * once the lock is lost.
+     */
+    private void runLocked(CronJob cronJob, Instant fireTime) {
+        boolean ran = distributedLockService.runOnce("cron:" + cronJob.getName(), fireTime, lease -> {
+            jobExecutionWrapper.executeWithLogging(cronJob, () -> {
+                try {
+                    applicationJobExecutor.execute(cronJob);
+                } catch (ApplicationJobExecutor.JobExecutionException e) {
+                    throw new RuntimeException("Job execution failed: " + e.getMessage(), e);
+                }
+            });
+            if (lease.isLost()) {
+                log.warn("Cron job {} lost its lock (token {}) while running at {}; another node may have run it too",
+                        cronJob.getName(), lease.getFencingToken(), fireTime);
+            }
+        });
+        if (!ran) {
+            log.debug("Skipped cron job {} at {}: running on another node", cronJob.getName(), fireTime);
+        }
+    }
+
+    private void cancel(String jobName) {
         ScheduledFuture<?> future = scheduledJobs.remove(jobName);
         if (future != null) {
             future.cancel(false);
@@ -138,6 +212,7 @@ public class DynamicCronJobScheduler {
                 try {
                     scheduleJob(job);
                     scheduledCount++;
+                    catchUpMisfires(job);
                 } catch (Exception e) {
                     log.error("Failed to schedule job: {}", job.getName(), e);
                     skippedCount++;
@@ -151,6 +226,51 @@ public class DynamicCronJobScheduler {
         log.info("Cron job loading completed: {} scheduled, {} skipped", scheduledCount, skippedCount);
     }
 
+    /**
+     * Run the fire times a job missed since its last logged execution,
+     * according to its misfire policy. Each run takes the lock of its own
+     * fire time, so nodes starting together catch up once.
+     */
+    private void catchUpMisfires(CronJob job) {
+        MisfirePolicy policy = job.getEffectiveMisfirePolicy();
+        if (policy == MisfirePolicy.SKIP) {
+            return;
+        }
+
+        CronJobExecutionLog lastExecution = cronJobExecutionLogRepository
+                .findFirstByJobNameOrderByExecutedAtDesc(job.getName());
+        if (lastExecution == null || lastExecution.getExecutedAt() == null) {
+            return; // Never ran, nothing was missed
+        }
+
+        ZoneId zone = ZoneId.systemDefault();
+        ZonedDateTime now = ZonedDateTime.now(zone);
+        ZonedDateTime since = lastExecution.getExecutedAt().atZone(zone);
+        ZonedDateTime lookback = now.minus(Duration.ofHours(misfireLookbackHours));
+        if (since.isBefore(lookback)) {
+            since = lookback;
+        }
+
+        // Keep only the most recent missed fire times
+        int limit = policy == MisfirePolicy.FIRE_ONCE ? 1 : Math.max(1, maxCatchUp);
+        Deque<Instant> missed = new ArrayDeque<>();
+        CronExpression cron = CronExpression.parse(job.getCronExpression());
+        for (ZonedDateTime next = cron.next(since); next != null && next.isBefore(now); next = cron.next(next)) {
+            if (missed.size() == limit) {
+                missed.removeFirst();
+            }
+            missed.addLast(next.toInstant());
+        }
+        if (missed.isEmpty()) {
+            return;
+        }
+
+        log.info("Catching up {} missed run(s) of cron job {} ({})", missed.size(), job.getName(), policy);
+        for (Instant fireTime : missed) {
+            jobConcurrencyManager.submitCatchUp(job, () -> runLocked(job, fireTime));
+        }
+    }
+
     /**
      * Check if a job is currently scheduled.
      *
@@ -0,0 +1,248 @@
+package com.hafizbahtiar.spring.features.cronjob.scheduler;
+
+import com.hafizbahtiar.spring.features.admin.metrics.ExecutorRegistry;
+import com.hafizbahtiar.spring.features.admin.metrics.MonitoredExecutor;
+import com.hafizbahtiar.spring.features.cronjob.entity.CronJob;
+import com.hafizbahtiar.spring.features.cronjob.entity.OverlapPolicy;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs application job executions under their per-job policies.
+ *
+ * The scheduler threads only hand runs over to this class; runs execute on a
+ * separate "cron-job-runner" pool, so a slow job cannot hold up the schedule
+ * of other jobs. Each job runs at most {@code maxConcurrentRuns} at once; a
+ * run that fires beyond that is dropped or queued according to the job's
+ * {@link OverlapPolicy}. A run still in progress after the job's timeout is
+ * interrupted, so jobs should respond to interruption (blocking I/O and
+ * {@code Thread.sleep} do).
+ *
+ * Limits apply per node; that a fire time runs on one node only is ensured
+ * by the distributed lock taken inside each run.
+ */
+@Component
+@Slf4j
+public class JobConcurrencyManager {
+
+    private final TaskScheduler taskScheduler;
+    private final ThreadPoolExecutor pool;
+    private final MonitoredExecutor runner;
+    private final Map<String, JobRuns> jobs = new ConcurrentHashMap<>();
+
+    /**
+     * Maximum runs queued per job under the QUEUE overlap policy
+     */
+    @Value("${cron.overlap.max-queued:10}")
+    private int maxQueued;
+
+    public JobConcurrencyManager(
+            @Qualifier("cronJobTaskScheduler") TaskScheduler taskScheduler,
+            ExecutorRegistry executorRegistry,
+            @Value("${cron.runner.threads:10}") int threads) {
+        this.taskScheduler = taskScheduler;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                task -> {
+                    Thread thread = new Thread(task, "cron-job-run-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.pool.allowCoreThreadTimeOut(true);
+        this.runner = executorRegistry.register("cron-job-runner", pool);
+    }
+
+    /**
+     * Run a job under its overlap policy
+     *
+     * @param cronJob The job
+     * @param run     The execution
+     * @return true if the run started or was queued, false if it was skipped
+     */
+    public boolean submit(CronJob cronJob, Runnable run) {
+        return dispatch(cronJob, run, cronJob.getEffectiveOverlapPolicy() == OverlapPolicy.QUEUE, maxQueued);
+    }
+
+    /**
+     * Run a missed fire time of a job; it waits for running executions
+     * whatever the job's overlap policy, so every catch-up run happens
+     */
+    public void submitCatchUp(CronJob cronJob, Runnable run) {
+        dispatch(cronJob, run, true, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Number of runs of a job in progress on this node
+     */
+    public int getRunning(String jobName) {
+        JobRuns runs = jobs.get(jobName);
+        if (runs == null) {
+            return 0;
+        }
+        synchronized (runs) {
+            return runs.running;
+        }
+    }
+
+    /**
+     * Number of runs of a job waiting for a running execution to finish
+     */
+    public int getQueued(String jobName) {
+        JobRuns runs = jobs.get(jobName);
+        if (runs == null) {
+            return 0;
+        }
+        synchronized (runs) {
+            return runs.queued.size();
+        }
+    }
+
+    /**
+     * Drop the queued runs of a job, e.g. when it is unscheduled. Runs in
+     * progress are left to finish.
+     */
+    public void clear(String jobName) {
+        JobRuns runs = jobs.get(jobName);
+        if (runs == null) {
+            return;
+        }
+        synchronized (runs) {
+            if (!runs.queued.isEmpty()) {
+                log.info("Dropped {} queued run(s) of cron job {}", runs.queued.size(), jobName);
+                runs.queued.clear();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+        try {
+            if (!pool.awaitTermination(60, TimeUnit.SECONDS)) {
+                pool.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            pool.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean dispatch(CronJob cronJob, Runnable run, boolean queue, int queueLimit) {
+        JobRuns runs = jobs.computeIfAbsent(cronJob.getName(), name -> new JobRuns());
+        synchronized (runs) {
+            if (runs.running < cronJob.getEffectiveMaxConcurrentRuns()) {
+                runs.running++;
+                start(cronJob, run, runs);
+                return true;
+            }
+            if (queue && runs.queued.size() < queueLimit) {
+                runs.queued.add(new PendingRun(cronJob, run));
+                log.debug("Queued cron job {}: {} run(s) in progress", cronJob.getName(), runs.running);
+                return true;
+            }
+        }
+        log.info("Skipped cron job {}: previous run still in progress", cronJob.getName());
+        return false;
+    }
+
+    /**
+     * Start a run; the caller holds the job's lock and has counted it as running
+     */
+    private void start(CronJob cronJob, Runnable run, JobRuns runs) {
+        try {
+            runner.execute(() -> runWithTimeout(cronJob, run, runs));
+        } catch (RejectedExecutionException e) {
+            runs.running--;
+            log.warn("Could not start cron job {}: runner is shut down", cronJob.getName());
+        }
+    }
+
+    private void runWithTimeout(CronJob cronJob, Runnable run, JobRuns runs) {
+        Integer timeoutSeconds = cronJob.getTimeoutSeconds();
+        RunGuard guard = new RunGuard(Thread.currentThread());
+        ScheduledFuture<?> timeout = null;
+        if (timeoutSeconds != null && timeoutSeconds > 0) {
+            timeout = taskScheduler.schedule(() -> {
+                if (guard.interrupt()) {
+                    log.warn("Cron job {} exceeded its timeout of {} s; interrupting", cronJob.getName(),
+                            timeoutSeconds);
+                }
+            }, Instant.now().plusSeconds(timeoutSeconds));
+        }
+
+        try {
+            run.run();
+        } finally {
+            guard.finish();
+            if (timeout != null) {
+                timeout.cancel(false);
+            }
+            Thread.interrupted(); // clear a timeout interrupt so it does not reach the next run
+            finished(runs);
+        }
+    }
+
+    private void finished(JobRuns runs) {
+        synchronized (runs) {
+            PendingRun next = runs.queued.poll();
+            if (next != null) {
+                start(next.cronJob(), next.run(), runs); // the slot passes to the queued run
+            } else {
+                runs.running--;
+            }
+        }
+    }
+
+    private record PendingRun(CronJob cronJob, Runnable run) {
+    }
+
+    /**
+     * Runs of one job; guarded by its own monitor
+     */
+    private static class JobRuns {
+        private int running;
+        private final Deque<PendingRun> queued = new ArrayDeque<>();
+    }
+
+    /**
+     * Interrupts a run's thread only while the run is in progress, so a late
+     * timeout cannot interrupt whatever the pool thread runs next
+     */
+    private static class RunGuard {
+        private final Thread thread;
+        private boolean finished;
+
+        RunGuard(Thread thread) {
+            this.thread = thread;
+        }
+
+        synchronized boolean interrupt() {
+            if (finished) {
+                return false;
+            }
+            thread.interrupt();
+            return true;
+        }
+
+        synchronized void finish() {
+            finished = true;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.hafizbahtiar.spring.features.cronjob.scheduler;
 
 import com.hafizbahtiar.spring.features.admin.model.CronJobExecutionLog;
 import com.hafizbahtiar.spring.features.admin.repository.mongodb.CronJobExecutionLogRepository;
+import com.hafizbahtiar.spring.features.admin.service.CronJobStatsService;
 import com.hafizbahtiar.spring.features.cronjob.entity.CronJob;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,7 +12,8 @@ import java.time.LocalDateTime;
 
 /**
  * Wrapper for cron job execution that handles logging and error handling.
- * Logs execution start/end to MongoDB and handles exceptions gracefully.
+ * Logs execution start/end to MongoDB, updates the job's execution
+ * statistics and handles exceptions gracefully.
  */
 @Component
 @RequiredArgsConstructor
@@ -19,6 +21,7 @@ import java.time.LocalDateTime;
 public class JobExecutionWrapper {
 
     private final CronJobExecutionLogRepository cronJobExecutionLogRepository;
+    private final CronJobStatsService cronJobStatsService;
 
     /**
      * Execute a job with logging and error handling.
@@ -47,9 +50,10 @@ public class JobExecutionWrapper {
             log.error("Failed to execute cron job: {} after {} ms", cronJob.getName(), duration, e);
 
         } finally {
+            long duration = System.currentTimeMillis() - startMillis;
+
             // Log execution to MongoDB
             try {
-                long duration = System.currentTimeMillis() - startMillis;
                 CronJobExecutionLog executionLog = CronJobExecutionLog.builder()
                         .jobName(cronJob.getName())
                         .executedAt(startTime)
@@ -66,6 +70,13 @@ public class JobExecutionWrapper {
                 log.error("Failed to log execution for job: {} to MongoDB", cronJob.getName(), e);
                 // Don't throw - logging failure shouldn't break job execution
             }
+
+            // Update rolled-up statistics
+            try {
+                cronJobStatsService.record(cronJob.getName(), startTime, success, error, duration, null);
+            } catch (Exception e) {
+                log.error("Failed to update execution statistics for job: {}", cronJob.getName(), e);
+            }
         }
     }
 }
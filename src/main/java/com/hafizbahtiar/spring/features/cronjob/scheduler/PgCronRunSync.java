@@ -0,0 +1,264 @@
+package com.hafizbahtiar.spring.features.cronjob.scheduler;
+
+import com.hafizbahtiar.spring.common.lock.DistributedLockService;
+import com.hafizbahtiar.spring.common.lock.LockLease;
+import com.hafizbahtiar.spring.features.admin.model.CronJobExecutionLog;
+import com.hafizbahtiar.spring.features.admin.repository.mongodb.CronJobExecutionLogRepository;
+import com.hafizbahtiar.spring.features.admin.service.CronJobStatsService;
+import com.hafizbahtiar.spring.features.cronjob.entity.CronJob;
+import com.hafizbahtiar.spring.features.cronjob.entity.JobType;
+import com.hafizbahtiar.spring.features.cronjob.repository.CronJobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Syncs the run history of DATABASE jobs from pg_cron's
+ * {@code cron.job_run_details} into the cron job execution logs and
+ * statistics, so database jobs report the same counts, durations and
+ * percentiles as application jobs.
+ *
+ * Runs are read in run ID order from a watermark. Runs still in progress hold
+ * the watermark back until they finish (or are older than the stale
+ * threshold, e.g. after a database restart), and runs already synced are
+ * recognized by their log ID, so reading a run twice never counts it twice.
+ * One node syncs at a time, and the watermark is kept in MongoDB so a restart
+ * or another node resumes from it rather than from the newest logged run,
+ * which would skip a run still in progress below it.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PgCronRunSync {
+
+    private static final String RUNS_SQL = """
+            SELECT d.runid, j.jobname, d.status, d.return_message, d.start_time, d.end_time
+            FROM cron.job_run_details d
+            JOIN cron.job j ON j.jobid = d.jobid
+            WHERE d.runid > ?
+            ORDER BY d.runid
+            LIMIT ?""";
+
+    /**
+     * Lowest run not yet finished, to seed the watermark below it
+     */
+    private static final String OLDEST_UNFINISHED_SQL = """
+            SELECT min(runid) FROM cron.job_run_details
+            WHERE status NOT IN ('succeeded', 'failed')""";
+
+    private static final String STATE_COLLECTION = "cron_job_sync_state";
+    private static final String STATE_ID = "pg_cron";
+
+    private static final Set<String> FINISHED_STATUSES = Set.of("succeeded", "failed");
+
+    /**
+     * Last number of a command tag such as "DELETE 42" or "INSERT 0 5"
+     */
+    private static final Pattern ROW_COUNT = Pattern.compile("^[A-Z ]+?(?: \\d+)? (\\d+)$");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MongoTemplate mongoTemplate;
+    private final DatabaseCronJobScheduler databaseCronJobScheduler;
+    private final CronJobRepository cronJobRepository;
+    private final CronJobExecutionLogRepository cronJobExecutionLogRepository;
+    private final CronJobStatsService cronJobStatsService;
+    private final DistributedLockService distributedLockService;
+
+    @Value("${cronjob.database.sync.enabled:true}")
+    private boolean enabled;
+
+    @Value("${cronjob.database.sync.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * Runs unfinished for longer than this are skipped
+     */
+    @Value("${cronjob.database.sync.stale-run-hours:24}")
+    private long staleRunHours;
+
+    /**
+     * Sync finished pg_cron runs
+     */
+    @Scheduled(fixedDelayString = "${cronjob.database.sync.interval-ms:60000}",
+            initialDelayString = "${cronjob.database.sync.interval-ms:60000}")
+    public void sync() {
+        if (!enabled || !databaseCronJobScheduler.isPgCronAvailable()) {
+            return;
+        }
+        distributedLockService.runExclusive("pg-cron-sync", lease -> {
+            try {
+                syncRuns(lease);
+            } catch (Exception e) {
+                log.warn("Failed to sync pg_cron run history: {}", e.getMessage());
+            }
+        });
+    }
+
+    private void syncRuns(LockLease lease) {
+        long watermark = loadWatermark();
+        Map<String, String> jobNames = databaseJobNames();
+        LocalDateTime staleBefore = LocalDateTime.now().minus(Duration.ofHours(staleRunHours));
+        int synced = 0;
+
+        while (true) {
+            List<PgCronRun> runs = jdbcTemplate.query(RUNS_SQL, (rs, rowNum) -> new PgCronRun(
+                    rs.getLong("runid"),
+                    rs.getString("jobname"),
+                    rs.getString("status"),
+                    rs.getString("return_message"),
+                    toLocalDateTime(rs.getTimestamp("start_time")),
+                    toLocalDateTime(rs.getTimestamp("end_time"))), watermark, batchSize);
+            if (runs.isEmpty()) {
+                break;
+            }
+
+            Set<String> existing = new HashSet<>();
+            cronJobExecutionLogRepository.findAllById(runs.stream().map(run -> logId(run.runId())).toList())
+                    .forEach(execution -> existing.add(execution.getId()));
+
+            long next = watermark;
+            boolean blocked = false;
+            for (PgCronRun run : runs) {
+                boolean finished = FINISHED_STATUSES.contains(run.status()) && run.endTime() != null;
+                if (!finished) {
+                    boolean stale = run.startTime() == null || run.startTime().isBefore(staleBefore);
+                    if (!stale) {
+                        blocked = true; // pick this run up again once it finishes
+                    }
+                }
+                if (!blocked) {
+                    next = run.runId();
+                }
+                if (finished && !existing.contains(logId(run.runId()))) {
+                    record(run, jobNames.getOrDefault(run.jobName(), run.jobName()));
+                    synced++;
+                }
+            }
+            if (next > watermark) {
+                if (lease.isLost()) {
+                    log.warn("Lost the pg_cron sync lock, leaving the watermark at {}", watermark);
+                    break;
+                }
+                saveWatermark(next);
+                watermark = next;
+            }
+            if (blocked || runs.size() < batchSize) {
+                break;
+            }
+        }
+
+        if (synced > 0) {
+            log.debug("Synced {} pg_cron run(s)", synced);
+        }
+    }
+
+    /**
+     * Stored watermark, or on the first sync the newest logged run, moved
+     * below any run still in progress so it is not skipped
+     */
+    private long loadWatermark() {
+        Document state = mongoTemplate.findById(STATE_ID, Document.class, STATE_COLLECTION);
+        if (state != null && state.get("watermark") instanceof Number stored) {
+            return stored.longValue();
+        }
+
+        CronJobExecutionLog latest = cronJobExecutionLogRepository.findFirstByRunIdNotNullOrderByRunIdDesc();
+        long seed = latest != null ? latest.getRunId() : 0L;
+        Long oldestUnfinished = jdbcTemplate.queryForObject(OLDEST_UNFINISHED_SQL, Long.class);
+        if (oldestUnfinished != null) {
+            seed = Math.min(seed, oldestUnfinished - 1);
+        }
+        saveWatermark(seed);
+        return seed;
+    }
+
+    /**
+     * Store the watermark; $max keeps it from moving back if a node that lost
+     * the lock writes late
+     */
+    private void saveWatermark(long watermark) {
+        mongoTemplate.upsert(Query.query(Criteria.where("_id").is(STATE_ID)),
+                new Update().max("watermark", watermark).set("updatedAt", new Date()),
+                STATE_COLLECTION);
+    }
+
+    private void record(PgCronRun run, String jobName) {
+        boolean success = "succeeded".equals(run.status());
+        long duration = run.startTime() != null
+                ? Math.max(0, Duration.between(run.startTime(), run.endTime()).toMillis())
+                : 0L;
+        String error = success ? null : run.returnMessage();
+        Long rowCount = success ? rowCountOf(run.returnMessage()) : null;
+        LocalDateTime executedAt = run.startTime() != null ? run.startTime() : run.endTime();
+
+        cronJobExecutionLogRepository.save(CronJobExecutionLog.builder()
+                .id(logId(run.runId()))
+                .jobName(jobName)
+                .executedAt(executedAt)
+                .success(success)
+                .error(error)
+                .duration(duration)
+                .rowCount(rowCount)
+                .runId(run.runId())
+                .createdAt(LocalDateTime.now())
+                .build());
+        cronJobStatsService.record(jobName, executedAt, success, error, duration, rowCount);
+    }
+
+    /**
+     * pg_cron job name to cron job name, for names changed when scheduled
+     */
+    private Map<String, String> databaseJobNames() {
+        Map<String, String> names = new HashMap<>();
+        for (CronJob job : cronJobRepository.findAll()) {
+            if (job.getJobType() == JobType.DATABASE) {
+                names.put(databaseCronJobScheduler.toPgCronJobName(job.getName()), job.getName());
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Rows affected from the command tag pg_cron stores as the return message,
+     * or null if it has none (e.g. a function call)
+     */
+    static Long rowCountOf(String returnMessage) {
+        if (returnMessage == null) {
+            return null;
+        }
+        Matcher matcher = ROW_COUNT.matcher(returnMessage.trim());
+        return matcher.matches() ? Long.parseLong(matcher.group(1)) : null;
+    }
+
+    private static String logId(long runId) {
+        return "pg_cron:" + runId;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    private record PgCronRun(long runId, String jobName, String status, String returnMessage,
+            LocalDateTime startTime, LocalDateTime endTime) {
+    }
+}
@@ -2,6 +2,7 @@ package com.hafizbahtiar.spring.features.cronjob.service;
 
 import com.hafizbahtiar.spring.features.cronjob.model.CronJobLog;
 import com.hafizbahtiar.spring.features.cronjob.repository.mongodb.CronJobLogRepository;
+import com.hafizbahtiar.spring.features.logs.service.LogEventWriter;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,6 +22,7 @@ import java.util.Map;
 public class CronJobLoggingService {
 
     private final CronJobLogRepository cronJobLogRepository;
+    private final LogEventWriter logEventWriter;
     private static final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(CronJobLoggingService.class);
 
     /**
@@ -32,7 +34,7 @@ public class CronJobLoggingService {
         try {
             CronJobLog jobLog = buildLog(cronJobId, jobName, "JOB_CREATED", userId, request, true, null, responseTimeMs,
                     null);
-            cronJobLogRepository.save(jobLog);
+            save(jobLog);
             logger.debug("Logged cron job creation for jobId: {}, jobName: {}", cronJobId, jobName);
         } catch (Exception e) {
             logger.error("Failed to log cron job creation event", e);
@@ -48,7 +50,7 @@ public class CronJobLoggingService {
         try {
             CronJobLog jobLog = buildLog(cronJobId, jobName, "JOB_UPDATED", userId, request, true, null, responseTimeMs,
                     changes);
-            cronJobLogRepository.save(jobLog);
+            save(jobLog);
             logger.debug("Logged cron job update for jobId: {}, jobName: {}", cronJobId, jobName);
         } catch (Exception e) {
             logger.error("Failed to log cron job update event", e);
@@ -64,7 +66,7 @@ public class CronJobLoggingService {
         try {
             CronJobLog jobLog = buildLog(cronJobId, jobName, "JOB_DELETED", userId, request, true, null, responseTimeMs,
                     null);
-            cronJobLogRepository.save(jobLog);
+            save(jobLog);
             logger.debug("Logged cron job deletion for jobId: {}, jobName: {}", cronJobId, jobName);
         } catch (Exception e) {
             logger.error("Failed to log cron job deletion event", e);
@@ -80,7 +82,7 @@ public class CronJobLoggingService {
         try {
             CronJobLog jobLog = buildLog(cronJobId, jobName, "JOB_ENABLED", userId, request, true, null, responseTimeMs,
                     null);
-            cronJobLogRepository.save(jobLog);
+            save(jobLog);
             logger.debug("Logged cron job enabled for jobId: {}, jobName: {}", cronJobId, jobName);
         } catch (Exception e) {
             logger.error("Failed to log cron job enabled event", e);
@@ -96,7 +98,7 @@ public class CronJobLoggingService {
         try {
             CronJobLog jobLog = buildLog(cronJobId, jobName, "JOB_DISABLED", userId, request, true, null, responseTimeMs,
                     null);
-            cronJobLogRepository.save(jobLog);
+            save(jobLog);
             logger.debug("Logged cron job disabled for jobId: {}, jobName: {}", cronJobId, jobName);
         } catch (Exception e) {
             logger.error("Failed to log cron job disabled event", e);
@@ -112,7 +114,7 @@ public class CronJobLoggingService {
         try {
             CronJobLog jobLog = buildLog(cronJobId, jobName, "JOB_MANUAL_EXECUTION", userId, request, success, error,
                     responseTimeMs, null);
-            cronJobLogRepository.save(jobLog);
+            save(jobLog);
             logger.debug("Logged manual cron job execution for jobId: {}, jobName: {}, success: {}", cronJobId, jobName,
                     success);
         } catch (Exception e) {
@@ -133,7 +135,7 @@ public class CronJobLoggingService {
                     .timestamp(LocalDateTime.now())
                     .success(true)
                     .build();
-            cronJobLogRepository.save(jobLog);
+            save(jobLog);
             logger.debug("Logged cron job scheduled for jobId: {}, jobName: {}", cronJobId, jobName);
         } catch (Exception e) {
             logger.error("Failed to log cron job scheduled event", e);
@@ -153,7 +155,7 @@ public class CronJobLoggingService {
                     .timestamp(LocalDateTime.now())
                     .success(true)
                     .build();
-            cronJobLogRepository.save(jobLog);
+            save(jobLog);
             logger.debug("Logged cron job unscheduled for jobId: {}, jobName: {}", cronJobId, jobName);
         } catch (Exception e) {
             logger.error("Failed to log cron job unscheduled event", e);
@@ -230,4 +232,11 @@ public class CronJobLoggingService {
         }
         return requestId;
     }
+
+    /**
+     * Persist log through the shared log writer (admission policy applied)
+     */
+    private void save(CronJobLog jobLog) {
+        logEventWriter.write("CRON_JOB", jobLog.getEventType(), jobLog, cronJobLogRepository::save);
+    }
 }
@@ -1,7 +1,7 @@
 package com.hafizbahtiar.spring.features.cronjob.service;
 
-import com.hafizbahtiar.spring.features.admin.model.CronJobExecutionLog;
-import com.hafizbahtiar.spring.features.admin.repository.mongodb.CronJobExecutionLogRepository;
+import com.hafizbahtiar.spring.features.admin.model.CronJobExecutionStats;
+import com.hafizbahtiar.spring.features.admin.service.CronJobStatsService;
 import com.hafizbahtiar.spring.features.cronjob.dto.CreateCronJobRequest;
 import com.hafizbahtiar.spring.features.cronjob.dto.CronJobResponse;
 import com.hafizbahtiar.spring.features.cronjob.dto.CronValidationResponse;
@@ -31,6 +31,7 @@ import org.springframework.web.context.request.ServletRequestAttributes;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -50,7 +51,7 @@ public class CronJobServiceImpl implements CronJobService {
     private final ApplicationJobExecutor applicationJobExecutor;
     private final JobExecutionWrapper jobExecutionWrapper;
     private final CronJobLoggingService cronJobLoggingService;
-    private final CronJobExecutionLogRepository cronJobExecutionLogRepository;
+    private final CronJobStatsService cronJobStatsService;
     private final SqlScriptValidator sqlScriptValidator;
 
     /**
@@ -108,6 +109,10 @@ public class CronJobServiceImpl implements CronJobService {
         cronJob.setCronExpression(request.getCronExpression());
         cronJob.setJobClass(request.getJobClass());
         cronJob.setSqlScript(request.getSqlScript());
+        cronJob.setMaxConcurrentRuns(request.getMaxConcurrentRuns());
+        cronJob.setOverlapPolicy(request.getOverlapPolicy());
+        cronJob.setMisfirePolicy(request.getMisfirePolicy());
+        cronJob.setTimeoutSeconds(request.getTimeoutSeconds());
         cronJob.setCreatedBy(user);
         cronJob.setEnabled(request.getEnabled() != null ? request.getEnabled() : false);
 
@@ -204,6 +209,27 @@ public class CronJobServiceImpl implements CronJobService {
             needsReschedule = wasEnabled;
         }
 
+        // Update execution policies if provided (read when the job is scheduled)
+        if (request.getMaxConcurrentRuns() != null) {
+            changes.put("maxConcurrentRuns", request.getMaxConcurrentRuns());
+            cronJob.setMaxConcurrentRuns(request.getMaxConcurrentRuns());
+            needsReschedule = wasEnabled;
+        }
+        if (request.getOverlapPolicy() != null) {
+            changes.put("overlapPolicy", request.getOverlapPolicy());
+            cronJob.setOverlapPolicy(request.getOverlapPolicy());
+            needsReschedule = wasEnabled;
+        }
+        if (request.getMisfirePolicy() != null) {
+            changes.put("misfirePolicy", request.getMisfirePolicy());
+            cronJob.setMisfirePolicy(request.getMisfirePolicy());
+        }
+        if (request.getTimeoutSeconds() != null) {
+            changes.put("timeoutSeconds", request.getTimeoutSeconds());
+            cronJob.setTimeoutSeconds(request.getTimeoutSeconds());
+            needsReschedule = wasEnabled;
+        }
+
         // Update enabled status
         if (request.getEnabled() != null) {
             boolean newEnabled = request.getEnabled();
@@ -356,8 +382,9 @@ public class CronJobServiceImpl implements CronJobService {
         log.debug("Getting all cron jobs");
 
         List<CronJob> cronJobs = cronJobRepository.findAll();
+        Map<String, CronJobExecutionStats> stats = cronJobStatsService.getAllStats();
         return cronJobs.stream()
-                .map(this::toResponse)
+                .map(cronJob -> toResponse(cronJob, stats.get(cronJob.getName())))
                 .collect(Collectors.toList());
     }
 
@@ -491,15 +518,14 @@ public class CronJobServiceImpl implements CronJobService {
      * Convert CronJob entity to CronJobResponse DTO
      */
     private CronJobResponse toResponse(CronJob cronJob) {
-        // Get execution statistics from MongoDB
-        long executionCount = cronJobExecutionLogRepository.countByJobName(cronJob.getName());
-        long successCount = cronJobExecutionLogRepository.countByJobNameAndSuccess(cronJob.getName(), true);
-        long failureCount = cronJobExecutionLogRepository.countByJobNameAndSuccess(cronJob.getName(), false);
-
-        // Get latest execution
-        CronJobExecutionLog latestExecution = cronJobExecutionLogRepository
-                .findFirstByJobNameOrderByExecutedAtDesc(cronJob.getName());
+        return toResponse(cronJob, cronJobStatsService.getStats(cronJob.getName()));
+    }
 
+    /**
+     * Convert CronJob entity to CronJobResponse DTO with its execution statistics
+     * (null if the job never ran)
+     */
+    private CronJobResponse toResponse(CronJob cronJob, CronJobExecutionStats stats) {
         // Calculate next execution time
         LocalDateTime nextExecution = null;
         try {
@@ -518,19 +544,26 @@ public class CronJobServiceImpl implements CronJobService {
                 .enabled(cronJob.isEnabled())
                 .jobClass(cronJob.getJobClass())
                 .sqlScript(cronJob.getSqlScript())
+                .maxConcurrentRuns(cronJob.getMaxConcurrentRuns())
+                .overlapPolicy(cronJob.getOverlapPolicy())
+                .misfirePolicy(cronJob.getMisfirePolicy())
+                .timeoutSeconds(cronJob.getTimeoutSeconds())
                 .createdBy(cronJob.getCreatedBy().getId())
                 .createdByName(cronJob.getCreatedBy().getFullName())
                 .createdAt(cronJob.getCreatedAt())
                 .updatedAt(cronJob.getUpdatedAt())
-                .executionCount(executionCount)
-                .successCount(successCount)
-                .failureCount(failureCount)
+                .executionCount(0L)
+                .successCount(0L)
+                .failureCount(0L)
                 .nextExecution(nextExecution);
 
-        if (latestExecution != null) {
-            builder.lastExecution(latestExecution.getExecutedAt())
-                    .lastDuration(latestExecution.getDuration())
-                    .lastError(latestExecution.getError());
+        if (stats != null) {
+            builder.executionCount(stats.getExecutionCount() != null ? stats.getExecutionCount() : 0L)
+                    .successCount(stats.getSuccessCount() != null ? stats.getSuccessCount() : 0L)
+                    .failureCount(stats.getFailureCount() != null ? stats.getFailureCount() : 0L)
+                    .lastExecution(stats.getLastExecution())
+                    .lastDuration(stats.getLastDuration())
+                    .lastError(stats.getLastError());
         }
 
         return builder.build();
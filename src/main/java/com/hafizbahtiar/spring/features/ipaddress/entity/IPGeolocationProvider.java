@@ -4,7 +4,8 @@ import lombok.Getter;
 
 /**
  * Enum representing IP geolocation providers supported by the application.
- * Currently focused on IPLocalize.com, with IPLocate.io support planned.
+ * Currently focused on IPLocalize.com and an offline range database, with
+ * IPLocate.io support planned.
  */
 @Getter
 public enum IPGeolocationProvider {
@@ -18,7 +19,13 @@ public enum IPGeolocationProvider {
      * IPLocate.io - Comprehensive IP geolocation and threat intelligence
      * Requires API key, provides threat detection and hosting information
      */
-    IPLOCATE("IPLOCATE", "IPLocate.io");
+    IPLOCATE("IPLOCATE", "IPLocate.io"),
+
+    /**
+     * Offline IP range database on local disk
+     * No network calls, updated by replacing the database file
+     */
+    LOCAL("LOCAL", "Local range database");
 
     private final String value;
     private final String displayName;
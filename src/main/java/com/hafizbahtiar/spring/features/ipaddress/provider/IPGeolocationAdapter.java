@@ -5,7 +5,7 @@ import com.hafizbahtiar.spring.features.ipaddress.entity.IPGeolocationProvider;
 
 /**
  * Abstraction interface for IP geolocation provider integrations.
- * Implementations: IPLocalizeAdapter, IPLocateAdapter
+ * Implementations: IPLocalizeAdapter, LocalRangeAdapter
  * 
  * This interface allows the IPGeolocationService to work with any IP geolocation provider
  * without being tightly coupled to a specific implementation.
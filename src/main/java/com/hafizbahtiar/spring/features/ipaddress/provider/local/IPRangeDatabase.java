@@ -0,0 +1,243 @@
+package com.hafizbahtiar.spring.features.ipaddress.provider.local;
+
+import com.hafizbahtiar.spring.features.ipaddress.dto.IPGeolocationData;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.regex.Pattern;
+
+/**
+ * Read-only IP range database in a memory-mapped file.
+ *
+ * File layout (big-endian), as written by {@link IPRangeDatabaseWriter}:
+ * <pre>
+ * header     magic "IPRD", int version, int IPv4 range count,
+ *            int IPv6 range count, int location count
+ * IPv4       per range: int start, int end, int location index
+ * IPv6       per range: long start high, long start low,
+ *            long end high, long end low, int location index
+ * offsets    per location: int offset from the start of the locations
+ * locations  per location: country, country code, region, city, timezone,
+ *            ISP, postal code, continent as UTF-8 strings with a short
+ *            length prefix (-1 for null), then double latitude and
+ *            double longitude (NaN for null)
+ * </pre>
+ * Ranges are sorted by start address, compared unsigned, and do not
+ * overlap, so a lookup is a binary search over the range table of the
+ * address family. Instances are immutable and safe for concurrent lookups.
+ */
+public final class IPRangeDatabase {
+
+    static final int MAGIC = 0x49505244; // "IPRD"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 20;
+    static final int IPV4_RANGE_SIZE = 12;
+    static final int IPV6_RANGE_SIZE = 36;
+
+    private static final Pattern IPV4_LITERAL = Pattern.compile("^\\d{1,3}(\\.\\d{1,3}){3}$");
+
+    private final Path path;
+    private final ByteBuffer buffer;
+    private final int ipv4Count;
+    private final int ipv6Count;
+    private final int locationCount;
+    private final int ipv4Offset;
+    private final int ipv6Offset;
+    private final int offsetsOffset;
+    private final int locationsOffset;
+
+    private IPRangeDatabase(Path path, ByteBuffer buffer) {
+        this.path = path;
+        this.buffer = buffer;
+
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not an IP range database: " + path);
+        }
+        int version = buffer.getInt(4);
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported IP range database version " + version + ": " + path);
+        }
+        this.ipv4Count = buffer.getInt(8);
+        this.ipv6Count = buffer.getInt(12);
+        this.locationCount = buffer.getInt(16);
+        if (ipv4Count < 0 || ipv6Count < 0 || locationCount < 0) {
+            throw new IllegalArgumentException("Corrupt IP range database header: " + path);
+        }
+
+        this.ipv4Offset = HEADER_SIZE;
+        this.ipv6Offset = Math.toIntExact(ipv4Offset + (long) ipv4Count * IPV4_RANGE_SIZE);
+        this.offsetsOffset = Math.toIntExact(ipv6Offset + (long) ipv6Count * IPV6_RANGE_SIZE);
+        this.locationsOffset = Math.toIntExact(offsetsOffset + (long) locationCount * Integer.BYTES);
+        if (locationsOffset > buffer.capacity()) {
+            throw new IllegalArgumentException("Truncated IP range database: " + path);
+        }
+    }
+
+    /**
+     * Map a database file
+     *
+     * @param path Database file
+     * @return The database
+     * @throws IOException              if the file cannot be read
+     * @throws IllegalArgumentException if the file is not a valid database
+     */
+    public static IPRangeDatabase open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("IP range database larger than 2 GB: " + path);
+            }
+            // The mapping stays valid after the channel is closed
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new IPRangeDatabase(path, mapped);
+        }
+    }
+
+    /**
+     * Look up the location of an address
+     *
+     * @param ipAddress IPv4 or IPv6 address literal
+     * @return Location, or null if the address is not a literal or is in no range
+     */
+    public IPGeolocationData lookup(String ipAddress) {
+        byte[] address = parseLiteral(ipAddress);
+        if (address == null) {
+            return null;
+        }
+
+        int location = address.length == 4 ? findIPv4(address) : findIPv6(address);
+        if (location < 0) {
+            return null;
+        }
+        IPGeolocationData data = readLocation(location);
+        data.setIp(ipAddress.trim());
+        return data;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public int getIpv4RangeCount() {
+        return ipv4Count;
+    }
+
+    public int getIpv6RangeCount() {
+        return ipv6Count;
+    }
+
+    private int findIPv4(byte[] address) {
+        int ip = ByteBuffer.wrap(address).getInt();
+        int low = 0;
+        int high = ipv4Count - 1;
+        int candidate = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (Integer.compareUnsigned(buffer.getInt(ipv4Offset + mid * IPV4_RANGE_SIZE), ip) <= 0) {
+                candidate = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        if (candidate < 0) {
+            return -1;
+        }
+        int entry = ipv4Offset + candidate * IPV4_RANGE_SIZE;
+        return Integer.compareUnsigned(ip, buffer.getInt(entry + 4)) <= 0 ? buffer.getInt(entry + 8) : -1;
+    }
+
+    private int findIPv6(byte[] address) {
+        ByteBuffer wrapped = ByteBuffer.wrap(address);
+        long ipHigh = wrapped.getLong();
+        long ipLow = wrapped.getLong();
+        int low = 0;
+        int high = ipv6Count - 1;
+        int candidate = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int entry = ipv6Offset + mid * IPV6_RANGE_SIZE;
+            if (compare(buffer.getLong(entry), buffer.getLong(entry + 8), ipHigh, ipLow) <= 0) {
+                candidate = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        if (candidate < 0) {
+            return -1;
+        }
+        int entry = ipv6Offset + candidate * IPV6_RANGE_SIZE;
+        return compare(ipHigh, ipLow, buffer.getLong(entry + 16), buffer.getLong(entry + 24)) <= 0
+                ? buffer.getInt(entry + 32)
+                : -1;
+    }
+
+    private IPGeolocationData readLocation(int index) {
+        if (index >= locationCount) {
+            throw new IllegalStateException("Corrupt IP range database, location " + index + " missing: " + path);
+        }
+        int[] position = { locationsOffset + buffer.getInt(offsetsOffset + index * Integer.BYTES) };
+
+        IPGeolocationData data = new IPGeolocationData();
+        data.setCountry(readString(position));
+        data.setCountryCode(readString(position));
+        data.setRegion(readString(position));
+        data.setCity(readString(position));
+        data.setTimezone(readString(position));
+        data.setIsp(readString(position));
+        data.setPostalCode(readString(position));
+        data.setContinent(readString(position));
+        data.setLatitude(readCoordinate(position));
+        data.setLongitude(readCoordinate(position));
+        return data;
+    }
+
+    private String readString(int[] position) {
+        short length = buffer.getShort(position[0]);
+        position[0] += Short.BYTES;
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(position[0], bytes);
+        position[0] += length;
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private Double readCoordinate(int[] position) {
+        double value = buffer.getDouble(position[0]);
+        position[0] += Double.BYTES;
+        return Double.isNaN(value) ? null : value;
+    }
+
+    static int compare(long high1, long low1, long high2, long low2) {
+        int result = Long.compareUnsigned(high1, high2);
+        return result != 0 ? result : Long.compareUnsigned(low1, low2);
+    }
+
+    /**
+     * Address bytes of an IP literal, 4 bytes for IPv4 and IPv4-mapped IPv6
+     * addresses; never resolves host names
+     */
+    static byte[] parseLiteral(String ipAddress) {
+        if (ipAddress == null) {
+            return null;
+        }
+        String literal = ipAddress.trim();
+        if (!literal.contains(":") && !IPV4_LITERAL.matcher(literal).matches()) {
+            return null;
+        }
+        try {
+            return InetAddress.getByName(literal).getAddress();
+        } catch (UnknownHostException | SecurityException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.hafizbahtiar.spring.features.ipaddress.provider.local;
+
+import com.hafizbahtiar.spring.features.ipaddress.dto.IPGeolocationData;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds an {@link IPRangeDatabase} file from ranges and CIDR blocks, e.g.
+ * when converting a provider export or generating a small fixture file.
+ *
+ * Ranges may be added in any order; they must not overlap. The file is
+ * written next to its target and moved into place, so a running
+ * {@link LocalRangeAdapter} never reloads a half-written database.
+ */
+public class IPRangeDatabaseWriter {
+
+    private final List<Range> ipv4Ranges = new ArrayList<>();
+    private final List<Range> ipv6Ranges = new ArrayList<>();
+    private final List<IPGeolocationData> locations = new ArrayList<>();
+    private final Map<IPGeolocationData, Integer> locationIndexes = new HashMap<>();
+
+    /**
+     * Add a CIDR block such as "203.0.113.0/24" or "2001:db8::/32"
+     */
+    public IPRangeDatabaseWriter addCidr(String cidr, IPGeolocationData location) {
+        int slash = cidr.indexOf('/');
+        if (slash < 0) {
+            return addRange(cidr, cidr, location);
+        }
+        byte[] network = literal(cidr.substring(0, slash));
+        int bits = network.length * 8;
+        int prefix;
+        try {
+            prefix = Integer.parseInt(cidr.substring(slash + 1).trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid CIDR block: " + cidr);
+        }
+        if (prefix < 0 || prefix > bits) {
+            throw new IllegalArgumentException("Invalid CIDR prefix length: " + cidr);
+        }
+
+        BigInteger hostMask = BigInteger.ONE.shiftLeft(bits - prefix).subtract(BigInteger.ONE);
+        BigInteger start = new BigInteger(1, network).andNot(hostMask);
+        BigInteger end = start.or(hostMask);
+        return add(new Range(toBytes(start, network.length), toBytes(end, network.length), indexOf(location)));
+    }
+
+    /**
+     * Add an inclusive range of addresses of one family
+     */
+    public IPRangeDatabaseWriter addRange(String startIp, String endIp, IPGeolocationData location) {
+        byte[] start = literal(startIp);
+        byte[] end = literal(endIp);
+        if (start.length != end.length) {
+            throw new IllegalArgumentException("Range mixes IPv4 and IPv6: " + startIp + " - " + endIp);
+        }
+        if (new BigInteger(1, start).compareTo(new BigInteger(1, end)) > 0) {
+            throw new IllegalArgumentException("Range start after end: " + startIp + " - " + endIp);
+        }
+        return add(new Range(start, end, indexOf(location)));
+    }
+
+    /**
+     * Write the database
+     *
+     * @throws IllegalArgumentException if ranges overlap
+     */
+    public void write(Path target) throws IOException {
+        Comparator<Range> byStart = Comparator.comparing(range -> new BigInteger(1, range.start()));
+        ipv4Ranges.sort(byStart);
+        ipv6Ranges.sort(byStart);
+        checkNoOverlap(ipv4Ranges);
+        checkNoOverlap(ipv6Ranges);
+
+        Path directory = target.toAbsolutePath().getParent();
+        Path temp = Files.createTempFile(directory, target.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream file = Files.newOutputStream(temp);
+                    DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file))) {
+                writeTo(out);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(IPRangeDatabase.MAGIC);
+        out.writeInt(IPRangeDatabase.VERSION);
+        out.writeInt(ipv4Ranges.size());
+        out.writeInt(ipv6Ranges.size());
+        out.writeInt(locations.size());
+
+        for (Range range : ipv4Ranges) {
+            out.write(range.start());
+            out.write(range.end());
+            out.writeInt(range.location());
+        }
+        for (Range range : ipv6Ranges) {
+            out.write(range.start());
+            out.write(range.end());
+            out.writeInt(range.location());
+        }
+
+        ByteArrayOutputStream locationBytes = new ByteArrayOutputStream();
+        DataOutputStream locationOut = new DataOutputStream(locationBytes);
+        for (IPGeolocationData location : locations) {
+            out.writeInt(locationOut.size());
+            writeString(locationOut, location.getCountry());
+            writeString(locationOut, location.getCountryCode());
+            writeString(locationOut, location.getRegion());
+            writeString(locationOut, location.getCity());
+            writeString(locationOut, location.getTimezone());
+            writeString(locationOut, location.getIsp());
+            writeString(locationOut, location.getPostalCode());
+            writeString(locationOut, location.getContinent());
+            locationOut.writeDouble(location.getLatitude() != null ? location.getLatitude() : Double.NaN);
+            locationOut.writeDouble(location.getLongitude() != null ? location.getLongitude() : Double.NaN);
+        }
+        locationBytes.writeTo(out);
+    }
+
+    private IPRangeDatabaseWriter add(Range range) {
+        (range.start().length == 4 ? ipv4Ranges : ipv6Ranges).add(range);
+        return this;
+    }
+
+    /**
+     * Index of a location, stored once however many ranges share it
+     */
+    private int indexOf(IPGeolocationData location) {
+        IPGeolocationData stored = new IPGeolocationData();
+        stored.setCountry(location.getCountry());
+        stored.setCountryCode(location.getCountryCode());
+        stored.setRegion(location.getRegion());
+        stored.setCity(location.getCity());
+        stored.setTimezone(location.getTimezone());
+        stored.setIsp(location.getIsp());
+        stored.setPostalCode(location.getPostalCode());
+        stored.setContinent(location.getContinent());
+        stored.setLatitude(location.getLatitude());
+        stored.setLongitude(location.getLongitude());
+        return locationIndexes.computeIfAbsent(stored, key -> {
+            locations.add(key);
+            return locations.size() - 1;
+        });
+    }
+
+    private static void checkNoOverlap(List<Range> ranges) {
+        for (int i = 1; i < ranges.size(); i++) {
+            BigInteger previousEnd = new BigInteger(1, ranges.get(i - 1).end());
+            if (new BigInteger(1, ranges.get(i).start()).compareTo(previousEnd) <= 0) {
+                throw new IllegalArgumentException("Overlapping IP ranges at range " + i);
+            }
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeShort(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Location field too long: " + value.substring(0, 32) + "...");
+        }
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] literal(String ipAddress) {
+        byte[] address = IPRangeDatabase.parseLiteral(ipAddress);
+        if (address == null) {
+            throw new IllegalArgumentException("Invalid IP address: " + ipAddress);
+        }
+        return address;
+    }
+
+    private static byte[] toBytes(BigInteger value, int length) {
+        byte[] raw = value.toByteArray();
+        ByteBuffer bytes = ByteBuffer.allocate(length);
+        int skip = Math.max(0, raw.length - length); // sign byte
+        bytes.position(length - (raw.length - skip));
+        bytes.put(raw, skip, raw.length - skip);
+        return bytes.array();
+    }
+
+    private record Range(byte[] start, byte[] end, int location) {
+    }
+}
@@ -0,0 +1,128 @@
+package com.hafizbahtiar.spring.features.ipaddress.provider.local;
+
+import com.hafizbahtiar.spring.features.ipaddress.dto.IPGeolocationData;
+import com.hafizbahtiar.spring.features.ipaddress.entity.IPGeolocationProvider;
+import com.hafizbahtiar.spring.features.ipaddress.provider.IPGeolocationAdapter;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+
+/**
+ * Adapter for an offline IP range database on local disk.
+ *
+ * Features:
+ * - No network calls; lookups are a binary search in a memory-mapped file
+ * - Hot reload: the file is checked for changes periodically and a new
+ *   database is swapped in once it loads, while lookups keep using the
+ *   previous one
+ * - Returns null for addresses outside every range, so a fallback provider
+ *   can answer them
+ *
+ * Replace the file with an atomic move (as {@link IPRangeDatabaseWriter}
+ * does) rather than writing it in place.
+ */
+@Slf4j
+@Component
+public class LocalRangeAdapter implements IPGeolocationAdapter {
+
+    @Value("${ip.geolocation.provider.local.enabled:false}")
+    private boolean enabled;
+
+    @Value("${ip.geolocation.provider.local.database-path:}")
+    private String databasePath;
+
+    private volatile IPRangeDatabase database;
+
+    /**
+     * Modification time and size of the file last loaded or tried, so a file
+     * that fails to load is retried only once it changes
+     */
+    private String lastSeenVersion;
+
+    @Override
+    public IPGeolocationProvider getProvider() {
+        return IPGeolocationProvider.LOCAL;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled && database != null;
+    }
+
+    @Override
+    public IPGeolocationData getGeolocation(String ipAddress) {
+        IPRangeDatabase current = database;
+        if (!enabled || current == null) {
+            log.debug("Local range database is not available");
+            return null;
+        }
+
+        try {
+            return current.lookup(ipAddress);
+        } catch (Exception e) {
+            log.warn("Failed to look up IP {} in local range database: {}", ipAddress, e.getMessage());
+            return null;
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        if (enabled) {
+            reloadIfChanged();
+        }
+    }
+
+    /**
+     * Load the database file if it changed since it was last loaded
+     */
+    @Scheduled(fixedDelayString = "${ip.geolocation.provider.local.reload-interval-ms:60000}",
+            initialDelayString = "${ip.geolocation.provider.local.reload-interval-ms:60000}")
+    public synchronized void reloadIfChanged() {
+        if (!enabled) {
+            return;
+        }
+        if (databasePath == null || databasePath.isBlank()) {
+            if (lastSeenVersion == null) {
+                log.warn("Local range database is enabled but no database path is configured");
+                lastSeenVersion = "";
+            }
+            return;
+        }
+
+        Path path = Path.of(databasePath);
+        String version;
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            version = attributes.lastModifiedTime().toMillis() + ":" + attributes.size();
+        } catch (Exception e) {
+            if (!"missing".equals(lastSeenVersion)) {
+                log.warn("Local range database {} is not readable: {}", path, e.getMessage());
+                lastSeenVersion = "missing";
+            }
+            return;
+        }
+        if (version.equals(lastSeenVersion)) {
+            return;
+        }
+        lastSeenVersion = version;
+
+        long startTime = System.currentTimeMillis();
+        try {
+            IPRangeDatabase loaded = IPRangeDatabase.open(path);
+            boolean reload = database != null;
+            database = loaded;
+            log.info("{} local range database {}: {} IPv4 and {} IPv6 range(s) in {} ms",
+                    reload ? "Reloaded" : "Loaded", path, loaded.getIpv4RangeCount(), loaded.getIpv6RangeCount(),
+                    System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.warn("Failed to load local range database {}{}: {}", path,
+                    database != null ? " (keeping the previous database)" : "", e.getMessage());
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.hafizbahtiar.spring.features.ipaddress.service;
 import com.hafizbahtiar.spring.features.ipaddress.dto.IPLookupResponse;
 import com.hafizbahtiar.spring.features.ipaddress.model.IPLookupLog;
 import com.hafizbahtiar.spring.features.ipaddress.repository.mongodb.IPLookupLogRepository;
+import com.hafizbahtiar.spring.features.logs.service.LogEventWriter;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,6 +25,7 @@ import java.util.Map;
 public class IPAddressLoggingService {
 
     private final IPLookupLogRepository ipLookupLogRepository;
+    private final LogEventWriter logEventWriter;
 
     /**
      * Log a successful IP lookup event
@@ -57,7 +59,7 @@ public class IPAddressLoggingService {
                     .responseTimeMs(responseTimeMs)
                     .build();
 
-            ipLookupLogRepository.save(lookupLog);
+            save(lookupLog);
             log.debug("Logged successful IP lookup for IP: {} by user: {}", lookedUpIp, userId);
         } catch (Exception e) {
             log.error("Failed to log IP lookup success event", e);
@@ -85,7 +87,7 @@ public class IPAddressLoggingService {
                     .responseTimeMs(responseTimeMs)
                     .build();
 
-            ipLookupLogRepository.save(lookupLog);
+            save(lookupLog);
             log.debug("Logged failed IP lookup for IP: {} by user: {}, reason: {}", lookedUpIp, userId, failureReason);
         } catch (Exception e) {
             log.error("Failed to log IP lookup failure event", e);
@@ -126,7 +128,7 @@ public class IPAddressLoggingService {
                     .responseTimeMs(responseTimeMs)
                     .build();
 
-            ipLookupLogRepository.save(lookupLog);
+            save(lookupLog);
             log.debug("Logged successful session IP lookup for session: {} by user: {}", sessionId, userId);
         } catch (Exception e) {
             log.error("Failed to log session IP lookup success event", e);
@@ -154,7 +156,7 @@ public class IPAddressLoggingService {
                     .responseTimeMs(responseTimeMs)
                     .build();
 
-            ipLookupLogRepository.save(lookupLog);
+            save(lookupLog);
             log.debug("Logged failed session IP lookup for session: {} by user: {}, reason: {}",
                     sessionId, userId, failureReason);
         } catch (Exception e) {
@@ -206,4 +208,11 @@ public class IPAddressLoggingService {
         }
         return requestId;
     }
+
+    /**
+     * Persist log through the shared log writer (admission policy applied)
+     */
+    private void save(IPLookupLog lookupLog) {
+        logEventWriter.write("IP_LOOKUP", lookupLog.getEventType(), lookupLog, ipLookupLogRepository::save);
+    }
 }
@@ -0,0 +1,261 @@
+package com.hafizbahtiar.spring.features.ipaddress.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hafizbahtiar.spring.features.ipaddress.dto.IPGeolocationData;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Two-tier cache of IP geolocation lookups.
+ *
+ * The local tier is a bounded LRU map per node, so repeat lookups of an
+ * address are answered in process; the Redis tier is shared by all nodes and
+ * fills the local tier on a local miss. Lookups that found no location and
+ * lookups that failed are cached as well, with shorter TTLs, so an unknown
+ * address or a provider outage does not send every request to the provider.
+ * Local entries live at most {@code local.max-ttl-seconds}, which bounds how
+ * long a node keeps an entry after it was replaced in Redis.
+ *
+ * Hits and misses are counted per tier; Redis errors count as misses.
+ */
+@Component
+@Slf4j
+public class IPGeolocationCache {
+
+    private static final String CACHE_KEY_PREFIX = "ipgeo:";
+    private static final String METRIC_REQUESTS = "ip.geolocation.cache.requests";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private Map<String, LocalEntry> local;
+    private Counter localHits;
+    private Counter localMisses;
+    private Counter redisHits;
+    private Counter redisMisses;
+
+    @Value("${ip.geolocation.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${ip.geolocation.cache.local.max-size:10000}")
+    private int localMaxSize;
+
+    @Value("${ip.geolocation.cache.local.max-ttl-seconds:600}")
+    private long localMaxTtlSeconds;
+
+    @Value("${ip.geolocation.cache.redis.enabled:true}")
+    private boolean redisEnabled;
+
+    @Value("${ip.geolocation.cache.ttl-seconds:86400}") // Default: 1 day
+    private long ttlSeconds;
+
+    @Value("${ip.geolocation.cache.negative-ttl-seconds:3600}") // Default: 1 hour
+    private long negativeTtlSeconds;
+
+    @Value("${ip.geolocation.cache.failure-ttl-seconds:60}") // Default: 1 minute
+    private long failureTtlSeconds;
+
+    public IPGeolocationCache(RedisTemplate<String, Object> redisTemplate, ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void init() {
+        int maxSize = Math.max(1, localMaxSize);
+        local = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, LocalEntry> eldest) {
+                return size() > maxSize;
+            }
+        };
+
+        localHits = counter("local", "hit");
+        localMisses = counter("local", "miss");
+        redisHits = counter("redis", "hit");
+        redisMisses = counter("redis", "miss");
+        Gauge.builder("ip.geolocation.cache.size", this, IPGeolocationCache::getLocalSize)
+                .description("Entries in the local IP geolocation cache")
+                .register(meterRegistry);
+
+        log.info("IP geolocation cache initialized (enabled: {}, local max size: {}, redis: {}, TTLs: {}/{}/{} s)",
+                enabled, maxSize, redisEnabled, ttlSeconds, negativeTtlSeconds, failureTtlSeconds);
+    }
+
+    /**
+     * Get a cached lookup, from the local tier or else from Redis
+     *
+     * @param ipAddress IP address
+     * @return Cached lookup, or null if neither tier has one
+     */
+    public CachedGeolocation get(String ipAddress) {
+        if (!enabled) {
+            return null;
+        }
+
+        String key = normalize(ipAddress);
+        long now = System.currentTimeMillis();
+        synchronized (local) {
+            LocalEntry entry = local.get(key);
+            if (entry != null && entry.expiresAt() > now) {
+                localHits.increment();
+                return entry.value();
+            }
+            if (entry != null) {
+                local.remove(key);
+            }
+        }
+        localMisses.increment();
+
+        if (!redisEnabled) {
+            return null;
+        }
+        try {
+            Object value = redisTemplate.opsForValue().get(CACHE_KEY_PREFIX + key);
+            if (value != null) {
+                CachedGeolocation cached = objectMapper.readValue(value.toString(), CachedGeolocation.class);
+                redisHits.increment();
+                putLocal(key, cached);
+                return cached;
+            }
+        } catch (Exception e) {
+            log.debug("Failed to read cached geolocation for IP {}: {}", ipAddress, e.getMessage());
+        }
+        redisMisses.increment();
+        return null;
+    }
+
+    /**
+     * Cache the outcome of a lookup in both tiers
+     *
+     * @param ipAddress IP address
+     * @param data      Geolocation data, null if the lookup failed
+     * @param outcome   Lookup outcome, which selects the TTL
+     */
+    public void put(String ipAddress, IPGeolocationData data, Outcome outcome) {
+        if (!enabled) {
+            return;
+        }
+
+        String key = normalize(ipAddress);
+        CachedGeolocation cached = new CachedGeolocation(outcome, data);
+        putLocal(key, cached);
+
+        if (!redisEnabled) {
+            return;
+        }
+        try {
+            String json = objectMapper.writeValueAsString(cached);
+            redisTemplate.opsForValue().set(CACHE_KEY_PREFIX + key, json, ttlOf(outcome), TimeUnit.SECONDS);
+        } catch (Exception e) {
+            log.debug("Failed to cache geolocation for IP {}: {}", ipAddress, e.getMessage());
+        }
+    }
+
+    /**
+     * Remove an address from both tiers; other nodes keep their local entry
+     * until it expires
+     */
+    public void evict(String ipAddress) {
+        String key = normalize(ipAddress);
+        synchronized (local) {
+            local.remove(key);
+        }
+        if (redisEnabled) {
+            try {
+                redisTemplate.delete(CACHE_KEY_PREFIX + key);
+            } catch (Exception e) {
+                log.warn("Failed to evict cached geolocation for IP {}: {}", ipAddress, e.getMessage());
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    private void putLocal(String key, CachedGeolocation cached) {
+        long ttlMillis = TimeUnit.SECONDS.toMillis(Math.min(ttlOf(cached.getOutcome()), localMaxTtlSeconds));
+        synchronized (local) {
+            local.put(key, new LocalEntry(cached, System.currentTimeMillis() + ttlMillis));
+        }
+    }
+
+    private long ttlOf(Outcome outcome) {
+        return switch (outcome) {
+            case FOUND -> ttlSeconds;
+            case NOT_FOUND -> negativeTtlSeconds;
+            case FAILED -> failureTtlSeconds;
+        };
+    }
+
+    private int getLocalSize() {
+        synchronized (local) {
+            return local.size();
+        }
+    }
+
+    private Counter counter(String tier, String result) {
+        return Counter.builder(METRIC_REQUESTS)
+                .description("IP geolocation cache lookups by tier and result")
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Cache key of an address; also the key lookups in flight are shared by
+     */
+    static String normalize(String ipAddress) {
+        return ipAddress.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Outcome of a provider lookup
+     */
+    public enum Outcome {
+        /**
+         * A provider returned a location
+         */
+        FOUND,
+        /**
+         * A provider answered, but has no location for the address
+         */
+        NOT_FOUND,
+        /**
+         * No provider answered
+         */
+        FAILED
+    }
+
+    /**
+     * Cached lookup; data is null for failed lookups
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CachedGeolocation {
+        private Outcome outcome;
+        private IPGeolocationData data;
+    }
+
+    private record LocalEntry(CachedGeolocation value, long expiresAt) {
+    }
+}
@@ -1,20 +1,47 @@
 package com.hafizbahtiar.spring.features.ipaddress.service;
 
+import com.hafizbahtiar.spring.features.admin.metrics.ExecutorRegistry;
+import com.hafizbahtiar.spring.features.admin.metrics.MonitoredExecutor;
 import com.hafizbahtiar.spring.features.ipaddress.dto.IPGeolocationData;
 import com.hafizbahtiar.spring.features.ipaddress.entity.IPGeolocationProvider;
 import com.hafizbahtiar.spring.features.ipaddress.provider.IPGeolocationAdapter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 /**
  * Implementation of IPGeolocationService.
  * Handles IP geolocation lookups using adapter pattern with fallback support.
+ * Lookups through the configured providers are cached in
+ * {@link IPGeolocationCache}, including lookups that found no location or
+ * failed; lookups from a specific provider are not cached.
+ *
+ * Cache misses are resolved on the "ip-geolocation" pool, whose size bounds
+ * how many distinct addresses are looked up at once. Concurrent lookups of
+ * the same address share one lookup in flight instead of each calling the
+ * provider.
+ *
+ * When the local range database is the primary provider it is queried on the
+ * caller's thread before any of that: an in-memory lookup is cheaper than a
+ * Redis round trip, so only addresses it has no range for go through the
+ * cache and lookup pool to the fallback provider.
  */
 @Slf4j
 @Service
@@ -22,6 +49,11 @@ public class IPGeolocationServiceImpl implements IPGeolocationService {
 
     private final List<IPGeolocationAdapter> adapters;
     private final Executor taskExecutor;
+    private final IPGeolocationCache cache;
+    private final ThreadPoolExecutor pool;
+    private final MonitoredExecutor lookupExecutor;
+    private final Map<String, CompletableFuture<IPGeolocationData>> inFlight = new ConcurrentHashMap<>();
+    private final Counter coalescedLookups;
 
     @Value("${ip.geolocation.provider.primary:IPLOCALIZE}")
     private IPGeolocationProvider primaryProvider;
@@ -37,27 +69,72 @@ public class IPGeolocationServiceImpl implements IPGeolocationService {
 
     /**
      * Constructor with dependency injection.
-     * Uses @Qualifier to specify which Executor bean to inject.
+     * Uses @Qualifier to specify which Executor bean to inject; async callers
+     * continue on it, so their callbacks do not occupy lookup threads.
      */
     public IPGeolocationServiceImpl(
             List<IPGeolocationAdapter> adapters,
-            @Qualifier("applicationTaskExecutor") Executor taskExecutor) {
+            @Qualifier("applicationTaskExecutor") Executor taskExecutor,
+            IPGeolocationCache cache,
+            ExecutorRegistry executorRegistry,
+            MeterRegistry meterRegistry,
+            @Value("${ip.geolocation.lookup.threads:8}") int threads,
+            @Value("${ip.geolocation.lookup.max-queued:500}") int maxQueued) {
         this.adapters = adapters;
         this.taskExecutor = taskExecutor;
+        this.cache = cache;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(Math.max(1, maxQueued)),
+                task -> {
+                    Thread thread = new Thread(task, "ip-geolocation-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.pool.allowCoreThreadTimeOut(true);
+        this.lookupExecutor = executorRegistry.register("ip-geolocation", pool);
+
+        this.coalescedLookups = Counter.builder("ip.geolocation.lookups.coalesced")
+                .description("Geolocation lookups that joined a lookup of the same IP already in flight")
+                .register(meterRegistry);
+        Gauge.builder("ip.geolocation.lookups.in-flight", inFlight, Map::size)
+                .description("Distinct IPs with a geolocation lookup in flight")
+                .register(meterRegistry);
     }
 
     @Override
     public IPGeolocationData getGeolocation(String ipAddress) {
-        if (!enabled) {
-            log.debug("IP geolocation is disabled");
+        if (!shouldLookup(ipAddress)) {
             return null;
         }
 
-        if (ipAddress == null || ipAddress.isBlank() || isPrivateIP(ipAddress)) {
-            log.debug("Skipping geolocation lookup for IP: {}", ipAddress);
+        if (isLocalPrimary()) {
+            IPGeolocationData local = lookupLocal(ipAddress);
+            if (local != null || !hasFallback()) {
+                return local;
+            }
+        }
+
+        IPGeolocationCache.CachedGeolocation cached = cache.get(ipAddress);
+        if (cached != null) {
+            log.debug("Geolocation cache hit ({}) for IP: {}", cached.getOutcome(), ipAddress);
+            return cached.getData();
+        }
+
+        try {
+            return flight(ipAddress, false).join();
+        } catch (Exception e) {
+            log.warn("Geolocation lookup failed for IP {}: {}", ipAddress, e.getMessage());
             return null;
         }
+    }
 
+    /**
+     * Look up an IP address through the primary and fallback providers
+     */
+    private IPGeolocationData lookup(String ipAddress) {
         // Try primary provider
         IPGeolocationAdapter primaryAdapter = getAdapter(primaryProvider);
         if (primaryAdapter != null && primaryAdapter.isEnabled()) {
@@ -75,7 +152,7 @@ public class IPGeolocationServiceImpl implements IPGeolocationService {
         }
 
         // Fallback to secondary provider if enabled
-        if (enableFallback && fallbackProviderStr != null && !fallbackProviderStr.isBlank()) {
+        if (hasFallback()) {
             try {
                 IPGeolocationProvider fallbackProvider = IPGeolocationProvider.fromString(fallbackProviderStr);
                 if (fallbackProvider != null && !fallbackProvider.equals(primaryProvider)) {
@@ -105,7 +182,121 @@ public class IPGeolocationServiceImpl implements IPGeolocationService {
 
     @Override
     public CompletableFuture<IPGeolocationData> getGeolocationAsync(String ipAddress) {
-        return CompletableFuture.supplyAsync(() -> getGeolocation(ipAddress), taskExecutor);
+        if (!shouldLookup(ipAddress)) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        if (isLocalPrimary()) {
+            IPGeolocationData local = lookupLocal(ipAddress);
+            if (local != null || !hasFallback()) {
+                return CompletableFuture.completedFuture(local);
+            }
+        }
+        return flight(ipAddress, true).thenApplyAsync(Function.identity(), taskExecutor);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Lookup of an address in flight, started unless one is already running.
+     * The returned future never completes exceptionally; a lookup that
+     * cannot start because the lookup queue is full completes with null.
+     *
+     * @param checkCache Whether the lookup checks the cache first (callers
+     *                   that already missed the cache skip it)
+     */
+    private CompletableFuture<IPGeolocationData> flight(String ipAddress, boolean checkCache) {
+        String key = IPGeolocationCache.normalize(ipAddress);
+        CompletableFuture<IPGeolocationData> flight = new CompletableFuture<>();
+        CompletableFuture<IPGeolocationData> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalescedLookups.increment();
+            return existing.copy(); // callers cannot complete or cancel the shared lookup
+        }
+
+        try {
+            lookupExecutor.execute(() -> {
+                try {
+                    flight.complete(resolve(ipAddress, checkCache));
+                } catch (Exception e) {
+                    log.warn("Geolocation lookup failed for IP {}: {}", ipAddress, e.getMessage());
+                    flight.complete(null);
+                } finally {
+                    inFlight.remove(key, flight);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("Skipped geolocation lookup for IP {}: lookup queue is full", ipAddress);
+            inFlight.remove(key, flight);
+            flight.complete(null);
+        }
+        return flight.copy();
+    }
+
+    /**
+     * Resolve an address through the cache and providers, caching the outcome
+     */
+    private IPGeolocationData resolve(String ipAddress, boolean checkCache) {
+        if (checkCache) {
+            IPGeolocationCache.CachedGeolocation cached = cache.get(ipAddress);
+            if (cached != null) {
+                log.debug("Geolocation cache hit ({}) for IP: {}", cached.getOutcome(), ipAddress);
+                return cached.getData();
+            }
+        }
+
+        IPGeolocationData data = lookup(ipAddress);
+        cache.put(ipAddress, data, outcomeOf(data));
+        return data;
+    }
+
+    /**
+     * Whether the primary provider is the local range database and can be
+     * queried
+     */
+    private boolean isLocalPrimary() {
+        if (primaryProvider != IPGeolocationProvider.LOCAL) {
+            return false;
+        }
+        IPGeolocationAdapter local = getAdapter(IPGeolocationProvider.LOCAL);
+        return local != null && local.isEnabled();
+    }
+
+    /**
+     * Query the local range database directly, without caching
+     *
+     * @return Location, or null if the database has no range for the address
+     */
+    private IPGeolocationData lookupLocal(String ipAddress) {
+        try {
+            return getAdapter(IPGeolocationProvider.LOCAL).getGeolocation(ipAddress);
+        } catch (Exception e) {
+            log.warn("Local range lookup failed for IP {}: {}", ipAddress, e.getMessage());
+            return null;
+        }
+    }
+
+    private boolean hasFallback() {
+        return enableFallback && fallbackProviderStr != null && !fallbackProviderStr.isBlank();
+    }
+
+    /**
+     * Whether an address should be looked up at all
+     */
+    private boolean shouldLookup(String ipAddress) {
+        if (!enabled) {
+            log.debug("IP geolocation is disabled");
+            return false;
+        }
+
+        if (ipAddress == null || ipAddress.isBlank() || isPrivateIP(ipAddress)) {
+            log.debug("Skipping geolocation lookup for IP: {}", ipAddress);
+            return false;
+        }
+        return true;
     }
 
     @Override
@@ -124,6 +315,19 @@ public class IPGeolocationServiceImpl implements IPGeolocationService {
         return adapter.getGeolocation(ipAddress);
     }
 
+    /**
+     * Classify a lookup for caching: null means every provider failed, data
+     * without a country means the providers have no location for the address
+     */
+    private IPGeolocationCache.Outcome outcomeOf(IPGeolocationData data) {
+        if (data == null) {
+            return IPGeolocationCache.Outcome.FAILED;
+        }
+        boolean hasLocation = (data.getCountryCode() != null && !data.getCountryCode().isBlank())
+                || (data.getCountry() != null && !data.getCountry().isBlank());
+        return hasLocation ? IPGeolocationCache.Outcome.FOUND : IPGeolocationCache.Outcome.NOT_FOUND;
+    }
+
     /**
      * Get adapter for a specific provider
      */
@@ -0,0 +1,90 @@
+package com.hafizbahtiar.spring.features.logs.controller.v1;
+
+import com.hafizbahtiar.spring.common.dto.ApiResponse;
+import com.hafizbahtiar.spring.common.util.ResponseUtils;
+import com.hafizbahtiar.spring.features.logs.dto.LogAdmissionStatsResponse;
+import com.hafizbahtiar.spring.features.logs.dto.LogCounterBackfillResponse;
+import com.hafizbahtiar.spring.features.logs.dto.LogEventCounterResponse;
+import com.hafizbahtiar.spring.features.logs.model.LogEventCounter;
+import com.hafizbahtiar.spring.features.logs.service.LogAdmissionPolicy;
+import com.hafizbahtiar.spring.features.logs.service.LogEventCounterService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * REST API controller for pre-aggregated log event counters.
+ * Serves dashboard charts from the counter collection instead of scanning
+ * the raw log collections.
+ * 
+ * Authorization: OWNER/ADMIN only
+ */
+@RestController
+@RequestMapping("/api/v1/logs/metrics")
+@RequiredArgsConstructor
+@Slf4j
+@PreAuthorize("hasAnyRole('OWNER', 'ADMIN')")
+public class LogMetricsController {
+
+    private final LogEventCounterService logEventCounterService;
+    private final LogAdmissionPolicy logAdmissionPolicy;
+
+    /**
+     * GET /api/v1/logs/metrics?granularity=HOUR&from=...&to=...&source=AUTH&eventType=LOGIN_FAILURE
+     * Get event counters for a time range
+     * 
+     * @param granularity Bucket size: MINUTE, HOUR or DAY (optional, defaults to HOUR)
+     * @param from        Range start (optional, defaults to 24 hours ago)
+     * @param to          Range end (optional, defaults to now)
+     * @param source      Log source filter (optional)
+     * @param eventType   Event type filter (optional)
+     * @return Counter buckets within the range
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<LogEventCounterResponse>> getCounters(
+            @RequestParam(value = "granularity", defaultValue = "HOUR") LogEventCounter.Granularity granularity,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(value = "source", required = false) String source,
+            @RequestParam(value = "eventType", required = false) String eventType) {
+
+        log.debug("GET /api/v1/logs/metrics - granularity: {}, from: {}, to: {}", granularity, from, to);
+
+        LocalDateTime rangeEnd = to != null ? to : LocalDateTime.now();
+        LocalDateTime rangeStart = from != null ? from : rangeEnd.minusHours(24);
+
+        LogEventCounterResponse response = logEventCounterService.getCounters(
+                granularity, rangeStart, rangeEnd, source, eventType);
+        return ResponseUtils.ok(response);
+    }
+
+    /**
+     * POST /api/v1/logs/metrics/backfill
+     * Rebuild all counters from the raw log collections
+     * 
+     * @return Backfill statistics
+     */
+    @PostMapping("/backfill")
+    public ResponseEntity<ApiResponse<LogCounterBackfillResponse>> backfill() {
+        log.debug("POST /api/v1/logs/metrics/backfill - Rebuilding log event counters");
+        LogCounterBackfillResponse response = logEventCounterService.backfill();
+        return ResponseUtils.ok(response, "Log event counters rebuilt successfully");
+    }
+
+    /**
+     * GET /api/v1/logs/metrics/admission
+     * Get log admission policy state and admitted/sampled/dropped counts
+     * 
+     * @return Admission statistics
+     */
+    @GetMapping("/admission")
+    public ResponseEntity<ApiResponse<LogAdmissionStatsResponse>> getAdmissionStats() {
+        log.debug("GET /api/v1/logs/metrics/admission - Fetching log admission statistics");
+        return ResponseUtils.ok(logAdmissionPolicy.getStats());
+    }
+}
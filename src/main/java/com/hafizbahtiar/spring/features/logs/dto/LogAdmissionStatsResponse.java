@@ -0,0 +1,43 @@
+package com.hafizbahtiar.spring.features.logs.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Response DTO for log admission policy state.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LogAdmissionStatsResponse {
+
+    private Boolean enabled;
+
+    /**
+     * Current async executor queue depth
+     */
+    private Integer queueDepth;
+
+    private Integer lowWatermark;
+    private Integer highWatermark;
+
+    /**
+     * Current sampling rate multiplier derived from the queue depth (0.0 - 1.0)
+     */
+    private Double pressureFactor;
+
+    /**
+     * Configured per-event-type sampling rates
+     */
+    private Map<String, Double> sampleRates;
+
+    /**
+     * Decision counts since startup: source → outcome → count
+     */
+    private Map<String, Map<String, Long>> decisions;
+}
@@ -0,0 +1,33 @@
+package com.hafizbahtiar.spring.features.logs.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Response DTO for a counter backfill run.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LogCounterBackfillResponse {
+
+    /**
+     * Number of raw log documents scanned per source
+     */
+    private Map<String, Long> scannedBySource;
+
+    /**
+     * Number of counter documents written
+     */
+    private Long countersWritten;
+
+    /**
+     * Duration of the backfill in milliseconds
+     */
+    private Long durationMs;
+}
@@ -0,0 +1,50 @@
+package com.hafizbahtiar.spring.features.logs.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Response DTO for pre-aggregated log event counters.
+ * Contains one entry per (bucket, source, event type, outcome) within the
+ * requested range.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LogEventCounterResponse {
+
+    private String granularity;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime from;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime to;
+
+    private List<CounterBucket> buckets;
+
+    /**
+     * Sum of all bucket counts in the range
+     */
+    private Long total;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CounterBucket {
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        private LocalDateTime bucketStart;
+        private String source;
+        private String eventType;
+        private String outcome;
+        private Long count;
+    }
+}
@@ -0,0 +1,44 @@
+package com.hafizbahtiar.spring.features.logs.listener;
+
+import com.hafizbahtiar.spring.features.logs.service.LogDictionaryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterLoadEvent;
+import org.springframework.data.mongodb.core.mapping.event.BeforeSaveEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * MongoDB event listener that dictionary-encodes repeated values in log
+ * documents before they are written, and re-hydrates them when documents are
+ * loaded, before they are mapped to entities.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LogDictionaryListener extends AbstractMongoEventListener<Object> {
+
+    private final LogDictionaryService logDictionaryService;
+
+    @Override
+    public void onBeforeSave(BeforeSaveEvent<Object> event) {
+        if (event.getDocument() == null) {
+            return;
+        }
+        try {
+            logDictionaryService.encode(event.getCollectionName(), event.getDocument());
+        } catch (Exception e) {
+            // Store the document as-is rather than failing the log write
+            log.warn("Failed to dictionary-encode {} document: {}", event.getCollectionName(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void onAfterLoad(AfterLoadEvent<Object> event) {
+        try {
+            logDictionaryService.decode(event.getCollectionName(), event.getDocument());
+        } catch (Exception e) {
+            log.warn("Failed to re-hydrate {} document: {}", event.getCollectionName(), e.getMessage());
+        }
+    }
+}
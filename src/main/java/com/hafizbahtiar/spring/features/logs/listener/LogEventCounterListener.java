@@ -0,0 +1,31 @@
+package com.hafizbahtiar.spring.features.logs.listener;
+
+import com.hafizbahtiar.spring.features.logs.service.LogEventCounterService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * MongoDB event listener that feeds persisted log documents into the
+ * incremental event counters.
+ * Hooking the save event keeps the individual logging services unchanged.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LogEventCounterListener extends AbstractMongoEventListener<Object> {
+
+    private final LogEventCounterService logEventCounterService;
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<Object> event) {
+        try {
+            logEventCounterService.recordLog(event.getSource());
+        } catch (Exception e) {
+            // Never fail the log write because of a counter problem
+            log.warn("Failed to record log event counter: {}", e.getMessage());
+        }
+    }
+}
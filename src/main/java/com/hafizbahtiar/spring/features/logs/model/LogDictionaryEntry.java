@@ -0,0 +1,43 @@
+package com.hafizbahtiar.spring.features.logs.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * MongoDB document for a dictionary-encoded log value.
+ * Large values that repeat across log documents (user agents, endpoint paths,
+ * geolocation results) are stored once here and referenced from log
+ * documents by ID.
+ */
+@Document(collection = "log_dictionary")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LogDictionaryEntry {
+
+    /**
+     * Content hash of kind and value, so the same value always maps to the same ID
+     */
+    @Id
+    private String id;
+
+    /**
+     * Kind of value
+     * Values: USER_AGENT, PATH, GEOLOCATION
+     */
+    private String kind;
+
+    /**
+     * Encoded value (string or embedded document)
+     */
+    private Object value;
+
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,106 @@
+package com.hafizbahtiar.spring.features.logs.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * MongoDB document for pre-aggregated log event counters.
+ * One document holds the number of events of a given source, type and outcome
+ * that occurred within a single time bucket (minute, hour or day).
+ *
+ * Documents are keyed by a deterministic ID so counters can be incremented
+ * with upserts instead of scanning the raw log collections.
+ */
+@Document(collection = "log_event_counters")
+@CompoundIndex(name = "granularity_bucket_idx", def = "{ 'granularity': 1, 'bucketStart': 1 }")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LogEventCounter {
+
+    /**
+     * Deterministic ID: granularity|bucketStart|source|eventType|outcome
+     */
+    @Id
+    private String id;
+
+    /**
+     * Bucket size of this counter
+     */
+    private Granularity granularity;
+
+    /**
+     * Start of the time bucket (inclusive)
+     */
+    private LocalDateTime bucketStart;
+
+    /**
+     * Log source
+     * Values: AUTH, USER_ACTIVITY, PERMISSION, PORTFOLIO
+     */
+    private String source;
+
+    /**
+     * Event type as stored in the raw log (e.g. LOGIN_SUCCESS, PROFILE_UPDATE)
+     */
+    private String eventType;
+
+    /**
+     * Outcome of the event
+     * Values: SUCCESS, FAILURE
+     */
+    private String outcome;
+
+    /**
+     * Number of events in this bucket
+     */
+    private Long count;
+
+    /**
+     * Expiry time for fine-grained buckets (null = kept forever)
+     */
+    @Indexed(name = "expire_at_ttl_idx", expireAfter = "0s")
+    private LocalDateTime expireAt;
+
+    /**
+     * Bucket sizes maintained by the aggregator, with their retention.
+     */
+    public enum Granularity {
+        MINUTE(ChronoUnit.MINUTES, Duration.ofDays(2)),
+        HOUR(ChronoUnit.HOURS, Duration.ofDays(90)),
+        DAY(ChronoUnit.DAYS, null);
+
+        private final ChronoUnit unit;
+        private final Duration retention;
+
+        Granularity(ChronoUnit unit, Duration retention) {
+            this.unit = unit;
+            this.retention = retention;
+        }
+
+        /**
+         * Truncate a timestamp to the start of its bucket
+         */
+        public LocalDateTime truncate(LocalDateTime timestamp) {
+            return timestamp.truncatedTo(unit);
+        }
+
+        /**
+         * Expiry time for a bucket, or null if buckets of this size never expire
+         */
+        public LocalDateTime expireAt(LocalDateTime bucketStart) {
+            return retention != null ? bucketStart.plus(retention) : null;
+        }
+    }
+}
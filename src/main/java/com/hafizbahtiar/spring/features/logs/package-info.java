@@ -16,6 +16,18 @@
  * Service for aggregating logs</li>
  * <li>{@link com.hafizbahtiar.spring.features.logs.controller.v1.LogController}
  * - REST API endpoints</li>
+ * <li>{@link com.hafizbahtiar.spring.features.logs.service.LogEventCounterService}
+ * - Incremental per-minute/hour/day event counters for dashboards</li>
+ * <li>{@link com.hafizbahtiar.spring.features.logs.controller.v1.LogMetricsController}
+ * - Counter query and backfill endpoints</li>
+ * <li>{@link com.hafizbahtiar.spring.features.logs.service.LogEventWriter} -
+ * Shared write path for all logging services</li>
+ * <li>{@link com.hafizbahtiar.spring.features.logs.service.LogAdmissionPolicy}
+ * - Sampling and load shedding of log events</li>
+ * <li>{@link com.hafizbahtiar.spring.features.logs.service.LogSpoolService} -
+ * Local disk spool for log documents while MongoDB is unavailable</li>
+ * <li>{@link com.hafizbahtiar.spring.features.logs.service.LogDictionaryService}
+ * - Dictionary encoding of repeated values in log documents</li>
  * </ul>
  * 
  * <p>
@@ -0,0 +1,210 @@
+package com.hafizbahtiar.spring.features.logs.service;
+
+import com.hafizbahtiar.spring.features.logs.dto.LogAdmissionStatsResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Admission policy for audit/log events.
+ * Decides whether a log event is persisted, based on:
+ * <ul>
+ * <li>a never-drop list of security-critical event types and sources</li>
+ * <li>per-event-type sampling rates</li>
+ * <li>adaptive sampling driven by the async executor queue depth: above the
+ * low watermark the sampling rate is scaled down linearly, and at the high
+ * watermark every droppable event is shed</li>
+ * </ul>
+ * Every decision is counted per source and outcome (admitted, sampled,
+ * dropped).
+ */
+@Component
+@Slf4j
+public class LogAdmissionPolicy {
+
+    public static final String OUTCOME_ADMITTED = "admitted";
+    public static final String OUTCOME_SAMPLED = "sampled";
+    public static final String OUTCOME_DROPPED = "dropped";
+
+    private static final String METRIC_EVENTS = "logs.admission.events";
+
+    private final Executor taskExecutor;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, LongAdder> decisions = new ConcurrentHashMap<>();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<String, Double> sampleRates = new HashMap<>();
+
+    @Value("${logs.admission.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * Per-event-type sampling rates, e.g. "API_CALL:0.1,PROFILE_VIEW:0.5"
+     */
+    @Value("${logs.admission.sample-rates:}")
+    private String sampleRatesStr;
+
+    @Value("${logs.admission.never-drop.event-types:}")
+    private Set<String> neverDropEventTypes = new HashSet<>();
+
+    @Value("${logs.admission.never-drop.sources:}")
+    private Set<String> neverDropSources = new HashSet<>();
+
+    @Value("${logs.admission.queue.low-watermark:500}")
+    private int lowWatermark;
+
+    @Value("${logs.admission.queue.high-watermark:2000}")
+    private int highWatermark;
+
+    /**
+     * Rate multiplier applied when the queue depth reaches the high watermark
+     */
+    @Value("${logs.admission.queue.min-rate:0.1}")
+    private double minRate;
+
+    public LogAdmissionPolicy(
+            @Qualifier("applicationTaskExecutor") Executor taskExecutor,
+            MeterRegistry meterRegistry) {
+        this.taskExecutor = taskExecutor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (sampleRatesStr != null && !sampleRatesStr.isBlank()) {
+            for (String entry : sampleRatesStr.split(",")) {
+                String[] parts = entry.trim().split(":");
+                if (parts.length != 2) {
+                    log.warn("Ignoring invalid log sampling rate entry: {}", entry);
+                    continue;
+                }
+                try {
+                    double rate = Math.max(0.0, Math.min(1.0, Double.parseDouble(parts[1].trim())));
+                    sampleRates.put(parts[0].trim().toUpperCase(), rate);
+                } catch (NumberFormatException e) {
+                    log.warn("Ignoring invalid log sampling rate entry: {}", entry);
+                }
+            }
+        }
+
+        Gauge.builder("logs.admission.queue.depth", this, LogAdmissionPolicy::getQueueDepth)
+                .description("Async executor queue depth seen by the log admission policy")
+                .register(meterRegistry);
+
+        log.info("Log admission policy initialized (enabled: {}, sample rates: {}, watermarks: {}/{})",
+                enabled, sampleRates, lowWatermark, highWatermark);
+    }
+
+    /**
+     * Decide whether a log event should be persisted.
+     *
+     * @param source    Log source (e.g. AUTH, USER_ACTIVITY, PORTFOLIO)
+     * @param eventType Event type
+     * @return true if the event should be persisted
+     */
+    public boolean admit(String source, String eventType) {
+        String outcome = decide(source, eventType);
+        count(source, outcome);
+        return OUTCOME_ADMITTED.equals(outcome);
+    }
+
+    /**
+     * Get current policy state and decision counts.
+     *
+     * @return Admission statistics
+     */
+    public LogAdmissionStatsResponse getStats() {
+        Map<String, Map<String, Long>> bySource = new TreeMap<>();
+        decisions.forEach((key, adder) -> {
+            int separator = key.indexOf('|');
+            bySource.computeIfAbsent(key.substring(0, separator), k -> new TreeMap<>())
+                    .put(key.substring(separator + 1), adder.sum());
+        });
+
+        int queueDepth = getQueueDepth();
+        return LogAdmissionStatsResponse.builder()
+                .enabled(enabled)
+                .queueDepth(queueDepth)
+                .lowWatermark(lowWatermark)
+                .highWatermark(highWatermark)
+                .pressureFactor(pressureFactor(queueDepth))
+                .sampleRates(new TreeMap<>(sampleRates))
+                .decisions(bySource)
+                .build();
+    }
+
+    private String decide(String source, String eventType) {
+        if (!enabled || isNeverDrop(source, eventType)) {
+            return OUTCOME_ADMITTED;
+        }
+
+        int queueDepth = getQueueDepth();
+        if (queueDepth >= highWatermark) {
+            return OUTCOME_DROPPED;
+        }
+
+        double rate = sampleRates.getOrDefault(eventType != null ? eventType.toUpperCase() : "", 1.0)
+                * pressureFactor(queueDepth);
+        if (rate >= 1.0 || ThreadLocalRandom.current().nextDouble() < rate) {
+            return OUTCOME_ADMITTED;
+        }
+        return OUTCOME_SAMPLED;
+    }
+
+    private boolean isNeverDrop(String source, String eventType) {
+        return (source != null && neverDropSources.contains(source))
+                || (eventType != null && neverDropEventTypes.contains(eventType));
+    }
+
+    /**
+     * Rate multiplier for the current queue depth: 1.0 up to the low watermark,
+     * then decreasing linearly to min-rate at the high watermark
+     */
+    private double pressureFactor(int queueDepth) {
+        if (queueDepth <= lowWatermark) {
+            return 1.0;
+        }
+        if (queueDepth >= highWatermark) {
+            return 0.0;
+        }
+        double position = (double) (queueDepth - lowWatermark) / (highWatermark - lowWatermark);
+        return 1.0 - position * (1.0 - minRate);
+    }
+
+    /**
+     * Number of tasks waiting in the async executor queue
+     */
+    private int getQueueDepth() {
+        if (taskExecutor instanceof ThreadPoolTaskExecutor threadPoolTaskExecutor) {
+            return threadPoolTaskExecutor.getQueueSize();
+        }
+        return 0;
+    }
+
+    private void count(String source, String outcome) {
+        String key = source + "|" + outcome;
+        decisions.computeIfAbsent(key, k -> new LongAdder()).increment();
+        counters.computeIfAbsent(key, k -> Counter.builder(METRIC_EVENTS)
+                .description("Log events by admission outcome")
+                .tag("source", source)
+                .tag("outcome", outcome)
+                .register(meterRegistry))
+                .increment();
+    }
+}
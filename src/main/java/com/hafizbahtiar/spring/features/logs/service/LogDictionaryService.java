@@ -0,0 +1,362 @@
+package com.hafizbahtiar.spring.features.logs.service;
+
+import com.hafizbahtiar.spring.common.model.EmailLog;
+import com.hafizbahtiar.spring.features.auth.model.AuthLog;
+import com.hafizbahtiar.spring.features.cronjob.model.CronJobLog;
+import com.hafizbahtiar.spring.features.ipaddress.model.IPLookupLog;
+import com.hafizbahtiar.spring.features.logs.model.LogDictionaryEntry;
+import com.hafizbahtiar.spring.features.payment.model.PaymentLog;
+import com.hafizbahtiar.spring.features.permissions.model.PermissionLog;
+import com.hafizbahtiar.spring.features.portfolio.model.PortfolioLog;
+import com.hafizbahtiar.spring.features.subscription.model.SubscriptionLog;
+import com.hafizbahtiar.spring.features.user.model.UserActivity;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Service for dictionary encoding of repeated values in log documents.
+ *
+ * On write, configured fields (user agents, endpoint paths, geolocation
+ * results) are replaced by a "&lt;field&gt;Ref" holding a content-hash ID, and the
+ * value is stored once in the log_dictionary collection. On read, references
+ * are resolved back to the original field through a local LRU cache, so
+ * entities and API responses are unchanged. Documents written before encoding
+ * was enabled are read as-is.
+ *
+ * IDs are content hashes, so a new value is referenced at once and its entry
+ * is queued; queued entries are written in one bulk upsert per flush interval
+ * or batch, not one upsert per log write. Another node may read a log document
+ * before its entry is flushed and get it without the value until then. The
+ * cache is preloaded with the newest entries on startup, and the references
+ * of a document are resolved with one query.
+ */
+@Service
+@Slf4j
+public class LogDictionaryService {
+
+    public static final String KIND_USER_AGENT = "USER_AGENT";
+    public static final String KIND_PATH = "PATH";
+    public static final String KIND_GEOLOCATION = "GEOLOCATION";
+
+    private static final String REF_SUFFIX = "Ref";
+
+    /**
+     * Encoded field paths and their dictionary kind
+     */
+    private static final List<EncodedField> ENCODED_FIELDS = List.of(
+            new EncodedField("userAgent", KIND_USER_AGENT),
+            new EncodedField("details.userAgent", KIND_USER_AGENT),
+            new EncodedField("details.endpoint", KIND_PATH),
+            new EncodedField("geolocationData", KIND_GEOLOCATION));
+
+    private final MongoTemplate mongoTemplate;
+    private final Set<String> collections = new HashSet<>();
+    private final Map<String, LogDictionaryEntry> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushing = new AtomicBoolean();
+    private Map<String, Object> cache;
+    private String dictionaryCollection;
+
+    @Value("${logs.dictionary.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * Minimum length of a string value for it to be worth encoding
+     */
+    @Value("${logs.dictionary.min-length:24}")
+    private int minLength;
+
+    @Value("${logs.dictionary.cache-size:10000}")
+    private int cacheSize;
+
+    /**
+     * Queued entries that trigger a flush from the writing thread
+     */
+    @Value("${logs.dictionary.flush-batch-size:100}")
+    private int flushBatchSize;
+
+    /**
+     * Queued entries above which new values are kept inline, e.g. while
+     * MongoDB rejects the flushes
+     */
+    @Value("${logs.dictionary.max-pending:10000}")
+    private int maxPending;
+
+    public LogDictionaryService(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @PostConstruct
+    public void init() {
+        cache = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Object> eldest) {
+                return size() > cacheSize;
+            }
+        });
+
+        dictionaryCollection = mongoTemplate.getCollectionName(LogDictionaryEntry.class);
+        for (Class<?> type : Arrays.asList(AuthLog.class, UserActivity.class, PortfolioLog.class,
+                PermissionLog.class, PaymentLog.class, SubscriptionLog.class, CronJobLog.class,
+                IPLookupLog.class, EmailLog.class)) {
+            collections.add(mongoTemplate.getCollectionName(type));
+        }
+
+        if (enabled) {
+            preload();
+        }
+    }
+
+    /**
+     * Write queued entries before shutdown
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * Replace encodable values in a log document with dictionary references.
+     * Values are left in place if their dictionary entry cannot be written.
+     *
+     * @param collection Collection the document is written to
+     * @param document   Mapped document about to be written
+     */
+    public void encode(String collection, Document document) {
+        if (!enabled || !collections.contains(collection)) {
+            return;
+        }
+
+        for (EncodedField field : ENCODED_FIELDS) {
+            Document parent = field.parent(document);
+            if (parent == null) {
+                continue;
+            }
+
+            Object value = parent.get(field.name());
+            if (!isEncodable(value)) {
+                continue;
+            }
+
+            String id = idFor(field.kind(), value);
+            if (!cache.containsKey(id) && !pending.containsKey(id)) {
+                if (pending.size() >= maxPending) {
+                    log.debug("Log dictionary flush backlog full, keeping {} inline", field.path());
+                    continue;
+                }
+                pending.putIfAbsent(id, LogDictionaryEntry.builder()
+                        .id(id)
+                        .kind(field.kind())
+                        .value(value)
+                        .createdAt(LocalDateTime.now())
+                        .build());
+            }
+
+            parent.remove(field.name());
+            parent.put(field.name() + REF_SUFFIX, id);
+        }
+
+        if (pending.size() >= flushBatchSize) {
+            flush();
+        }
+    }
+
+    /**
+     * Write queued dictionary entries in one unordered bulk upsert. Entries
+     * that fail stay queued and are retried on the next flush.
+     */
+    @Scheduled(fixedDelayString = "${logs.dictionary.flush-interval-ms:1000}")
+    public void flush() {
+        if (pending.isEmpty() || !flushing.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            List<LogDictionaryEntry> entries = new ArrayList<>(pending.values());
+            BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED,
+                    dictionaryCollection);
+            for (LogDictionaryEntry entry : entries) {
+                operations.upsert(Query.query(Criteria.where("_id").is(entry.getId())), new Update()
+                        .setOnInsert("kind", entry.getKind())
+                        .setOnInsert("value", entry.getValue())
+                        .setOnInsert("createdAt", entry.getCreatedAt()));
+            }
+            operations.execute();
+
+            for (LogDictionaryEntry entry : entries) {
+                cache.put(entry.getId(), entry.getValue());
+                pending.remove(entry.getId(), entry);
+            }
+            log.debug("Flushed {} log dictionary entries", entries.size());
+        } catch (Exception e) {
+            log.warn("Failed to flush {} log dictionary entries, will retry: {}", pending.size(), e.getMessage());
+        } finally {
+            flushing.set(false);
+        }
+    }
+
+    /**
+     * Resolve dictionary references in a loaded log document back to their
+     * values.
+     *
+     * @param collection Collection the document was read from
+     * @param document   Raw document about to be mapped to an entity
+     */
+    public void decode(String collection, Document document) {
+        if (document == null || !collections.contains(collection)) {
+            return;
+        }
+
+        Map<EncodedField, Document> parents = new LinkedHashMap<>();
+        Map<String, Object> values = new HashMap<>();
+        for (EncodedField field : ENCODED_FIELDS) {
+            Document parent = field.parent(document);
+            if (parent != null && parent.get(field.name() + REF_SUFFIX) instanceof String id) {
+                parents.put(field, parent);
+                values.put(id, null);
+            }
+        }
+        if (parents.isEmpty()) {
+            return;
+        }
+
+        resolve(values);
+        parents.forEach((field, parent) -> {
+            Object value = values.get((String) parent.remove(field.name() + REF_SUFFIX));
+            if (value != null) {
+                parent.put(field.name(), value);
+            }
+        });
+    }
+
+    /**
+     * Fill in dictionary values from the local cache and queued entries, then
+     * the remaining ones with a single query
+     */
+    private void resolve(Map<String, Object> values) {
+        List<String> missing = new ArrayList<>();
+        for (String id : values.keySet()) {
+            Object value = cache.get(id);
+            if (value == null) {
+                LogDictionaryEntry queued = pending.get(id);
+                value = queued != null ? queued.getValue() : null;
+            }
+            if (value != null) {
+                values.put(id, value);
+            } else {
+                missing.add(id);
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        Query byIds = Query.query(Criteria.where("_id").in(missing));
+        for (Document entry : mongoTemplate.find(byIds, Document.class, dictionaryCollection)) {
+            Object value = entry.get("value");
+            if (value != null) {
+                cache.put(entry.getString("_id"), value);
+                values.put(entry.getString("_id"), value);
+            }
+        }
+        for (String id : missing) {
+            if (values.get(id) == null) {
+                log.warn("Missing log dictionary entry: {}", id);
+            }
+        }
+    }
+
+    /**
+     * Load the newest dictionary entries into the cache, so reads after a
+     * restart do not look up each reference on its own
+     */
+    private void preload() {
+        try {
+            Query newestFirst = new Query().with(Sort.by(Sort.Direction.DESC, "$natural")).limit(cacheSize);
+            List<Document> entries = mongoTemplate.find(newestFirst, Document.class, dictionaryCollection);
+            // Oldest first, so the newest entries are the last to be evicted
+            for (int i = entries.size() - 1; i >= 0; i--) {
+                Object value = entries.get(i).get("value");
+                if (value != null) {
+                    cache.put(entries.get(i).getString("_id"), value);
+                }
+            }
+            log.debug("Preloaded {} log dictionary entries", entries.size());
+        } catch (Exception e) {
+            log.warn("Failed to preload log dictionary: {}", e.getMessage());
+        }
+    }
+
+    private boolean isEncodable(Object value) {
+        if (value instanceof String text) {
+            return text.length() >= minLength;
+        }
+        return value instanceof Document;
+    }
+
+    /**
+     * Compact content-hash ID (96 bits, base64url) for a value
+     */
+    private String idFor(String kind, Object value) {
+        String canonical = value instanceof Document doc ? doc.toJson() : value.toString();
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(kind.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            byte[] hash = digest.digest(canonical.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(hash, 12));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * A dictionary-encoded field, addressed by a dotted path
+     */
+    private record EncodedField(String path, String kind) {
+
+        String name() {
+            return path.substring(path.lastIndexOf('.') + 1);
+        }
+
+        Document parent(Document document) {
+            Document current = document;
+            String[] segments = path.split("\\.");
+            for (int i = 0; i < segments.length - 1; i++) {
+                Object next = current.get(segments[i]);
+                if (!(next instanceof Document nested)) {
+                    return null;
+                }
+                current = nested;
+            }
+            return current;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.hafizbahtiar.spring.features.logs.service;
+
+import com.hafizbahtiar.spring.features.logs.dto.LogCounterBackfillResponse;
+import com.hafizbahtiar.spring.features.logs.dto.LogEventCounterResponse;
+import com.hafizbahtiar.spring.features.logs.model.LogEventCounter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Service interface for incremental log event counters.
+ * Maintains per-minute, per-hour and per-day counts of log events by source,
+ * event type and outcome so dashboards can read O(buckets) instead of
+ * O(events).
+ */
+public interface LogEventCounterService {
+
+    /**
+     * Record a single log event.
+     *
+     * @param source    Log source (AUTH, USER_ACTIVITY, PERMISSION, PORTFOLIO)
+     * @param eventType Event type
+     * @param success   Whether the event represents a successful outcome
+     * @param timestamp Time the event occurred (null = now)
+     */
+    void record(String source, String eventType, boolean success, LocalDateTime timestamp);
+
+    /**
+     * Record a raw log document (AuthLog, UserActivity, PermissionLog,
+     * PortfolioLog). Other document types are ignored.
+     *
+     * @param document Log document that was persisted
+     */
+    void recordLog(Object document);
+
+    /**
+     * Get counters for a time range.
+     *
+     * @param granularity Bucket size
+     * @param from        Range start (inclusive)
+     * @param to          Range end (exclusive)
+     * @param source      Optional source filter
+     * @param eventType   Optional event type filter
+     * @return Counter buckets within the range
+     */
+    LogEventCounterResponse getCounters(LogEventCounter.Granularity granularity, LocalDateTime from,
+            LocalDateTime to, String source, String eventType);
+
+    /**
+     * Rebuild all counters from the raw log collections.
+     *
+     * @return Backfill statistics
+     */
+    LogCounterBackfillResponse backfill();
+
+    /**
+     * Flush pending in-memory increments to MongoDB.
+     */
+    void flush();
+}
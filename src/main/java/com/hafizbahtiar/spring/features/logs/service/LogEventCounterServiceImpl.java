@@ -0,0 +1,465 @@
+package com.hafizbahtiar.spring.features.logs.service;
+
+import com.hafizbahtiar.spring.features.auth.model.AuthLog;
+import com.hafizbahtiar.spring.features.logs.dto.LogCounterBackfillResponse;
+import com.hafizbahtiar.spring.features.logs.dto.LogEventCounterResponse;
+import com.hafizbahtiar.spring.features.logs.model.LogEventCounter;
+import com.hafizbahtiar.spring.features.permissions.model.PermissionLog;
+import com.hafizbahtiar.spring.features.portfolio.model.PortfolioLog;
+import com.hafizbahtiar.spring.features.user.model.UserActivity;
+import com.mongodb.MongoCommandException;
+import com.mongodb.MongoNamespace;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.RenameCollectionOptions;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of LogEventCounterService.
+ *
+ * Increments are accumulated in memory and flushed periodically as bulk
+ * upserts with $inc, so a burst of log events costs one write per distinct
+ * counter rather than one write per event.
+ *
+ * A backfill recounts every event stamped before a cutoff (the start of the
+ * minute a few seconds before it starts) into a staging collection, while
+ * events from the cutoff on keep being counted live. The staging collection
+ * replaces the live one, and the minute counters of the retired collection
+ * from the cutoff on, with the hour and day counts they make up, are added to
+ * it; flushes after the swap go to the new collection. Each event is thus
+ * counted by exactly one of the scan and the live counters, on every node.
+ * If any raw collection cannot be scanned completely, the backfill aborts
+ * and the live counters are left untouched. A backfill is refused while this
+ * node has spooled documents to replay, as those are stamped before the
+ * cutoff but not yet in MongoDB.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LogEventCounterServiceImpl implements LogEventCounterService {
+
+    public static final String SOURCE_AUTH = "AUTH";
+    public static final String SOURCE_USER_ACTIVITY = "USER_ACTIVITY";
+    public static final String SOURCE_PERMISSION = "PERMISSION";
+    public static final String SOURCE_PORTFOLIO = "PORTFOLIO";
+
+    private static final String OUTCOME_SUCCESS = "SUCCESS";
+    private static final String OUTCOME_FAILURE = "FAILURE";
+
+    /**
+     * Suffix of the collection a backfill writes before it is swapped in
+     */
+    private static final String STAGING_SUFFIX = "_rebuild";
+
+    /**
+     * Suffix of the live collection while a backfill carries its recent counts over
+     */
+    private static final String PREVIOUS_SUFFIX = "_previous";
+
+    /**
+     * Minimum age of the backfill cutoff, so log writes in flight when the
+     * backfill starts are stored before the scan
+     */
+    private static final long CUTOFF_SETTLE_SECONDS = 5;
+
+    private final MongoTemplate mongoTemplate;
+    private final LogSpoolService logSpoolService;
+
+    /**
+     * Pending increments not yet written to MongoDB
+     */
+    private final Map<CounterKey, LongAdder> pending = new ConcurrentHashMap<>();
+
+    @Value("${logs.counters.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * Create the query and TTL indexes for the counter collection.
+     * Annotation-driven index creation is not enabled on the MongoTemplate, so
+     * the indexes are created explicitly.
+     */
+    @PostConstruct
+    public void ensureIndexes() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            createIndexes(mongoTemplate.getCollectionName(LogEventCounter.class));
+        } catch (Exception e) {
+            log.warn("Failed to create log event counter indexes: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void record(String source, String eventType, boolean success, LocalDateTime timestamp) {
+        if (!enabled || source == null || eventType == null) {
+            return;
+        }
+
+        LocalDateTime eventTime = timestamp != null ? timestamp : LocalDateTime.now();
+        String outcome = success ? OUTCOME_SUCCESS : OUTCOME_FAILURE;
+
+        for (LogEventCounter.Granularity granularity : LogEventCounter.Granularity.values()) {
+            CounterKey key = new CounterKey(granularity, granularity.truncate(eventTime), source, eventType, outcome);
+            // compute() holds the bin lock, so an increment can never land on an adder
+            // that flush() has already removed
+            pending.compute(key, (k, adder) -> {
+                LongAdder counter = adder != null ? adder : new LongAdder();
+                counter.increment();
+                return counter;
+            });
+        }
+    }
+
+    @Override
+    public void recordLog(Object document) {
+        classify(document, event -> record(event.source(), event.eventType(), event.success(), event.timestamp()));
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${logs.counters.flush-interval-ms:10000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<CounterKey, Long> deltas = new HashMap<>();
+        for (CounterKey key : pending.keySet()) {
+            LongAdder adder = pending.remove(key);
+            if (adder != null && adder.sum() > 0) {
+                deltas.put(key, adder.sum());
+            }
+        }
+
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            writeCounters(deltas, mongoTemplate.getCollectionName(LogEventCounter.class));
+            log.debug("Flushed {} log event counter(s)", deltas.size());
+        } catch (Exception e) {
+            log.warn("Failed to flush log event counters, will retry: {}", e.getMessage());
+            // Put the deltas back so they are retried on the next flush
+            deltas.forEach((key, delta) -> pending.compute(key, (k, adder) -> {
+                LongAdder counter = adder != null ? adder : new LongAdder();
+                counter.add(delta);
+                return counter;
+            }));
+        }
+    }
+
+    @Override
+    public LogEventCounterResponse getCounters(LogEventCounter.Granularity granularity, LocalDateTime from,
+            LocalDateTime to, String source, String eventType) {
+        log.debug("Fetching {} counters from {} to {} (source: {}, eventType: {})",
+                granularity, from, to, source, eventType);
+
+        Criteria criteria = Criteria.where("granularity").is(granularity)
+                .and("bucketStart").gte(granularity.truncate(from)).lt(to);
+        if (source != null && !source.isBlank()) {
+            criteria = criteria.and("source").is(source.toUpperCase());
+        }
+        if (eventType != null && !eventType.isBlank()) {
+            criteria = criteria.and("eventType").is(eventType.toUpperCase());
+        }
+
+        Query query = Query.query(criteria).with(Sort.by(Sort.Direction.ASC, "bucketStart"));
+        List<LogEventCounter> counters = mongoTemplate.find(query, LogEventCounter.class);
+
+        List<LogEventCounterResponse.CounterBucket> buckets = counters.stream()
+                .map(counter -> LogEventCounterResponse.CounterBucket.builder()
+                        .bucketStart(counter.getBucketStart())
+                        .source(counter.getSource())
+                        .eventType(counter.getEventType())
+                        .outcome(counter.getOutcome())
+                        .count(counter.getCount())
+                        .build())
+                .collect(Collectors.toList());
+
+        long total = buckets.stream()
+                .mapToLong(bucket -> bucket.getCount() != null ? bucket.getCount() : 0L)
+                .sum();
+
+        return LogEventCounterResponse.builder()
+                .granularity(granularity.name())
+                .from(from)
+                .to(to)
+                .buckets(buckets)
+                .total(total)
+                .build();
+    }
+
+    @Override
+    public LogCounterBackfillResponse backfill() {
+        if (logSpoolService.getPending() > 0) {
+            throw new IllegalStateException("Counter backfill refused: " + logSpoolService.getPending()
+                    + " spooled log document(s) are still waiting to be replayed");
+        }
+
+        long startTime = System.currentTimeMillis();
+        // Events before the cutoff are counted by the scan, later ones by the live counters; anything
+        // stamped before it was written at least a few seconds ago and is visible to the scan
+        LocalDateTime cutoff = LogEventCounter.Granularity.MINUTE.truncate(
+                LocalDateTime.now().minusSeconds(CUTOFF_SETTLE_SECONDS));
+        log.info("Starting log event counter backfill from raw log collections (events before {})...", cutoff);
+
+        Map<CounterKey, Long> rebuilt = new HashMap<>();
+        Map<String, Long> scanned = new LinkedHashMap<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        scanned.put(SOURCE_AUTH, scan(AuthLog.class, rebuilt, cutoff, now));
+        scanned.put(SOURCE_USER_ACTIVITY, scan(UserActivity.class, rebuilt, cutoff, now));
+        scanned.put(SOURCE_PERMISSION, scan(PermissionLog.class, rebuilt, cutoff, now));
+        scanned.put(SOURCE_PORTFOLIO, scan(PortfolioLog.class, rebuilt, cutoff, now));
+
+        String collection = mongoTemplate.getCollectionName(LogEventCounter.class);
+        String staging = collection + STAGING_SUFFIX;
+        String previous = collection + PREVIOUS_SUFFIX;
+        for (String leftover : List.of(staging, previous)) {
+            if (mongoTemplate.collectionExists(leftover)) {
+                mongoTemplate.dropCollection(leftover); // left behind by an interrupted backfill
+            }
+        }
+        mongoTemplate.createCollection(staging);
+        createIndexes(staging);
+        if (!rebuilt.isEmpty()) {
+            writeCounters(rebuilt, staging);
+        }
+
+        // Retire the live collection; flushes from now on upsert into the swapped-in one, and the
+        // retired one stops changing, so its post-cutoff counts can be carried over exactly once
+        boolean hadLive = mongoTemplate.collectionExists(collection);
+        if (hadLive) {
+            rename(collection, previous);
+        }
+        try {
+            rename(staging, collection);
+        } catch (MongoCommandException e) {
+            // A flush recreated the collection between the two renames; merge into it instead
+            log.debug("Counter collection recreated during backfill swap, merging: {}", e.getMessage());
+            if (!rebuilt.isEmpty()) {
+                writeCounters(rebuilt, collection);
+            }
+            mongoTemplate.dropCollection(staging);
+            createIndexes(collection);
+        }
+        long carried = 0;
+        if (hadLive) {
+            carried = carryOver(previous, collection, cutoff);
+            mongoTemplate.dropCollection(previous);
+        }
+
+        long duration = System.currentTimeMillis() - startTime;
+        log.info("Log event counter backfill completed: {} counter(s) rebuilt, {} live minute counter(s) "
+                + "carried over in {} ms", rebuilt.size(), carried, duration);
+
+        return LogCounterBackfillResponse.builder()
+                .scannedBySource(scanned)
+                .countersWritten((long) rebuilt.size())
+                .durationMs(duration)
+                .build();
+    }
+
+    /**
+     * Flush pending increments before shutdown
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * Stream a raw log collection and accumulate counters for it
+     *
+     * @throws IllegalStateException if the collection could not be read to the
+     *                               end, so a partial count is never written
+     */
+    private <T> long scan(Class<T> type, Map<CounterKey, Long> accumulator, LocalDateTime cutoff,
+            LocalDateTime now) {
+        long[] scannedCount = { 0L };
+        Query query = Query.query(Criteria.where("timestamp").lt(cutoff));
+        try (Stream<T> documents = mongoTemplate.stream(query, type)) {
+            documents.forEach(document -> {
+                scannedCount[0]++;
+                classify(document, event -> {
+                    for (LogEventCounter.Granularity granularity : LogEventCounter.Granularity.values()) {
+                        LocalDateTime bucketStart = granularity.truncate(event.timestamp());
+                        LocalDateTime expireAt = granularity.expireAt(bucketStart);
+                        if (expireAt != null && expireAt.isBefore(now)) {
+                            continue; // Would be removed by the TTL index immediately
+                        }
+                        CounterKey key = new CounterKey(granularity, bucketStart, event.source(),
+                                event.eventType(), event.success() ? OUTCOME_SUCCESS : OUTCOME_FAILURE);
+                        accumulator.merge(key, 1L, Long::sum);
+                    }
+                });
+            });
+        } catch (Exception e) {
+            log.warn("Failed to scan {} for counter backfill after {} document(s): {}", type.getSimpleName(),
+                    scannedCount[0], e.getMessage());
+            throw new IllegalStateException("Counter backfill aborted: failed to scan " + type.getSimpleName()
+                    + "; existing counters were left unchanged", e);
+        }
+        return scannedCount[0];
+    }
+
+    /**
+     * Add the minute counters at or after the cutoff of a retired counter
+     * collection, and the hour and day counts they make up, to a counter
+     * collection
+     *
+     * @return Number of minute counters carried over
+     */
+    private long carryOver(String from, String to, LocalDateTime cutoff) {
+        Query query = Query.query(Criteria.where("granularity").is(LogEventCounter.Granularity.MINUTE)
+                .and("bucketStart").gte(cutoff));
+        Map<CounterKey, Long> deltas = new HashMap<>();
+        long minutes = 0;
+        for (LogEventCounter counter : mongoTemplate.find(query, LogEventCounter.class, from)) {
+            if (counter.getCount() == null || counter.getCount() == 0) {
+                continue;
+            }
+            minutes++;
+            for (LogEventCounter.Granularity granularity : LogEventCounter.Granularity.values()) {
+                CounterKey key = new CounterKey(granularity, granularity.truncate(counter.getBucketStart()),
+                        counter.getSource(), counter.getEventType(), counter.getOutcome());
+                deltas.merge(key, counter.getCount(), Long::sum);
+            }
+        }
+        if (!deltas.isEmpty()) {
+            writeCounters(deltas, to);
+        }
+        return minutes;
+    }
+
+    private void rename(String from, String to) {
+        mongoTemplate.getCollection(from).renameCollection(
+                new MongoNamespace(mongoTemplate.getDb().getName(), to),
+                new RenameCollectionOptions().dropTarget(false));
+    }
+
+    /**
+     * Create the query and TTL indexes on a counter collection
+     */
+    private void createIndexes(String collection) {
+        mongoTemplate.getCollection(collection).createIndex(
+                Indexes.ascending("granularity", "bucketStart"),
+                new IndexOptions().name("granularity_bucket_idx"));
+        mongoTemplate.getCollection(collection).createIndex(
+                Indexes.ascending("expireAt"),
+                new IndexOptions().name("expire_at_ttl_idx").expireAfter(0L, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Write counter deltas as bulk upserts
+     */
+    private void writeCounters(Map<CounterKey, Long> deltas, String collection) {
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, LogEventCounter.class,
+                collection);
+
+        deltas.forEach((key, delta) -> {
+            Update update = new Update()
+                    .inc("count", delta)
+                    .setOnInsert("granularity", key.granularity())
+                    .setOnInsert("bucketStart", key.bucketStart())
+                    .setOnInsert("source", key.source())
+                    .setOnInsert("eventType", key.eventType())
+                    .setOnInsert("outcome", key.outcome());
+            LocalDateTime expireAt = key.granularity().expireAt(key.bucketStart());
+            if (expireAt != null) {
+                update.setOnInsert("expireAt", expireAt);
+            }
+            bulkOps.upsert(Query.query(Criteria.where("_id").is(key.id())), update);
+        });
+
+        bulkOps.execute();
+    }
+
+    /**
+     * Map a raw log document to a counted event.
+     * Permission checks are counted as failures when permission was denied so
+     * that denials can be charted directly.
+     */
+    private void classify(Object document, Consumer<CountedEvent> consumer) {
+        if (document instanceof AuthLog authLog) {
+            if (authLog.getEventType() != null && authLog.getTimestamp() != null) {
+                consumer.accept(new CountedEvent(SOURCE_AUTH, authLog.getEventType(),
+                        !Boolean.FALSE.equals(authLog.getSuccess()), authLog.getTimestamp()));
+            }
+        } else if (document instanceof UserActivity activity) {
+            if (activity.getActivityType() != null && activity.getTimestamp() != null) {
+                Integer status = activity.getDetails() != null ? activity.getDetails().getResponseStatus() : null;
+                consumer.accept(new CountedEvent(SOURCE_USER_ACTIVITY, activity.getActivityType(),
+                        status == null || status < 400, activity.getTimestamp()));
+            }
+        } else if (document instanceof PermissionLog permissionLog) {
+            if (permissionLog.getEventType() != null && permissionLog.getTimestamp() != null) {
+                boolean success = !Boolean.FALSE.equals(permissionLog.getSuccess()) && !isDenied(permissionLog);
+                consumer.accept(new CountedEvent(SOURCE_PERMISSION, permissionLog.getEventType(), success,
+                        permissionLog.getTimestamp()));
+            }
+        } else if (document instanceof PortfolioLog portfolioLog) {
+            if (portfolioLog.getEventType() != null && portfolioLog.getTimestamp() != null) {
+                String eventType = portfolioLog.getEntityType() != null
+                        ? portfolioLog.getEntityType() + "_" + portfolioLog.getEventType()
+                        : portfolioLog.getEventType();
+                consumer.accept(new CountedEvent(SOURCE_PORTFOLIO, eventType,
+                        !Boolean.FALSE.equals(portfolioLog.getSuccess()), portfolioLog.getTimestamp()));
+            }
+        }
+    }
+
+    /**
+     * Check whether a permission check log records a denied permission
+     */
+    private boolean isDenied(PermissionLog permissionLog) {
+        if (permissionLog.getDetails() == null || permissionLog.getDetails().getAdditionalInfo() == null) {
+            return false;
+        }
+        Object hasPermission = permissionLog.getDetails().getAdditionalInfo().get("hasPermission");
+        return Boolean.FALSE.equals(hasPermission);
+    }
+
+    /**
+     * Event extracted from a raw log document
+     */
+    private record CountedEvent(String source, String eventType, boolean success, LocalDateTime timestamp) {
+    }
+
+    /**
+     * Identity of a single counter document
+     */
+    private record CounterKey(LogEventCounter.Granularity granularity, LocalDateTime bucketStart, String source,
+            String eventType, String outcome) {
+
+        String id() {
+            return granularity + "|" + bucketStart + "|" + source + "|" + eventType + "|" + outcome;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.hafizbahtiar.spring.features.logs.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * Single write path for log documents.
+ * All logging services persist through this writer so that admission
+ * (sampling and load shedding) and the local spool fallback are applied
+ * consistently.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LogEventWriter {
+
+    private final LogAdmissionPolicy logAdmissionPolicy;
+    private final LogEventCounterService logEventCounterService;
+    private final LogSpoolService logSpoolService;
+
+    /**
+     * Persist a log document if it is admitted by the admission policy.
+     * Events that are sampled out or dropped are still counted in the event
+     * counters so dashboard totals stay accurate. While MongoDB is unavailable
+     * the document is written to the local spool and replayed later.
+     *
+     * @param source    Log source (e.g. AUTH, USER_ACTIVITY, PORTFOLIO)
+     * @param eventType Event type
+     * @param document  Log document
+     * @param persister Function that persists the document (usually repository::save)
+     * @return Persisted document, or null if the event was not admitted or was spooled
+     */
+    public <T> T write(String source, String eventType, T document, UnaryOperator<T> persister) {
+        if (!logAdmissionPolicy.admit(source, eventType)) {
+            logEventCounterService.recordLog(document);
+            log.trace("Log event not admitted: {} {}", source, eventType);
+            return null;
+        }
+
+        if (logSpoolService.shouldSpool()) {
+            logSpoolService.spool(document);
+            return null;
+        }
+
+        try {
+            return persister.apply(document);
+        } catch (DataAccessResourceFailureException | TransientDataAccessException e) {
+            if (!logSpoolService.isEnabled()) {
+                throw e;
+            }
+            logSpoolService.markUnavailable(e);
+            logSpoolService.spool(document);
+            return null;
+        }
+    }
+}
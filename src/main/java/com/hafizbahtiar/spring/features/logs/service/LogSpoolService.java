@@ -0,0 +1,414 @@
+package com.hafizbahtiar.spring.features.logs.service;
+
+import com.hafizbahtiar.spring.features.logs.spool.LogSpool;
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoSocketException;
+import com.mongodb.MongoTimeoutException;
+import com.mongodb.MongoWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.InsertManyOptions;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonWriterSettings;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.data.mongodb.core.mapping.event.BeforeSaveEvent;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Service for spooling log documents to local disk while MongoDB is
+ * unavailable, and replaying them in batches once it recovers.
+ *
+ * Once a write fails with a connectivity error, MongoDB is treated as
+ * unavailable and further log writes go straight to the spool instead of
+ * blocking async threads until the driver times out. The replay task pings
+ * MongoDB and drains the spool when the ping succeeds.
+ *
+ * Documents get their {@code _id} when spooled, so replay is idempotent: a
+ * batch replayed again after a crash or a failed commit only hits duplicate
+ * keys, which count as replayed. Documents MongoDB rejects for any other
+ * reason (validation, size) are discarded so one bad record cannot hold up
+ * the spool; only connectivity failures mark MongoDB unavailable and leave
+ * the batch for the next run.
+ *
+ * Replayed documents go through the same mapping events as a regular save:
+ * {@link BeforeSaveEvent} before the insert (dictionary encoding) and
+ * {@link AfterSaveEvent} for every document this replay inserted (event
+ * counters, activity timeline). Duplicates were inserted, and their events
+ * published, by an earlier replay, so they get no second AfterSave.
+ */
+@Service
+@Slf4j
+public class LogSpoolService {
+
+    private static final JsonWriterSettings JSON_SETTINGS = JsonWriterSettings.builder()
+            .outputMode(JsonMode.EXTENDED)
+            .build();
+
+    private final MongoTemplate mongoTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private LogSpool spool;
+    private volatile boolean mongoAvailable = true;
+    private volatile double lastReplayRate;
+
+    private Counter appendedCounter;
+    private Counter rejectedCounter;
+    private Counter replayedCounter;
+    private Counter discardedCounter;
+
+    @Value("${logs.spool.enabled:true}")
+    private boolean enabled;
+
+    @Value("${logs.spool.directory:./data/log-spool}")
+    private String directory;
+
+    @Value("${logs.spool.segment-size-mb:16}")
+    private int segmentSizeMb;
+
+    @Value("${logs.spool.max-segments:32}")
+    private int maxSegments;
+
+    @Value("${logs.spool.replay.batch-size:500}")
+    private int replayBatchSize;
+
+    @Value("${logs.spool.replay.max-batches:20}")
+    private int replayMaxBatches;
+
+    public LogSpoolService(MongoTemplate mongoTemplate, MeterRegistry meterRegistry,
+            ApplicationEventPublisher eventPublisher) {
+        this.mongoTemplate = mongoTemplate;
+        this.meterRegistry = meterRegistry;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            log.info("Log spool is disabled");
+            return;
+        }
+
+        try {
+            spool = LogSpool.open(Path.of(directory), segmentSizeMb * 1024 * 1024, maxSegments);
+            log.info("Log spool opened at {} ({} pending record(s))", directory, spool.getPending());
+        } catch (Exception e) {
+            log.error("Failed to open log spool at {}, spooling disabled", directory, e);
+            spool = null;
+            return;
+        }
+
+        appendedCounter = Counter.builder("logs.spool.appended")
+                .description("Log documents written to the local spool")
+                .register(meterRegistry);
+        rejectedCounter = Counter.builder("logs.spool.rejected")
+                .description("Log documents lost because the spool was full or unwritable")
+                .register(meterRegistry);
+        replayedCounter = Counter.builder("logs.spool.replayed")
+                .description("Spooled log documents replayed into MongoDB")
+                .register(meterRegistry);
+        discardedCounter = Counter.builder("logs.spool.discarded")
+                .description("Spooled records discarded because they could not be decoded or were rejected by MongoDB")
+                .register(meterRegistry);
+        Gauge.builder("logs.spool.depth", spool, LogSpool::getPending)
+                .description("Log documents waiting in the spool")
+                .register(meterRegistry);
+        Gauge.builder("logs.spool.disk.bytes", spool, LogSpool::getDiskUsage)
+                .description("Disk space used by spool segments")
+                .register(meterRegistry);
+        Gauge.builder("logs.spool.corrupt.segments", spool, LogSpool::getCorruptSegments)
+                .description("Spool segments truncated because of torn writes")
+                .register(meterRegistry);
+        Gauge.builder("logs.spool.replay.rate", this, service -> service.lastReplayRate)
+                .description("Records per second replayed by the last replay run")
+                .register(meterRegistry);
+        Gauge.builder("logs.spool.mongodb.available", this, service -> service.mongoAvailable ? 1 : 0)
+                .description("Whether the log pipeline currently considers MongoDB available")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Whether log writes should go to the spool instead of MongoDB
+     */
+    public boolean shouldSpool() {
+        return spool != null && !mongoAvailable;
+    }
+
+    /**
+     * Number of spooled documents waiting to be replayed
+     */
+    public long getPending() {
+        return spool != null ? spool.getPending() : 0;
+    }
+
+    /**
+     * Whether spooling is available as a fallback
+     */
+    public boolean isEnabled() {
+        return spool != null;
+    }
+
+    /**
+     * Mark MongoDB as unavailable after a failed write
+     */
+    public void markUnavailable(Exception cause) {
+        if (mongoAvailable) {
+            mongoAvailable = false;
+            log.warn("MongoDB unavailable for log writes, spooling to {}: {}", directory, cause.getMessage());
+        }
+    }
+
+    /**
+     * Write a log document to the spool.
+     *
+     * @param document Log document
+     * @return true if the document was spooled
+     */
+    public boolean spool(Object document) {
+        if (spool == null) {
+            return false;
+        }
+
+        try {
+            Document bson = new Document();
+            mongoTemplate.getConverter().write(document, bson);
+            if (bson.get("_id") == null) {
+                bson.put("_id", new ObjectId()); // fixed now so a replayed batch cannot insert it twice
+            }
+            Document envelope = new Document("collection", mongoTemplate.getCollectionName(document.getClass()))
+                    .append("type", document.getClass().getName())
+                    .append("document", bson);
+
+            if (spool.append(envelope.toJson(JSON_SETTINGS).getBytes(StandardCharsets.UTF_8))) {
+                appendedCounter.increment();
+                return true;
+            }
+            log.warn("Log spool is full, dropping {} document", document.getClass().getSimpleName());
+        } catch (Exception e) {
+            log.error("Failed to spool {} document", document.getClass().getSimpleName(), e);
+        }
+        rejectedCounter.increment();
+        return false;
+    }
+
+    /**
+     * Check MongoDB and replay spooled documents in batches.
+     */
+    @Scheduled(fixedDelayString = "${logs.spool.replay.interval-ms:5000}")
+    public void replay() {
+        if (spool == null) {
+            return;
+        }
+
+        spool.force();
+
+        if (spool.getPending() == 0 && mongoAvailable) {
+            return;
+        }
+
+        try {
+            mongoTemplate.executeCommand("{ ping: 1 }");
+        } catch (Exception e) {
+            mongoAvailable = false;
+            log.debug("MongoDB still unavailable, {} log document(s) spooled", spool.getPending());
+            return;
+        }
+
+        if (!mongoAvailable) {
+            mongoAvailable = true;
+            log.info("MongoDB available again, replaying {} spooled log document(s)", spool.getPending());
+        }
+
+        long startTime = System.currentTimeMillis();
+        long replayed = 0;
+
+        try {
+            for (int i = 0; i < replayMaxBatches; i++) {
+                LogSpool.Batch batch = spool.read(replayBatchSize);
+                if (batch == null) {
+                    break;
+                }
+                replayed += insertBatch(batch.payloads());
+                spool.commit(batch);
+            }
+        } catch (Exception e) {
+            if (isConnectivityFailure(e)) {
+                markUnavailable(e);
+            } else {
+                log.error("Failed to replay spooled log documents, will retry: {}", e.getMessage(), e);
+            }
+        }
+
+        long duration = Math.max(1, System.currentTimeMillis() - startTime);
+        lastReplayRate = replayed * 1000.0 / duration;
+        if (replayed > 0) {
+            replayedCounter.increment(replayed);
+            log.info("Replayed {} spooled log document(s) in {} ms ({} remaining)",
+                    replayed, duration, spool.getPending());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (spool != null) {
+            spool.close();
+        }
+    }
+
+    /**
+     * Decode spooled records and insert them grouped by collection
+     *
+     * @return Number of records now in MongoDB, including ones replayed before
+     */
+    private long insertBatch(List<byte[]> payloads) {
+        Map<String, List<SpooledDocument>> byCollection = new LinkedHashMap<>();
+
+        for (byte[] payload : payloads) {
+            try {
+                Document envelope = Document.parse(new String(payload, StandardCharsets.UTF_8));
+                Document document = envelope.get("document", Document.class);
+                if (document.get("_id") == null) {
+                    document.put("_id", new ObjectId()); // spooled before IDs were assigned on spooling
+                }
+                Class<?> type = Class.forName(envelope.getString("type"));
+                Object entity = mongoTemplate.getConverter().read(type, document);
+                byCollection.computeIfAbsent(envelope.getString("collection"), k -> new ArrayList<>())
+                        .add(new SpooledDocument(entity, document));
+            } catch (Exception e) {
+                discardedCounter.increment();
+                log.warn("Discarding undecodable spooled log record: {}", e.getMessage());
+            }
+        }
+
+        long inserted = 0;
+        for (Map.Entry<String, List<SpooledDocument>> entry : byCollection.entrySet()) {
+            inserted += insertDocuments(entry.getKey(), entry.getValue());
+        }
+        return inserted;
+    }
+
+    /**
+     * Insert documents unordered, so every document is attempted, and discard
+     * the ones MongoDB rejects
+     */
+    private long insertDocuments(String collectionName, List<SpooledDocument> records) {
+        for (SpooledDocument record : records) {
+            eventPublisher.publishEvent(new BeforeSaveEvent<>(record.entity(), record.document(), collectionName));
+        }
+
+        MongoCollection<Document> collection = mongoTemplate.getCollection(collectionName);
+        List<Document> documents = records.stream().map(SpooledDocument::document).toList();
+        Set<Integer> notInserted = new HashSet<>();
+        long rejected = 0;
+        try {
+            collection.insertMany(documents, new InsertManyOptions().ordered(false));
+        } catch (MongoBulkWriteException e) {
+            if (e.getWriteConcernError() != null) {
+                throw e; // not acknowledged as durable; replay the batch again
+            }
+            for (BulkWriteError error : e.getWriteErrors()) {
+                notInserted.add(error.getIndex());
+                if (ErrorCategory.fromErrorCode(error.getCode()) != ErrorCategory.DUPLICATE_KEY) {
+                    rejected++;
+                    discard(collectionName, error.getMessage());
+                }
+            }
+        } catch (RuntimeException e) {
+            if (isConnectivityFailure(e)) {
+                throw e;
+            }
+            // Rejected before reaching the server (e.g. a document over the size limit)
+            return insertEach(collection, collectionName, records);
+        }
+
+        for (int i = 0; i < records.size(); i++) {
+            if (!notInserted.contains(i)) {
+                publishAfterSave(records.get(i), collectionName);
+            }
+        }
+        return records.size() - rejected;
+    }
+
+    private long insertEach(MongoCollection<Document> collection, String collectionName,
+            List<SpooledDocument> records) {
+        long inserted = 0;
+        for (SpooledDocument record : records) {
+            try {
+                collection.insertOne(record.document());
+                inserted++;
+                publishAfterSave(record, collectionName);
+            } catch (MongoWriteException e) {
+                if (e.getError().getCategory() == ErrorCategory.DUPLICATE_KEY) {
+                    inserted++;
+                } else {
+                    discard(collectionName, e.getMessage());
+                }
+            } catch (RuntimeException e) {
+                if (isConnectivityFailure(e)) {
+                    throw e;
+                }
+                discard(collectionName, e.getMessage());
+            }
+        }
+        return inserted;
+    }
+
+    private void publishAfterSave(SpooledDocument record, String collectionName) {
+        try {
+            eventPublisher.publishEvent(new AfterSaveEvent<>(record.entity(), record.document(), collectionName));
+        } catch (Exception e) {
+            // The document is stored; a failing listener must not replay it again
+            log.warn("Failed to publish save event for replayed {} document: {}", collectionName, e.getMessage());
+        }
+    }
+
+    private void discard(String collectionName, String reason) {
+        discardedCounter.increment();
+        log.warn("Discarding spooled {} document rejected by MongoDB: {}", collectionName, reason);
+    }
+
+    /**
+     * Whether a failure means MongoDB cannot be reached, as opposed to a
+     * document being rejected
+     */
+    private static boolean isConnectivityFailure(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof DataAccessResourceFailureException
+                    || cause instanceof MongoSocketException
+                    || cause instanceof MongoTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A spooled document with the entity it was written from, for the
+     * mapping events
+     */
+    private record SpooledDocument(Object entity, Document document) {
+    }
+}
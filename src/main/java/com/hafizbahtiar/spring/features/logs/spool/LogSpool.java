@@ -0,0 +1,203 @@
+package com.hafizbahtiar.spring.features.logs.spool;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Append-only, segmented journal of log records on local disk.
+ *
+ * Records are appended to the newest segment and consumed from the oldest.
+ * Each segment keeps its own read offset in its header, so consumption
+ * survives restarts; fully consumed segments are deleted. Disk usage is
+ * bounded by segmentSize × maxSegments: appends are rejected once the limit
+ * is reached.
+ */
+@Slf4j
+public class LogSpool {
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".spool";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+
+    private final Deque<LogSpoolSegment> segments = new ArrayDeque<>();
+    private LogSpoolSegment active;
+    private long nextSequence = 1;
+    private long pending;
+    private long corruptSegments;
+
+    private LogSpool(Path directory, int segmentSize, int maxSegments) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxSegments = maxSegments;
+    }
+
+    /**
+     * Open the spool in the given directory, recovering segments left over from
+     * a previous run. Recovered segments are read-only; new records always go to
+     * a fresh segment.
+     */
+    public static LogSpool open(Path directory, int segmentSize, int maxSegments) throws IOException {
+        Files.createDirectories(directory);
+        LogSpool spool = new LogSpool(directory, segmentSize, maxSegments);
+
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(directory)) {
+            files = stream
+                    .filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            long sequence = Long.parseLong(
+                    name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+            LogSpoolSegment segment = LogSpoolSegment.open(file, sequence);
+            spool.segments.addLast(segment);
+            spool.pending += segment.countPending();
+            spool.nextSequence = Math.max(spool.nextSequence, sequence + 1);
+        }
+
+        return spool;
+    }
+
+    /**
+     * Append a record to the spool.
+     *
+     * @return false if the record was rejected because the spool is full or the
+     *         record does not fit in a segment
+     */
+    public synchronized boolean append(byte[] payload) throws IOException {
+        if (payload.length + LogSpoolSegment.HEADER_SIZE + LogSpoolSegment.RECORD_HEADER_SIZE > segmentSize) {
+            return false;
+        }
+
+        if (active == null || !active.append(payload)) {
+            if (segments.size() >= maxSegments) {
+                return false;
+            }
+            active = LogSpoolSegment.create(directory.resolve(segmentName(nextSequence)), nextSequence, segmentSize);
+            nextSequence++;
+            segments.addLast(active);
+            if (!active.append(payload)) {
+                return false;
+            }
+        }
+
+        pending++;
+        return true;
+    }
+
+    /**
+     * Read the next batch of records from the oldest segment without consuming
+     * them. Call {@link #commit(Batch)} once the batch has been processed.
+     *
+     * @return Next batch, or null if there is nothing to read
+     */
+    public synchronized Batch read(int maxRecords) throws IOException {
+        while (!segments.isEmpty()) {
+            LogSpoolSegment segment = segments.peekFirst();
+            LogSpoolSegment.ReadResult result = segment.read(segment.getReadOffset(), maxRecords);
+
+            if (!result.payloads().isEmpty()) {
+                return new Batch(segment, result.payloads(), result.nextOffset());
+            }
+
+            if (result.corrupt()) {
+                corruptSegments++;
+                log.warn("Discarding unreadable remainder of spool segment {} at offset {}",
+                        segment.getPath(), result.nextOffset());
+            } else if (segment == active) {
+                return null; // Active segment fully consumed, keep writing to it
+            }
+
+            removeSegment(segment);
+        }
+        return null;
+    }
+
+    /**
+     * Mark a batch as consumed
+     */
+    public synchronized void commit(Batch batch) {
+        batch.segment().setReadOffset(batch.nextOffset());
+        pending = Math.max(0, pending - batch.payloads().size());
+    }
+
+    /**
+     * Flush written records of the active segment to disk
+     */
+    public synchronized void force() {
+        if (active != null) {
+            active.force();
+        }
+    }
+
+    /**
+     * Flush all segments to disk
+     */
+    public synchronized void close() {
+        for (LogSpoolSegment segment : segments) {
+            segment.force();
+        }
+    }
+
+    /**
+     * Number of records waiting to be consumed
+     */
+    public synchronized long getPending() {
+        return pending;
+    }
+
+    /**
+     * Disk space currently used by segment files in bytes
+     */
+    public synchronized long getDiskUsage() {
+        long total = 0;
+        for (LogSpoolSegment segment : segments) {
+            total += segment.getCapacity();
+        }
+        return total;
+    }
+
+    /**
+     * Number of segments whose tail was discarded because of torn writes
+     */
+    public synchronized long getCorruptSegments() {
+        return corruptSegments;
+    }
+
+    private void removeSegment(LogSpoolSegment segment) throws IOException {
+        segments.remove(segment);
+        if (segment == active) {
+            active = null;
+        }
+        if (segments.isEmpty()) {
+            pending = 0;
+        }
+        segment.delete();
+    }
+
+    private static String segmentName(long sequence) {
+        return String.format("%s%016d%s", SEGMENT_PREFIX, sequence, SEGMENT_SUFFIX);
+    }
+
+    /**
+     * Records read from one segment
+     */
+    public record Batch(LogSpoolSegment segment, List<byte[]> payloads, int nextOffset) {
+    }
+}
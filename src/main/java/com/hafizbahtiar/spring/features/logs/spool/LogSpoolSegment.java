@@ -0,0 +1,175 @@
+package com.hafizbahtiar.spring.features.logs.spool;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * A single memory-mapped spool segment file.
+ *
+ * Layout:
+ * <pre>
+ * [long readOffset] [record]* [0...]
+ * record = [int length] [int crc32] [byte[length] payload]
+ * </pre>
+ * The length is written last, so a record whose length is still zero was
+ * never completed. A CRC mismatch marks a torn write; everything from that
+ * point on is treated as unreadable.
+ */
+class LogSpoolSegment {
+
+    static final int HEADER_SIZE = Long.BYTES;
+    static final int RECORD_HEADER_SIZE = Integer.BYTES * 2;
+
+    private final Path path;
+    private final long sequence;
+    private final MappedByteBuffer buffer;
+    private int writePosition;
+
+    private LogSpoolSegment(Path path, long sequence, MappedByteBuffer buffer, int writePosition) {
+        this.path = path;
+        this.sequence = sequence;
+        this.buffer = buffer;
+        this.writePosition = writePosition;
+    }
+
+    /**
+     * Create and map a new, empty segment file
+     */
+    static LogSpoolSegment create(Path path, long sequence, int size) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.putLong(0, HEADER_SIZE);
+            return new LogSpoolSegment(path, sequence, buffer, HEADER_SIZE);
+        }
+    }
+
+    /**
+     * Map an existing segment file left over from a previous run
+     */
+    static LogSpoolSegment open(Path path, long sequence) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+            LogSpoolSegment segment = new LogSpoolSegment(path, sequence, buffer, buffer.capacity());
+            long readOffset = buffer.getLong(0);
+            if (readOffset < HEADER_SIZE || readOffset > buffer.capacity()) {
+                buffer.putLong(0, HEADER_SIZE);
+            }
+            return segment;
+        }
+    }
+
+    /**
+     * Append a record.
+     *
+     * @return false if the segment does not have room for the record
+     */
+    boolean append(byte[] payload) {
+        int recordSize = RECORD_HEADER_SIZE + payload.length;
+        if ((long) writePosition + recordSize > buffer.capacity()) {
+            return false;
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+
+        buffer.putInt(writePosition + Integer.BYTES, (int) crc.getValue());
+        buffer.put(writePosition + RECORD_HEADER_SIZE, payload);
+        buffer.putInt(writePosition, payload.length);
+        writePosition += recordSize;
+        return true;
+    }
+
+    /**
+     * Read up to maxRecords records starting at the given offset
+     */
+    ReadResult read(int offset, int maxRecords) {
+        List<byte[]> payloads = new ArrayList<>();
+        int position = offset;
+
+        while (payloads.size() < maxRecords && position + RECORD_HEADER_SIZE <= buffer.capacity()) {
+            int length = buffer.getInt(position);
+            if (length == 0) {
+                break; // End of written data
+            }
+            if (length < 0 || (long) position + RECORD_HEADER_SIZE + length > buffer.capacity()) {
+                return new ReadResult(payloads, position, true);
+            }
+
+            byte[] payload = new byte[length];
+            buffer.get(position + RECORD_HEADER_SIZE, payload);
+
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            if ((int) crc.getValue() != buffer.getInt(position + Integer.BYTES)) {
+                return new ReadResult(payloads, position, true);
+            }
+
+            payloads.add(payload);
+            position += RECORD_HEADER_SIZE + length;
+        }
+
+        return new ReadResult(payloads, position, false);
+    }
+
+    /**
+     * Count readable records from the current read offset
+     */
+    long countPending() {
+        long count = 0;
+        int offset = getReadOffset();
+        while (true) {
+            ReadResult result = read(offset, 1000);
+            count += result.payloads().size();
+            if (result.payloads().isEmpty() || result.corrupt()) {
+                return count;
+            }
+            offset = result.nextOffset();
+        }
+    }
+
+    int getReadOffset() {
+        return (int) buffer.getLong(0);
+    }
+
+    void setReadOffset(int offset) {
+        buffer.putLong(0, offset);
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    void delete() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    long getSequence() {
+        return sequence;
+    }
+
+    int getCapacity() {
+        return buffer.capacity();
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    /**
+     * Records read from a segment
+     *
+     * @param payloads   Record payloads in write order
+     * @param nextOffset Offset following the last record read
+     * @param corrupt    Whether reading stopped at a torn or corrupt record
+     */
+    record ReadResult(List<byte[]> payloads, int nextOffset, boolean corrupt) {
+    }
+}
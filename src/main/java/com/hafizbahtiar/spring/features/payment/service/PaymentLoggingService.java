@@ -1,5 +1,6 @@
 package com.hafizbahtiar.spring.features.payment.service;
 
+import com.hafizbahtiar.spring.features.logs.service.LogEventWriter;
 import com.hafizbahtiar.spring.features.payment.model.PaymentLog;
 import com.hafizbahtiar.spring.features.payment.repository.mongodb.PaymentLogRepository;
 import jakarta.servlet.http.HttpServletRequest;
@@ -24,6 +25,7 @@ import java.util.Map;
 public class PaymentLoggingService {
 
     private final PaymentLogRepository paymentLogRepository;
+    private final LogEventWriter logEventWriter;
 
     /**
      * Log payment creation event
@@ -57,7 +59,7 @@ public class PaymentLoggingService {
                     .details(details)
                     .build();
 
-            paymentLogRepository.save(paymentLog);
+            save(paymentLog);
             log.debug("Logged payment creation for paymentId: {}", paymentId);
         } catch (Exception e) {
             log.error("Failed to log payment creation event", e);
@@ -95,7 +97,7 @@ public class PaymentLoggingService {
                     .details(details)
                     .build();
 
-            paymentLogRepository.save(paymentLog);
+            save(paymentLog);
             log.debug("Logged payment confirmation for paymentId: {}", paymentId);
         } catch (Exception e) {
             log.error("Failed to log payment confirmation event", e);
@@ -126,7 +128,7 @@ public class PaymentLoggingService {
                     .failureCode(failureCode)
                     .build();
 
-            paymentLogRepository.save(paymentLog);
+            save(paymentLog);
             log.debug("Logged payment failure for paymentId: {}", paymentId);
         } catch (Exception e) {
             log.error("Failed to log payment failure event", e);
@@ -165,7 +167,7 @@ public class PaymentLoggingService {
                     .details(details)
                     .build();
 
-            paymentLogRepository.save(paymentLog);
+            save(paymentLog);
             log.debug("Logged refund for paymentId: {}", paymentId);
         } catch (Exception e) {
             log.error("Failed to log refund event", e);
@@ -203,7 +205,7 @@ public class PaymentLoggingService {
                     .metadata(metadata)
                     .build();
 
-            paymentLogRepository.save(paymentLog);
+            save(paymentLog);
             log.debug("Logged payment method addition for paymentMethodId: {}", paymentMethodId);
         } catch (Exception e) {
             log.error("Failed to log payment method addition event", e);
@@ -237,7 +239,7 @@ public class PaymentLoggingService {
                     .details(details)
                     .build();
 
-            paymentLogRepository.save(paymentLog);
+            save(paymentLog);
             log.debug("Logged payment method removal for paymentMethodId: {}", paymentMethodId);
         } catch (Exception e) {
             log.error("Failed to log payment method removal event", e);
@@ -267,7 +269,7 @@ public class PaymentLoggingService {
                     .metadata(metadata)
                     .build();
 
-            paymentLogRepository.save(paymentLog);
+            save(paymentLog);
             log.debug("Logged webhook received for provider: {}, eventType: {}", provider, eventType);
         } catch (Exception e) {
             log.error("Failed to log webhook received event", e);
@@ -307,4 +309,11 @@ public class PaymentLoggingService {
         }
         return requestId;
     }
+
+    /**
+     * Persist log through the shared log writer (admission policy applied)
+     */
+    private void save(PaymentLog paymentLog) {
+        logEventWriter.write("PAYMENT", paymentLog.getEventType(), paymentLog, paymentLogRepository::save);
+    }
 }
@@ -1,5 +1,6 @@
 package com.hafizbahtiar.spring.features.permissions.service;
 
+import com.hafizbahtiar.spring.features.logs.service.LogEventWriter;
 import com.hafizbahtiar.spring.features.permissions.model.PermissionLog;
 import com.hafizbahtiar.spring.features.permissions.repository.mongodb.PermissionLogRepository;
 import jakarta.servlet.http.HttpServletRequest;
@@ -22,6 +23,7 @@ import java.util.Map;
 public class PermissionLoggingService {
 
     private final PermissionLogRepository permissionLogRepository;
+    private final LogEventWriter logEventWriter;
 
     /**
      * Get client IP address from request
@@ -183,7 +185,7 @@ public class PermissionLoggingService {
                     .details(details)
                     .build();
 
-            permissionLogRepository.save(permissionLog);
+            save(permissionLog);
             log.debug("Logged permission check for user ID: {}, hasPermission: {}", userId, hasPermission);
         } catch (Exception e) {
             log.error("Failed to log permission check event", e);
@@ -236,7 +238,7 @@ public class PermissionLoggingService {
                     .details(details)
                     .build();
 
-            permissionLogRepository.save(permissionLog);
+            save(permissionLog);
             log.debug("Logged {} event for group ID: {}", eventType, groupId);
         } catch (Exception e) {
             log.error("Failed to log {} event", eventType, e);
@@ -292,7 +294,7 @@ public class PermissionLoggingService {
                     .details(details)
                     .build();
 
-            permissionLogRepository.save(permissionLog);
+            save(permissionLog);
             log.debug("Logged {} event for permission ID: {}", eventType, permissionId);
         } catch (Exception e) {
             log.error("Failed to log {} event", eventType, e);
@@ -339,7 +341,7 @@ public class PermissionLoggingService {
                     .details(details)
                     .build();
 
-            permissionLogRepository.save(permissionLog);
+            save(permissionLog);
             log.debug("Logged {} event for group ID: {}, target user ID: {}", eventType, groupId, targetUserId);
         } catch (Exception e) {
             log.error("Failed to log {} event", eventType, e);
@@ -416,7 +418,7 @@ public class PermissionLoggingService {
                     .details(details)
                     .build();
 
-            permissionLogRepository.save(permissionLog);
+            save(permissionLog);
             log.debug("Logged {} event for module ID: {}", eventType, moduleId);
         } catch (Exception e) {
             log.error("Failed to log {} event", eventType, e);
@@ -497,7 +499,7 @@ public class PermissionLoggingService {
                     .details(details)
                     .build();
 
-            permissionLogRepository.save(permissionLog);
+            save(permissionLog);
             log.debug("Logged {} event for page ID: {}", eventType, pageId);
         } catch (Exception e) {
             log.error("Failed to log {} event", eventType, e);
@@ -579,7 +581,7 @@ public class PermissionLoggingService {
                     .details(details)
                     .build();
 
-            permissionLogRepository.save(permissionLog);
+            save(permissionLog);
             log.debug("Logged {} event for component ID: {}", eventType, componentId);
         } catch (Exception e) {
             log.error("Failed to log {} event", eventType, e);
@@ -616,10 +618,17 @@ public class PermissionLoggingService {
                     .details(details)
                     .build();
 
-            permissionLogRepository.save(permissionLog);
+            save(permissionLog);
             log.debug("Logged registry cleanup event for user ID: {}, removed {} record(s)", userId, totalRemoved);
         } catch (Exception e) {
             log.error("Failed to log registry cleanup event", e);
         }
     }
+
+    /**
+     * Persist log through the shared log writer (admission policy applied)
+     */
+    private void save(PermissionLog permissionLog) {
+        logEventWriter.write("PERMISSION", permissionLog.getEventType(), permissionLog, permissionLogRepository::save);
+    }
 }
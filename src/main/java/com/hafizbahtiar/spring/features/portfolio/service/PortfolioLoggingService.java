@@ -1,5 +1,6 @@
 package com.hafizbahtiar.spring.features.portfolio.service;
 
+import com.hafizbahtiar.spring.features.logs.service.LogEventWriter;
 import com.hafizbahtiar.spring.features.portfolio.model.PortfolioLog;
 import com.hafizbahtiar.spring.features.portfolio.repository.mongodb.PortfolioLogRepository;
 import jakarta.servlet.http.HttpServletRequest;
@@ -21,6 +22,7 @@ import java.time.LocalDateTime;
 public class PortfolioLoggingService {
 
     private final PortfolioLogRepository portfolioLogRepository;
+    private final LogEventWriter logEventWriter;
 
     /**
      * Log skill creation event
@@ -51,7 +53,7 @@ public class PortfolioLoggingService {
                     .details(details)
                     .build();
 
-            portfolioLogRepository.save(portfolioLog);
+            save(portfolioLog);
             log.debug("Logged skill creation for skillId: {}", skillId);
         } catch (Exception e) {
             log.error("Failed to log skill creation event", e);
@@ -87,7 +89,7 @@ public class PortfolioLoggingService {
                     .details(details)
                     .build();
 
-            portfolioLogRepository.save(portfolioLog);
+            save(portfolioLog);
             log.debug("Logged skill update for skillId: {}", skillId);
         } catch (Exception e) {
             log.error("Failed to log skill update event", e);
@@ -121,7 +123,7 @@ public class PortfolioLoggingService {
                     .details(details)
                     .build();
 
-            portfolioLogRepository.save(portfolioLog);
+            save(portfolioLog);
             log.debug("Logged skill deletion for skillId: {}", skillId);
         } catch (Exception e) {
             log.error("Failed to log skill deletion event", e);
@@ -153,7 +155,7 @@ public class PortfolioLoggingService {
                     .details(details)
                     .build();
 
-            portfolioLogRepository.save(portfolioLog);
+            save(portfolioLog);
             log.debug("Logged skills reorder for userId: {}", userId);
         } catch (Exception e) {
             log.error("Failed to log skills reorder event", e);
@@ -189,7 +191,7 @@ public class PortfolioLoggingService {
                     .details(details)
                     .build();
 
-            portfolioLogRepository.save(portfolioLog);
+            save(portfolioLog);
             log.debug("Logged experience creation for experienceId: {}", experienceId);
         } catch (Exception e) {
             log.error("Failed to log experience creation event", e);
@@ -225,7 +227,7 @@ public class PortfolioLoggingService {
                     .details(details)
                     .build();
 
-            portfolioLogRepository.save(portfolioLog);
+            save(portfolioLog);
             log.debug("Logged experience update for experienceId: {}", experienceId);
         } catch (Exception e) {
             log.error("Failed to log experience update event", e);
@@ -260,7 +262,7 @@ public class PortfolioLoggingService {
                     .details(details)
                     .build();
 
-            portfolioLogRepository.save(portfolioLog);
+            save(portfolioLog);
             log.debug("Logged experience deletion for experienceId: {}", experienceId);
         } catch (Exception e) {
             log.error("Failed to log experience deletion event", e);
@@ -292,7 +294,7 @@ public class PortfolioLoggingService {
                     .details(details)
                     .build();
 
-            portfolioLogRepository.save(portfolioLog);
+            save(portfolioLog);
             log.debug("Logged experiences reorder for userId: {}", userId);
         } catch (Exception e) {
             log.error("Failed to log experiences reorder event", e);
@@ -328,7 +330,7 @@ public class PortfolioLoggingService {
                     .details(details)
                     .build();
 
-            portfolioLogRepository.save(portfolioLog);
+            save(portfolioLog);
             log.debug("Logged project creation for projectId: {}", projectId);
         } catch (Exception e) {
             log.error("Failed to log project creation event", e);
@@ -364,7 +366,7 @@ public class PortfolioLoggingService {
                     .details(details)
                     .build();
 
-            portfolioLogRepository.save(portfolioLog);
+            save(portfolioLog);
             log.debug("Logged project update for projectId: {}", projectId);
         } catch (Exception e) {
             log.error("Failed to log project update event", e);
@@ -398,7 +400,7 @@ public class PortfolioLoggingService {
                     .details(details)
                     .build();
 
-            portfolioLogRepository.save(portfolioLog);
+            save(portfolioLog);
             log.debug("Logged project deletion for projectId: {}", projectId);
         } catch (Exception e) {
             log.error("Failed to log project deletion event", e);
@@ -435,7 +437,7 @@ public class PortfolioLoggingService {
                     .details(details)
                     .build();
 
-            portfolioLogRepository.save(portfolioLog);
+            save(portfolioLog);
             log.debug("Logged project featured status change for projectId: {}, featured: {}", projectId, featured);
         } catch (Exception e) {
             log.error("Failed to log project featured status change event", e);
@@ -467,7 +469,7 @@ public class PortfolioLoggingService {
                     .details(details)
                     .build();
 
-            portfolioLogRepository.save(portfolioLog);
+            save(portfolioLog);
             log.debug("Logged projects reorder for userId: {}", userId);
         } catch (Exception e) {
             log.error("Failed to log projects reorder event", e);
@@ -503,7 +505,7 @@ public class PortfolioLoggingService {
                     .details(details)
                     .build();
 
-            portfolioLogRepository.save(portfolioLog);
+            save(portfolioLog);
             log.debug("Logged education creation for educationId: {}", educationId);
         } catch (Exception e) {
             log.error("Failed to log education creation event", e);
@@ -539,7 +541,7 @@ public class PortfolioLoggingService {
                     .details(details)
                     .build();
 
-            portfolioLogRepository.save(portfolioLog);
+            save(portfolioLog);
             log.debug("Logged education update for educationId: {}", educationId);
         } catch (Exception e) {
             log.error("Failed to log education update event", e);
@@ -574,7 +576,7 @@ public class PortfolioLoggingService {
                     .details(details)
                     .build();
 
-            portfolioLogRepository.save(portfolioLog);
+            save(portfolioLog);
             log.debug("Logged education deletion for educationId: {}", educationId);
         } catch (Exception e) {
             log.error("Failed to log education deletion event", e);
@@ -606,7 +608,7 @@ public class PortfolioLoggingService {
                     .details(details)
                     .build();
 
-            portfolioLogRepository.save(portfolioLog);
+            save(portfolioLog);
             log.debug("Logged educations reorder for userId: {}", userId);
         } catch (Exception e) {
             log.error("Failed to log educations reorder event", e);
@@ -642,7 +644,7 @@ public class PortfolioLoggingService {
                     .details(details)
                     .build();
 
-            portfolioLogRepository.save(portfolioLog);
+            save(portfolioLog);
             log.debug("Logged company creation for companyId: {}", companyId);
         } catch (Exception e) {
             log.error("Failed to log company creation event", e);
@@ -678,7 +680,7 @@ public class PortfolioLoggingService {
                     .details(details)
                     .build();
 
-            portfolioLogRepository.save(portfolioLog);
+            save(portfolioLog);
             log.debug("Logged company update for companyId: {}", companyId);
         } catch (Exception e) {
             log.error("Failed to log company update event", e);
@@ -712,7 +714,7 @@ public class PortfolioLoggingService {
                     .details(details)
                     .build();
 
-            portfolioLogRepository.save(portfolioLog);
+            save(portfolioLog);
             log.debug("Logged company deletion for companyId: {}", companyId);
         } catch (Exception e) {
             log.error("Failed to log company deletion event", e);
@@ -744,7 +746,7 @@ public class PortfolioLoggingService {
                     .details(details)
                     .build();
 
-            portfolioLogRepository.save(portfolioLog);
+            save(portfolioLog);
             log.debug("Logged companies reorder for userId: {}", userId);
         } catch (Exception e) {
             log.error("Failed to log companies reorder event", e);
@@ -780,7 +782,7 @@ public class PortfolioLoggingService {
                     .details(details)
                     .build();
 
-            portfolioLogRepository.save(portfolioLog);
+            save(portfolioLog);
             log.debug("Logged certification creation for certificationId: {}", certificationId);
         } catch (Exception e) {
             log.error("Failed to log certification creation event", e);
@@ -816,7 +818,7 @@ public class PortfolioLoggingService {
                     .details(details)
                     .build();
 
-            portfolioLogRepository.save(portfolioLog);
+            save(portfolioLog);
             log.debug("Logged certification update for certificationId: {}", certificationId);
         } catch (Exception e) {
             log.error("Failed to log certification update event", e);
@@ -851,7 +853,7 @@ public class PortfolioLoggingService {
                     .details(details)
                     .build();
 
-            portfolioLogRepository.save(portfolioLog);
+            save(portfolioLog);
             log.debug("Logged certification deletion for certificationId: {}", certificationId);
         } catch (Exception e) {
             log.error("Failed to log certification deletion event", e);
@@ -883,7 +885,7 @@ public class PortfolioLoggingService {
                     .details(details)
                     .build();
 
-            portfolioLogRepository.save(portfolioLog);
+            save(portfolioLog);
             log.debug("Logged certifications reorder for userId: {}", userId);
         } catch (Exception e) {
             log.error("Failed to log certifications reorder event", e);
@@ -919,7 +921,7 @@ public class PortfolioLoggingService {
                     .details(details)
                     .build();
 
-            portfolioLogRepository.save(portfolioLog);
+            save(portfolioLog);
             log.debug("Logged testimonial creation for testimonialId: {}", testimonialId);
         } catch (Exception e) {
             log.error("Failed to log testimonial creation event", e);
@@ -955,7 +957,7 @@ public class PortfolioLoggingService {
                     .details(details)
                     .build();
 
-            portfolioLogRepository.save(portfolioLog);
+            save(portfolioLog);
             log.debug("Logged testimonial update for testimonialId: {}", testimonialId);
         } catch (Exception e) {
             log.error("Failed to log testimonial update event", e);
@@ -989,7 +991,7 @@ public class PortfolioLoggingService {
                     .details(details)
                     .build();
 
-            portfolioLogRepository.save(portfolioLog);
+            save(portfolioLog);
             log.debug("Logged testimonial deletion for testimonialId: {}", testimonialId);
         } catch (Exception e) {
             log.error("Failed to log testimonial deletion event", e);
@@ -1026,7 +1028,7 @@ public class PortfolioLoggingService {
                     .details(details)
                     .build();
 
-            portfolioLogRepository.save(portfolioLog);
+            save(portfolioLog);
             log.debug("Logged testimonial featured status change for testimonialId: {}, featured: {}", testimonialId,
                     featured);
         } catch (Exception e) {
@@ -1064,7 +1066,7 @@ public class PortfolioLoggingService {
                     .details(details)
                     .build();
 
-            portfolioLogRepository.save(portfolioLog);
+            save(portfolioLog);
             log.debug("Logged testimonial approval for testimonialId: {}", testimonialId);
         } catch (Exception e) {
             log.error("Failed to log testimonial approval event", e);
@@ -1096,7 +1098,7 @@ public class PortfolioLoggingService {
                     .details(details)
                     .build();
 
-            portfolioLogRepository.save(portfolioLog);
+            save(portfolioLog);
             log.debug("Logged testimonials reorder for userId: {}", userId);
         } catch (Exception e) {
             log.error("Failed to log testimonials reorder event", e);
@@ -1136,7 +1138,7 @@ public class PortfolioLoggingService {
                     .details(details)
                     .build();
 
-            portfolioLogRepository.save(portfolioLog);
+            save(portfolioLog);
             log.debug("Logged contact creation for contactId: {}, email: {}", contactId, email);
         } catch (Exception e) {
             log.error("Failed to log contact creation event", e);
@@ -1172,7 +1174,7 @@ public class PortfolioLoggingService {
                     .details(details)
                     .build();
 
-            portfolioLogRepository.save(portfolioLog);
+            save(portfolioLog);
             log.debug("Logged contact update for contactId: {}, email: {}", contactId, email);
         } catch (Exception e) {
             log.error("Failed to log contact update event", e);
@@ -1207,7 +1209,7 @@ public class PortfolioLoggingService {
                     .details(details)
                     .build();
 
-            portfolioLogRepository.save(portfolioLog);
+            save(portfolioLog);
             log.debug("Logged contact deletion for contactId: {}, email: {}", contactId, email);
         } catch (Exception e) {
             log.error("Failed to log contact deletion event", e);
@@ -1254,7 +1256,7 @@ public class PortfolioLoggingService {
                     .details(details)
                     .build();
 
-            portfolioLogRepository.save(portfolioLog);
+            save(portfolioLog);
             log.debug("Logged contact status change for contactId: {}, from {} to {}", contactId, previousStatus,
                     newStatus);
         } catch (Exception e) {
@@ -1291,7 +1293,7 @@ public class PortfolioLoggingService {
                     .details(details)
                     .build();
 
-            portfolioLogRepository.save(portfolioLog);
+            save(portfolioLog);
             log.debug("Logged portfolio profile update for profileId: {}", profileId);
         } catch (Exception e) {
             log.error("Failed to log portfolio profile update event", e);
@@ -1327,7 +1329,7 @@ public class PortfolioLoggingService {
                     .details(details)
                     .build();
 
-            portfolioLogRepository.save(portfolioLog);
+            save(portfolioLog);
             log.debug("Logged blog creation for blogId: {}", blogId);
         } catch (Exception e) {
             log.error("Failed to log blog creation event", e);
@@ -1363,7 +1365,7 @@ public class PortfolioLoggingService {
                     .details(details)
                     .build();
 
-            portfolioLogRepository.save(portfolioLog);
+            save(portfolioLog);
             log.debug("Logged blog update for blogId: {}", blogId);
         } catch (Exception e) {
             log.error("Failed to log blog update event", e);
@@ -1397,7 +1399,7 @@ public class PortfolioLoggingService {
                     .details(details)
                     .build();
 
-            portfolioLogRepository.save(portfolioLog);
+            save(portfolioLog);
             log.debug("Logged blog deletion for blogId: {}", blogId);
         } catch (Exception e) {
             log.error("Failed to log blog deletion event", e);
@@ -1433,7 +1435,7 @@ public class PortfolioLoggingService {
                     .details(details)
                     .build();
 
-            portfolioLogRepository.save(portfolioLog);
+            save(portfolioLog);
             log.debug("Logged blog view tracking for blogId: {}, tracked: {}", blogId, tracked);
         } catch (Exception e) {
             log.error("Failed to log blog view tracking event", e);
@@ -1475,4 +1477,11 @@ public class PortfolioLoggingService {
         }
         return requestId;
     }
+
+    /**
+     * Persist log through the shared log writer (admission policy applied)
+     */
+    private void save(PortfolioLog portfolioLog) {
+        logEventWriter.write("PORTFOLIO", portfolioLog.getEventType(), portfolioLog, portfolioLogRepository::save);
+    }
 }
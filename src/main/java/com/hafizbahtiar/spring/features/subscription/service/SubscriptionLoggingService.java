@@ -1,5 +1,6 @@
 package com.hafizbahtiar.spring.features.subscription.service;
 
+import com.hafizbahtiar.spring.features.logs.service.LogEventWriter;
 import com.hafizbahtiar.spring.features.subscription.model.SubscriptionLog;
 import com.hafizbahtiar.spring.features.subscription.repository.mongodb.SubscriptionLogRepository;
 import jakarta.servlet.http.HttpServletRequest;
@@ -24,6 +25,7 @@ import java.util.Map;
 public class SubscriptionLoggingService {
 
     private final SubscriptionLogRepository subscriptionLogRepository;
+    private final LogEventWriter logEventWriter;
 
     /**
      * Log subscription creation event
@@ -62,7 +64,7 @@ public class SubscriptionLoggingService {
                     .details(details)
                     .build();
 
-            subscriptionLogRepository.save(subscriptionLog);
+            save(subscriptionLog);
             log.debug("Logged subscription creation for subscriptionId: {}", subscriptionId);
         } catch (Exception e) {
             log.error("Failed to log subscription creation event", e);
@@ -107,7 +109,7 @@ public class SubscriptionLoggingService {
                     .details(details)
                     .build();
 
-            subscriptionLogRepository.save(subscriptionLog);
+            save(subscriptionLog);
             log.debug("Logged subscription cancellation for subscriptionId: {}", subscriptionId);
         } catch (Exception e) {
             log.error("Failed to log subscription cancellation event", e);
@@ -152,7 +154,7 @@ public class SubscriptionLoggingService {
                     .details(details)
                     .build();
 
-            subscriptionLogRepository.save(subscriptionLog);
+            save(subscriptionLog);
             log.debug("Logged subscription update for subscriptionId: {}", subscriptionId);
         } catch (Exception e) {
             log.error("Failed to log subscription update event", e);
@@ -194,7 +196,7 @@ public class SubscriptionLoggingService {
                     .details(details)
                     .build();
 
-            subscriptionLogRepository.save(subscriptionLog);
+            save(subscriptionLog);
             log.debug("Logged subscription reactivation for subscriptionId: {}", subscriptionId);
         } catch (Exception e) {
             log.error("Failed to log subscription reactivation event", e);
@@ -239,7 +241,7 @@ public class SubscriptionLoggingService {
                     .details(details)
                     .build();
 
-            subscriptionLogRepository.save(subscriptionLog);
+            save(subscriptionLog);
             log.debug("Logged subscription renewal for subscriptionId: {}", subscriptionId);
         } catch (Exception e) {
             log.error("Failed to log subscription renewal event", e);
@@ -280,7 +282,7 @@ public class SubscriptionLoggingService {
                     .details(details)
                     .build();
 
-            subscriptionLogRepository.save(subscriptionLog);
+            save(subscriptionLog);
             log.debug("Logged payment success for subscriptionId: {}", subscriptionId);
         } catch (Exception e) {
             log.error("Failed to log payment success event", e);
@@ -314,7 +316,7 @@ public class SubscriptionLoggingService {
                     .failureCode(failureCode)
                     .build();
 
-            subscriptionLogRepository.save(subscriptionLog);
+            save(subscriptionLog);
             log.debug("Logged payment failure for subscriptionId: {}", subscriptionId);
         } catch (Exception e) {
             log.error("Failed to log payment failure event", e);
@@ -351,7 +353,7 @@ public class SubscriptionLoggingService {
                     .details(details)
                     .build();
 
-            subscriptionLogRepository.save(subscriptionLog);
+            save(subscriptionLog);
             log.debug("Logged status update for subscriptionId: {}", subscriptionId);
         } catch (Exception e) {
             log.error("Failed to log status update event", e);
@@ -381,7 +383,7 @@ public class SubscriptionLoggingService {
                     .metadata(metadata)
                     .build();
 
-            subscriptionLogRepository.save(subscriptionLog);
+            save(subscriptionLog);
             log.debug("Logged webhook received for provider: {}, eventType: {}", provider, eventType);
         } catch (Exception e) {
             log.error("Failed to log webhook received event", e);
@@ -421,4 +423,11 @@ public class SubscriptionLoggingService {
         }
         return requestId;
     }
+
+    /**
+     * Persist log through the shared log writer (admission policy applied)
+     */
+    private void save(SubscriptionLog subscriptionLog) {
+        logEventWriter.write("SUBSCRIPTION", subscriptionLog.getEventType(), subscriptionLog, subscriptionLogRepository::save);
+    }
 }
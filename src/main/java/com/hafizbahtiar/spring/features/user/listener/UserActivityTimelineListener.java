@@ -0,0 +1,26 @@
+package com.hafizbahtiar.spring.features.user.listener;
+
+import com.hafizbahtiar.spring.features.user.model.UserActivity;
+import com.hafizbahtiar.spring.features.user.service.UserActivityTimelineService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * MongoDB event listener that appends persisted user activities to the
+ * cached activity timelines.
+ * Hooking the save event also covers activities replayed from the log spool
+ * after a MongoDB outage.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserActivityTimelineListener extends AbstractMongoEventListener<UserActivity> {
+
+    private final UserActivityTimelineService userActivityTimelineService;
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<UserActivity> event) {
+        userActivityTimelineService.append(event.getSource());
+    }
+}
@@ -0,0 +1,23 @@
+package com.hafizbahtiar.spring.features.user.mapper;
+
+import com.hafizbahtiar.spring.features.user.dto.UserActivityResponse;
+import com.hafizbahtiar.spring.features.user.model.UserActivity;
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * MapStruct mapper for UserActivity document → DTO conversions.
+ */
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface UserActivityMapper {
+
+    /**
+     * Convert UserActivity document to UserActivityResponse.
+     */
+    UserActivityResponse toResponse(UserActivity activity);
+
+    /**
+     * Convert UserActivity details to ActivityDetailsResponse.
+     */
+    UserActivityResponse.ActivityDetailsResponse toDetailsResponse(UserActivity.ActivityDetails details);
+}
@@ -1,6 +1,7 @@
 package com.hafizbahtiar.spring.features.user.repository.mongodb;
 
 import com.hafizbahtiar.spring.features.user.model.UserActivity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
@@ -19,6 +20,11 @@ public interface UserActivityRepository extends MongoRepository<UserActivity, St
      */
     List<UserActivity> findByUserIdOrderByTimestampDesc(Long userId);
 
+    /**
+     * Find the most recent activities for a user, limited by the pageable
+     */
+    List<UserActivity> findByUserIdOrderByTimestampDesc(Long userId, Pageable pageable);
+
     /**
      * Find activities by activity type
      */
@@ -29,6 +35,13 @@ public interface UserActivityRepository extends MongoRepository<UserActivity, St
      */
     List<UserActivity> findByUserIdAndActivityTypeOrderByTimestampDesc(Long userId, String activityType);
 
+    /**
+     * Find the most recent activities for a user and activity type, limited by
+     * the pageable
+     */
+    List<UserActivity> findByUserIdAndActivityTypeOrderByTimestampDesc(Long userId, String activityType,
+            Pageable pageable);
+
     /**
      * Find activities within a date range
      */
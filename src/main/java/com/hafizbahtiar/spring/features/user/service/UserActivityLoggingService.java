@@ -1,5 +1,6 @@
 package com.hafizbahtiar.spring.features.user.service;
 
+import com.hafizbahtiar.spring.features.logs.service.LogEventWriter;
 import com.hafizbahtiar.spring.features.user.model.UserActivity;
 import com.hafizbahtiar.spring.features.user.repository.mongodb.UserActivityRepository;
 import jakarta.servlet.http.HttpServletRequest;
@@ -21,6 +22,7 @@ import java.time.LocalDateTime;
 public class UserActivityLoggingService {
 
     private final UserActivityRepository userActivityRepository;
+    private final LogEventWriter logEventWriter;
 
     /**
      * Log user registration event
@@ -37,7 +39,7 @@ public class UserActivityLoggingService {
                     .metadata(buildMetadata("email", email))
                     .build();
 
-            userActivityRepository.save(activity);
+            save(activity);
             log.debug("Logged user registration for userId: {}", userId);
         } catch (Exception e) {
             log.error("Failed to log user registration event", e);
@@ -59,7 +61,7 @@ public class UserActivityLoggingService {
                     .details(buildActivityDetails(request, "PUT", "/api/v1/users/" + userId, 200, responseTimeMs))
                     .build();
 
-            userActivityRepository.save(activity);
+            save(activity);
             log.debug("Logged profile update for userId: {}", userId);
         } catch (Exception e) {
             log.error("Failed to log profile update event", e);
@@ -81,7 +83,7 @@ public class UserActivityLoggingService {
                     .details(buildActivityDetails(request, "GET", "/api/v1/users/" + userId, 200, responseTimeMs))
                     .build();
 
-            userActivityRepository.save(activity);
+            save(activity);
             log.debug("Logged profile view for userId: {}", userId);
         } catch (Exception e) {
             log.error("Failed to log profile view event", e);
@@ -103,7 +105,7 @@ public class UserActivityLoggingService {
                     .details(buildActivityDetails(request, "POST", "/api/v1/users/" + userId + "/verify", 200, null))
                     .build();
 
-            userActivityRepository.save(activity);
+            save(activity);
             log.debug("Logged email verification for userId: {}", userId);
         } catch (Exception e) {
             log.error("Failed to log email verification event", e);
@@ -126,7 +128,7 @@ public class UserActivityLoggingService {
                     .metadata(buildMetadata("email", email))
                     .build();
 
-            userActivityRepository.save(activity);
+            save(activity);
             log.debug("Logged email verified for userId: {}", userId);
         } catch (Exception e) {
             log.error("Failed to log email verified event", e);
@@ -150,7 +152,7 @@ public class UserActivityLoggingService {
                     .metadata(buildMetadata("email", email, "success", success, "failureReason", failureReason))
                     .build();
 
-            userActivityRepository.save(activity);
+            save(activity);
             log.debug("Logged email verification sent for userId: {}, success: {}", userId, success);
         } catch (Exception e) {
             log.error("Failed to log email verification sent event", e);
@@ -173,7 +175,7 @@ public class UserActivityLoggingService {
                     .metadata(buildMetadata("email", email, "failureReason", failureReason))
                     .build();
 
-            userActivityRepository.save(activity);
+            save(activity);
             log.debug("Logged email verification failed for userId: {}, reason: {}", userId, failureReason);
         } catch (Exception e) {
             log.error("Failed to log email verification failed event", e);
@@ -207,7 +209,7 @@ public class UserActivityLoggingService {
                     .details(buildActivityDetails(request, "DELETE", "/api/v1/users/" + userId, 204, null))
                     .build();
 
-            userActivityRepository.save(activity);
+            save(activity);
             log.debug("Logged user deactivation for userId: {}", userId);
         } catch (Exception e) {
             log.error("Failed to log deactivation event", e);
@@ -231,7 +233,7 @@ public class UserActivityLoggingService {
                     .metadata(buildMetadata("preferencesId", preferencesId))
                     .build();
 
-            userActivityRepository.save(activity);
+            save(activity);
             log.debug("Logged preferences update for userId: {}, preferencesId: {}", userId, preferencesId);
         } catch (Exception e) {
             log.error("Failed to log preferences update event", e);
@@ -256,7 +258,7 @@ public class UserActivityLoggingService {
                     .metadata(buildMetadata("preferencesId", preferencesId))
                     .build();
 
-            userActivityRepository.save(activity);
+            save(activity);
             log.debug("Logged notification preferences update for userId: {}, preferencesId: {}", userId,
                     preferencesId);
         } catch (Exception e) {
@@ -282,7 +284,7 @@ public class UserActivityLoggingService {
                     .metadata(buildMetadata("preferencesId", preferencesId))
                     .build();
 
-            userActivityRepository.save(activity);
+            save(activity);
             log.debug("Logged currency preferences update for userId: {}, preferencesId: {}", userId,
                     preferencesId);
         } catch (Exception e) {
@@ -306,7 +308,7 @@ public class UserActivityLoggingService {
                     .details(buildActivityDetails(request, method, endpoint, responseStatus, responseTimeMs))
                     .build();
 
-            userActivityRepository.save(activity);
+            save(activity);
             log.debug("Logged API call for userId: {}, endpoint: {}", userId, endpoint);
         } catch (Exception e) {
             log.error("Failed to log API call event", e);
@@ -314,6 +316,15 @@ public class UserActivityLoggingService {
         }
     }
 
+    /**
+     * Persist activity through the shared log writer (admission policy
+     * applied); {@link com.hafizbahtiar.spring.features.user.listener.UserActivityTimelineListener}
+     * appends it to the user's cached timeline once saved
+     */
+    private void save(UserActivity activity) {
+        logEventWriter.write("USER_ACTIVITY", activity.getActivityType(), activity, userActivityRepository::save);
+    }
+
     /**
      * Build activity details from request
      */
@@ -386,7 +397,7 @@ public class UserActivityLoggingService {
                     .details(buildActivityDetails(request, "POST", "/api/v1/auth/change-password", 200, null))
                     .build();
 
-            userActivityRepository.save(activity);
+            save(activity);
             log.debug("Logged password change for userId: {}", userId);
         } catch (Exception e) {
             log.error("Failed to log password change event", e);
@@ -407,7 +418,7 @@ public class UserActivityLoggingService {
                     .details(buildActivityDetails(request, "POST", "/api/v1/auth/change-password", 400, null))
                     .build();
 
-            userActivityRepository.save(activity);
+            save(activity);
             log.debug("Logged password change failed for userId: {}", userId);
         } catch (Exception e) {
             log.error("Failed to log password change failed event", e);
@@ -428,7 +439,7 @@ public class UserActivityLoggingService {
                     .details(buildActivityDetails(request, "POST", "/api/v1/users/account/request-deletion", 200, null))
                     .build();
 
-            userActivityRepository.save(activity);
+            save(activity);
             log.debug("Logged account deletion requested for userId: {}", userId);
         } catch (Exception e) {
             log.error("Failed to log account deletion requested event", e);
@@ -449,7 +460,7 @@ public class UserActivityLoggingService {
                     .details(buildActivityDetails(request, "DELETE", "/api/v1/users/account", 200, null))
                     .build();
 
-            userActivityRepository.save(activity);
+            save(activity);
             log.debug("Logged account deleted for userId: {}", userId);
         } catch (Exception e) {
             log.error("Failed to log account deleted event", e);
@@ -470,7 +481,7 @@ public class UserActivityLoggingService {
                     .details(buildActivityDetails(request, "POST", "/api/v1/users/account/deactivate", 200, null))
                     .build();
 
-            userActivityRepository.save(activity);
+            save(activity);
             log.debug("Logged account deactivated for userId: {}", userId);
         } catch (Exception e) {
             log.error("Failed to log account deactivated event", e);
@@ -491,7 +502,7 @@ public class UserActivityLoggingService {
                     .details(buildActivityDetails(request, "POST", "/api/v1/users/account/reactivate", 200, null))
                     .build();
 
-            userActivityRepository.save(activity);
+            save(activity);
             log.debug("Logged account reactivated for userId: {}", userId);
         } catch (Exception e) {
             log.error("Failed to log account reactivated event", e);
@@ -513,7 +524,7 @@ public class UserActivityLoggingService {
                     .metadata(buildMetadata("format", format))
                     .build();
 
-            userActivityRepository.save(activity);
+            save(activity);
             log.debug("Logged data exported for userId: {}, format: {}", userId, format);
         } catch (Exception e) {
             log.error("Failed to log data exported event", e);
@@ -0,0 +1,255 @@
+package com.hafizbahtiar.spring.features.user.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hafizbahtiar.spring.features.user.dto.UserActivityResponse;
+import com.hafizbahtiar.spring.features.user.mapper.UserActivityMapper;
+import com.hafizbahtiar.spring.features.user.model.UserActivity;
+import com.hafizbahtiar.spring.features.user.repository.mongodb.UserActivityRepository;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Service for reading a user's activity timeline.
+ *
+ * Reads push the limit into MongoDB, and the most recent activities of active
+ * users are kept in a capped Redis list (newest first) that is appended on
+ * write. A cached list always holds the newest min(size, total) activities, so
+ * any "last N" read with N up to the cap is served from Redis.
+ *
+ * Lists are rebuilt and appended with Lua scripts, so readers never see a
+ * half-built list. An activity saved while a list is being rebuilt from
+ * MongoDB finds no list to append to; the rebuild re-checks the newest stored
+ * activity afterwards and drops the list if it missed one.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserActivityTimelineService {
+
+    private static final String CACHE_KEY_PREFIX = "activity:recent:";
+
+    /**
+     * Push onto an existing list unless it already starts with the entry (a
+     * list rebuilt after the activity was stored), then cap and extend it
+     */
+    private static final String APPEND_SCRIPT = """
+            if redis.call('EXISTS', KEYS[1]) == 0 or redis.call('LINDEX', KEYS[1], 0) == ARGV[1] then
+                return 0
+            end
+            redis.call('LPUSH', KEYS[1], ARGV[1])
+            redis.call('LTRIM', KEYS[1], 0, tonumber(ARGV[2]) - 1)
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            return 1
+            """;
+
+    /**
+     * Replace a list with the given entries and set its TTL in one step
+     */
+    private static final String REPLACE_SCRIPT = """
+            redis.call('DEL', KEYS[1])
+            redis.call('RPUSH', KEYS[1], unpack(ARGV, 2))
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """;
+
+    private final RedisScript<Long> appendScript = new DefaultRedisScript<>(APPEND_SCRIPT, Long.class);
+    private final RedisScript<Long> replaceScript = new DefaultRedisScript<>(REPLACE_SCRIPT, Long.class);
+
+    private final UserActivityRepository userActivityRepository;
+    private final UserActivityMapper userActivityMapper;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final MongoTemplate mongoTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${user.activity.timeline.cache.enabled:true}")
+    private boolean cacheEnabled;
+
+    @Value("${user.activity.timeline.cache.size:50}")
+    private int cacheSize;
+
+    @Value("${user.activity.timeline.cache.ttl:1800}") // Default: 30 minutes
+    private long cacheTtlSeconds;
+
+    /**
+     * Create the indexes backing the timeline queries.
+     * Annotation-driven index creation is not enabled on the MongoTemplate, so
+     * the indexes are created explicitly.
+     */
+    @PostConstruct
+    public void ensureIndexes() {
+        try {
+            String collection = mongoTemplate.getCollectionName(UserActivity.class);
+            mongoTemplate.getCollection(collection).createIndex(
+                    Indexes.compoundIndex(Indexes.ascending("userId"), Indexes.descending("timestamp")),
+                    new IndexOptions().name("user_timestamp_idx"));
+            mongoTemplate.getCollection(collection).createIndex(
+                    Indexes.compoundIndex(Indexes.ascending("userId", "activityType"),
+                            Indexes.descending("timestamp")),
+                    new IndexOptions().name("user_type_timestamp_idx"));
+        } catch (Exception e) {
+            log.warn("Failed to create user activity timeline indexes: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Append a persisted activity to the user's cached timeline.
+     * Only lists that are already cached are appended to; a missing list is
+     * rebuilt from MongoDB on the next read.
+     *
+     * @param activity Persisted user activity
+     */
+    public void append(UserActivity activity) {
+        if (!cacheEnabled || activity.getUserId() == null) {
+            return;
+        }
+
+        try {
+            String json = objectMapper.writeValueAsString(userActivityMapper.toResponse(activity));
+            redisTemplate.execute(appendScript, List.of(CACHE_KEY_PREFIX + activity.getUserId()), json,
+                    String.valueOf(cacheSize), String.valueOf(cacheTtlSeconds));
+        } catch (Exception e) {
+            // Drop the cached list so the next read rebuilds it in the right order
+            log.warn("Failed to append activity to timeline for user ID: {}", activity.getUserId(), e);
+            evict(activity.getUserId());
+        }
+    }
+
+    /**
+     * Get the most recent activities for a user, newest first.
+     *
+     * @param userId User ID
+     * @param limit  Maximum number of activities to return
+     * @return List of recent activities
+     */
+    public List<UserActivityResponse> getRecentActivities(Long userId, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        if (!cacheEnabled || limit > cacheSize) {
+            return findRecent(userId, limit);
+        }
+
+        List<UserActivityResponse> cached = getCached(userId, limit);
+        if (cached != null) {
+            log.debug("Served {} recent activities for user ID: {} from cache", cached.size(), userId);
+            return cached;
+        }
+
+        // Load a full cache window so subsequent reads up to the cap are served from Redis
+        List<UserActivityResponse> recent = findRecent(userId, cacheSize);
+        warm(userId, recent);
+        return recent.size() > limit ? new ArrayList<>(recent.subList(0, limit)) : recent;
+    }
+
+    /**
+     * Get the most recent activities of a given type for a user, newest first.
+     *
+     * @param userId       User ID
+     * @param activityType Activity type
+     * @param limit        Maximum number of activities to return
+     * @return List of activities
+     */
+    public List<UserActivityResponse> getActivitiesByType(Long userId, String activityType, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        return userActivityRepository
+                .findByUserIdAndActivityTypeOrderByTimestampDesc(userId, activityType, PageRequest.of(0, limit))
+                .stream()
+                .map(userActivityMapper::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Remove a user's cached timeline.
+     *
+     * @param userId User ID
+     */
+    public void evict(Long userId) {
+        try {
+            redisTemplate.delete(CACHE_KEY_PREFIX + userId);
+        } catch (Exception e) {
+            log.warn("Failed to evict activity timeline for user ID: {}", userId, e);
+        }
+    }
+
+    /**
+     * Query MongoDB for the newest activities of a user with the limit pushed down
+     */
+    private List<UserActivityResponse> findRecent(Long userId, int limit) {
+        return userActivityRepository.findByUserIdOrderByTimestampDesc(userId, PageRequest.of(0, limit))
+                .stream()
+                .map(userActivityMapper::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Read the first entries of a cached timeline, or null on a miss
+     */
+    private List<UserActivityResponse> getCached(Long userId, int limit) {
+        try {
+            List<Object> values = redisTemplate.opsForList().range(CACHE_KEY_PREFIX + userId, 0, limit - 1);
+            if (values == null || values.isEmpty()) {
+                return null;
+            }
+
+            List<UserActivityResponse> activities = new ArrayList<>(values.size());
+            for (Object value : values) {
+                activities.add(objectMapper.readValue(value.toString(), UserActivityResponse.class));
+            }
+            return activities;
+        } catch (Exception e) {
+            log.warn("Failed to read activity timeline cache for user ID: {}", userId, e);
+            return null;
+        }
+    }
+
+    /**
+     * Replace a user's cached timeline with the given activities (newest
+     * first), then drop it again if an activity was stored after they were
+     * read: its append found no list and it would be missing until the TTL
+     */
+    private void warm(Long userId, List<UserActivityResponse> activities) {
+        if (activities.isEmpty()) {
+            return;
+        }
+
+        try {
+            String key = CACHE_KEY_PREFIX + userId;
+            Object[] args = new Object[activities.size() + 1];
+            args[0] = String.valueOf(cacheTtlSeconds);
+            for (int i = 0; i < activities.size(); i++) {
+                args[i + 1] = objectMapper.writeValueAsString(activities.get(i));
+            }
+            redisTemplate.execute(replaceScript, List.of(key), args);
+
+            List<UserActivityResponse> newest = findRecent(userId, 1);
+            if (!newest.isEmpty() && !Objects.equals(newest.get(0).getId(), activities.get(0).getId())) {
+                log.debug("Activity stored while caching timeline for user ID: {}, dropping it", userId);
+                evict(userId);
+                return;
+            }
+            log.debug("Cached {} recent activities for user ID: {}", activities.size(), userId);
+        } catch (Exception e) {
+            log.warn("Failed to cache activity timeline for user ID: {}", userId, e);
+            evict(userId);
+        }
+    }
+}
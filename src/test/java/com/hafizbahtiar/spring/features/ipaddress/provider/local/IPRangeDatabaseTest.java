@@ -0,0 +1,167 @@
+package com.hafizbahtiar.spring.features.ipaddress.provider.local;
+
+import com.hafizbahtiar.spring.features.ipaddress.dto.IPGeolocationData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Round trip of {@link IPRangeDatabaseWriter} fixtures through
+ * {@link IPRangeDatabase} and hot reload in {@link LocalRangeAdapter}.
+ */
+class IPRangeDatabaseTest {
+
+    @TempDir
+    Path directory;
+
+    private Path databaseFile;
+
+    @BeforeEach
+    void writeFixture() throws IOException {
+        IPGeolocationData kualaLumpur = location("Malaysia", "MY", "Kuala Lumpur");
+        kualaLumpur.setLatitude(3.139);
+
+        databaseFile = directory.resolve("ranges.iprd");
+        new IPRangeDatabaseWriter()
+                .addCidr("203.0.113.0/24", kualaLumpur)
+                .addRange("198.51.100.10", "198.51.100.20", location("United States", "US", "Mountain View"))
+                .addCidr("2001:db8::/32", location("Germany", "DE", "Berlin"))
+                .addRange("2001:dc0::1", "2001:dc0::ff", location("Japan", "JP", "Tokyo"))
+                .addCidr("ff00::/8", location("Multicast", "ZZ", null))
+                .write(databaseFile);
+    }
+
+    @Test
+    void ipv4RangeBoundaries() throws IOException {
+        IPRangeDatabase database = IPRangeDatabase.open(databaseFile);
+
+        assertEquals(2, database.getIpv4RangeCount());
+        assertCountry(database, "203.0.113.0", "MY");
+        assertCountry(database, "203.0.113.255", "MY");
+        assertNull(database.lookup("203.0.112.255"));
+        assertNull(database.lookup("203.0.114.0"));
+        assertCountry(database, "198.51.100.10", "US");
+        assertCountry(database, "198.51.100.20", "US");
+    }
+
+    @Test
+    void ipv4GapsAndOutsideAllRanges() throws IOException {
+        IPRangeDatabase database = IPRangeDatabase.open(databaseFile);
+
+        assertNull(database.lookup("198.51.100.9"));
+        assertNull(database.lookup("198.51.100.21"));
+        assertNull(database.lookup("200.0.0.1"));
+        assertNull(database.lookup("10.0.0.1"));
+        assertNull(database.lookup("255.255.255.255"));
+    }
+
+    @Test
+    void ipv4MappedIpv6UsesIpv4Ranges() throws IOException {
+        IPRangeDatabase database = IPRangeDatabase.open(databaseFile);
+
+        assertCountry(database, "::ffff:203.0.113.7", "MY");
+        assertCountry(database, "::ffff:198.51.100.20", "US");
+        assertNull(database.lookup("::ffff:198.51.100.21"));
+    }
+
+    @Test
+    void ipv6Ranges() throws IOException {
+        IPRangeDatabase database = IPRangeDatabase.open(databaseFile);
+
+        assertEquals(3, database.getIpv6RangeCount());
+        assertCountry(database, "2001:db8::", "DE");
+        assertCountry(database, "2001:db8:ffff:ffff:ffff:ffff:ffff:ffff", "DE");
+        assertNull(database.lookup("2001:db7:ffff:ffff:ffff:ffff:ffff:ffff"));
+        assertNull(database.lookup("2001:db9::"));
+        assertNull(database.lookup("2001:dc0::"));
+        assertCountry(database, "2001:dc0::1", "JP");
+        assertCountry(database, "2001:DC0::FF", "JP");
+        assertNull(database.lookup("2001:dc0::100"));
+        // Compared unsigned: the top bit set sorts after every other range
+        assertCountry(database, "ff02::1", "ZZ");
+        assertNull(database.lookup("fe80::1"));
+    }
+
+    @Test
+    void lookupReturnsStoredLocation() throws IOException {
+        IPGeolocationData data = IPRangeDatabase.open(databaseFile).lookup(" 203.0.113.42 ");
+
+        assertEquals("203.0.113.42", data.getIp());
+        assertEquals("Malaysia", data.getCountry());
+        assertEquals("Kuala Lumpur", data.getCity());
+        assertEquals(3.139, data.getLatitude());
+        assertNull(data.getLongitude());
+        assertNull(IPRangeDatabase.open(databaseFile).lookup("ff02::1").getCity());
+    }
+
+    @Test
+    void lookupIgnoresHostNamesAndInvalidInput() throws IOException {
+        IPRangeDatabase database = IPRangeDatabase.open(databaseFile);
+
+        assertNull(database.lookup("localhost"));
+        assertNull(database.lookup("203.0.113"));
+        assertNull(database.lookup(null));
+    }
+
+    @Test
+    void writerRejectsOverlappingRanges() {
+        IPRangeDatabaseWriter writer = new IPRangeDatabaseWriter()
+                .addCidr("203.0.113.0/24", location("Malaysia", "MY", null))
+                .addRange("203.0.113.255", "203.0.114.10", location("Singapore", "SG", null));
+
+        assertThrows(IllegalArgumentException.class, () -> writer.write(directory.resolve("overlap.iprd")));
+        assertThrows(IllegalArgumentException.class,
+                () -> new IPRangeDatabaseWriter().addRange("203.0.113.0", "2001:db8::", location("X", "XX", null)));
+    }
+
+    @Test
+    void corruptFileKeepsPreviousDatabaseOnReload() throws IOException {
+        LocalRangeAdapter adapter = new LocalRangeAdapter();
+        ReflectionTestUtils.setField(adapter, "enabled", true);
+        ReflectionTestUtils.setField(adapter, "databasePath", databaseFile.toString());
+        adapter.init();
+        assertTrue(adapter.isEnabled());
+        assertEquals("MY", adapter.getGeolocation("203.0.113.7").getCountryCode());
+
+        // Replaced by a move, as a real update would be, so the old mapping stays valid
+        Path corrupt = directory.resolve("corrupt.tmp");
+        Files.write(corrupt, new byte[] { 'I', 'P', 'R', 'D', 0, 0, 0, 1, 0x7f });
+        Files.move(corrupt, databaseFile, StandardCopyOption.REPLACE_EXISTING);
+        adapter.reloadIfChanged();
+
+        assertTrue(adapter.isEnabled());
+        assertEquals("MY", adapter.getGeolocation("203.0.113.7").getCountryCode());
+
+        new IPRangeDatabaseWriter()
+                .addCidr("203.0.113.0/25", location("Singapore", "SG", "Singapore"))
+                .write(databaseFile);
+        adapter.reloadIfChanged();
+
+        assertEquals("SG", adapter.getGeolocation("203.0.113.7").getCountryCode());
+        assertNull(adapter.getGeolocation("203.0.113.200"));
+    }
+
+    private static void assertCountry(IPRangeDatabase database, String ipAddress, String countryCode) {
+        IPGeolocationData data = database.lookup(ipAddress);
+        assertEquals(countryCode, data != null ? data.getCountryCode() : null, ipAddress);
+    }
+
+    private static IPGeolocationData location(String country, String countryCode, String city) {
+        IPGeolocationData data = new IPGeolocationData();
+        data.setCountry(country);
+        data.setCountryCode(countryCode);
+        data.setCity(city);
+        return data;
+    }
+}
@@ -0,0 +1,164 @@
+package com.hafizbahtiar.spring.features.logs.service;
+
+import com.hafizbahtiar.spring.features.auth.model.AuthLog;
+import com.hafizbahtiar.spring.features.logs.listener.LogDictionaryListener;
+import com.hafizbahtiar.spring.features.logs.listener.LogEventCounterListener;
+import com.hafizbahtiar.spring.features.logs.spool.LogSpool;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.InsertManyOptions;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.event.MongoMappingEvent;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Replay of spooled log documents: replayed documents must reach the event
+ * counters and the dictionary encoding exactly like a regular save.
+ */
+class LogSpoolServiceTest {
+
+    @TempDir
+    Path directory;
+
+    private MongoCollection<Document> collection;
+    private LogEventCounterService logEventCounterService;
+    private LogDictionaryService logDictionaryService;
+    private LogSpoolService logSpoolService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE,
+                new MongoMappingContext());
+        converter.afterPropertiesSet();
+
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        collection = mock(MongoCollection.class);
+        when(mongoTemplate.getConverter()).thenReturn(converter);
+        when(mongoTemplate.getCollectionName(AuthLog.class)).thenReturn("auth_logs");
+        when(mongoTemplate.getCollection("auth_logs")).thenReturn(collection);
+        when(mongoTemplate.executeCommand(anyString())).thenReturn(new Document("ok", 1));
+
+        logEventCounterService = mock(LogEventCounterService.class);
+        logDictionaryService = mock(LogDictionaryService.class);
+        LogEventCounterListener counterListener = new LogEventCounterListener(logEventCounterService);
+        LogDictionaryListener dictionaryListener = new LogDictionaryListener(logDictionaryService);
+        ApplicationEventPublisher eventPublisher = event -> {
+            if (event instanceof MongoMappingEvent<?> mappingEvent) {
+                dictionaryListener.onApplicationEvent(mappingEvent);
+                counterListener.onApplicationEvent(mappingEvent);
+            }
+        };
+
+        logSpoolService = new LogSpoolService(mongoTemplate, new SimpleMeterRegistry(), eventPublisher);
+        ReflectionTestUtils.setField(logSpoolService, "enabled", true);
+        ReflectionTestUtils.setField(logSpoolService, "directory", directory.toString());
+        ReflectionTestUtils.setField(logSpoolService, "segmentSizeMb", 1);
+        ReflectionTestUtils.setField(logSpoolService, "maxSegments", 4);
+        ReflectionTestUtils.setField(logSpoolService, "replayBatchSize", 500);
+        ReflectionTestUtils.setField(logSpoolService, "replayMaxBatches", 20);
+        logSpoolService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        logSpoolService.shutdown();
+    }
+
+    @Test
+    void replayedDocumentsAreEncodedAndCounted() {
+        logSpoolService.spool(authLog("LOGIN_SUCCESS"));
+        logSpoolService.spool(authLog("LOGIN_FAILED"));
+
+        logSpoolService.replay();
+
+        ArgumentCaptor<List<Document>> inserted = documentsCaptor();
+        verify(collection).insertMany(inserted.capture(), any(InsertManyOptions.class));
+        assertEquals(2, inserted.getValue().size());
+        inserted.getValue().forEach(document -> assertNotNull(document.get("_id")));
+        verify(logDictionaryService, times(2)).encode(eq("auth_logs"), any(Document.class));
+        verify(logEventCounterService, times(2)).recordLog(any(AuthLog.class));
+        assertEquals(0, pending());
+    }
+
+    @Test
+    void duplicatesCountAsReplayedButAreNotCountedAgain() {
+        logSpoolService.spool(authLog("LOGIN_SUCCESS"));
+        logSpoolService.spool(authLog("LOGIN_FAILED"));
+        failInsert(new BulkWriteError(11000, "E11000 duplicate key error", new BsonDocument(), 0));
+
+        logSpoolService.replay();
+
+        ArgumentCaptor<Object> counted = ArgumentCaptor.forClass(Object.class);
+        verify(logEventCounterService).recordLog(counted.capture());
+        assertEquals("LOGIN_FAILED", ((AuthLog) counted.getValue()).getEventType());
+        assertEquals(0, pending());
+    }
+
+    @Test
+    void rejectedDocumentsAreDiscardedAndNotCounted() {
+        logSpoolService.spool(authLog("LOGIN_SUCCESS"));
+        logSpoolService.spool(authLog("LOGIN_FAILED"));
+        failInsert(new BulkWriteError(121, "Document failed validation", new BsonDocument(), 1));
+
+        logSpoolService.replay();
+
+        ArgumentCaptor<Object> counted = ArgumentCaptor.forClass(Object.class);
+        verify(logEventCounterService).recordLog(counted.capture());
+        assertEquals("LOGIN_SUCCESS", ((AuthLog) counted.getValue()).getEventType());
+        assertEquals(0, pending());
+    }
+
+    private void failInsert(BulkWriteError error) {
+        MongoBulkWriteException failure = mock(MongoBulkWriteException.class);
+        when(failure.getWriteErrors()).thenReturn(List.of(error));
+        doThrow(failure).when(collection).insertMany(anyList(), any(InsertManyOptions.class));
+    }
+
+    private long pending() {
+        return ((LogSpool) ReflectionTestUtils.getField(logSpoolService, "spool")).getPending();
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static ArgumentCaptor<List<Document>> documentsCaptor() {
+        return (ArgumentCaptor) ArgumentCaptor.forClass(List.class);
+    }
+
+    private static AuthLog authLog(String eventType) {
+        return AuthLog.builder()
+                .eventType(eventType)
+                .userId(1L)
+                .identifier("user@example.com")
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+}